@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "4.0.1"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.company.promotions.search"
@@ -18,25 +19,88 @@ repositories {
 	mavenCentral()
 }
 
+val loadTest: SourceSet by sourceSets.creating
+
 dependencies {
 	implementation("org.springframework.boot:spring-boot-h2console")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-webmvc")
+	implementation("org.springframework.boot:spring-boot-starter-webflux")
 	implementation("org.springframework.boot:spring-boot-starter-actuator")
 	implementation("org.springframework.boot:spring-boot-starter-flyway")
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.4")
-	runtimeOnly("com.h2database:h2")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("com.github.ben-manes.caffeine:jcache")
+	implementation("org.hibernate.orm:hibernate-jcache")
+	implementation("org.springframework:spring-r2dbc")
+	implementation("io.r2dbc:r2dbc-pool")
+	runtimeOnly("io.r2dbc:r2dbc-h2")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+	implementation("com.h2database:h2")
 
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.boot:spring-boot-starter-data-jpa-test")
 	testImplementation("org.springframework.boot:spring-boot-starter-security-test")
 	testImplementation("org.springframework.boot:spring-boot-starter-validation-test")
 	testImplementation("org.springframework.boot:spring-boot-starter-webmvc-test")
+	testImplementation("io.projectreactor:reactor-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+jmh {
+	jmhVersion = "1.37"
+	profilers = listOf("gc")
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	resultFormat = "JSON"
+	(project.findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
+
+val loadTestArgs = (project.findProperty("loadTestArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+
+tasks.register<JavaExec>("loadTest") {
+	description = "Runs the load-test scenario against an already running instance."
+	group = "verification"
+	classpath = loadTest.runtimeClasspath
+	mainClass = "com.company.promotions.search.api.loadtest.LoadTest"
+	args = loadTestArgs
+}
+
+tasks.register<JavaExec>("compareThreadModes") {
+	description = "Starts the application with platform threads, virtual threads and WebFlux and load-tests each."
+	group = "verification"
+	dependsOn(tasks.bootJar)
+	classpath = loadTest.runtimeClasspath
+	mainClass = "com.company.promotions.search.api.loadtest.ThreadModeComparison"
+	args = listOf(
+		"--jar=${tasks.bootJar.get().archiveFile.get().asFile}",
+		"--output=${layout.buildDirectory.dir("load-test").get().asFile}"
+	) + loadTestArgs
+}
+
+tasks.register<JavaExec>("importCatalog") {
+	description = "Generates a synthetic price catalog and imports it into an already running instance."
+	group = "verification"
+	classpath = loadTest.runtimeClasspath
+	mainClass = "com.company.promotions.search.api.loadtest.CatalogImport"
+	args = loadTestArgs
+}
+
+tasks.register<JavaExec>("catalogLoadTest") {
+	description = "Starts the application, imports a synthetic catalog and load-tests Zipf-distributed lookups."
+	group = "verification"
+	dependsOn(tasks.bootJar)
+	classpath = loadTest.runtimeClasspath
+	mainClass = "com.company.promotions.search.api.loadtest.CatalogLoadTest"
+	args = listOf(
+		"--jar=${tasks.bootJar.get().archiveFile.get().asFile}",
+		"--output=${layout.buildDirectory.dir("load-test").get().asFile}"
+	) + loadTestArgs
+}
@@ -0,0 +1,69 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.BenchmarkPrices;
+import com.company.promotions.search.api.promotions.domain.EffectivePriceCache;
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the use case on its own: the repository is a stub that hands back a fixed candidate list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FindProductsPriceBetweenDatesUseCaseBenchmark {
+
+    @Param({"0", "1", "4", "16"})
+    int candidates;
+
+    private FindProductsPriceBetweenDatesUseCase useCase;
+
+    @Setup
+    public void setUp() {
+        useCase = new FindProductsPriceBetweenDatesUseCase(
+                new StubPriceRepository(BenchmarkPrices.overlapping(candidates, 42L)),
+                EffectivePriceCache.disabled(), PriceLookupMetrics.noop(),
+                LookupCoalescer.none(), HotKeyTracker.none());
+    }
+
+    @Benchmark
+    public Optional<ApplicablePriceDto> execute() {
+        return useCase.execute(BenchmarkPrices.APPLICATION_DATE, 35455L, 1L);
+    }
+
+    private static final class StubPriceRepository implements PriceRepository {
+
+        private final List<Price> prices;
+
+        private StubPriceRepository(List<Price> prices) {
+            this.prices = prices;
+        }
+
+        @Override
+        public List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+            return prices;
+        }
+
+        @Override
+        public List<Price> findPricesOverlapping(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+            return prices;
+        }
+    }
+}
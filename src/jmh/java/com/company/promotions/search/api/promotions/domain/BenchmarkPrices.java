@@ -0,0 +1,72 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.DateRange;
+import com.company.promotions.search.api.promotions.domain.vo.Money;
+import com.company.promotions.search.api.promotions.domain.vo.PriceListId;
+import com.company.promotions.search.api.promotions.domain.vo.Priority;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic price fixtures shared by the benchmarks.
+ */
+public final class BenchmarkPrices {
+
+    public static final LocalDateTime ORIGIN = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+    public static final LocalDateTime APPLICATION_DATE = ORIGIN.plusDays(180);
+
+    private BenchmarkPrices() {
+    }
+
+    /**
+     * Prices of a single product and brand that all contain {@link #APPLICATION_DATE}, with random widths,
+     * i.e. the candidate list {@link Price#selectMostSpecific} has to choose from.
+     */
+    public static List<Price> overlapping(int count, long seed) {
+        Random random = new Random(seed);
+        List<Price> prices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = APPLICATION_DATE.minusMinutes(1 + random.nextInt(60 * 24 * 180));
+            LocalDateTime end = APPLICATION_DATE.plusMinutes(1 + random.nextInt(60 * 24 * 180));
+            prices.add(price(35455L, 1L, i + 1, start, end, random));
+        }
+        return prices;
+    }
+
+    /**
+     * A catalog of {@code keys} product/brand pairs with {@code pricesPerKey} stacked promotions each, spread
+     * over one year starting at {@link #ORIGIN}.
+     */
+    public static List<Price> catalog(int keys, int pricesPerKey, long seed) {
+        Random random = new Random(seed);
+        List<Price> prices = new ArrayList<>(keys * pricesPerKey);
+        for (int key = 0; key < keys; key++) {
+            long productId = 1_000_000L + key;
+            long brandId = 1L + key % 4;
+            prices.add(price(productId, brandId, 1, ORIGIN, ORIGIN.plusYears(1), random));
+            for (int i = 1; i < pricesPerKey; i++) {
+                LocalDateTime start = ORIGIN.plusHours(random.nextInt(24 * 365));
+                prices.add(price(productId, brandId, i + 1, start, start.plusHours(1 + random.nextInt(24 * 30)), random));
+            }
+        }
+        return prices;
+    }
+
+    private static Price price(long productId, long brandId, long priceList,
+                               LocalDateTime start, LocalDateTime end, Random random) {
+        return new Price(
+                BrandId.of(brandId),
+                DateRange.of(start, end),
+                PriceListId.of(priceList),
+                ProductId.of(productId),
+                Priority.of(random.nextInt(2)),
+                Money.of(BigDecimal.valueOf(500 + random.nextInt(10_000), 2), "EUR")
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceSelectionBenchmark {
+
+    @Param({"1", "2", "4", "16", "64"})
+    int candidates;
+
+    private List<Price> prices;
+
+    @Setup
+    public void setUp() {
+        prices = BenchmarkPrices.overlapping(candidates, 42L);
+    }
+
+    @Benchmark
+    public Optional<Price> selectMostSpecific() {
+        return Price.selectMostSpecific(prices);
+    }
+}
@@ -0,0 +1,40 @@
+package com.company.promotions.search.api.promotions.domain.vo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateRangeBenchmark {
+
+    private final DateRange dateRange = DateRange.of(
+            LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+
+    private final LocalDateTime inside = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+    private final LocalDateTime outside = LocalDateTime.of(2021, 1, 1, 0, 0, 0);
+
+    @Benchmark
+    public boolean containsInside() {
+        return dateRange.contains(inside);
+    }
+
+    @Benchmark
+    public boolean containsOutside() {
+        return dateRange.contains(outside);
+    }
+
+    @Benchmark
+    public Duration duration() {
+        return dateRange.duration();
+    }
+}
@@ -0,0 +1,40 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceEntityMappingBenchmark {
+
+    private final PriceEntity entity = entity();
+
+    @Benchmark
+    public Price toDomain() {
+        return entity.toDomain();
+    }
+
+    private static PriceEntity entity() {
+        PriceEntity entity = new PriceEntity();
+        entity.setId(1L);
+        entity.setBrandId(1L);
+        entity.setStartDate(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        entity.setEndDate(LocalDateTime.of(2020, 6, 14, 18, 30, 0));
+        entity.setPriceList(2);
+        entity.setProductId(35455L);
+        entity.setPriority(1);
+        entity.setPrice(new BigDecimal("25.45"));
+        entity.setCurrency("EUR");
+        return entity;
+    }
+}
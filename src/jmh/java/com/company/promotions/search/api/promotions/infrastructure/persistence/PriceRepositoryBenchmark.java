@@ -0,0 +1,121 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import com.company.promotions.search.api.ApiApplication;
+import com.company.promotions.search.api.promotions.domain.BenchmarkPrices;
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import com.company.promotions.search.api.promotions.infrastructure.columnar.OffHeapPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.index.InMemoryPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.index.TimelinePriceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PriceRepository#findApplicablePrices} end to end against an H2 database seeded with a synthetic
+ * catalog, for each repository backend.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PriceRepositoryBenchmark {
+
+    private static final int PRICES_PER_KEY = 8;
+    private static final int LOOKUPS = 1024;
+
+    @Param({"1000", "100000"})
+    int datasetSize;
+
+    @Param({"jpa", "in-memory", "timeline", "off-heap"})
+    String repositoryType;
+
+    private ConfigurableApplicationContext context;
+    private PriceRepository priceRepository;
+
+    private final ProductId[] productIds = new ProductId[LOOKUPS];
+    private final BrandId[] brandIds = new BrandId[LOOKUPS];
+    private final LocalDateTime[] applicationDates = new LocalDateTime[LOOKUPS];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "promotions.repository.type=" + repositoryType,
+                        "logging.level.root=WARN")
+                .run();
+
+        List<Price> catalog = BenchmarkPrices.catalog(datasetSize / PRICES_PER_KEY, PRICES_PER_KEY, 7L);
+        seed(context.getBean(JdbcTemplate.class), catalog);
+
+        priceRepository = context.getBean(PriceRepository.class);
+        switch (priceRepository) {
+            case InMemoryPriceRepository inMemoryPriceRepository -> inMemoryPriceRepository.reload();
+            case TimelinePriceRepository timelinePriceRepository -> timelinePriceRepository.reload();
+            case OffHeapPriceRepository offHeapPriceRepository -> offHeapPriceRepository.reload();
+            default -> {
+            }
+        }
+
+        Random random = new Random(11L);
+        for (int i = 0; i < LOOKUPS; i++) {
+            Price price = catalog.get(random.nextInt(catalog.size()));
+            productIds[i] = price.getProductId();
+            brandIds[i] = price.getBrandId();
+            applicationDates[i] = BenchmarkPrices.ORIGIN.plusMinutes(random.nextInt(60 * 24 * 365));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Price> findApplicablePrices() {
+        int i = next++ & (LOOKUPS - 1);
+        return priceRepository.findApplicablePrices(productIds[i], brandIds[i], applicationDates[i]);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, List<Price> catalog) {
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO promotions.prices
+                            (brand_id, start_date, end_date, price_list, product_id, priority, price, currency_id)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                catalog,
+                1_000,
+                (statement, price) -> {
+                    statement.setLong(1, price.getBrandId().value());
+                    statement.setTimestamp(2, Timestamp.valueOf(price.getDateRange().startDate()));
+                    statement.setTimestamp(3, Timestamp.valueOf(price.getDateRange().endDate()));
+                    statement.setInt(4, price.getPriceListId().value().intValue());
+                    statement.setLong(5, price.getProductId().value());
+                    statement.setInt(6, price.getPriority().value());
+                    statement.setBigDecimal(7, price.getMoney().amount());
+                    statement.setShort(8, CurrencyNumericCodeConverter.numericCodeOf(price.getMoney().currency()));
+                });
+    }
+}
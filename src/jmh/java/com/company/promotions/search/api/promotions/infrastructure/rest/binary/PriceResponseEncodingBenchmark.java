@@ -0,0 +1,79 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest.binary;
+
+import com.company.promotions.search.api.promotions.infrastructure.rest.FindProductsPriceResponse;
+import com.company.promotions.search.api.promotions.infrastructure.rest.FindProductsPricesBatchItemResponse;
+import com.company.promotions.search.api.promotions.infrastructure.rest.FindProductsPricesBatchResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode cost of a batch response as JSON, with the mapper Spring Boot configures by default, and in the
+ * {@link PriceBinaryFormat}. The {@code bytes} counter reports the size of each body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceResponseEncodingBenchmark {
+
+    @Param({"1", "100"})
+    private int results;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private FindProductsPricesBatchResponse batch;
+
+    @Setup
+    public void setUp() {
+        FindProductsPriceResponse price = new FindProductsPriceResponse(
+                35455L, 1L, 2,
+                LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                new BigDecimal("25.45"));
+        List<FindProductsPricesBatchItemResponse> items = new ArrayList<>(results);
+        for (int i = 0; i < results; i++) {
+            items.add(new FindProductsPricesBatchItemResponse(
+                    LocalDateTime.of(2020, 6, 14, 16, 0, 0).plusMinutes(i), 35455L + i, 1L, true, price));
+        }
+        batch = new FindProductsPricesBatchResponse(items);
+    }
+
+    @Benchmark
+    public byte[] json(BodySize size) {
+        byte[] body = jsonMapper.writeValueAsBytes(batch);
+        size.bytes = body.length;
+        return body;
+    }
+
+    @Benchmark
+    public byte[] binary(BodySize size) {
+        byte[] body = PriceBinaryEncoder.encode(batch);
+        size.bytes = body.length;
+        return body;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class BodySize {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            bytes = 0;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.company.promotions.search.api.loadtest;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+
+/**
+ * Writes the rows of a {@link CatalogSpec} as newline-delimited JSON, in the format
+ * {@code POST /admin/prices/import} accepts, without ever holding more than one row in memory.
+ * <p>
+ * For every product and brand there is a base price (price list 1, priority 0) over the whole span and a number
+ * of promotions whose expected count falls linearly from twice {@code promotionsPerProduct}, for the most popular
+ * product, to none for the least popular one. Promotions come in stacks: each stack picks a random stretch of the
+ * span and nests up to {@code overlapDepth} promotions inside it, every one narrower, with a higher priority and a
+ * deeper discount than the one it sits in. Stacks are placed independently, so they can overlap as well.
+ */
+final class CatalogGenerator {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final long MIN_PROMOTION_SECONDS = 3_600;
+
+    private final CatalogSpec spec;
+
+    CatalogGenerator(CatalogSpec spec) {
+        this.spec = spec;
+    }
+
+    /**
+     * Writes every row of the catalog and returns how many were written.
+     */
+    long write(Writer out) throws IOException {
+        long spanSeconds = spec.span().toSeconds();
+        long rows = 0;
+        for (int rank = 0; rank < spec.products(); rank++) {
+            double expectedPromotions = 2.0 * spec.promotionsPerProduct() * (1 - (double) rank / spec.products());
+            for (int brand = 0; brand < spec.brands(); brand++) {
+                SplittableRandom random = randomFor(rank, brand);
+                long productId = spec.productId(rank);
+                long brandId = spec.brandId(brand);
+                BigDecimal basePrice = BigDecimal.valueOf(500 + random.nextInt(19_500), 2);
+
+                writeRow(out, productId, brandId, 1, 0, spec.from(), spec.to(), basePrice);
+                rows++;
+
+                int promotions = (int) (expectedPromotions + random.nextDouble());
+                int priceList = 2;
+                while (promotions > 0) {
+                    int depth = Math.min(promotions, 1 + random.nextInt(spec.overlapDepth()));
+                    long start = random.nextLong(spanSeconds - MIN_PROMOTION_SECONDS);
+                    long maxLength = Math.min(spanSeconds - start, spanSeconds / 10);
+                    long length = MIN_PROMOTION_SECONDS
+                            + random.nextLong(Math.max(1, maxLength - MIN_PROMOTION_SECONDS));
+                    for (int level = 1; level <= depth; level++) {
+                        BigDecimal discounted = basePrice
+                                .multiply(BigDecimal.valueOf(100 - Math.min(90, 10 * level + random.nextInt(10))))
+                                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+                        writeRow(out, productId, brandId, priceList++, level,
+                                spec.from().plusSeconds(start), spec.from().plusSeconds(start + length - 1),
+                                discounted);
+                        rows++;
+                        long trim = length / 4 == 0 ? 0 : random.nextLong(length / 4);
+                        start += trim;
+                        length -= 2 * trim;
+                    }
+                    promotions -= depth;
+                }
+            }
+        }
+        out.flush();
+        return rows;
+    }
+
+    private SplittableRandom randomFor(int rank, int brand) {
+        return new SplittableRandom(spec.seed() ^ ((long) rank * spec.brands() + brand) * 0x9E3779B97F4A7C15L);
+    }
+
+    private static void writeRow(Writer out, long productId, long brandId, int priceList, int priority,
+                                 LocalDateTime startDate, LocalDateTime endDate, BigDecimal price) throws IOException {
+        out.write("{\"productId\":" + productId
+                + ",\"brandId\":" + brandId
+                + ",\"priceList\":" + priceList
+                + ",\"priority\":" + priority
+                + ",\"startDate\":\"" + DATE_TIME.format(startDate)
+                + "\",\"endDate\":\"" + DATE_TIME.format(endDate)
+                + "\",\"price\":" + price.toPlainString()
+                + ",\"currency\":\"EUR\"}\n");
+    }
+}
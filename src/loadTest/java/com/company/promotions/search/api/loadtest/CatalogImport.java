@@ -0,0 +1,74 @@
+package com.company.promotions.search.api.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Generates a {@link CatalogSpec} and streams it into {@code POST /admin/prices/import} of an instance that is
+ * already running, as NDJSON written on a virtual thread while the request body is being sent.
+ * <pre>
+ * ./gradlew importCatalog -PloadTestArgs="--target=http://localhost:8080 --products=100000 --overlap-depth=4"
+ * </pre>
+ * The import endpoint needs an admin key, given with {@code --admin-key}.
+ */
+public final class CatalogImport {
+
+    private CatalogImport() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> arguments = LoadTest.parse(args);
+        CatalogSpec spec = CatalogSpec.fromArguments(arguments);
+        URI baseUri = URI.create(arguments.getOrDefault("target", "http://localhost:8080"));
+        System.out.printf("Importing %s into %s%n", spec.describe(), baseUri);
+        System.out.println(run(spec, baseUri, adminKey(arguments)));
+    }
+
+    /**
+     * The key the import is sent with: {@code --admin-key}, or the development admin key.
+     */
+    static String adminKey(Map<String, String> arguments) {
+        return arguments.getOrDefault("admin-key", "default-dev-admin-key");
+    }
+
+    /**
+     * Streams the catalog into the instance at {@code baseUri} and returns the ingestion report it answers with.
+     */
+    static String run(CatalogSpec spec, URI baseUri, String apiKey) throws IOException, InterruptedException {
+        PipedInputStream body = new PipedInputStream(64 * 1024);
+        PipedOutputStream sink = new PipedOutputStream(body);
+        Thread generator = Thread.ofVirtual().name("catalog-generator").start(() -> {
+            try (Writer out = new OutputStreamWriter(sink, StandardCharsets.UTF_8)) {
+                new CatalogGenerator(spec).write(out);
+            } catch (IOException e) {
+                // the request failed and closed the body; its status is reported below
+            }
+        });
+
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/admin/prices/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .header("X-API-Key", apiKey)
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> body))
+                .build();
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Import failed with " + response.statusCode() + ": "
+                        + response.body());
+            }
+            return response.body();
+        } finally {
+            body.close();
+            generator.join();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.promotions.search.api.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reproducible load test over a large synthetic catalog: starts the application jar on an empty in-memory
+ * database, imports a generated {@link CatalogSpec} through the API and replays Zipf-distributed lookups against
+ * {@code /prices}, printing the import report and the throughput and latency percentiles. Rate limiting is turned
+ * off so that every lookup reaches the database or the caches.
+ * <pre>
+ * ./gradlew catalogLoadTest -PloadTestArgs="--products=100000 --zipf-exponent=1.2 --concurrency=500"
+ * </pre>
+ * Catalog arguments are those of {@link CatalogSpec#fromArguments}; {@code --zipf-exponent} (default 1.0) sets
+ * how skewed lookups are, {@code --lookups} (default 50000) how many distinct ones are generated before the
+ * virtual users cycle through them, and {@code --profile} the profile the application runs with.
+ */
+public final class CatalogLoadTest {
+
+    private CatalogLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = LoadTest.parse(args);
+        Path jar = Path.of(arguments.getOrDefault("jar", "build/libs/api-0.0.1-SNAPSHOT.jar"));
+        Path output = Path.of(arguments.getOrDefault("output", "build/load-test"));
+        int port = Integer.parseInt(arguments.getOrDefault("port", "18080"));
+        String profile = arguments.getOrDefault("profile", "default");
+        double exponent = Double.parseDouble(arguments.getOrDefault("zipf-exponent", "1.0"));
+        int lookups = Integer.parseInt(arguments.getOrDefault("lookups", "50000"));
+        CatalogSpec spec = CatalogSpec.fromArguments(arguments);
+        Files.createDirectories(output);
+
+        LoadScenario scenario = LoadScenario.fromArguments(arguments)
+                .withPaths(LoadScenario.zipfPricePaths(spec, exponent, lookups, spec.seed()));
+        try (ApplicationProcess application = ApplicationProcess.start(
+                jar, port, output.resolve("catalog-" + profile + ".log"), List.of(),
+                List.of("--spring.profiles.active=" + profile, "--api.security.rate-limit.enabled=false"))) {
+            System.out.printf("Importing %s%n", spec.describe());
+            System.out.println(CatalogImport.run(spec, application.baseUri(), CatalogImport.adminKey(arguments)));
+
+            System.out.printf("%d virtual users for %s over %d lookups (Zipf exponent %s)%n",
+                    scenario.concurrency(), scenario.duration(), lookups, exponent);
+            LoadResult result = new LoadGenerator(scenario.withBaseUri(application.baseUri())).run(profile);
+            System.out.println(LoadResult.header());
+            System.out.println(result.row());
+        }
+        System.out.printf("Application log is in %s%n", output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,66 @@
+package com.company.promotions.search.api.loadtest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Shape of a synthetic price catalog: every product is priced in every brand, with one base price over the whole
+ * {@code span} and, on top of it, promotions nested up to {@code overlapDepth} deep. Products are ranked by
+ * popularity in id order, the first being the most popular, and popular products get more promotions.
+ * <p>
+ * Product ids start at {@link #FIRST_PRODUCT_ID} so that the catalog never touches the sample rows of the Flyway
+ * migrations. The same spec and seed always produce the same rows.
+ */
+public record CatalogSpec(int products, int brands, int promotionsPerProduct, int overlapDepth, long seed,
+                          LocalDateTime from, Duration span) {
+
+    public static final long FIRST_PRODUCT_ID = 1_000_000L;
+
+    public CatalogSpec {
+        if (products <= 0 || brands <= 0) {
+            throw new IllegalArgumentException("Products and brands must be positive");
+        }
+        if (promotionsPerProduct < 0) {
+            throw new IllegalArgumentException("Promotions per product cannot be negative");
+        }
+        if (overlapDepth <= 0) {
+            throw new IllegalArgumentException("Overlap depth must be positive");
+        }
+        if (span.compareTo(Duration.ofDays(1)) < 0) {
+            throw new IllegalArgumentException("Span must be at least one day");
+        }
+    }
+
+    /**
+     * Builds a spec from {@code --name=value} arguments, falling back to defaults.
+     */
+    public static CatalogSpec fromArguments(Map<String, String> arguments) {
+        return new CatalogSpec(
+                Integer.parseInt(arguments.getOrDefault("products", "10000")),
+                Integer.parseInt(arguments.getOrDefault("brands", "4")),
+                Integer.parseInt(arguments.getOrDefault("promotions-per-product", "6")),
+                Integer.parseInt(arguments.getOrDefault("overlap-depth", "3")),
+                Long.parseLong(arguments.getOrDefault("seed", "20200614")),
+                LocalDateTime.parse(arguments.getOrDefault("from", "2024-01-01T00:00:00")),
+                Duration.parse(arguments.getOrDefault("span", "P365D")));
+    }
+
+    public long productId(int rank) {
+        return FIRST_PRODUCT_ID + rank;
+    }
+
+    public long brandId(int index) {
+        return index + 1L;
+    }
+
+    public LocalDateTime to() {
+        return from.plus(span).minusSeconds(1);
+    }
+
+    String describe() {
+        return String.format("%d products x %d brands, %d promotions per product on average, up to %d deep, "
+                        + "from %s to %s (seed %d)",
+                products, brands, promotionsPerProduct, overlapDepth, from, to(), seed);
+    }
+}
@@ -0,0 +1,102 @@
+package com.company.promotions.search.api.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives a {@link LoadScenario} with one virtual thread per virtual user, so the client side never runs out of
+ * threads before the server does.
+ */
+public final class LoadGenerator {
+
+    private final LoadScenario scenario;
+    private final HttpClient client;
+
+    public LoadGenerator(LoadScenario scenario) {
+        this.scenario = scenario;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public LoadResult run(String label) throws InterruptedException {
+        List<HttpRequest> requests = scenario.paths().stream()
+                .map(path -> HttpRequest.newBuilder(scenario.baseUri().resolve(URI.create(path)))
+                        .header("X-API-Key", scenario.apiKey())
+                        .timeout(Duration.ofSeconds(30))
+                        .GET()
+                        .build())
+                .toList();
+
+        long warmupEnd = System.nanoTime() + scenario.warmup().toNanos();
+        long measureEnd = warmupEnd + scenario.duration().toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> users = new ArrayList<>(scenario.concurrency());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < scenario.concurrency(); user++) {
+                int first = user;
+                users.add(executor.submit(() -> runUser(first, requests, warmupEnd, measureEnd, errors)));
+            }
+        }
+
+        List<long[]> latencies = new ArrayList<>(users.size());
+        for (Future<long[]> user : users) {
+            try {
+                latencies.add(user.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Virtual user failed", e.getCause());
+            }
+        }
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).toArray();
+        return new LoadResult(label, all.length, errors.get(), scenario.duration(), all);
+    }
+
+    /**
+     * Sends requests back to back until {@code measureEnd}, returning the latencies in microseconds of those
+     * that both started after the warmup and finished inside the measured window.
+     */
+    private long[] runUser(int first, List<HttpRequest> requests, long warmupEnd, long measureEnd,
+                           AtomicLong errors) throws InterruptedException {
+        long[] latencies = new long[1024];
+        int count = 0;
+        int next = first;
+        long start;
+        while ((start = System.nanoTime()) < measureEnd) {
+            HttpRequest request = requests.get(next++ % requests.size());
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() == 200 || response.statusCode() == 404;
+            } catch (IOException e) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            if (start < warmupEnd || end > measureEnd) {
+                continue;
+            }
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = (end - start) / 1_000;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+}
@@ -0,0 +1,40 @@
+package com.company.promotions.search.api.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Outcome of a measured run. Latencies are kept as a sorted array of microseconds, which is small enough for the
+ * request counts a local run produces and gives exact percentiles.
+ */
+public record LoadResult(String label, long requests, long errors, Duration elapsed, long[] latenciesMicros) {
+
+    public LoadResult {
+        latenciesMicros = latenciesMicros.clone();
+        Arrays.sort(latenciesMicros);
+    }
+
+    public double throughput() {
+        return requests / (elapsed.toNanos() / 1e9);
+    }
+
+    public long percentileMicros(double percentile) {
+        if (latenciesMicros.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * latenciesMicros.length) - 1;
+        return latenciesMicros[Math.clamp(index, 0, latenciesMicros.length - 1)];
+    }
+
+    static String header() {
+        return String.format("%-10s %10s %8s %10s %9s %9s %9s %9s %9s",
+                "mode", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    String row() {
+        return String.format("%-10s %10d %8d %10.0f %9.2f %9.2f %9.2f %9.2f %9.2f",
+                label, requests, errors, throughput(),
+                percentileMicros(50) / 1000.0, percentileMicros(90) / 1000.0, percentileMicros(99) / 1000.0,
+                percentileMicros(99.9) / 1000.0, percentileMicros(100) / 1000.0);
+    }
+}
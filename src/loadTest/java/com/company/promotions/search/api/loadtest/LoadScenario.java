@@ -0,0 +1,86 @@
+package com.company.promotions.search.api.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * A closed-loop scenario: {@code concurrency} virtual users, each on its own connection, send the next request
+ * as soon as the previous one returns, first for {@code warmup} (not measured) and then for {@code duration}.
+ */
+public record LoadScenario(URI baseUri, String apiKey, int concurrency, Duration warmup, Duration duration,
+                           List<String> paths) {
+
+    private static final List<LocalDateTime> SAMPLE_DATES = List.of(
+            LocalDateTime.of(2020, 6, 14, 10, 0, 0),
+            LocalDateTime.of(2020, 6, 14, 16, 0, 0),
+            LocalDateTime.of(2020, 6, 14, 21, 0, 0),
+            LocalDateTime.of(2020, 6, 15, 10, 0, 0),
+            LocalDateTime.of(2020, 6, 16, 21, 0, 0));
+
+    public LoadScenario {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("At least one request path is required");
+        }
+        paths = List.copyOf(paths);
+    }
+
+    /**
+     * Single-price lookups over the sample catalog shipped with the Flyway migrations.
+     */
+    public static List<String> samplePricePaths() {
+        return SAMPLE_DATES.stream()
+                .map(date -> "/prices?applicationDate=" + date.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                        + "&productId=35455&brandId=1")
+                .toList();
+    }
+
+    /**
+     * {@code count} single-price lookups over a generated catalog: products are drawn from a Zipf distribution
+     * with the given exponent over their popularity rank, brands uniformly and dates uniformly over the span, to
+     * the second. The same arguments always produce the same paths.
+     */
+    public static List<String> zipfPricePaths(CatalogSpec spec, double exponent, int count, long seed) {
+        ZipfDistribution products = new ZipfDistribution(spec.products(), exponent);
+        SplittableRandom random = new SplittableRandom(seed);
+        long spanSeconds = spec.span().toSeconds();
+        List<String> paths = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long productId = spec.productId(products.sample(random));
+            long brandId = spec.brandId(random.nextInt(spec.brands()));
+            LocalDateTime date = spec.from().plusSeconds(random.nextLong(spanSeconds));
+            paths.add("/prices?applicationDate=" + date.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                    + "&productId=" + productId + "&brandId=" + brandId);
+        }
+        return paths;
+    }
+
+    /**
+     * Builds a scenario from {@code --name=value} arguments, falling back to defaults.
+     */
+    public static LoadScenario fromArguments(Map<String, String> arguments) {
+        return new LoadScenario(
+                URI.create(arguments.getOrDefault("target", "http://localhost:8080")),
+                arguments.getOrDefault("api-key", "default-dev-key-1"),
+                Integer.parseInt(arguments.getOrDefault("concurrency", "1000")),
+                Duration.parse(arguments.getOrDefault("warmup", "PT10S")),
+                Duration.parse(arguments.getOrDefault("duration", "PT30S")),
+                samplePricePaths());
+    }
+
+    public LoadScenario withBaseUri(URI uri) {
+        return new LoadScenario(uri, apiKey, concurrency, warmup, duration, paths);
+    }
+
+    public LoadScenario withPaths(List<String> requestPaths) {
+        return new LoadScenario(baseUri, apiKey, concurrency, warmup, duration, requestPaths);
+    }
+}
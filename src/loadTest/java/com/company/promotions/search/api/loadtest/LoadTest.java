@@ -0,0 +1,37 @@
+package com.company.promotions.search.api.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Runs a {@link LoadScenario} against an instance that is already running.
+ * <pre>
+ * ./gradlew loadTest -PloadTestArgs="--target=http://localhost:8080 --concurrency=1000 --duration=PT30S"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadScenario scenario = LoadScenario.fromArguments(parse(args));
+        System.out.printf("Running %d virtual users against %s for %s (warmup %s)%n",
+                scenario.concurrency(), scenario.baseUri(), scenario.duration(), scenario.warmup());
+        LoadResult result = new LoadGenerator(scenario).run(parse(args).getOrDefault("label", "target"));
+        System.out.println(LoadResult.header());
+        System.out.println(result.row());
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            arguments.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return arguments;
+    }
+}
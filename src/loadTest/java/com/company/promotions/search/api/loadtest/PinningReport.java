@@ -0,0 +1,69 @@
+package com.company.promotions.search.api.loadtest;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarizes the {@code jdk.VirtualThreadPinned} events of a JFR recording by the innermost non-JDK frame, which
+ * is where the {@code synchronized} block (or native call) that pinned the carrier lives.
+ */
+public record PinningReport(long events, Duration totalPinned, List<Hotspot> hotspots) {
+
+    public record Hotspot(String site, long events, Duration pinned) {
+    }
+
+    public static PinningReport of(Path recording) throws IOException {
+        Map<String, long[]> bySite = new HashMap<>();
+        long events = 0;
+        long totalNanos = 0;
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            if (!event.getEventType().getName().equals("jdk.VirtualThreadPinned")) {
+                continue;
+            }
+            long nanos = event.getDuration().toNanos();
+            long[] totals = bySite.computeIfAbsent(callSite(event), site -> new long[2]);
+            totals[0]++;
+            totals[1] += nanos;
+            events++;
+            totalNanos += nanos;
+        }
+        List<Hotspot> hotspots = bySite.entrySet().stream()
+                .map(entry -> new Hotspot(entry.getKey(), entry.getValue()[0], Duration.ofNanos(entry.getValue()[1])))
+                .sorted((a, b) -> Long.compare(b.events(), a.events()))
+                .toList();
+        return new PinningReport(events, Duration.ofNanos(totalNanos), hotspots);
+    }
+
+    private static String callSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (frame.isJavaFrame() && !type.startsWith("java.") && !type.startsWith("jdk.")
+                    && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "jdk";
+    }
+
+    String describe(int limit) {
+        if (events == 0) {
+            return "  no pinned virtual threads recorded";
+        }
+        StringBuilder text = new StringBuilder(String.format("  %d pinning events, %d ms pinned in total%n",
+                events, totalPinned.toMillis()));
+        hotspots.stream().limit(limit).forEach(hotspot -> text.append(String.format("  %8d  %8d ms  %s%n",
+                hotspot.events(), hotspot.pinned().toMillis(), hotspot.site())));
+        return text.toString();
+    }
+}
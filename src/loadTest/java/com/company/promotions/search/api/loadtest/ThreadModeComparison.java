@@ -0,0 +1,63 @@
+package com.company.promotions.search.api.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts the application jar once per thread mode (the platform-thread default, the {@code virtual-threads}
+ * profile, then the event loops of the {@code reactive} profile), runs the same {@link LoadScenario} against each
+ * and prints throughput and tail latency side by side. Rate limiting is turned off so that every mode is measured
+ * on the same amount of work.
+ * <p>
+ * Each instance runs with a JFR recording that captures {@code jdk.VirtualThreadPinned} events from 1 ms; the
+ * recordings are kept under the output directory and summarized into a {@link PinningReport}.
+ */
+public final class ThreadModeComparison {
+
+    private record Mode(String label, String profile) {
+    }
+
+    private static final List<Mode> MODES = List.of(
+            new Mode("platform", "default"),
+            new Mode("virtual", "virtual-threads"),
+            new Mode("reactive", "reactive"));
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = LoadTest.parse(args);
+        Path jar = Path.of(arguments.getOrDefault("jar", "build/libs/api-0.0.1-SNAPSHOT.jar"));
+        Path output = Path.of(arguments.getOrDefault("output", "build/load-test"));
+        int port = Integer.parseInt(arguments.getOrDefault("port", "18080"));
+        LoadScenario scenario = LoadScenario.fromArguments(arguments);
+        Files.createDirectories(output);
+
+        List<LoadResult> results = new ArrayList<>();
+        List<PinningReport> pinning = new ArrayList<>();
+        for (Mode mode : MODES) {
+            Path recording = output.resolve(mode.label() + ".jfr");
+            try (ApplicationProcess application = ApplicationProcess.start(
+                    jar, port, output.resolve(mode.label() + ".log"),
+                    List.of("-XX:StartFlightRecording:filename=" + recording + ",dumponexit=true,"
+                            + "jdk.VirtualThreadPinned#enabled=true,jdk.VirtualThreadPinned#threshold=1ms"),
+                    List.of("--spring.profiles.active=" + mode.profile(), "--api.security.rate-limit.enabled=false"))) {
+                System.out.printf("%s: %d virtual users for %s%n",
+                        mode.label(), scenario.concurrency(), scenario.duration());
+                results.add(new LoadGenerator(scenario.withBaseUri(application.baseUri())).run(mode.label()));
+            }
+            pinning.add(PinningReport.of(recording));
+        }
+
+        System.out.println();
+        System.out.println(LoadResult.header());
+        results.forEach(result -> System.out.println(result.row()));
+        for (int i = 0; i < MODES.size(); i++) {
+            System.out.printf("%nVirtual thread pinning (%s):%n%s", MODES.get(i).label(), pinning.get(i).describe(10));
+        }
+        System.out.printf("%nJFR recordings and application logs are in %s%n", output.toAbsolutePath());
+    }
+}
@@ -1,5 +1,7 @@
 package com.company.promotions.search.api.promotions.application;
 
+import com.company.promotions.search.api.promotions.domain.Price;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -11,4 +13,15 @@ public record ApplicablePriceDto(
         LocalDateTime endDate,
         BigDecimal price
 ) {
-}
\ No newline at end of file
+
+    public static ApplicablePriceDto from(Price price) {
+        return new ApplicablePriceDto(
+                price.getProductId().value(),
+                price.getBrandId().value(),
+                price.getPriceListId().value().intValue(),
+                price.getDateRange().startDate(),
+                price.getDateRange().endDate(),
+                price.getMoney().amount()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Builds the caller's representation of an applicable price straight from its fields, so a lookup can produce
+ * its final response without an intermediate {@link ApplicablePriceDto}. The canonical constructors of
+ * {@code ApplicablePriceDto} and of the REST response both fit it.
+ */
+@FunctionalInterface
+public interface ApplicablePriceMapper<R> {
+
+    R map(Long productId, Long brandId, Integer priceList, LocalDateTime startDate, LocalDateTime endDate,
+          BigDecimal price);
+
+    default R map(Price price) {
+        return map(
+                price.getProductId().value(),
+                price.getBrandId().value(),
+                price.getPriceListId().value().intValue(),
+                price.getDateRange().startDate(),
+                price.getDateRange().endDate(),
+                price.getMoney().amount());
+    }
+}
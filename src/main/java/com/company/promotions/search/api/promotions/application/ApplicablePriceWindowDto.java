@@ -0,0 +1,24 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.PriceSegment;
+
+import java.time.LocalDateTime;
+
+/**
+ * An applicable price together with the stretch of time around the requested instant during which it stays the
+ * applicable one. Both bounds are inclusive.
+ */
+public record ApplicablePriceWindowDto(
+        ApplicablePriceDto price,
+        LocalDateTime validFrom,
+        LocalDateTime validUntil
+) {
+
+    public static ApplicablePriceWindowDto from(PriceSegment segment) {
+        return new ApplicablePriceWindowDto(
+                ApplicablePriceDto.from(segment.price()),
+                segment.startDate(),
+                segment.endDate()
+        );
+    }
+}
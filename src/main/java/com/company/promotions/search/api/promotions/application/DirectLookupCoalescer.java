@@ -0,0 +1,14 @@
+package com.company.promotions.search.api.promotions.application;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+enum DirectLookupCoalescer implements LookupCoalescer {
+
+    INSTANCE;
+
+    @Override
+    public <T> T coalesce(Object key, Supplier<T> lookup, Predicate<? super T> accept) {
+        return lookup.get();
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.PriceTransitionRepository;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.DateRange;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lists the instants at which the prices of a brand start or stop applying, the same boundaries the transition
+ * scheduler prepares the effective price cache for.
+ */
+@Service
+public class FindPriceTransitionsUseCase {
+
+    public static final int MAX_TRANSITIONS = 1000;
+
+    private final PriceTransitionRepository priceTransitionRepository;
+
+    public FindPriceTransitionsUseCase(PriceTransitionRepository priceTransitionRepository) {
+        this.priceTransitionRepository = priceTransitionRepository;
+    }
+
+    /**
+     * @return the first {@value #MAX_TRANSITIONS} transitions between {@code from} and {@code to}, both
+     * inclusive, in chronological order
+     */
+    public List<PriceTransitionDto> execute(Long brandId, LocalDateTime from, LocalDateTime to) {
+        DateRange window = DateRange.of(from, to);
+
+        return priceTransitionRepository.findTransitions(
+                        BrandId.of(brandId), window.startDate(), window.endDate(), MAX_TRANSITIONS)
+                .stream()
+                .map(PriceTransitionDto::from)
+                .toList();
+    }
+}
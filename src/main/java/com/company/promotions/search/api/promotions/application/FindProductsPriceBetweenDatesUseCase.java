@@ -1,42 +1,236 @@
 package com.company.promotions.search.api.promotions.application;
 
+import com.company.promotions.search.api.promotions.domain.EffectivePriceCache;
+import com.company.promotions.search.api.promotions.domain.EffectivePriceTimeline;
+import com.company.promotions.search.api.promotions.domain.MostSpecificPriceFinder;
 import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
 import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.PriceSegment;
+import com.company.promotions.search.api.promotions.domain.PriceSegmentFinder;
 import com.company.promotions.search.api.promotions.domain.vo.BrandId;
 import com.company.promotions.search.api.promotions.domain.vo.ProductId;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class FindProductsPriceBetweenDatesUseCase {
 
+    private static final Comparator<Price> BY_PRIORITY_DESC = Comparator.comparing(Price::getPriority).reversed();
+
     private final PriceRepository priceRepository;
+    private final EffectivePriceCache effectivePriceCache;
+    private final PriceLookupMetrics metrics;
+    private final LookupCoalescer coalescer;
+    private final HotKeyTracker hotKeyTracker;
 
-    public FindProductsPriceBetweenDatesUseCase(PriceRepository priceRepository) {
+    public FindProductsPriceBetweenDatesUseCase(PriceRepository priceRepository,
+                                                EffectivePriceCache effectivePriceCache,
+                                                PriceLookupMetrics metrics,
+                                                LookupCoalescer coalescer,
+                                                HotKeyTracker hotKeyTracker) {
         this.priceRepository = priceRepository;
+        this.effectivePriceCache = effectivePriceCache;
+        this.metrics = metrics;
+        this.coalescer = coalescer;
+        this.hotKeyTracker = hotKeyTracker;
     }
 
     public Optional<ApplicablePriceDto> execute(LocalDateTime applicationDate, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        Optional<Price> winner = lookUp(applicationDate, productId, brandId);
+        metrics.recordLookup(brandId, winner.isPresent(), System.nanoTime() - started);
+        return winner.map(ApplicablePriceDto::from);
+    }
+
+    /**
+     * Same lookup as {@link #execute(LocalDateTime, Long, Long)}, mapping the winner with {@code mapper} and
+     * returning {@code null} when no price applies.
+     * <p>
+     * When the repository is an in-memory {@link MostSpecificPriceFinder} the winner comes straight from it,
+     * skipping the effective price cache and the coalescer, and the only allocation is the one made by
+     * {@code mapper}. Other repositories go through the cache and the coalescer.
+     */
+    public <R> R execute(LocalDateTime applicationDate, long productId, long brandId,
+                         ApplicablePriceMapper<R> mapper) {
+        long started = System.nanoTime();
+        Price winner;
+        if (priceRepository instanceof MostSpecificPriceFinder finder && finder.isInMemory()) {
+            winner = finder.findMostSpecific(
+                    ProductId.validate(productId), BrandId.validate(brandId), applicationDate);
+            hotKeyTracker.record(productId, brandId);
+        } else {
+            winner = lookUp(applicationDate, productId, brandId).orElse(null);
+        }
+        metrics.recordLookup(brandId, winner != null, System.nanoTime() - started);
+        return winner == null ? null : mapper.map(winner);
+    }
+
+    /**
+     * Same lookup as {@link #execute(LocalDateTime, Long, Long)}, also returning how long the winner stays the
+     * applicable price. When the window cannot be established, because the prices changed between the two reads,
+     * it is narrowed down to {@code applicationDate} itself.
+     * <p>
+     * When the repository is a {@link PriceSegmentFinder} the segment comes straight from its precomputed timeline,
+     * skipping the effective price cache, the coalescer and the sweep over the competing prices.
+     */
+    public Optional<ApplicablePriceWindowDto> executeWithWindow(LocalDateTime applicationDate, Long productId,
+                                                                Long brandId) {
+        long started = System.nanoTime();
+        Optional<PriceSegment> segment = lookUpSegment(applicationDate, productId, brandId);
+        metrics.recordLookup(brandId, segment.isPresent(), System.nanoTime() - started);
+        return segment.map(ApplicablePriceWindowDto::from);
+    }
+
+    /**
+     * Resolves the segment starting at {@code transition} ahead of time and hands it to the effective price cache
+     * as the next segment of {@code key}, so that lookups from that instant on are still answered from the cache.
+     * Only keys that are cached are prepared, and preparing is not counted as a lookup.
+     */
+    public void prepareTransition(PriceKey key, LocalDateTime transition) {
+        if (!effectivePriceCache.isCached(key)) {
+            return;
+        }
+        findWinner(key, transition)
+                .flatMap(winner -> validitySegment(key, winner, transition))
+                .ifPresent(segment -> effectivePriceCache.putNext(key, segment));
+    }
+
+    /**
+     * Fills the caches in front of the repository with the segment of {@code key} at {@code applicationDate}, as a
+     * lookup missing them would. Warming up is not counted as a lookup: nothing is recorded in the lookup metrics
+     * or the hot key tracker, so keys warmed up on startup get no hotter for it. Keys already cached, and
+     * repositories that answer from memory, are left alone.
+     */
+    public void warmUp(PriceKey key, LocalDateTime applicationDate) {
+        boolean inMemory = priceRepository instanceof PriceSegmentFinder
+                || priceRepository instanceof MostSpecificPriceFinder finder && finder.isInMemory();
+        if (inMemory || effectivePriceCache.isCached(key)) {
+            return;
+        }
+        resolve(key, applicationDate, true);
+    }
+
+    private Optional<Price> lookUp(LocalDateTime applicationDate, Long productId, Long brandId) {
+        PriceKey key = PriceKey.of(ProductId.of(productId), BrandId.of(brandId));
+        hotKeyTracker.record(productId, brandId);
+
+        Optional<PriceSegment> cached = effectivePriceCache.get(key, applicationDate);
+        if (cached.isPresent()) {
+            return cached.map(PriceSegment::price);
+        }
+
+        return lookUpShared(key, applicationDate, false).map(PriceSegment::price);
+    }
+
+    private Optional<PriceSegment> lookUpSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        PriceKey key = PriceKey.of(ProductId.of(productId), BrandId.of(brandId));
+        hotKeyTracker.record(productId, brandId);
+        if (priceRepository instanceof PriceSegmentFinder finder) {
+            return Optional.ofNullable(finder.findSegment(
+                    key.productId().value(), key.brandId().value(), applicationDate));
+        }
+
+        Optional<PriceSegment> cached = effectivePriceCache.get(key, applicationDate);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        return lookUpShared(key, applicationDate, true);
+    }
+
+    /**
+     * Runs the repository lookup of {@code key}, or joins the run already in flight for it, whatever instant that
+     * run is for: the segment it resolves answers every instant it covers. A caller whose instant falls outside
+     * it, or that needs a window the run did not establish, runs its own lookup. A lookup that establishes no
+     * window, without the effective price cache, only answers its own instant, so it is shared on the instant too.
+     */
+    private Optional<PriceSegment> lookUpShared(PriceKey key, LocalDateTime applicationDate, boolean withWindow) {
+        Object coalescingKey = withWindow || effectivePriceCache.isEnabled()
+                ? key
+                : new InstantLookupKey(key, applicationDate);
+        KeyLookup shared = coalescer.coalesce(coalescingKey, () -> resolve(key, applicationDate, withWindow),
+                lookup -> lookup.answers(applicationDate, withWindow));
+        return Optional.ofNullable(shared.segment());
+    }
+
+    /**
+     * Finds the winner of {@code applicationDate} and, when a window is needed or the effective price cache is
+     * enabled, the segment it stays the winner for, caching it. Without one, the segment covers the instant only.
+     */
+    private KeyLookup resolve(PriceKey key, LocalDateTime applicationDate, boolean withWindow) {
+        Optional<Price> winner = findWinner(key, applicationDate);
+        if (winner.isEmpty()) {
+            return new KeyLookup(applicationDate, null, true);
+        }
+        PriceSegment instant = new PriceSegment(applicationDate, applicationDate, winner.get());
+        if (!withWindow && !effectivePriceCache.isEnabled()) {
+            return new KeyLookup(applicationDate, instant, false);
+        }
+        Optional<PriceSegment> segment = validitySegment(key, winner.get(), applicationDate);
+        if (segment.isPresent() && effectivePriceCache.isEnabled()) {
+            effectivePriceCache.put(key, segment.get());
+        }
+        return new KeyLookup(applicationDate, segment.orElse(instant), true);
+    }
+
+    private Optional<Price> findWinner(PriceKey key, LocalDateTime applicationDate) {
+        return priceRepository instanceof MostSpecificPriceFinder finder
+                ? Optional.ofNullable(finder.findMostSpecific(
+                        key.productId().value(), key.brandId().value(), applicationDate))
+                : selectAmongCandidates(key, applicationDate);
+    }
+
+    private Optional<Price> selectAmongCandidates(PriceKey key, LocalDateTime applicationDate) {
         List<Price> applicablePrices = priceRepository.findApplicablePrices(
-                ProductId.of(productId),
-                BrandId.of(brandId),
+                key.productId(),
+                key.brandId(),
                 applicationDate);
+        metrics.recordCandidates(key.brandId().value(), applicablePrices.size());
+
+        long selecting = System.nanoTime();
+        Optional<Price> winner = Price.selectMostSpecific(applicablePrices);
+        metrics.recordStage(PriceLookupMetrics.Stage.SELECTION, System.nanoTime() - selecting);
+        return winner;
+    }
+
+    /**
+     * Finds the stretch of time around {@code applicationDate} during which {@code winner} stays the most specific
+     * price. Only prices overlapping the winner's own range can take over inside it, so those are the only ones
+     * the timeline needs.
+     */
+    private Optional<PriceSegment> validitySegment(PriceKey key, Price winner, LocalDateTime applicationDate) {
+        List<Price> competitors = priceRepository.findPricesOverlapping(
+                        List.of(key),
+                        winner.getDateRange().startDate(),
+                        winner.getDateRange().endDate())
+                .stream()
+                .sorted(BY_PRIORITY_DESC)
+                .toList();
 
-        return Price.selectMostSpecific(applicablePrices)
-                .map(this::toDto);
+        return EffectivePriceTimeline.of(competitors)
+                .segmentAt(applicationDate)
+                .filter(segment -> segment.price().equals(winner));
     }
 
-    private ApplicablePriceDto toDto(Price price) {
-        return new ApplicablePriceDto(
-                price.getProductId().value(),
-                price.getBrandId().value(),
-                price.getPriceListId().value().intValue(),
-                price.getDateRange().startDate(),
-                price.getDateRange().endDate(),
-                price.getMoney().amount()
-        );
+    private record InstantLookupKey(PriceKey key, LocalDateTime applicationDate) {
+    }
+
+    /**
+     * Outcome of one repository run for a key: the segment found around {@code applicationDate}, or {@code null}
+     * when no price applied then, and whether that segment is the full window rather than the instant alone.
+     */
+    private record KeyLookup(LocalDateTime applicationDate, PriceSegment segment, boolean windowed) {
+
+        boolean answers(LocalDateTime date, boolean withWindow) {
+            if (segment == null) {
+                return applicationDate.equals(date);
+            }
+            return (windowed || !withWindow) && segment.contains(date);
+        }
     }
 }
@@ -0,0 +1,89 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.EffectivePriceTimeline;
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.PriceSegment;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.DateRange;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Answers how the price of one product and brand evolves over a window, from the prices overlapping that window
+ * fetched with a single repository round trip and swept into an {@link EffectivePriceTimeline}. Every instant
+ * gets the same price as {@link FindProductsPriceBetweenDatesUseCase} would return for it.
+ */
+@Service
+public class FindProductsPriceTimelineUseCase {
+
+    private static final Comparator<Price> BY_PRIORITY_DESC = Comparator.comparing(Price::getPriority).reversed();
+
+    private final PriceRepository priceRepository;
+
+    public FindProductsPriceTimelineUseCase(PriceRepository priceRepository) {
+        this.priceRepository = priceRepository;
+    }
+
+    /**
+     * @return the effective price segments between {@code from} and {@code to}, both inclusive, in chronological
+     * order and clipped to the window; gaps without an applicable price have no segment
+     */
+    public List<PriceSegmentDto> execute(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        PriceKey key = PriceKey.of(ProductId.of(productId), BrandId.of(brandId));
+        DateRange window = DateRange.of(from, to);
+
+        return timelineOf(key, window)
+                .segmentsBetween(window.startDate(), window.endDate())
+                .stream()
+                .map(PriceSegmentDto::from)
+                .toList();
+    }
+
+    /**
+     * Resolves many instants of the same product and brand with one sorted walk over its timeline.
+     *
+     * @return one result per instant, in the same order, including the ones with no applicable price
+     */
+    public List<PriceLookupResult> sample(Long productId, Long brandId, List<LocalDateTime> instants) {
+        if (instants.isEmpty()) {
+            return List.of();
+        }
+        PriceKey key = PriceKey.of(ProductId.of(productId), BrandId.of(brandId));
+        LocalDateTime first = null;
+        LocalDateTime last = null;
+        for (LocalDateTime instant : instants) {
+            Objects.requireNonNull(instant, "Application date cannot be null");
+            first = first == null || instant.isBefore(first) ? instant : first;
+            last = last == null || instant.isAfter(last) ? instant : last;
+        }
+
+        List<Optional<PriceSegment>> segments = timelineOf(key, DateRange.of(first, last)).segmentsAt(instants);
+
+        List<PriceLookupResult> results = new ArrayList<>(instants.size());
+        for (int i = 0; i < instants.size(); i++) {
+            PriceLookup lookup = new PriceLookup(instants.get(i), productId, brandId);
+            results.add(segments.get(i)
+                    .map(segment -> PriceLookupResult.found(lookup, ApplicablePriceDto.from(segment.price())))
+                    .orElseGet(() -> PriceLookupResult.notFound(lookup)));
+        }
+        return results;
+    }
+
+    // Same candidate order as the single lookup, so ties on duration are broken the same way
+    private EffectivePriceTimeline timelineOf(PriceKey key, DateRange window) {
+        return EffectivePriceTimeline.of(priceRepository
+                .findPricesOverlapping(List.of(key), window.startDate(), window.endDate())
+                .stream()
+                .sorted(BY_PRIORITY_DESC)
+                .toList());
+    }
+}
@@ -0,0 +1,76 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Batch counterpart of {@link FindProductsPriceBetweenDatesUseCase}: resolves many lookups with a single
+ * repository round trip and answers each of them with the same smallest-date-range rule.
+ */
+@Service
+public class FindProductsPricesBatchUseCase {
+
+    private static final Comparator<Price> BY_PRIORITY_DESC = Comparator.comparing(Price::getPriority).reversed();
+
+    private final PriceRepository priceRepository;
+
+    public FindProductsPricesBatchUseCase(PriceRepository priceRepository) {
+        this.priceRepository = priceRepository;
+    }
+
+    /**
+     * @param lookups the lookups to resolve
+     * @return one result per lookup, in the same order, including the ones with no applicable price
+     */
+    public List<PriceLookupResult> execute(List<PriceLookup> lookups) {
+        if (lookups.isEmpty()) {
+            return List.of();
+        }
+
+        List<PriceKey> lookupKeys = new ArrayList<>(lookups.size());
+        Set<PriceKey> distinctKeys = new LinkedHashSet<>();
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        for (PriceLookup lookup : lookups) {
+            PriceKey key = PriceKey.of(ProductId.of(lookup.productId()), BrandId.of(lookup.brandId()));
+            LocalDateTime applicationDate = Objects.requireNonNull(lookup.applicationDate(), "Application date cannot be null");
+            lookupKeys.add(key);
+            distinctKeys.add(key);
+            from = from == null || applicationDate.isBefore(from) ? applicationDate : from;
+            to = to == null || applicationDate.isAfter(to) ? applicationDate : to;
+        }
+
+        // Same candidate order as the single lookup, so ties on duration are broken the same way
+        Map<PriceKey, List<Price>> candidatesByKey = priceRepository.findPricesOverlapping(distinctKeys, from, to)
+                .stream()
+                .sorted(BY_PRIORITY_DESC)
+                .collect(Collectors.groupingBy(PriceKey::of));
+
+        List<PriceLookupResult> results = new ArrayList<>(lookups.size());
+        for (int i = 0; i < lookups.size(); i++) {
+            PriceLookup lookup = lookups.get(i);
+            List<Price> applicablePrices = candidatesByKey.getOrDefault(lookupKeys.get(i), List.of())
+                    .stream()
+                    .filter(price -> price.isApplicableAt(lookup.applicationDate()))
+                    .toList();
+            results.add(Price.selectMostSpecific(applicablePrices)
+                    .map(price -> PriceLookupResult.found(lookup, ApplicablePriceDto.from(price)))
+                    .orElseGet(() -> PriceLookupResult.notFound(lookup)));
+        }
+        return results;
+    }
+}
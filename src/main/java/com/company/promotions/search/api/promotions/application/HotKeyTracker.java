@@ -0,0 +1,17 @@
+package com.company.promotions.search.api.promotions.application;
+
+/**
+ * Counts how often each product/brand key is looked up, so the hottest ones can be reported, pinned in caches
+ * and warmed up after a restart. Called on every lookup, so implementations must neither block nor allocate.
+ */
+public interface HotKeyTracker {
+
+    void record(long productId, long brandId);
+
+    /**
+     * A tracker that counts nothing.
+     */
+    static HotKeyTracker none() {
+        return NoopHotKeyTracker.INSTANCE;
+    }
+}
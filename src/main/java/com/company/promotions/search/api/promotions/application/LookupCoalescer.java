@@ -0,0 +1,36 @@
+package com.company.promotions.search.api.promotions.application;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent callers asking the same question share one answer: while a lookup for a key is in flight,
+ * further callers for that key wait for its result instead of running their own.
+ */
+public interface LookupCoalescer {
+
+    /**
+     * Runs {@code lookup}, or joins the run already in flight for an equal {@code key}. Callers that join receive
+     * the same result or the same exception as the one that ran it.
+     *
+     * @throws PriceLookupTimeoutException if the run being joined does not finish within the configured wait
+     */
+    default <T> T coalesce(Object key, Supplier<T> lookup) {
+        return coalesce(key, lookup, result -> true);
+    }
+
+    /**
+     * Same as {@link #coalesce(Object, Supplier)} for callers that cannot use every result of an equal key: a caller
+     * joining a run whose result it does not {@code accept} runs {@code lookup} itself, and counts as having run it.
+     *
+     * @throws PriceLookupTimeoutException if the run being joined does not finish within the configured wait
+     */
+    <T> T coalesce(Object key, Supplier<T> lookup, Predicate<? super T> accept);
+
+    /**
+     * A coalescer that runs every lookup on its own.
+     */
+    static LookupCoalescer none() {
+        return DirectLookupCoalescer.INSTANCE;
+    }
+}
@@ -0,0 +1,10 @@
+package com.company.promotions.search.api.promotions.application;
+
+enum NoopHotKeyTracker implements HotKeyTracker {
+
+    INSTANCE;
+
+    @Override
+    public void record(long productId, long brandId) {
+    }
+}
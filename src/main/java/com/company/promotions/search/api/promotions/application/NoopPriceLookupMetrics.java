@@ -0,0 +1,18 @@
+package com.company.promotions.search.api.promotions.application;
+
+enum NoopPriceLookupMetrics implements PriceLookupMetrics {
+
+    INSTANCE;
+
+    @Override
+    public void recordStage(Stage stage, long nanos) {
+    }
+
+    @Override
+    public void recordLookup(long brandId, boolean found, long nanos) {
+    }
+
+    @Override
+    public void recordCandidates(long brandId, int candidates) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.company.promotions.search.api.promotions.application;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single "which price applies to this product and brand at this date" question.
+ */
+public record PriceLookup(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+) {
+}
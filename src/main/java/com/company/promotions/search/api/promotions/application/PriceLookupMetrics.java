@@ -0,0 +1,31 @@
+package com.company.promotions.search.api.promotions.application;
+
+/**
+ * Records how long each stage of a price lookup takes and how lookups end. Implementations must be cheap enough
+ * to call on every request and keep tag values bounded.
+ */
+public interface PriceLookupMetrics {
+
+    enum Stage {
+        AUTHENTICATION, VALIDATION, QUERY, MAPPING, SELECTION, SERIALIZATION
+    }
+
+    void recordStage(Stage stage, long nanos);
+
+    /**
+     * Records a finished lookup and whether a price was found for it.
+     */
+    void recordLookup(long brandId, boolean found, long nanos);
+
+    /**
+     * Records how many candidate prices the repository returned for a lookup.
+     */
+    void recordCandidates(long brandId, int candidates);
+
+    /**
+     * Metrics that record nothing.
+     */
+    static PriceLookupMetrics noop() {
+        return NoopPriceLookupMetrics.INSTANCE;
+    }
+}
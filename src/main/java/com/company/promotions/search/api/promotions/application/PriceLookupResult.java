@@ -0,0 +1,22 @@
+package com.company.promotions.search.api.promotions.application;
+
+/**
+ * Answer to a {@link PriceLookup}; {@code price} is {@code null} when no price applies.
+ */
+public record PriceLookupResult(
+        PriceLookup lookup,
+        ApplicablePriceDto price
+) {
+
+    public static PriceLookupResult found(PriceLookup lookup, ApplicablePriceDto price) {
+        return new PriceLookupResult(lookup, price);
+    }
+
+    public static PriceLookupResult notFound(PriceLookup lookup) {
+        return new PriceLookupResult(lookup, null);
+    }
+
+    public boolean isFound() {
+        return price != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.company.promotions.search.api.promotions.application;
+
+/**
+ * Thrown to a caller that waited too long for a price lookup another caller was running for the same key.
+ */
+public class PriceLookupTimeoutException extends RuntimeException {
+
+    public PriceLookupTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.PriceSegment;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stretch of time, bounds inclusive, during which {@code price} is the applicable price.
+ */
+public record PriceSegmentDto(
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        ApplicablePriceDto price
+) {
+
+    public static PriceSegmentDto from(PriceSegment segment) {
+        return new PriceSegmentDto(
+                segment.startDate(),
+                segment.endDate(),
+                ApplicablePriceDto.from(segment.price())
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.PriceTransition;
+
+import java.time.LocalDateTime;
+
+/**
+ * Instant at which a price list of a product and brand starts or stops applying.
+ */
+public record PriceTransitionDto(
+        Long productId,
+        Long brandId,
+        Long priceListId,
+        PriceTransition.Kind kind,
+        LocalDateTime at
+) {
+
+    public static PriceTransitionDto from(PriceTransition transition) {
+        return new PriceTransitionDto(
+                transition.key().productId().value(),
+                transition.key().brandId().value(),
+                transition.priceListId().value(),
+                transition.kind(),
+                transition.at()
+        );
+    }
+}
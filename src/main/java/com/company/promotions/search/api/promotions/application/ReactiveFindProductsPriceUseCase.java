@@ -0,0 +1,136 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.EffectivePriceTimeline;
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceSegment;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.DateRange;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The price lookups of {@link FindProductsPriceBetweenDatesUseCase}, {@link FindProductsPricesBatchUseCase} and
+ * {@link FindProductsPriceTimelineUseCase} on top of a {@link ReactivePriceRepository}, for the reactive web stack.
+ * The winner is picked with {@link Price#selectMostSpecific} and timelines are swept by
+ * {@link EffectivePriceTimeline}, so every answer matches the blocking stack.
+ * <p>
+ * Invalid ids and windows are reported as error signals rather than thrown, and batches resolve at most
+ * {@code batchConcurrency} lookups at a time, requesting more from upstream only as results are consumed.
+ */
+public class ReactiveFindProductsPriceUseCase {
+
+    private static final Comparator<Price> BY_PRIORITY_DESC = Comparator.comparing(Price::getPriority).reversed();
+
+    private final ReactivePriceRepository priceRepository;
+    private final int batchConcurrency;
+
+    public ReactiveFindProductsPriceUseCase(ReactivePriceRepository priceRepository, int batchConcurrency) {
+        if (batchConcurrency <= 0) {
+            throw new IllegalArgumentException("Batch concurrency must be positive");
+        }
+        this.priceRepository = priceRepository;
+        this.batchConcurrency = batchConcurrency;
+    }
+
+    /**
+     * @return the applicable price, or an empty {@link Mono} when none applies
+     */
+    public Mono<ApplicablePriceDto> execute(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return Mono.defer(() -> findWinner(keyOf(productId, brandId), applicationDate))
+                .map(ApplicablePriceDto::from);
+    }
+
+    /**
+     * Same as {@link FindProductsPriceBetweenDatesUseCase#executeWithWindow}.
+     */
+    public Mono<ApplicablePriceWindowDto> executeWithWindow(LocalDateTime applicationDate, Long productId,
+                                                            Long brandId) {
+        return Mono.defer(() -> {
+            PriceKey key = keyOf(productId, brandId);
+            return findWinner(key, applicationDate)
+                    .flatMap(winner -> timelineOf(key, winner.getDateRange())
+                            .map(timeline -> timeline.segmentAt(applicationDate)
+                                    .filter(segment -> segment.price().equals(winner))
+                                    .orElseGet(() -> new PriceSegment(applicationDate, applicationDate, winner))));
+        }).map(ApplicablePriceWindowDto::from);
+    }
+
+    /**
+     * Resolves lookups as they arrive, emitting one result per lookup in the order they were received.
+     */
+    public Flux<PriceLookupResult> execute(Flux<PriceLookup> lookups) {
+        return lookups.flatMapSequential(
+                lookup -> execute(lookup.applicationDate(), lookup.productId(), lookup.brandId())
+                        .map(price -> PriceLookupResult.found(lookup, price))
+                        .defaultIfEmpty(PriceLookupResult.notFound(lookup)),
+                batchConcurrency);
+    }
+
+    /**
+     * Same as {@link FindProductsPriceTimelineUseCase#execute}, emitting the segments in chronological order.
+     */
+    public Flux<PriceSegmentDto> timeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        return Mono.fromCallable(() -> keyOf(productId, brandId))
+                .zipWith(Mono.fromCallable(() -> DateRange.of(from, to)))
+                .flatMap(keyAndWindow -> timelineOf(keyAndWindow.getT1(), keyAndWindow.getT2()))
+                .flatMapIterable(timeline -> timeline.segmentsBetween(from, to))
+                .map(PriceSegmentDto::from);
+    }
+
+    /**
+     * Same as {@link FindProductsPriceTimelineUseCase#sample}, emitting one result per instant in the same order.
+     */
+    public Flux<PriceLookupResult> sample(Long productId, Long brandId, List<LocalDateTime> instants) {
+        if (instants.isEmpty()) {
+            return Flux.empty();
+        }
+        return Mono.fromCallable(() -> {
+                    PriceKey key = keyOf(productId, brandId);
+                    LocalDateTime first = instants.getFirst();
+                    LocalDateTime last = first;
+                    for (LocalDateTime instant : instants) {
+                        Objects.requireNonNull(instant, "Application date cannot be null");
+                        first = instant.isBefore(first) ? instant : first;
+                        last = instant.isAfter(last) ? instant : last;
+                    }
+                    return new Sampling(key, DateRange.of(first, last));
+                })
+                .flatMap(sampling -> timelineOf(sampling.key(), sampling.window()))
+                .flatMapIterable(timeline -> timeline.segmentsAt(instants))
+                .index()
+                .map(indexed -> {
+                    PriceLookup lookup = new PriceLookup(
+                            instants.get(indexed.getT1().intValue()), productId, brandId);
+                    return indexed.getT2()
+                            .map(segment -> PriceLookupResult.found(lookup, ApplicablePriceDto.from(segment.price())))
+                            .orElseGet(() -> PriceLookupResult.notFound(lookup));
+                });
+    }
+
+    private static PriceKey keyOf(Long productId, Long brandId) {
+        return PriceKey.of(ProductId.of(productId), BrandId.of(brandId));
+    }
+
+    private Mono<Price> findWinner(PriceKey key, LocalDateTime applicationDate) {
+        return priceRepository.findApplicablePrices(key.productId(), key.brandId(), applicationDate)
+                .collectList()
+                .flatMap(candidates -> Mono.justOrEmpty(Price.selectMostSpecific(candidates)));
+    }
+
+    // Same candidate order as the blocking use cases, so ties on duration are broken the same way
+    private Mono<EffectivePriceTimeline> timelineOf(PriceKey key, DateRange window) {
+        return priceRepository.findPricesOverlapping(key, window.startDate(), window.endDate())
+                .collectSortedList(BY_PRIORITY_DESC)
+                .map(EffectivePriceTimeline::of);
+    }
+
+    private record Sampling(PriceKey key, DateRange window) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking counterpart of {@link PriceRepository} for the reactive web stack. It lives in the application
+ * layer so that the domain does not depend on Reactor.
+ */
+public interface ReactivePriceRepository {
+
+    /**
+     * Prices applicable at the instant, in the same order as {@link PriceRepository#findApplicablePrices}.
+     */
+    Flux<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate);
+
+    /**
+     * Prices of the key whose range overlaps {@code [from, to]}, both inclusive.
+     */
+    Flux<Price> findPricesOverlapping(PriceKey key, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,31 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+enum DisabledEffectivePriceCache implements EffectivePriceCache {
+
+    INSTANCE;
+
+    @Override
+    public Optional<PriceSegment> get(PriceKey key, LocalDateTime dateTime) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(PriceKey key, PriceSegment segment) {
+    }
+
+    @Override
+    public void invalidate(PriceKey key) {
+    }
+
+    @Override
+    public void invalidateAll() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Remembers, per product and brand, the last resolved winner together with the stretch of time during which it
+ * stays the winner, so that any lookup falling inside that stretch can skip the repository.
+ */
+public interface EffectivePriceCache {
+
+    /**
+     * Returns the cached segment of the key if it contains the given instant, or empty otherwise.
+     */
+    Optional<PriceSegment> get(PriceKey key, LocalDateTime dateTime);
+
+    void put(PriceKey key, PriceSegment segment);
+
+    /**
+     * Hands over the segment that follows the cached one, so that lookups are answered from the cache as soon as
+     * it begins instead of missing at its first instant. A key holds a single pending segment; keys that are not
+     * cached are left alone.
+     */
+    default void putNext(PriceKey key, PriceSegment next) {
+    }
+
+    /**
+     * Whether the key currently has an entry, without counting as a lookup.
+     */
+    default boolean isCached(PriceKey key) {
+        return false;
+    }
+
+    void invalidate(PriceKey key);
+
+    void invalidateAll();
+
+    /**
+     * Whether lookups should bother computing segments to {@link #put}.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * A cache that never holds anything.
+     */
+    static EffectivePriceCache disabled() {
+        return DisabledEffectivePriceCache.INSTANCE;
+    }
+}
@@ -0,0 +1,237 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * The prices of one product and brand flattened into non-overlapping {@link PriceSegment}s, each with exactly
+ * one winning price according to {@link Price#selectMostSpecific(List)}.
+ * <p>
+ * The winner of every instant is computed once, with a sweep over the range boundaries; a lookup is then a
+ * binary search over the segment bounds, kept as primitive epoch seconds and nanos (in UTC, since the dates
+ * carry no zone) so that it creates no object. Ties on duration go to the price that comes first in the list
+ * the timeline was built from, as they do in {@code selectMostSpecific}.
+ */
+public final class EffectivePriceTimeline {
+
+    private static final EffectivePriceTimeline EMPTY = new EffectivePriceTimeline(List.of(), new PriceSegment[0]);
+
+    private final List<Price> prices;
+    private final PriceSegment[] segments;
+    private final long[] startSeconds;
+    private final int[] startNanos;
+    private final long[] endSeconds;
+    private final int[] endNanos;
+
+    private EffectivePriceTimeline(List<Price> prices, PriceSegment[] segments) {
+        this.prices = prices;
+        this.segments = segments;
+        this.startSeconds = new long[segments.length];
+        this.startNanos = new int[segments.length];
+        this.endSeconds = new long[segments.length];
+        this.endNanos = new int[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            startSeconds[i] = segments[i].startDate().toEpochSecond(ZoneOffset.UTC);
+            startNanos[i] = segments[i].startDate().getNano();
+            endSeconds[i] = segments[i].endDate().toEpochSecond(ZoneOffset.UTC);
+            endNanos[i] = segments[i].endDate().getNano();
+        }
+    }
+
+    public static EffectivePriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the timeline of a set of prices that all belong to the same product and brand.
+     */
+    public static EffectivePriceTimeline of(List<Price> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+        List<Price> source = List.copyOf(prices);
+        return new EffectivePriceTimeline(source, sweep(source));
+    }
+
+    /**
+     * Returns the effective price at the given instant, or empty if no price applies.
+     */
+    public Optional<Price> priceAt(LocalDateTime dateTime) {
+        return segmentAt(dateTime).map(PriceSegment::price);
+    }
+
+    /**
+     * Returns the segment containing the given instant, or empty if no price applies.
+     */
+    public Optional<PriceSegment> segmentAt(LocalDateTime dateTime) {
+        int index = indexAt(dateTime.toEpochSecond(ZoneOffset.UTC), dateTime.getNano());
+        return index < 0 ? Optional.empty() : Optional.of(segments[index]);
+    }
+
+    /**
+     * Same as {@link #priceAt} but returns {@code null} when no price applies, for callers that must not allocate.
+     */
+    public Price mostSpecificAt(LocalDateTime dateTime) {
+        int index = indexAt(dateTime.toEpochSecond(ZoneOffset.UTC), dateTime.getNano());
+        return index < 0 ? null : segments[index].price();
+    }
+
+    public List<PriceSegment> segments() {
+        return List.of(segments);
+    }
+
+    /**
+     * Returns the segments overlapping {@code [from, to]} in chronological order, clipped to that window.
+     */
+    public List<PriceSegment> segmentsBetween(LocalDateTime from, LocalDateTime to) {
+        long fromSeconds = from.toEpochSecond(ZoneOffset.UTC);
+        long toSeconds = to.toEpochSecond(ZoneOffset.UTC);
+        List<PriceSegment> window = new ArrayList<>();
+        for (int i = Math.max(lastStartingAtOrBefore(fromSeconds, from.getNano()), 0);
+             i < segments.length && compare(startSeconds[i], startNanos[i], toSeconds, to.getNano()) <= 0;
+             i++) {
+            if (compare(endSeconds[i], endNanos[i], fromSeconds, from.getNano()) < 0) {
+                continue;
+            }
+            PriceSegment segment = segments[i];
+            window.add(new PriceSegment(
+                    segment.startDate().isBefore(from) ? from : segment.startDate(),
+                    segment.endDate().isAfter(to) ? to : segment.endDate(),
+                    segment.price()));
+        }
+        return window;
+    }
+
+    /**
+     * Resolves many instants with one forward walk over the segments: the instants are visited in chronological
+     * order, so every segment is passed at most once. Results are in the order the instants were given, empty
+     * where no price applies.
+     */
+    public List<Optional<PriceSegment>> segmentsAt(List<LocalDateTime> instants) {
+        Integer[] chronological = new Integer[instants.size()];
+        for (int i = 0; i < chronological.length; i++) {
+            chronological[i] = i;
+        }
+        Arrays.sort(chronological, Comparator.comparing(instants::get));
+
+        List<Optional<PriceSegment>> results = new ArrayList<>(Collections.nCopies(instants.size(), Optional.empty()));
+        int cursor = 0;
+        for (int index : chronological) {
+            LocalDateTime instant = instants.get(index);
+            long seconds = instant.toEpochSecond(ZoneOffset.UTC);
+            int nanos = instant.getNano();
+            while (cursor < segments.length && compare(endSeconds[cursor], endNanos[cursor], seconds, nanos) < 0) {
+                cursor++;
+            }
+            if (cursor < segments.length && compare(startSeconds[cursor], startNanos[cursor], seconds, nanos) <= 0) {
+                results.set(index, Optional.of(segments[cursor]));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * The prices the timeline was built from, in their original order.
+     */
+    public List<Price> prices() {
+        return prices;
+    }
+
+    public boolean isEmpty() {
+        return segments.length == 0;
+    }
+
+    /**
+     * Index of the segment containing the instant, or -1. Finds the last segment starting at or before the
+     * instant and checks that it has not ended yet.
+     */
+    private int indexAt(long seconds, int nanos) {
+        int found = lastStartingAtOrBefore(seconds, nanos);
+        if (found < 0 || compare(endSeconds[found], endNanos[found], seconds, nanos) < 0) {
+            return -1;
+        }
+        return found;
+    }
+
+    private int lastStartingAtOrBefore(long seconds, int nanos) {
+        int lo = 0;
+        int hi = segments.length - 1;
+        int found = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(startSeconds[mid], startNanos[mid], seconds, nanos) > 0) {
+                hi = mid - 1;
+            } else {
+                found = mid;
+                lo = mid + 1;
+            }
+        }
+        return found;
+    }
+
+    private static int compare(long seconds, int nanos, long otherSeconds, int otherNanos) {
+        return seconds != otherSeconds ? Long.compare(seconds, otherSeconds) : Integer.compare(nanos, otherNanos);
+    }
+
+    /**
+     * Walks the elementary intervals between consecutive range boundaries, keeping the active prices in a heap
+     * ordered by (duration, position in the source list). Ranges are inclusive, so internally a price is active
+     * on {@code [start, end + 1ns)}.
+     */
+    private static PriceSegment[] sweep(List<Price> prices) {
+        int count = prices.size();
+        Duration[] durations = new Duration[count];
+        LocalDateTime[] exclusiveEnds = new LocalDateTime[count];
+        Integer[] byStart = new Integer[count];
+        TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+        for (int i = 0; i < count; i++) {
+            Price price = prices.get(i);
+            durations[i] = price.getDateRange().duration();
+            exclusiveEnds[i] = price.getDateRange().endDate().plusNanos(1);
+            byStart[i] = i;
+            boundaries.add(price.getDateRange().startDate());
+            boundaries.add(exclusiveEnds[i]);
+        }
+        Arrays.sort(byStart, Comparator.comparing(i -> prices.get(i).getDateRange().startDate()));
+
+        PriorityQueue<Integer> active = new PriorityQueue<>(
+                Comparator.<Integer, Duration>comparing(i -> durations[i]).thenComparing(i -> i));
+        List<PriceSegment> segments = new ArrayList<>();
+        LocalDateTime[] points = boundaries.toArray(LocalDateTime[]::new);
+        int nextToStart = 0;
+        int currentWinner = -1;
+        LocalDateTime currentStart = null;
+
+        for (int k = 0; k < points.length - 1; k++) {
+            LocalDateTime point = points[k];
+            while (nextToStart < count && !prices.get(byStart[nextToStart]).getDateRange().startDate().isAfter(point)) {
+                active.add(byStart[nextToStart++]);
+            }
+            while (!active.isEmpty() && !exclusiveEnds[active.peek()].isAfter(point)) {
+                active.poll();
+            }
+            int winner = active.isEmpty() ? -1 : active.peek();
+            if (winner != currentWinner) {
+                if (currentWinner >= 0) {
+                    segments.add(new PriceSegment(currentStart, point.minusNanos(1), prices.get(currentWinner)));
+                }
+                currentWinner = winner;
+                currentStart = point;
+            }
+        }
+        if (currentWinner >= 0) {
+            segments.add(new PriceSegment(currentStart, points[points.length - 1].minusNanos(1),
+                    prices.get(currentWinner)));
+        }
+        return segments.toArray(PriceSegment[]::new);
+    }
+}
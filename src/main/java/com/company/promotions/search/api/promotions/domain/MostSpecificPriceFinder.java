@@ -0,0 +1,26 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional capability of a {@link PriceRepository} that resolves the most specific price of an instant itself,
+ * straight from raw ids, instead of returning every candidate for {@link Price#selectMostSpecific} to choose from.
+ * Repositories that hold precomputed winners in memory implement it without allocating; database-backed ones let
+ * the database pick the winner.
+ */
+public interface MostSpecificPriceFinder {
+
+    /**
+     * Returns the price {@link Price#selectMostSpecific} would pick among the prices applicable at
+     * {@code applicationDate}, or {@code null} if none applies. Ids must already be validated.
+     */
+    Price findMostSpecific(long productId, long brandId, LocalDateTime applicationDate);
+
+    /**
+     * Whether lookups are answered from memory, in which case going through the effective price cache first would
+     * only add work.
+     */
+    default boolean isInMemory() {
+        return true;
+    }
+}
@@ -8,7 +8,6 @@ import com.company.promotions.search.api.promotions.domain.vo.Priority;
 import com.company.promotions.search.api.promotions.domain.vo.ProductId;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -41,12 +40,20 @@ public class Price {
      * Business rule: When multiple prices apply for the same date, product and brand,
      * the price with the smallest date range (most specific) takes precedence.
      *
+     * Ties go to the price that comes first in the list.
+     *
      * @param prices list of applicable prices
      * @return the most specific price, or empty if the list is empty
      */
     public static Optional<Price> selectMostSpecific(List<Price> prices) {
-        return prices.stream()
-                .min(Comparator.comparing(price -> price.getDateRange().duration()));
+        Price mostSpecific = null;
+        for (int i = 0; i < prices.size(); i++) {
+            Price price = prices.get(i);
+            if (mostSpecific == null || price.dateRange.compareLength(mostSpecific.dateRange) < 0) {
+                mostSpecific = price;
+            }
+        }
+        return Optional.ofNullable(mostSpecific);
     }
 
     public BrandId getBrandId() {
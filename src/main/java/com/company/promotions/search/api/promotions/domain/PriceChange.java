@@ -0,0 +1,21 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A row of {@code promotions.prices} that was inserted, updated or deleted. {@code sequence} increases with every
+ * change, so consumers can resume from the last one they applied.
+ */
+public record PriceChange(long sequence, PriceKey key, Type type, LocalDateTime changedAt) {
+
+    public enum Type {
+        INSERTED, UPDATED, DELETED
+    }
+
+    public PriceChange {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(type, "Type cannot be null");
+        Objects.requireNonNull(changedAt, "Changed at cannot be null");
+    }
+}
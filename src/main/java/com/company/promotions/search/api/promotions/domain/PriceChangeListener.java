@@ -0,0 +1,13 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import java.util.List;
+
+/**
+ * Receives the changes to stored prices in sequence order, so that structures derived from them can be patched
+ * per {@link PriceKey} instead of being rebuilt. A batch may repeat changes that were already delivered, so
+ * applying one must be idempotent, e.g. by re-reading the current prices of each affected key.
+ */
+public interface PriceChangeListener {
+
+    void onPriceChanges(List<PriceChange> changes);
+}
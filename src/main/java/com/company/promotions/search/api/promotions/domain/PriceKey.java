@@ -0,0 +1,25 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+
+import java.util.Objects;
+
+/**
+ * Identifies the set of prices that compete with each other: every price of the same product and brand.
+ */
+public record PriceKey(ProductId productId, BrandId brandId) {
+
+    public PriceKey {
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        Objects.requireNonNull(brandId, "Brand ID cannot be null");
+    }
+
+    public static PriceKey of(ProductId productId, BrandId brandId) {
+        return new PriceKey(productId, brandId);
+    }
+
+    public static PriceKey of(Price price) {
+        return new PriceKey(price.getProductId(), price.getBrandId());
+    }
+}
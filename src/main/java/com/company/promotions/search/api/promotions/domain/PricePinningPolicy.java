@@ -0,0 +1,33 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import java.util.Set;
+
+/**
+ * Tells bounded caches which product/brand keys to keep resident no matter how much else competes for the space,
+ * so that the keys most lookups ask for are never evicted by a burst of cold ones.
+ */
+@FunctionalInterface
+public interface PricePinningPolicy {
+
+    boolean isPinned(PriceKey key);
+
+    /**
+     * Registers a listener told which keys were pinned and unpinned each time the pinned keys change, so that a
+     * cache can update the entries it already holds. A policy whose pinned keys never change ignores it.
+     */
+    default void addListener(Listener listener) {
+    }
+
+    /**
+     * A policy that pins nothing, leaving eviction entirely to the cache.
+     */
+    static PricePinningPolicy none() {
+        return key -> false;
+    }
+
+    @FunctionalInterface
+    interface Listener {
+
+        void pinningChanged(Set<PriceKey> pinned, Set<PriceKey> unpinned);
+    }
+}
@@ -4,9 +4,21 @@ import com.company.promotions.search.api.promotions.domain.vo.BrandId;
 import com.company.promotions.search.api.promotions.domain.vo.ProductId;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PriceRepository {
 
     List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate);
+
+    /**
+     * Fetches, in a single round trip, every price of the given product/brand keys whose date range
+     * overlaps {@code [from, to]}.
+     *
+     * @param keys product/brand pairs to fetch; an empty collection yields an empty list
+     * @param from start of the window, inclusive
+     * @param to   end of the window, inclusive
+     * @return the overlapping prices, in no particular order
+     */
+    List<Price> findPricesOverlapping(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to);
 }
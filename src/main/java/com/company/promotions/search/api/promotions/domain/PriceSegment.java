@@ -0,0 +1,21 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Stretch of time during which a single price is the effective one for its product and brand.
+ * Both bounds are inclusive, like {@link com.company.promotions.search.api.promotions.domain.vo.DateRange}.
+ */
+public record PriceSegment(LocalDateTime startDate, LocalDateTime endDate, Price price) {
+
+    public PriceSegment {
+        Objects.requireNonNull(startDate, "Start date cannot be null");
+        Objects.requireNonNull(endDate, "End date cannot be null");
+        Objects.requireNonNull(price, "Price cannot be null");
+    }
+
+    public boolean contains(LocalDateTime dateTime) {
+        return !dateTime.isBefore(startDate) && !dateTime.isAfter(endDate);
+    }
+}
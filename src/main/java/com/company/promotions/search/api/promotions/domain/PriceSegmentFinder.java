@@ -0,0 +1,17 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional capability of a {@link PriceRepository} that holds the {@link EffectivePriceTimeline} of every key
+ * already built, and can therefore answer with the segment containing an instant, the winner and how long it
+ * stays the winner, without reading the competing prices and sweeping them again.
+ */
+public interface PriceSegmentFinder {
+
+    /**
+     * Returns the segment containing {@code applicationDate}, or {@code null} if no price applies. Ids must
+     * already be validated.
+     */
+    PriceSegment findSegment(long productId, long brandId, LocalDateTime applicationDate);
+}
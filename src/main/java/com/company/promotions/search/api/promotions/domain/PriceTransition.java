@@ -0,0 +1,24 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import com.company.promotions.search.api.promotions.domain.vo.PriceListId;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * An instant at which the effective price of a product and brand may change because one of its prices starts or
+ * stops applying. Prices include their end date, so a price {@link Kind#ENDS ends} one nanosecond after it.
+ */
+public record PriceTransition(PriceKey key, PriceListId priceListId, Kind kind, LocalDateTime at) {
+
+    public enum Kind {
+        STARTS, ENDS
+    }
+
+    public PriceTransition {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(priceListId, "Price list ID cannot be null");
+        Objects.requireNonNull(kind, "Kind cannot be null");
+        Objects.requireNonNull(at, "Transition instant cannot be null");
+    }
+}
@@ -0,0 +1,23 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Finds the start and end boundaries of stored prices. Every method returns the transitions whose instant lies
+ * between {@code from} and {@code to}, both inclusive, in chronological order.
+ */
+public interface PriceTransitionRepository {
+
+    List<PriceTransition> findTransitions(LocalDateTime from, LocalDateTime to);
+
+    List<PriceTransition> findTransitions(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Transitions of a single brand, at most {@code limit} of them.
+     */
+    List<PriceTransition> findTransitions(BrandId brandId, LocalDateTime from, LocalDateTime to, int limit);
+}
@@ -0,0 +1,24 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Published whenever stored prices are inserted, updated or deleted, so that anything derived from them can be
+ * rebuilt. {@code allKeys} is set when the affected keys are unknown, e.g. after a bulk reload.
+ */
+public record PricesChangedEvent(Set<PriceKey> keys, boolean allKeys) {
+
+    public PricesChangedEvent {
+        keys = Set.copyOf(Objects.requireNonNull(keys, "Keys cannot be null"));
+    }
+
+    public static PricesChangedEvent of(Collection<PriceKey> keys) {
+        return new PricesChangedEvent(Set.copyOf(keys), false);
+    }
+
+    public static PricesChangedEvent all() {
+        return new PricesChangedEvent(Set.of(), true);
+    }
+}
@@ -8,12 +8,20 @@ public record BrandId(Long value) {
         if (value == null) {
             throw new InvalidBrandIdException("Brand ID cannot be null");
         }
-        if (value <= 0) {
-            throw new InvalidBrandIdException("Brand ID must be positive");
-        }
+        validate(value);
     }
 
     public static BrandId of(Long value) {
         return new BrandId(value);
     }
+
+    /**
+     * Applies the same checks as the constructor to a raw id, for lookups that never build a {@code BrandId}.
+     */
+    public static long validate(long value) {
+        if (value <= 0) {
+            throw new InvalidBrandIdException("Brand ID must be positive");
+        }
+        return value;
+    }
 }
\ No newline at end of file
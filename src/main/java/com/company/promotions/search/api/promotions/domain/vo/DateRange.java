@@ -3,6 +3,7 @@ package com.company.promotions.search.api.promotions.domain.vo;
 import com.company.promotions.search.api.promotions.domain.exceptions.InvalidDateRangeException;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Objects;
 
 public record DateRange(LocalDateTime startDate, LocalDateTime endDate) {
@@ -31,4 +32,28 @@ public record DateRange(LocalDateTime startDate, LocalDateTime endDate) {
     public java.time.Duration duration() {
         return java.time.Duration.between(startDate, endDate);
     }
+
+    /**
+     * Compares the length of this range with the length of another, like comparing their {@link #duration()}s
+     * but on primitive epoch differences, without creating any object.
+     */
+    public int compareLength(DateRange other) {
+        long seconds = lengthSeconds();
+        long otherSeconds = other.lengthSeconds();
+        if (seconds != otherSeconds) {
+            return Long.compare(seconds, otherSeconds);
+        }
+        return Integer.compare(lengthNanos(), other.lengthNanos());
+    }
+
+    // Whole seconds of the length, with lengthNanos() in [0, 1_000_000_000)
+    private long lengthSeconds() {
+        long seconds = endDate.toEpochSecond(ZoneOffset.UTC) - startDate.toEpochSecond(ZoneOffset.UTC);
+        return endDate.getNano() < startDate.getNano() ? seconds - 1 : seconds;
+    }
+
+    private int lengthNanos() {
+        int nanos = endDate.getNano() - startDate.getNano();
+        return nanos < 0 ? nanos + 1_000_000_000 : nanos;
+    }
 }
@@ -8,12 +8,20 @@ public record ProductId(Long value) {
         if (value == null) {
             throw new InvalidProductIdException("Product ID cannot be null");
         }
-        if (value <= 0) {
-            throw new InvalidProductIdException("Product ID must be positive");
-        }
+        validate(value);
     }
 
     public static ProductId of(Long value) {
         return new ProductId(value);
     }
+
+    /**
+     * Applies the same checks as the constructor to a raw id, for lookups that never build a {@code ProductId}.
+     */
+    public static long validate(long value) {
+        if (value <= 0) {
+            throw new InvalidProductIdException("Product ID must be positive");
+        }
+        return value;
+    }
 }
\ No newline at end of file
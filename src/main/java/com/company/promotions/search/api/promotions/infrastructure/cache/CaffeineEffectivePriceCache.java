@@ -0,0 +1,159 @@
+package com.company.promotions.search.api.promotions.infrastructure.cache;
+
+import com.company.promotions.search.api.promotions.domain.EffectivePriceCache;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PricePinningPolicy;
+import com.company.promotions.search.api.promotions.domain.PriceSegment;
+import com.company.promotions.search.api.promotions.domain.PricesChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@link EffectivePriceCache} on top of a size-bounded Caffeine cache (W-TinyLFU eviction).
+ * <p>
+ * An entry found for the key but not covering the requested instant counts as a miss, which is why hits and
+ * misses are recorded here instead of relying on Caffeine's own statistics. Meters follow the Micrometer cache
+ * conventions ({@code cache.gets}, {@code cache.evictions}, {@code cache.size}) under {@code cache=effectivePrices}.
+ * The time to live only bounds how long an entry can outlive a missed invalidation.
+ * <p>
+ * Keys the {@link PricePinningPolicy} pins are written with a weight of zero, which exempts them from the size
+ * bound, so the cache can hold up to that many keys on top of {@code maximumSize}; pinned entries still expire.
+ * Caffeine weighs an entry when it is written, so when the pinned keys change a newly pinned entry is written
+ * again to drop its weight, and an entry no longer pinned is invalidated rather than left in the cache weighing
+ * nothing. Rewriting restarts the time to live, which happens once each time a key enters the pinned keys.
+ * <p>
+ * Each entry can also hold the segment that follows the cached one, handed over by {@link #putNext} before it
+ * begins; the first lookup falling in it counts as a hit and makes it the cached segment.
+ */
+public class CaffeineEffectivePriceCache implements EffectivePriceCache {
+
+    static final String CACHE_NAME = "effectivePrices";
+
+    private final Cache<PriceKey, CachedSegments> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CaffeineEffectivePriceCache(long maximumSize, Duration timeToLive, MeterRegistry meterRegistry) {
+        this(maximumSize, timeToLive, meterRegistry, PricePinningPolicy.none());
+    }
+
+    public CaffeineEffectivePriceCache(long maximumSize, Duration timeToLive, MeterRegistry meterRegistry,
+                                       PricePinningPolicy pinningPolicy) {
+        this(maximumSize, timeToLive, meterRegistry, pinningPolicy, ForkJoinPool.commonPool());
+    }
+
+    CaffeineEffectivePriceCache(long maximumSize, Duration timeToLive, MeterRegistry meterRegistry,
+                                Executor executor) {
+        this(maximumSize, timeToLive, meterRegistry, PricePinningPolicy.none(), executor);
+    }
+
+    CaffeineEffectivePriceCache(long maximumSize, Duration timeToLive, MeterRegistry meterRegistry,
+                                PricePinningPolicy pinningPolicy, Executor executor) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize)
+                .<PriceKey, CachedSegments>weigher((key, segments) -> pinningPolicy.isPinned(key) ? 0 : 1)
+                .expireAfterWrite(timeToLive)
+                .executor(executor)
+                .recordStats()
+                .build();
+        this.hits = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .description("Lookups answered from a cached segment")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .description("Lookups with no cached segment covering the instant")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", cache, c -> c.stats().evictionCount())
+                .tag("cache", CACHE_NAME)
+                .description("Entries evicted because of the size bound or the time to live")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cache, Cache::estimatedSize)
+                .tag("cache", CACHE_NAME)
+                .description("Approximate number of cached product/brand keys")
+                .register(meterRegistry);
+        pinningPolicy.addListener(this::pinningChanged);
+    }
+
+    @Override
+    public Optional<PriceSegment> get(PriceKey key, LocalDateTime dateTime) {
+        CachedSegments segments = cache.getIfPresent(key);
+        if (segments != null) {
+            if (segments.current().contains(dateTime)) {
+                hits.increment();
+                return Optional.of(segments.current());
+            }
+            if (segments.next() != null && segments.next().contains(dateTime)) {
+                cache.asMap().replace(key, segments, new CachedSegments(segments.next(), null));
+                hits.increment();
+                return Optional.of(segments.next());
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(PriceKey key, PriceSegment segment) {
+        cache.put(key, new CachedSegments(segment, null));
+    }
+
+    @Override
+    public void putNext(PriceKey key, PriceSegment next) {
+        cache.asMap().computeIfPresent(key, (k, segments) -> new CachedSegments(segments.current(), next));
+    }
+
+    @Override
+    public boolean isCached(PriceKey key) {
+        return cache.asMap().containsKey(key);
+    }
+
+    @Override
+    public void invalidate(PriceKey key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        if (event.allKeys()) {
+            invalidateAll();
+        } else {
+            cache.invalidateAll(event.keys());
+        }
+    }
+
+    private void pinningChanged(Set<PriceKey> pinned, Set<PriceKey> unpinned) {
+        cache.invalidateAll(unpinned);
+        for (PriceKey key : pinned) {
+            cache.asMap().computeIfPresent(key, (k, segments) -> new CachedSegments(segments.current(),
+                    segments.next()));
+        }
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private record CachedSegments(PriceSegment current, PriceSegment next) {
+    }
+}
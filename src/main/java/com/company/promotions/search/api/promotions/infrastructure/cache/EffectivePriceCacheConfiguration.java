@@ -0,0 +1,30 @@
+package com.company.promotions.search.api.promotions.infrastructure.cache;
+
+import com.company.promotions.search.api.promotions.domain.EffectivePriceCache;
+import com.company.promotions.search.api.promotions.domain.PricePinningPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EffectivePriceCacheProperties.class)
+public class EffectivePriceCacheConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "promotions.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CaffeineEffectivePriceCache effectivePriceCache(EffectivePriceCacheProperties properties,
+                                                           MeterRegistry meterRegistry,
+                                                           ObjectProvider<PricePinningPolicy> pinningPolicy) {
+        return new CaffeineEffectivePriceCache(properties.maximumSize(), properties.timeToLive(), meterRegistry,
+                pinningPolicy.getIfAvailable(PricePinningPolicy::none));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "promotions.cache.enabled", havingValue = "false")
+    public EffectivePriceCache disabledEffectivePriceCache() {
+        return EffectivePriceCache.disabled();
+    }
+}
@@ -0,0 +1,320 @@
+package com.company.promotions.search.api.promotions.infrastructure.changefeed;
+
+import com.company.promotions.search.api.promotions.domain.PriceChange;
+import com.company.promotions.search.api.promotions.domain.PriceChangeListener;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PricesChangedEvent;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls {@code promotions.price_changes} and streams new changes, in sequence order, to every
+ * {@link PriceChangeListener} bean, then publishes a {@link PricesChangedEvent} for the affected keys so that
+ * caches in front of the repository are invalidated after the repository itself has been patched.
+ * <p>
+ * Change ids are assigned when a row is written but become visible when its transaction commits, so a poll can
+ * see change {@code n + 1} before change {@code n}. Delivery stops at such a gap and waits up to
+ * {@code promotions.change-feed.gap-timeout} for it to fill. A gap that outlives it is stepped over, and since it
+ * may belong to a transaction that is merely slow, such as a chunk of a bulk import, rather than rolled back:
+ * <ul>
+ *     <li>a {@link PricesChangedEvent#all()} is published, so no cache keeps serving what it read before;</li>
+ *     <li>its change ids are watched for {@code promotions.change-feed.retention}, the time changes are kept, and
+ *     any that commit meanwhile are delivered late, like any other change. Ids still missing by then are given up
+ *     as rolled back.</li>
+ * </ul>
+ * A batch whose listeners fail is retried on the next poll.
+ * <p>
+ * Prices are loaded while the application starts, so the feed begins with the changes logged since the JVM
+ * started; replaying a few that the initial load already saw is harmless because listeners are idempotent.
+ * Enabled with {@code promotions.change-feed.enabled=true}. Exposes {@code prices.changefeed.lag}, the number of
+ * logged changes not yet delivered, and {@code prices.changefeed.delay}, the time from a change to its delivery.
+ */
+@Component
+@ConditionalOnProperty(name = "promotions.change-feed.enabled", havingValue = "true")
+@EnableConfigurationProperties(PriceChangeFeedProperties.class)
+public class PriceChangeFeed implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceChangeFeed.class);
+
+    private static final String SELECT_CHANGES = """
+            SELECT change_id, product_id, brand_id, operation, changed_at
+            FROM promotions.price_changes
+            WHERE change_id > ?
+            ORDER BY change_id
+            LIMIT ?
+            """;
+
+    private static final String SELECT_RANGE = """
+            SELECT change_id, product_id, brand_id, operation, changed_at
+            FROM promotions.price_changes
+            WHERE change_id BETWEEN ? AND ?
+            ORDER BY change_id
+            """;
+
+    private static final String SELECT_HEAD = "SELECT COALESCE(MAX(change_id), 0) FROM promotions.price_changes";
+
+    private static final String SELECT_LAST_BEFORE =
+            "SELECT COALESCE(MAX(change_id), 0) FROM promotions.price_changes WHERE changed_at < ?";
+
+    private static final String DELETE_BEFORE = "DELETE FROM promotions.price_changes WHERE changed_at < ?";
+
+    private static final Duration PRUNE_INTERVAL = Duration.ofMinutes(1);
+
+    private static final RowMapper<PriceChange> CHANGE_MAPPER = (resultSet, rowNum) -> new PriceChange(
+            resultSet.getLong("change_id"),
+            PriceKey.of(ProductId.of(resultSet.getLong("product_id")), BrandId.of(resultSet.getLong("brand_id"))),
+            switch (resultSet.getString("operation")) {
+                case "I" -> PriceChange.Type.INSERTED;
+                case "D" -> PriceChange.Type.DELETED;
+                default -> PriceChange.Type.UPDATED;
+            },
+            resultSet.getObject("changed_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<PriceChangeListener> listeners;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PriceChangeFeedProperties properties;
+    private final Timer delay;
+    private final List<SkippedRange> skipped = new ArrayList<>();
+
+    private volatile long lastSequence;
+    private volatile long headSequence;
+    private long gapSeenAt;
+    private long prunedAt;
+    private volatile ScheduledExecutorService executor;
+
+    public PriceChangeFeed(JdbcTemplate jdbcTemplate, ObjectProvider<PriceChangeListener> listeners,
+                           ApplicationEventPublisher eventPublisher, PriceChangeFeedProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.listeners = listeners;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.delay = Timer.builder("prices.changefeed.delay")
+                .description("Time from a price change being logged to its delivery to listeners")
+                .register(meterRegistry);
+        Gauge.builder("prices.changefeed.lag", this, PriceChangeFeed::lag)
+                .description("Logged price changes not yet delivered to listeners")
+                .baseUnit("changes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        Instant jvmStart = Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime());
+        lastSequence = jdbcTemplate.queryForObject(SELECT_LAST_BEFORE, Long.class,
+                Timestamp.valueOf(LocalDateTime.ofInstant(jvmStart, ZoneId.systemDefault())));
+        headSequence = lastSequence;
+        prunedAt = System.nanoTime();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("price-change-feed").daemon().factory());
+        long interval = properties.pollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::pollQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        this.executor = scheduler;
+        log.info("Streaming price changes after sequence {} every {}", lastSequence, properties.pollInterval());
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService scheduler = executor;
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    public long lag() {
+        return Math.max(0, headSequence - lastSequence);
+    }
+
+    /**
+     * Delivers every change visible so far, in batches of {@code promotions.change-feed.batch-size}.
+     *
+     * @return the number of changes delivered
+     */
+    synchronized int poll() {
+        headSequence = Math.max(headSequence, jdbcTemplate.queryForObject(SELECT_HEAD, Long.class));
+        int delivered = deliverLate();
+        int batch;
+        do {
+            List<PriceChange> changes = jdbcTemplate.query(SELECT_CHANGES, CHANGE_MAPPER,
+                    lastSequence, properties.batchSize());
+            List<PriceChange> deliverable = changes.subList(0, contiguousPrefix(changes));
+            batch = deliverable.size();
+            if (batch > 0) {
+                deliver(deliverable);
+                lastSequence = deliverable.getLast().sequence();
+                delivered += batch;
+            }
+        } while (batch == properties.batchSize());
+        pruneIfDue();
+        return delivered;
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("Could not deliver price changes after sequence {}, retrying", lastSequence, e);
+        }
+    }
+
+    private void deliver(List<PriceChange> changes) {
+        listeners.orderedStream().forEach(listener -> listener.onPriceChanges(changes));
+
+        Set<PriceKey> keys = new LinkedHashSet<>();
+        changes.forEach(change -> keys.add(change.key()));
+        eventPublisher.publishEvent(PricesChangedEvent.of(keys));
+
+        delay.record(Duration.between(changes.getLast().changedAt(), LocalDateTime.now()));
+    }
+
+    /**
+     * Delivers the changes of skipped gaps that have been committed since, and stops watching gaps that are older
+     * than the retention.
+     *
+     * @return the number of changes delivered
+     */
+    private int deliverLate() {
+        if (skipped.isEmpty()) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        List<SkippedRange> stillSkipped = new ArrayList<>();
+        List<PriceChange> late = new ArrayList<>();
+        for (SkippedRange range : skipped) {
+            if (now - range.skippedAt() >= properties.retention().toNanos()) {
+                log.debug("Giving up on price changes {} to {}, never committed", range.from(), range.to());
+                continue;
+            }
+            List<PriceChange> committed = jdbcTemplate.query(SELECT_RANGE, CHANGE_MAPPER, range.from(), range.to());
+            late.addAll(committed);
+            stillSkipped.addAll(range.without(committed));
+        }
+        if (!late.isEmpty()) {
+            log.info("Delivering {} price changes committed after their gap was skipped", late.size());
+            deliver(late);
+        }
+        skipped.clear();
+        skipped.addAll(stillSkipped);
+        return late.size();
+    }
+
+    /**
+     * Number of leading changes that follow {@link #lastSequence} without holes. A hole that has been open for
+     * longer than the gap timeout is stepped over.
+     */
+    private int contiguousPrefix(List<PriceChange> changes) {
+        long expected = lastSequence + 1;
+        for (int i = 0; i < changes.size(); i++) {
+            long sequence = changes.get(i).sequence();
+            if (sequence != expected) {
+                if (!gapTimedOut()) {
+                    return i;
+                }
+                skip(expected, sequence - 1);
+            }
+            expected = sequence + 1;
+        }
+        gapSeenAt = 0;
+        return changes.size();
+    }
+
+    private void skip(long from, long to) {
+        log.info("Skipping price changes {} to {}, not committed within {}; watching them for late commits",
+                from, to, properties.gapTimeout());
+        skipped.add(new SkippedRange(from, to, System.nanoTime()));
+        eventPublisher.publishEvent(PricesChangedEvent.all());
+    }
+
+    private boolean gapTimedOut() {
+        long now = System.nanoTime();
+        if (gapSeenAt == 0) {
+            gapSeenAt = now;
+        }
+        if (now - gapSeenAt < properties.gapTimeout().toNanos()) {
+            return false;
+        }
+        gapSeenAt = 0;
+        return true;
+    }
+
+    private void pruneIfDue() {
+        long now = System.nanoTime();
+        if (now - prunedAt < PRUNE_INTERVAL.toNanos()) {
+            return;
+        }
+        prunedAt = now;
+        int pruned = jdbcTemplate.update(DELETE_BEFORE,
+                Timestamp.valueOf(LocalDateTime.now().minus(properties.retention())));
+        if (pruned > 0) {
+            log.debug("Pruned {} price changes older than {}", pruned, properties.retention());
+        }
+    }
+
+    /**
+     * Change ids {@code from} to {@code to}, both included, that were stepped over while not yet visible.
+     */
+    private record SkippedRange(long from, long to, long skippedAt) {
+
+        /**
+         * The parts of this range not covered by {@code committed}, which must be sorted by sequence.
+         */
+        List<SkippedRange> without(List<PriceChange> committed) {
+            List<SkippedRange> remaining = new ArrayList<>();
+            long next = from;
+            for (PriceChange change : committed) {
+                if (change.sequence() > next) {
+                    remaining.add(new SkippedRange(next, change.sequence() - 1, skippedAt));
+                }
+                next = change.sequence() + 1;
+            }
+            if (next <= to) {
+                remaining.add(new SkippedRange(next, to, skippedAt));
+            }
+            return remaining;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.company.promotions.search.api.promotions.infrastructure.changefeed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "promotions.change-feed")
+public record PriceChangeFeedProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500ms") Duration pollInterval,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("5s") Duration gapTimeout,
+        @DefaultValue("1h") Duration retention
+) {
+
+    public PriceChangeFeedProperties {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Change feed batch size must be positive");
+        }
+    }
+}
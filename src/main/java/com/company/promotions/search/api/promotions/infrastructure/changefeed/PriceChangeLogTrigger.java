@@ -0,0 +1,81 @@
+package com.company.promotions.search.api.promotions.infrastructure.changefeed;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * H2 row trigger on {@code promotions.prices} that appends every insert, update and delete to
+ * {@code promotions.price_changes} within the same transaction. An update that moves a row to another product or
+ * brand is logged for both keys.
+ */
+public class PriceChangeLogTrigger implements Trigger {
+
+    private static final String INSERT_CHANGE = """
+            INSERT INTO promotions.price_changes (price_id, product_id, brand_id, operation, changed_at)
+            VALUES (?, ?, ?, ?, LOCALTIMESTAMP)
+            """;
+
+    private static final String SELECT_COLUMNS = """
+            SELECT COLUMN_NAME, ORDINAL_POSITION FROM INFORMATION_SCHEMA.COLUMNS
+            WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?
+            """;
+
+    private int idColumn = -1;
+    private int productIdColumn = -1;
+    private int brandIdColumn = -1;
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName, boolean before,
+                     int type) throws SQLException {
+        try (PreparedStatement statement = conn.prepareStatement(SELECT_COLUMNS)) {
+            statement.setString(1, schemaName);
+            statement.setString(2, tableName);
+            try (ResultSet columns = statement.executeQuery()) {
+                while (columns.next()) {
+                    int index = columns.getInt(2) - 1;
+                    switch (columns.getString(1).toUpperCase()) {
+                        case "ID" -> idColumn = index;
+                        case "PRODUCT_ID" -> productIdColumn = index;
+                        case "BRAND_ID" -> brandIdColumn = index;
+                        default -> {
+                        }
+                    }
+                }
+            }
+        }
+        if (idColumn < 0 || productIdColumn < 0 || brandIdColumn < 0) {
+            throw new SQLException("Table " + schemaName + "." + tableName
+                    + " has no id, product_id and brand_id columns to log changes of");
+        }
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        if (oldRow == null) {
+            log(conn, newRow, 'I');
+        } else if (newRow == null) {
+            log(conn, oldRow, 'D');
+        } else {
+            log(conn, newRow, 'U');
+            if (!Objects.equals(oldRow[productIdColumn], newRow[productIdColumn])
+                    || !Objects.equals(oldRow[brandIdColumn], newRow[brandIdColumn])) {
+                log(conn, oldRow, 'U');
+            }
+        }
+    }
+
+    private void log(Connection conn, Object[] row, char operation) throws SQLException {
+        try (PreparedStatement statement = conn.prepareStatement(INSERT_CHANGE)) {
+            statement.setObject(1, row[idColumn]);
+            statement.setObject(2, row[productIdColumn]);
+            statement.setObject(3, row[brandIdColumn]);
+            statement.setString(4, String.valueOf(operation));
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.company.promotions.search.api.promotions.infrastructure.coalescing;
+
+import com.company.promotions.search.api.promotions.application.LookupCoalescer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LookupCoalescingProperties.class)
+public class LookupCoalescingConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "promotions.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+    public SingleFlightLookupCoalescer lookupCoalescer(LookupCoalescingProperties properties,
+                                                      MeterRegistry meterRegistry) {
+        return new SingleFlightLookupCoalescer(properties.maxWait(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "promotions.coalescing.enabled", havingValue = "false")
+    public LookupCoalescer directLookupCoalescer() {
+        return LookupCoalescer.none();
+    }
+}
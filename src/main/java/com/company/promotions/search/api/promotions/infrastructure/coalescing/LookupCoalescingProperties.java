@@ -0,0 +1,19 @@
+package com.company.promotions.search.api.promotions.infrastructure.coalescing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "promotions.coalescing")
+public record LookupCoalescingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("2s") Duration maxWait
+) {
+
+    public LookupCoalescingProperties {
+        if (maxWait == null || maxWait.isNegative() || maxWait.isZero()) {
+            throw new IllegalArgumentException("Coalescing max wait must be positive");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.company.promotions.search.api.promotions.infrastructure.coalescing;
+
+import com.company.promotions.search.api.promotions.application.LookupCoalescer;
+import com.company.promotions.search.api.promotions.application.PriceLookupTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * {@link LookupCoalescer} keeping one future per key in flight. The first caller for a key registers the future
+ * and runs the lookup on its own thread; callers arriving before it finishes wait on the future for at most
+ * {@code maxWait}. The future is removed as soon as it completes, so nothing is cached: a caller arriving
+ * afterwards runs a fresh lookup.
+ * <p>
+ * {@code prices.lookup.coalescing} counts lookups by {@code outcome}: {@code executed} (ran the lookup, including
+ * callers that joined a run whose result they could not accept), {@code coalesced} (received the result of another
+ * caller's run) and {@code timed_out} (gave up waiting).
+ * Coalesced over executed is the fan-in ratio.
+ */
+public class SingleFlightLookupCoalescer implements LookupCoalescer {
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+    private final Counter executed;
+    private final Counter coalesced;
+    private final Counter timedOut;
+
+    public SingleFlightLookupCoalescer(Duration maxWait, MeterRegistry meterRegistry) {
+        this.maxWaitNanos = maxWait.toNanos();
+        this.executed = counter(meterRegistry, "executed", "Lookups run by the caller itself");
+        this.coalesced = counter(meterRegistry, "coalesced", "Lookups answered by a run already in flight");
+        this.timedOut = counter(meterRegistry, "timed_out", "Lookups that gave up waiting for a run in flight");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T coalesce(Object key, Supplier<T> lookup, Predicate<? super T> accept) {
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            T shared = (T) await(running);
+            if (accept.test(shared)) {
+                coalesced.increment();
+                return shared;
+            }
+            executed.increment();
+            return lookup.get();
+        }
+
+        executed.increment();
+        try {
+            T result = lookup.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Number of callers currently waiting on the run in flight for the key.
+     */
+    int waiting(Object key) {
+        CompletableFuture<Object> running = inFlight.get(key);
+        return running == null ? 0 : running.getNumberOfDependents();
+    }
+
+    private Object await(CompletableFuture<Object> running) {
+        try {
+            return running.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            coalesced.increment();
+            // Only unchecked exceptions can escape a Supplier
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw (RuntimeException) e.getCause();
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            throw new PriceLookupTimeoutException(
+                    "Price lookup did not finish within " + Duration.ofNanos(maxWaitNanos).toMillis() + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut.increment();
+            throw new PriceLookupTimeoutException("Interrupted while waiting for a price lookup");
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome, String description) {
+        return Counter.builder("prices.lookup.coalescing")
+                .tag("outcome", outcome)
+                .description(description)
+                .register(meterRegistry);
+    }
+}
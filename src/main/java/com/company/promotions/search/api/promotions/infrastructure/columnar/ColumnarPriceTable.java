@@ -0,0 +1,385 @@
+package com.company.promotions.search.api.promotions.infrastructure.columnar;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.DateRange;
+import com.company.promotions.search.api.promotions.domain.vo.Money;
+import com.company.promotions.search.api.promotions.domain.vo.PriceListId;
+import com.company.promotions.search.api.promotions.domain.vo.Priority;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable price table stored column by column in direct (off-heap) buffers.
+ * <p>
+ * Rows are grouped by product and brand, so the ids live only in the key directory, an open-addressing hash
+ * table that maps each key to its run of rows. Per row the table keeps start and end as epoch seconds, the
+ * amount as an unscaled long plus its scale, price list, priority and an index into a small currency table:
+ * {@value #ROW_BYTES} bytes. {@link Price} objects are only created for the rows a lookup returns.
+ * <p>
+ * Columns are little-endian so that they can be written to, and mapped back from, a {@link PriceSnapshotFile}
+ * as they are. Dates must be whole seconds. Within a key, rows keep the order they were added in, and ties on duration go
+ * to the first of them, as in {@link Price#selectMostSpecific}.
+ */
+public final class ColumnarPriceTable {
+
+    static final int ROW_BYTES = Long.BYTES * 3 + Integer.BYTES * 2 + Short.BYTES + Byte.BYTES;
+    static final int SLOT_BYTES = Long.BYTES * 2 + Integer.BYTES * 2;
+
+    private static final Comparator<Price> ROW_ORDER = Comparator
+            .comparing((Price price) -> price.getProductId().value())
+            .thenComparing(price -> price.getBrandId().value())
+            .thenComparing(Price::getPriority, Comparator.reverseOrder())
+            .thenComparing(price -> price.getDateRange().startDate());
+
+    private final int rowCount;
+    private final int keyCount;
+    private final ByteBuffer startSeconds;
+    private final ByteBuffer endSeconds;
+    private final ByteBuffer amounts;
+    private final ByteBuffer priceLists;
+    private final ByteBuffer priorities;
+    private final ByteBuffer currencyIndexes;
+    private final ByteBuffer scales;
+    private final ByteBuffer directory;
+    private final int directoryMask;
+    private final Currency[] currencies;
+
+    ColumnarPriceTable(int rowCount, int keyCount, ByteBuffer startSeconds, ByteBuffer endSeconds,
+                       ByteBuffer amounts, ByteBuffer priceLists, ByteBuffer priorities,
+                       ByteBuffer currencyIndexes, ByteBuffer scales, ByteBuffer directory, Currency[] currencies) {
+        this.rowCount = rowCount;
+        this.keyCount = keyCount;
+        this.startSeconds = startSeconds;
+        this.endSeconds = endSeconds;
+        this.amounts = amounts;
+        this.priceLists = priceLists;
+        this.priorities = priorities;
+        this.currencyIndexes = currencyIndexes;
+        this.scales = scales;
+        this.directory = directory;
+        this.directoryMask = directory.capacity() / SLOT_BYTES - 1;
+        this.currencies = currencies;
+    }
+
+    public static Builder builder(int expectedRows) {
+        return new Builder(expectedRows);
+    }
+
+    public static ColumnarPriceTable of(Collection<Price> prices) {
+        List<Price> sorted = new ArrayList<>(prices);
+        sorted.sort(ROW_ORDER);
+        Builder builder = builder(sorted.size());
+        sorted.forEach(builder::add);
+        return builder.build();
+    }
+
+    public static ColumnarPriceTable empty() {
+        return builder(0).build();
+    }
+
+    /**
+     * Returns the most specific price of the key at the given instant, materializing only that row.
+     */
+    public Optional<Price> findMostSpecific(PriceKey key, LocalDateTime applicationDate) {
+        int slot = findSlot(key.productId().value(), key.brandId().value());
+        if (slot < 0) {
+            return Optional.empty();
+        }
+        long second = applicationDate.toEpochSecond(ZoneOffset.UTC);
+        boolean wholeSecond = applicationDate.getNano() == 0;
+        int first = slotFirstRow(slot);
+        int end = first + slotRowCount(slot);
+
+        int best = -1;
+        long bestDuration = Long.MAX_VALUE;
+        for (int row = first; row < end; row++) {
+            long start = startSeconds.getLong(row * Long.BYTES);
+            long stop = endSeconds.getLong(row * Long.BYTES);
+            if (start <= second && (second < stop || second == stop && wholeSecond) && stop - start < bestDuration) {
+                best = row;
+                bestDuration = stop - start;
+            }
+        }
+        return best < 0 ? Optional.empty() : Optional.of(materialize(key, best));
+    }
+
+    /**
+     * Returns every price of the key whose date range overlaps {@code [from, to]}.
+     */
+    public List<Price> findOverlapping(PriceKey key, LocalDateTime from, LocalDateTime to) {
+        int slot = findSlot(key.productId().value(), key.brandId().value());
+        if (slot < 0) {
+            return List.of();
+        }
+        long fromSecond = from.toEpochSecond(ZoneOffset.UTC);
+        boolean fromWholeSecond = from.getNano() == 0;
+        long toSecond = to.toEpochSecond(ZoneOffset.UTC);
+        int first = slotFirstRow(slot);
+        int end = first + slotRowCount(slot);
+
+        List<Price> prices = new ArrayList<>();
+        for (int row = first; row < end; row++) {
+            long start = startSeconds.getLong(row * Long.BYTES);
+            long stop = endSeconds.getLong(row * Long.BYTES);
+            if (start <= toSecond && (stop > fromSecond || stop == fromSecond && fromWholeSecond)) {
+                prices.add(materialize(key, row));
+            }
+        }
+        return prices;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public int keyCount() {
+        return keyCount;
+    }
+
+    public long columnBytes() {
+        return (long) rowCount * ROW_BYTES;
+    }
+
+    public long directoryBytes() {
+        return directory.capacity();
+    }
+
+    public long offHeapBytes() {
+        return startSeconds.capacity() + endSeconds.capacity() + amounts.capacity() + priceLists.capacity()
+                + priorities.capacity() + currencyIndexes.capacity() + scales.capacity() + directory.capacity();
+    }
+
+    /**
+     * The used part of every column followed by the key directory, in snapshot order.
+     */
+    ByteBuffer[] sections() {
+        return new ByteBuffer[]{
+                startSeconds.slice(0, rowCount * Long.BYTES),
+                endSeconds.slice(0, rowCount * Long.BYTES),
+                amounts.slice(0, rowCount * Long.BYTES),
+                priceLists.slice(0, rowCount * Integer.BYTES),
+                priorities.slice(0, rowCount * Integer.BYTES),
+                currencyIndexes.slice(0, rowCount * Short.BYTES),
+                scales.slice(0, rowCount),
+                directory.slice()
+        };
+    }
+
+    Currency[] currencies() {
+        return currencies.clone();
+    }
+
+    private Price materialize(PriceKey key, int row) {
+        Currency currency = currencies[currencyIndexes.getShort(row * Short.BYTES)];
+        BigDecimal amount = BigDecimal.valueOf(amounts.getLong(row * Long.BYTES), scales.get(row));
+        return new Price(
+                key.brandId(),
+                DateRange.of(
+                        LocalDateTime.ofEpochSecond(startSeconds.getLong(row * Long.BYTES), 0, ZoneOffset.UTC),
+                        LocalDateTime.ofEpochSecond(endSeconds.getLong(row * Long.BYTES), 0, ZoneOffset.UTC)),
+                PriceListId.of((long) priceLists.getInt(row * Integer.BYTES)),
+                key.productId(),
+                Priority.of(priorities.getInt(row * Integer.BYTES)),
+                Money.of(amount, currency));
+    }
+
+    private int findSlot(long productId, long brandId) {
+        int slot = hash(productId, brandId) & directoryMask;
+        while (slotRowCount(slot) != 0) {
+            int offset = slot * SLOT_BYTES;
+            if (directory.getLong(offset) == productId && directory.getLong(offset + Long.BYTES) == brandId) {
+                return slot;
+            }
+            slot = (slot + 1) & directoryMask;
+        }
+        return -1;
+    }
+
+    private int slotFirstRow(int slot) {
+        return directory.getInt(slot * SLOT_BYTES + Long.BYTES * 2);
+    }
+
+    private int slotRowCount(int slot) {
+        return slotRowCount(directory, slot);
+    }
+
+    private static int slotRowCount(ByteBuffer directory, int slot) {
+        return directory.getInt(slot * SLOT_BYTES + Long.BYTES * 2 + Integer.BYTES);
+    }
+
+    private static int hash(long productId, long brandId) {
+        long h = productId * 0x9E3779B97F4A7C15L + brandId;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static ByteBuffer allocate(long bytes) {
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Column of " + bytes + " bytes exceeds the 2 GiB buffer limit");
+        }
+        return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Appends rows that arrive grouped by product and brand, in ascending (productId, brandId) order.
+     * Columns grow by doubling if more rows than expected are added.
+     */
+    public static final class Builder {
+
+        private int capacity;
+        private int rowCount;
+        private ByteBuffer startSeconds;
+        private ByteBuffer endSeconds;
+        private ByteBuffer amounts;
+        private ByteBuffer priceLists;
+        private ByteBuffer priorities;
+        private ByteBuffer currencyIndexes;
+        private ByteBuffer scales;
+
+        private int keyCount;
+        private long[] keyProductIds = new long[16];
+        private long[] keyBrandIds = new long[16];
+        private int[] keyFirstRows = new int[16];
+
+        private final List<Currency> currencies = new ArrayList<>();
+        private final Map<Currency, Short> currencyIndex = new HashMap<>();
+
+        private Builder(int expectedRows) {
+            if (expectedRows < 0) {
+                throw new IllegalArgumentException("Expected rows cannot be negative");
+            }
+            allocateColumns(Math.max(expectedRows, 1));
+        }
+
+        public Builder add(Price price) {
+            return add(
+                    price.getProductId().value(),
+                    price.getBrandId().value(),
+                    price.getDateRange().startDate(),
+                    price.getDateRange().endDate(),
+                    price.getPriceListId().value().intValue(),
+                    price.getPriority().value(),
+                    price.getMoney().amount(),
+                    price.getMoney().currency());
+        }
+
+        public Builder add(long productId, long brandId, LocalDateTime startDate, LocalDateTime endDate,
+                           int priceList, int priority, BigDecimal amount, Currency currency) {
+            if (startDate.getNano() != 0 || endDate.getNano() != 0) {
+                throw new IllegalArgumentException("Price dates must be whole seconds: " + startDate + " - " + endDate);
+            }
+            if (amount.scale() < Byte.MIN_VALUE || amount.scale() > Byte.MAX_VALUE
+                    || amount.unscaledValue().bitLength() >= Long.SIZE) {
+                throw new IllegalArgumentException("Amount does not fit in a scaled long: " + amount);
+            }
+            startKeyIfNew(productId, brandId);
+            if (rowCount == capacity) {
+                growColumns();
+            }
+            int row = rowCount++;
+            startSeconds.putLong(row * Long.BYTES, startDate.toEpochSecond(ZoneOffset.UTC));
+            endSeconds.putLong(row * Long.BYTES, endDate.toEpochSecond(ZoneOffset.UTC));
+            amounts.putLong(row * Long.BYTES, amount.unscaledValue().longValue());
+            scales.put(row, (byte) amount.scale());
+            priceLists.putInt(row * Integer.BYTES, priceList);
+            priorities.putInt(row * Integer.BYTES, priority);
+            currencyIndexes.putShort(row * Short.BYTES, currencyIndexOf(currency));
+            return this;
+        }
+
+        public ColumnarPriceTable build() {
+            int slots = Integer.highestOneBit(Math.max(1, keyCount) * 2 - 1) << 1;
+            ByteBuffer directory = allocate((long) slots * SLOT_BYTES);
+            for (int k = 0; k < keyCount; k++) {
+                int end = k + 1 < keyCount ? keyFirstRows[k + 1] : rowCount;
+                insertSlot(directory, slots - 1, keyProductIds[k], keyBrandIds[k], keyFirstRows[k],
+                        end - keyFirstRows[k]);
+            }
+            return new ColumnarPriceTable(rowCount, keyCount, startSeconds, endSeconds, amounts, priceLists,
+                    priorities, currencyIndexes, scales, directory, currencies.toArray(Currency[]::new));
+        }
+
+        private static void insertSlot(ByteBuffer directory, int mask, long productId, long brandId,
+                                       int firstRow, int rows) {
+            int slot = hash(productId, brandId) & mask;
+            while (slotRowCount(directory, slot) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            int offset = slot * SLOT_BYTES;
+            directory.putLong(offset, productId);
+            directory.putLong(offset + Long.BYTES, brandId);
+            directory.putInt(offset + Long.BYTES * 2, firstRow);
+            directory.putInt(offset + Long.BYTES * 2 + Integer.BYTES, rows);
+        }
+
+        private void startKeyIfNew(long productId, long brandId) {
+            if (keyCount > 0) {
+                long lastProductId = keyProductIds[keyCount - 1];
+                long lastBrandId = keyBrandIds[keyCount - 1];
+                if (lastProductId == productId && lastBrandId == brandId) {
+                    return;
+                }
+                if (productId < lastProductId || productId == lastProductId && brandId < lastBrandId) {
+                    throw new IllegalStateException("Rows must be added in (productId, brandId) order");
+                }
+            }
+            if (keyCount == keyProductIds.length) {
+                keyProductIds = Arrays.copyOf(keyProductIds, keyCount * 2);
+                keyBrandIds = Arrays.copyOf(keyBrandIds, keyCount * 2);
+                keyFirstRows = Arrays.copyOf(keyFirstRows, keyCount * 2);
+            }
+            keyProductIds[keyCount] = productId;
+            keyBrandIds[keyCount] = brandId;
+            keyFirstRows[keyCount] = rowCount;
+            keyCount++;
+        }
+
+        private short currencyIndexOf(Currency currency) {
+            return currencyIndex.computeIfAbsent(currency, c -> {
+                if (currencies.size() > Short.MAX_VALUE) {
+                    throw new IllegalStateException("Too many distinct currencies");
+                }
+                currencies.add(c);
+                return (short) (currencies.size() - 1);
+            });
+        }
+
+        private void allocateColumns(int rows) {
+            capacity = rows;
+            startSeconds = allocate((long) rows * Long.BYTES);
+            endSeconds = allocate((long) rows * Long.BYTES);
+            amounts = allocate((long) rows * Long.BYTES);
+            priceLists = allocate((long) rows * Integer.BYTES);
+            priorities = allocate((long) rows * Integer.BYTES);
+            currencyIndexes = allocate((long) rows * Short.BYTES);
+            scales = allocate(rows);
+        }
+
+        private void growColumns() {
+            ByteBuffer[] old = {startSeconds, endSeconds, amounts, priceLists, priorities, currencyIndexes, scales};
+            allocateColumns(capacity * 2);
+            ByteBuffer[] grown = {startSeconds, endSeconds, amounts, priceLists, priorities, currencyIndexes, scales};
+            for (int i = 0; i < old.length; i++) {
+                grown[i].put(0, old[i], 0, old[i].capacity());
+            }
+        }
+    }
+}
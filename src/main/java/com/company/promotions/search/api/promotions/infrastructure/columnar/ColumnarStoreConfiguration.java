@@ -0,0 +1,9 @@
+package com.company.promotions.search.api.promotions.infrastructure.columnar;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PriceSnapshotProperties.class)
+public class ColumnarStoreConfiguration {
+}
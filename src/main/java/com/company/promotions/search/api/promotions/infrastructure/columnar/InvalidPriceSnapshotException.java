@@ -0,0 +1,10 @@
+package com.company.promotions.search.api.promotions.infrastructure.columnar;
+
+import java.nio.file.Path;
+
+public class InvalidPriceSnapshotException extends RuntimeException {
+
+    public InvalidPriceSnapshotException(Path path, String reason) {
+        super("Invalid price snapshot " + path + ": " + reason);
+    }
+}
@@ -0,0 +1,249 @@
+package com.company.promotions.search.api.promotions.infrastructure.columnar;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceChange;
+import com.company.promotions.search.api.promotions.domain.PriceChangeListener;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.DateRange;
+import com.company.promotions.search.api.promotions.domain.vo.Money;
+import com.company.promotions.search.api.promotions.domain.vo.PriceListId;
+import com.company.promotions.search.api.promotions.domain.vo.Priority;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.CurrencyNumericCodeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.company.promotions.search.api.promotions.infrastructure.columnar.PriceSnapshotFile.Snapshot;
+import com.company.promotions.search.api.promotions.infrastructure.columnar.PriceSnapshotFile.Watermark;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link PriceRepository} that answers lookups from a {@link ColumnarPriceTable} kept outside the Java heap.
+ * <p>
+ * Rows are streamed straight from JDBC into the off-heap columns, so no entity or {@link Price} is created per
+ * row while loading. {@link #findApplicablePrices} returns only the most specific price of the instant.
+ * Enabled with {@code promotions.repository.type=off-heap}; call {@link #reload()} after the table changes.
+ * <p>
+ * When {@code promotions.snapshot.path} is set, every load is also written to a {@link PriceSnapshotFile}. At
+ * startup a valid snapshot is memory-mapped and served right away instead of reading the table; once the
+ * application is ready, the table is reloaded in the background if it no longer matches the snapshot's
+ * {@link Watermark}. A snapshot that fails validation is ignored and the table is read from the database.
+ * <p>
+ * The columns cannot be patched in place, so keys reported by the change feed are re-read into a small on-heap
+ * overlay that takes precedence over the table. Once more than {@value #COMPACTION_THRESHOLD} keys are patched,
+ * the table is reloaded and the overlay emptied.
+ */
+@Repository
+@ConditionalOnProperty(name = "promotions.repository.type", havingValue = "off-heap")
+@DependsOn("currencyTable")
+public class OffHeapPriceRepository implements PriceRepository, PriceChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapPriceRepository.class);
+
+    private static final String SELECT_WATERMARK = "SELECT COUNT(*), COALESCE(MAX(id), 0) FROM promotions.prices";
+
+    // Priority descending within a key so ties on duration resolve like the jpa repository
+    private static final String SELECT_PRICES = """
+            SELECT product_id, brand_id, start_date, end_date, price_list, priority, price, currency_id
+            FROM promotions.prices
+            ORDER BY product_id, brand_id, priority DESC, start_date
+            """;
+
+    private static final String SELECT_KEY_PRICES = """
+            SELECT product_id, brand_id, start_date, end_date, price_list, priority, price, currency_id
+            FROM promotions.prices
+            WHERE product_id = ? AND brand_id = ?
+            ORDER BY priority DESC, start_date
+            """;
+
+    private static final RowMapper<Price> PRICE_MAPPER = (resultSet, rowNum) -> new Price(
+            BrandId.of(resultSet.getLong("brand_id")),
+            DateRange.of(
+                    resultSet.getObject("start_date", LocalDateTime.class),
+                    resultSet.getObject("end_date", LocalDateTime.class)),
+            PriceListId.of(resultSet.getLong("price_list")),
+            ProductId.of(resultSet.getLong("product_id")),
+            Priority.of(resultSet.getInt("priority")),
+            Money.of(resultSet.getBigDecimal("price"),
+                    CurrencyNumericCodeConverter.currencyOf(resultSet.getShort("currency_id"))));
+
+    static final int COMPACTION_THRESHOLD = 10_000;
+
+    public enum Source {
+        DATABASE, SNAPSHOT
+    }
+
+    /**
+     * The table being served together with where it came from and the state of the database it reflects.
+     */
+    public record LoadedTable(ColumnarPriceTable table, Watermark watermark, Source source) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Optional<Path> snapshotPath;
+
+    private volatile LoadedTable loaded;
+
+    // Current prices of the keys changed since the table was built; an empty list means the key has no prices left
+    private final Map<PriceKey, List<Price>> patches = new ConcurrentHashMap<>();
+
+    public OffHeapPriceRepository(JdbcTemplate jdbcTemplate, PriceSnapshotProperties snapshotProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotPath = snapshotProperties.snapshotPath();
+        if (!mapSnapshot()) {
+            reload();
+        }
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        PriceKey key = PriceKey.of(productId, brandId);
+        List<Price> patched = patches.get(key);
+        Optional<Price> mostSpecific = patched == null
+                ? loaded.table().findMostSpecific(key, applicationDate)
+                : Price.selectMostSpecific(patched.stream()
+                        .filter(price -> price.isApplicableAt(applicationDate))
+                        .toList());
+        return mostSpecific.map(List::of).orElse(List.of());
+    }
+
+    @Override
+    public List<Price> findPricesOverlapping(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        ColumnarPriceTable current = loaded.table();
+        List<Price> prices = new ArrayList<>();
+        for (PriceKey key : keys) {
+            List<Price> patched = patches.get(key);
+            if (patched == null) {
+                prices.addAll(current.findOverlapping(key, from, to));
+                continue;
+            }
+            for (Price price : patched) {
+                if (!price.getDateRange().startDate().isAfter(to) && !price.getDateRange().endDate().isBefore(from)) {
+                    prices.add(price);
+                }
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Re-reads the prices of the changed keys into the overlay, reloading the whole table once the overlay has
+     * grown past {@value #COMPACTION_THRESHOLD} keys.
+     */
+    @Override
+    public void onPriceChanges(List<PriceChange> changes) {
+        changes.stream()
+                .map(PriceChange::key)
+                .distinct()
+                .forEach(key -> patches.put(key, jdbcTemplate.query(SELECT_KEY_PRICES, PRICE_MAPPER,
+                        key.productId().value(), key.brandId().value())));
+        if (patches.size() > COMPACTION_THRESHOLD) {
+            log.info("{} product/brand keys patched since the last load, reloading", patches.size());
+            reload();
+        }
+    }
+
+    /**
+     * Number of keys currently served from the overlay instead of the table.
+     */
+    public int patchedKeys() {
+        return patches.size();
+    }
+
+    public LoadedTable loaded() {
+        return loaded;
+    }
+
+    /**
+     * Rebuilds the table from the database, swaps it in atomically and refreshes the snapshot.
+     */
+    public synchronized void reload() {
+        // Patches applied before the load are in the new table; ones replaced while loading may not be
+        Map<PriceKey, List<Price>> applied = Map.copyOf(patches);
+        Watermark watermark = currentWatermark();
+        ColumnarPriceTable.Builder builder = ColumnarPriceTable.builder(Math.toIntExact(watermark.rows()));
+        jdbcTemplate.query(SELECT_PRICES, (RowCallbackHandler) resultSet -> builder.add(
+                resultSet.getLong("product_id"),
+                resultSet.getLong("brand_id"),
+                resultSet.getObject("start_date", LocalDateTime.class),
+                resultSet.getObject("end_date", LocalDateTime.class),
+                resultSet.getInt("price_list"),
+                resultSet.getInt("priority"),
+                resultSet.getBigDecimal("price"),
+                CurrencyNumericCodeConverter.currencyOf(resultSet.getShort("currency_id"))));
+        ColumnarPriceTable reloaded = builder.build();
+        this.loaded = new LoadedTable(reloaded, watermark, Source.DATABASE);
+        applied.forEach(patches::remove);
+        log.info("Loaded {} prices for {} product/brand keys off-heap ({} bytes)",
+                reloaded.rowCount(), reloaded.keyCount(), reloaded.offHeapBytes());
+        snapshotPath.ifPresent(path -> writeSnapshot(reloaded, watermark, path));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUpInBackground() {
+        if (loaded.source() == Source.SNAPSHOT) {
+            Thread.ofVirtual().name("price-snapshot-catch-up").start(this::catchUp);
+        }
+    }
+
+    /**
+     * Reloads from the database if it has changed since the table being served was built.
+     */
+    void catchUp() {
+        Watermark current = currentWatermark();
+        if (!current.equals(loaded.watermark())) {
+            log.info("Prices changed since the snapshot ({} -> {}), reloading", loaded.watermark(), current);
+            reload();
+        }
+    }
+
+    private boolean mapSnapshot() {
+        Optional<Path> path = snapshotPath.filter(Files::exists);
+        if (path.isEmpty()) {
+            return false;
+        }
+        try {
+            Snapshot snapshot = PriceSnapshotFile.map(path.get());
+            this.loaded = new LoadedTable(snapshot.table(), snapshot.watermark(), Source.SNAPSHOT);
+            log.info("Mapped price snapshot {} with {} prices for {} product/brand keys",
+                    path.get(), snapshot.table().rowCount(), snapshot.table().keyCount());
+            return true;
+        } catch (InvalidPriceSnapshotException | UncheckedIOException e) {
+            log.warn("Ignoring price snapshot, loading from the database instead: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeSnapshot(ColumnarPriceTable table, Watermark watermark, Path path) {
+        try {
+            PriceSnapshotFile.write(table, watermark, path);
+            log.info("Wrote price snapshot {}", path);
+        } catch (UncheckedIOException e) {
+            log.warn("Could not write price snapshot {}", path, e);
+        }
+    }
+
+    private Watermark currentWatermark() {
+        return jdbcTemplate.queryForObject(SELECT_WATERMARK,
+                (resultSet, rowNum) -> new Watermark(resultSet.getLong(1), resultSet.getLong(2)));
+    }
+}
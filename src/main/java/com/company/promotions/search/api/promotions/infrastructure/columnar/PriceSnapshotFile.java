@@ -0,0 +1,191 @@
+package com.company.promotions.search.api.promotions.infrastructure.columnar;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Currency;
+import java.util.zip.CRC32C;
+
+/**
+ * Versioned binary image of a {@link ColumnarPriceTable} that can be memory-mapped and served without
+ * rebuilding anything.
+ * <p>
+ * Layout (little-endian): a {@value #HEADER_BYTES}-byte header holding magic, format version, row, key,
+ * directory-slot and currency counts, the {@link Watermark} of the source table and a CRC32C of everything after
+ * the header; then the currency codes and every column followed by the key directory, each section starting
+ * on an 8-byte boundary.
+ */
+public final class PriceSnapshotFile {
+
+    static final int MAGIC = 0x50524353;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 48;
+
+    private static final int CHECKSUM_OFFSET = 40;
+    private static final int CURRENCY_CODE_BYTES = 3;
+
+    private PriceSnapshotFile() {
+    }
+
+    /**
+     * Identifies the state of {@code promotions.prices} a table was built from, so that a mapped snapshot can be
+     * told apart from a table that has changed since.
+     */
+    public record Watermark(long rows, long maxId) {
+    }
+
+    public record Snapshot(ColumnarPriceTable table, Watermark watermark) {
+    }
+
+    /**
+     * Writes the table to a temporary file next to {@code path} and moves it into place, so readers never see a
+     * partially written snapshot.
+     */
+    public static void write(ColumnarPriceTable table, Watermark watermark, Path path) {
+        ByteBuffer[] sections = table.sections();
+        Currency[] currencies = table.currencies();
+
+        ByteBuffer codes = ByteBuffer.allocate(padded(currencies.length * CURRENCY_CODE_BYTES));
+        for (Currency currency : currencies) {
+            codes.put(currency.getCurrencyCode().getBytes(StandardCharsets.US_ASCII));
+        }
+        codes.clear();
+
+        CRC32C checksum = new CRC32C();
+        checksum.update(codes.duplicate());
+        for (ByteBuffer section : sections) {
+            checksum.update(section.duplicate());
+            checksum.update(ByteBuffer.allocate(padding(section.capacity())));
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(table.rowCount())
+                .putInt(table.keyCount())
+                .putInt(sections[sections.length - 1].capacity() / ColumnarPriceTable.SLOT_BYTES)
+                .putInt(currencies.length)
+                .putLong(watermark.rows())
+                .putLong(watermark.maxId())
+                .putLong(checksum.getValue())
+                .flip();
+
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                writeFully(channel, header);
+                writeFully(channel, codes);
+                for (ByteBuffer section : sections) {
+                    writeFully(channel, section.duplicate());
+                    writeFully(channel, ByteBuffer.allocate(padding(section.capacity())));
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write price snapshot " + path, e);
+        }
+    }
+
+    /**
+     * Maps the snapshot read-only and validates its header, size and checksum before handing out the table.
+     *
+     * @throws InvalidPriceSnapshotException if the file is not a snapshot of this version or fails validation
+     */
+    public static Snapshot map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES) {
+                throw new InvalidPriceSnapshotException(path, "file is shorter than the header");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC) {
+                throw new InvalidPriceSnapshotException(path, "bad magic number");
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new InvalidPriceSnapshotException(path, "unsupported version " + header.getInt(4));
+            }
+            int rows = header.getInt(8);
+            int keys = header.getInt(12);
+            int slots = header.getInt(16);
+            int currencyCount = header.getInt(20);
+            Watermark watermark = new Watermark(header.getLong(24), header.getLong(32));
+            long expectedChecksum = header.getLong(CHECKSUM_OFFSET);
+            if (rows < 0 || keys < 0 || currencyCount < 0 || slots <= 0 || Integer.bitCount(slots) != 1) {
+                throw new InvalidPriceSnapshotException(path, "corrupt header");
+            }
+
+            long[] sizes = {
+                    (long) rows * Long.BYTES, (long) rows * Long.BYTES, (long) rows * Long.BYTES,
+                    (long) rows * Integer.BYTES, (long) rows * Integer.BYTES, (long) rows * Short.BYTES, rows,
+                    (long) slots * ColumnarPriceTable.SLOT_BYTES
+            };
+            long codesSize = padded(currencyCount * CURRENCY_CODE_BYTES);
+            long expectedSize = HEADER_BYTES + codesSize;
+            for (long size : sizes) {
+                expectedSize += padded(size);
+            }
+            if (fileSize != expectedSize) {
+                throw new InvalidPriceSnapshotException(path,
+                        "expected " + expectedSize + " bytes but the file has " + fileSize);
+            }
+
+            CRC32C checksum = new CRC32C();
+            ByteBuffer codes = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, codesSize);
+            checksum.update(codes.duplicate());
+            ByteBuffer[] sections = new ByteBuffer[sizes.length];
+            long position = HEADER_BYTES + codesSize;
+            for (int i = 0; i < sizes.length; i++) {
+                long length = padded(sizes[i]);
+                ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                checksum.update(mapped.duplicate());
+                sections[i] = mapped.slice(0, (int) sizes[i]).order(ByteOrder.LITTLE_ENDIAN);
+                position += length;
+            }
+            if (checksum.getValue() != expectedChecksum) {
+                throw new InvalidPriceSnapshotException(path, "checksum mismatch");
+            }
+
+            Currency[] currencies = new Currency[currencyCount];
+            byte[] code = new byte[CURRENCY_CODE_BYTES];
+            for (int i = 0; i < currencyCount; i++) {
+                codes.get(i * CURRENCY_CODE_BYTES, code);
+                currencies[i] = Currency.getInstance(new String(code, StandardCharsets.US_ASCII));
+            }
+
+            ColumnarPriceTable table = new ColumnarPriceTable(rows, keys, sections[0], sections[1], sections[2],
+                    sections[3], sections[4], sections[5], sections[6], sections[7], currencies);
+            return new Snapshot(table, watermark);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map price snapshot " + path, e);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static long padded(long size) {
+        return size + padding(size);
+    }
+
+    private static int padded(int size) {
+        return size + padding(size);
+    }
+
+    private static int padding(long size) {
+        return (int) (-size & (Long.BYTES - 1));
+    }
+}
@@ -0,0 +1,18 @@
+package com.company.promotions.search.api.promotions.infrastructure.columnar;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Where the off-heap repository keeps its {@link PriceSnapshotFile}; no snapshot is read or written when the
+ * path is blank.
+ */
+@ConfigurationProperties(prefix = "promotions.snapshot")
+public record PriceSnapshotProperties(String path) {
+
+    public Optional<Path> snapshotPath() {
+        return path == null || path.isBlank() ? Optional.empty() : Optional.of(Path.of(path));
+    }
+}
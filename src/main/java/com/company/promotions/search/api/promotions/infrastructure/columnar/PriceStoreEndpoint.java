@@ -0,0 +1,49 @@
+package com.company.promotions.search.api.promotions.infrastructure.columnar;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the footprint of the off-heap price table at {@code /actuator/pricestore}, together with the number of
+ * keys served from the on-heap overlay of changes.
+ */
+@Component
+@Endpoint(id = "pricestore")
+@ConditionalOnProperty(name = "promotions.repository.type", havingValue = "off-heap")
+public class PriceStoreEndpoint {
+
+    private final OffHeapPriceRepository offHeapPriceRepository;
+
+    public PriceStoreEndpoint(OffHeapPriceRepository offHeapPriceRepository) {
+        this.offHeapPriceRepository = offHeapPriceRepository;
+    }
+
+    @ReadOperation
+    public PriceStoreStats stats() {
+        return PriceStoreStats.of(offHeapPriceRepository.loaded().table(), offHeapPriceRepository.patchedKeys());
+    }
+
+    public record PriceStoreStats(
+            int rows,
+            int keys,
+            long columnBytes,
+            long directoryBytes,
+            long offHeapBytes,
+            double bytesPerRow,
+            int patchedKeys
+    ) {
+
+        static PriceStoreStats of(ColumnarPriceTable table, int patchedKeys) {
+            return new PriceStoreStats(
+                    table.rowCount(),
+                    table.keyCount(),
+                    table.columnBytes(),
+                    table.directoryBytes(),
+                    table.offHeapBytes(),
+                    table.rowCount() == 0 ? 0 : (double) table.offHeapBytes() / table.rowCount(),
+                    patchedKeys);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.company.promotions.search.api.promotions.infrastructure.columnar;
+
+import com.company.promotions.search.api.promotions.infrastructure.columnar.OffHeapPriceRepository.LoadedTable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.health.contributor.AbstractHealthIndicator;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.stereotype.Component;
+
+/**
+ * Part of the readiness group: with the off-heap repository it is only UP once a table, either mapped from a
+ * checksum-validated snapshot or read from the database, is being served. Other backends are always UP.
+ */
+@Component
+public class PriceStoreHealthIndicator extends AbstractHealthIndicator {
+
+    private final ObjectProvider<OffHeapPriceRepository> offHeapPriceRepository;
+
+    public PriceStoreHealthIndicator(ObjectProvider<OffHeapPriceRepository> offHeapPriceRepository) {
+        this.offHeapPriceRepository = offHeapPriceRepository;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        OffHeapPriceRepository repository = offHeapPriceRepository.getIfAvailable();
+        if (repository == null) {
+            builder.up();
+            return;
+        }
+        LoadedTable loaded = repository.loaded();
+        if (loaded == null) {
+            builder.outOfService();
+            return;
+        }
+        builder.up()
+                .withDetail("source", loaded.source())
+                .withDetail("rows", loaded.table().rowCount())
+                .withDetail("keys", loaded.table().keyCount())
+                .withDetail("watermark", loaded.watermark());
+    }
+}
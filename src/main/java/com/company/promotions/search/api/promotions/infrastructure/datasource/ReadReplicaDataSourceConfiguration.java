@@ -0,0 +1,67 @@
+package com.company.promotions.search.api.promotions.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the single pool with two: {@code primary}, built from {@code spring.datasource}, and {@code replica}.
+ * The {@code DataSource} everything else uses defers taking a connection until the first statement, by which time
+ * a read-only transaction has flagged it read-only; those connections come from the replica, through
+ * {@link ReplicaFailoverDataSource}, and every other one from the primary. Price lookups run in read-only
+ * transactions; Flyway, imports, JPA writes and the change feed do not, so they always see the primary. Reads also
+ * see the primary for a while after prices change, see {@link ReplicaFailoverDataSource}.
+ * <p>
+ * Both pools are separate beans, so each one gets its own size, timeouts and {@code hikaricp.*} metrics tagged
+ * with its pool name. Enabled with {@code promotions.datasource.replica.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "promotions.datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReadReplicaDataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("promotions.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    ReplicaFailoverDataSource readOnlyDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                 ReplicaDataSourceProperties properties,
+                                                 MeterRegistry meterRegistry) {
+        return new ReplicaFailoverDataSource(replicaDataSource, primaryDataSource, properties.retryInterval(),
+                properties.maxLag(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReplicaFailoverDataSource readOnlyDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readOnlyDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,27 @@
+package com.company.promotions.search.api.promotions.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Routing of read-only transactions to a replica. The replica pool itself is configured under
+ * {@code promotions.datasource.replica.hikari} like {@code spring.datasource.hikari} configures the primary one.
+ */
+@ConfigurationProperties(prefix = "promotions.datasource.replica")
+public record ReplicaDataSourceProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10s") Duration retryInterval,
+        @DefaultValue("5s") Duration maxLag
+) {
+
+    public ReplicaDataSourceProperties {
+        if (retryInterval == null || retryInterval.isNegative() || retryInterval.isZero()) {
+            throw new IllegalArgumentException("Replica retry interval must be positive");
+        }
+        if (maxLag == null || maxLag.isNegative()) {
+            throw new IllegalArgumentException("Replica max lag cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.company.promotions.search.api.promotions.infrastructure.datasource;
+
+import com.company.promotions.search.api.promotions.domain.PricesChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out replica connections for read-only work and falls back to the primary when the replica cannot give
+ * one. After a failure the replica is left alone for {@code retryInterval}, so that reads do not each wait for a
+ * connection timeout while it is down; the first read after that tries it again.
+ * <p>
+ * A {@link PricesChangedEvent} makes the caches in front of the database drop the changed prices, and the reads
+ * that fill them again must not come from a replica that has not caught up yet, or they would keep the old prices
+ * until they expire. For {@code maxLag} after each event, the upper bound on how far the replica trails the
+ * primary, reads therefore go to the primary. This listener runs before the ones that evict the caches.
+ * <p>
+ * Exposes {@code prices.datasource.reads}, the read-only connections handed out per {@code target}, and
+ * {@code prices.datasource.replica.available}, 0 while reads are failing over to the primary.
+ */
+class ReplicaFailoverDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaFailoverDataSource.class);
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final long retryIntervalNanos;
+    private final long maxLagNanos;
+    private final LongSupplier nanoClock;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    private volatile boolean replicaDown;
+    private volatile long retryAt;
+    private volatile long caughtUpAt;
+
+    ReplicaFailoverDataSource(DataSource replica, DataSource primary, Duration retryInterval, Duration maxLag,
+                              MeterRegistry meterRegistry) {
+        this(replica, primary, retryInterval, maxLag, meterRegistry, System::nanoTime);
+    }
+
+    ReplicaFailoverDataSource(DataSource replica, DataSource primary, Duration retryInterval, Duration maxLag,
+                              MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.replica = replica;
+        this.primary = primary;
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.maxLagNanos = maxLag.toNanos();
+        this.nanoClock = nanoClock;
+        this.caughtUpAt = nanoClock.getAsLong();
+        this.replicaReads = reads(meterRegistry, "replica");
+        this.primaryReads = reads(meterRegistry, "primary");
+        Gauge.builder("prices.datasource.replica.available", this, dataSource -> dataSource.replicaDown ? 0 : 1)
+                .description("Whether read-only connections currently come from the replica")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long now = nanoClock.getAsLong();
+        if (now - caughtUpAt >= 0 && (!replicaDown || now - retryAt >= 0)) {
+            try {
+                Connection connection = replica.getConnection();
+                if (replicaDown) {
+                    replicaDown = false;
+                    log.info("Replica is back, read-only connections come from it again");
+                }
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                retryAt = nanoClock.getAsLong() + retryIntervalNanos;
+                if (!replicaDown) {
+                    replicaDown = true;
+                    log.warn("Replica failed to give a connection, reading from the primary for {}",
+                            Duration.ofNanos(retryIntervalNanos), e);
+                }
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLException("Read-only connections use the credentials of their pool");
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPricesChanged(PricesChangedEvent event) {
+        caughtUpAt = nanoClock.getAsLong() + maxLagNanos;
+    }
+
+    boolean isReplicaAvailable() {
+        return !replicaDown;
+    }
+
+    private static Counter reads(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("prices.datasource.reads")
+                .tag("target", target)
+                .description("Read-only connections handed out")
+                .register(meterRegistry);
+    }
+}
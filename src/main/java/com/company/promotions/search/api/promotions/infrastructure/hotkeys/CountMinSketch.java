@@ -0,0 +1,85 @@
+package com.company.promotions.search.api.promotions.infrastructure.hotkeys;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch of lookups per product/brand key in a fixed number of counters, whatever the number of keys.
+ * Each key maps to one counter per row and its estimate is the smallest of them: collisions can only make a key
+ * look hotter than it is, never colder. Counters are updated with atomic adds, so concurrent lookups never wait
+ * for each other.
+ */
+final class CountMinSketch {
+
+    static final int DEPTH = 4;
+
+    private final AtomicLongArray counters;
+    private final int width;
+    private final int mask;
+
+    /**
+     * @param width counters per row, rounded up to a power of two
+     */
+    CountMinSketch(int width) {
+        if (width <= 0 || width > 1 << 26) {
+            throw new IllegalArgumentException("Sketch width must be between 1 and " + (1 << 26));
+        }
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.mask = this.width - 1;
+        this.counters = new AtomicLongArray(DEPTH * this.width);
+    }
+
+    /**
+     * Adds {@code count} to the key and returns its new estimate.
+     */
+    long add(long productId, long brandId, long count) {
+        long hash = hash(productId, brandId);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.addAndGet(index(row, hash), count));
+        }
+        return estimate;
+    }
+
+    long estimate(long productId, long brandId) {
+        long hash = hash(productId, brandId);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, hash)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Halves every counter, so that past popularity fades and keys that have cooled down make room for new ones.
+     */
+    void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, counter -> counter >>> 1);
+        }
+    }
+
+    int width() {
+        return width;
+    }
+
+    long bytes() {
+        return (long) counters.length() * Long.BYTES;
+    }
+
+    /**
+     * Picks the counter of each row from two halves of one 64-bit hash (Kirsch-Mitzenmacher), which spreads keys
+     * as well as independent hash functions would.
+     */
+    private int index(int row, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return row * width + ((h1 + row * h2) & mask);
+    }
+
+    private static long hash(long productId, long brandId) {
+        long hash = productId * 0x9E3779B97F4A7C15L + brandId;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
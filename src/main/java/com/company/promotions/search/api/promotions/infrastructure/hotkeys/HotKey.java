@@ -0,0 +1,8 @@
+package com.company.promotions.search.api.promotions.infrastructure.hotkeys;
+
+/**
+ * A product/brand key among the most looked up ones, with the estimated number of lookups since counts were
+ * last halved.
+ */
+public record HotKey(long productId, long brandId, long estimatedLookups) {
+}
@@ -0,0 +1,24 @@
+package com.company.promotions.search.api.promotions.infrastructure.hotkeys;
+
+import com.company.promotions.search.api.promotions.application.HotKeyTracker;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HotKeysProperties.class)
+public class HotKeysConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "promotions.hot-keys.enabled", havingValue = "true", matchIfMissing = true)
+    public SketchHotKeyTracker hotKeyTracker(HotKeysProperties properties) {
+        return new SketchHotKeyTracker(properties.topKeys(), properties.sketchWidth());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "promotions.hot-keys.enabled", havingValue = "false")
+    public HotKeyTracker disabledHotKeyTracker() {
+        return HotKeyTracker.none();
+    }
+}
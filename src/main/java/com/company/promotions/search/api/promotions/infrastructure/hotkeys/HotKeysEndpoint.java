@@ -0,0 +1,32 @@
+package com.company.promotions.search.api.promotions.infrastructure.hotkeys;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reports the most looked up product/brand keys at {@code /actuator/hotkeys}, hottest first, with how many of
+ * them are currently pinned and the memory the sketch takes.
+ */
+@Component
+@Endpoint(id = "hotkeys")
+@ConditionalOnProperty(name = "promotions.hot-keys.enabled", havingValue = "true", matchIfMissing = true)
+public class HotKeysEndpoint {
+
+    private final SketchHotKeyTracker tracker;
+
+    public HotKeysEndpoint(SketchHotKeyTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @ReadOperation
+    public HotKeysReport hotKeys() {
+        return new HotKeysReport(tracker.pinnedKeyCount(), tracker.sketchBytes(), tracker.hotKeys());
+    }
+
+    public record HotKeysReport(int pinnedKeys, long sketchBytes, List<HotKey> keys) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.company.promotions.search.api.promotions.infrastructure.hotkeys;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text file with the hot keys of a run, one {@code productId,brandId,estimatedLookups} line per key after a
+ * header line, hottest first.
+ */
+final class HotKeysFile {
+
+    static final String HEADER = "product_id,brand_id,estimated_lookups";
+
+    private HotKeysFile() {
+    }
+
+    /**
+     * Writes the keys to a temporary file next to {@code path} and moves it into place, so a crash while writing
+     * leaves the previous file intact.
+     */
+    static void write(List<HotKey> hotKeys, Path path) {
+        List<String> lines = new ArrayList<>(hotKeys.size() + 1);
+        lines.add(HEADER);
+        for (HotKey hotKey : hotKeys) {
+            lines.add(hotKey.productId() + "," + hotKey.brandId() + "," + hotKey.estimatedLookups());
+        }
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            Files.write(temporary, lines, StandardCharsets.US_ASCII);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write hot keys " + path, e);
+        }
+    }
+
+    /**
+     * Reads the keys written by {@link #write}, or none if the file does not exist.
+     *
+     * @throws IllegalArgumentException if the file is not a hot keys file
+     */
+    static List<HotKey> read(Path path) {
+        if (!Files.exists(path)) {
+            return List.of();
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path, StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read hot keys " + path, e);
+        }
+        if (lines.isEmpty() || !lines.getFirst().equals(HEADER)) {
+            throw new IllegalArgumentException("Not a hot keys file: " + path);
+        }
+        List<HotKey> hotKeys = new ArrayList<>(lines.size() - 1);
+        for (int i = 1; i < lines.size(); i++) {
+            String[] fields = lines.get(i).split(",", -1);
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("Malformed hot key at line " + (i + 1) + " of " + path);
+            }
+            long productId = Long.parseLong(fields[0]);
+            long brandId = Long.parseLong(fields[1]);
+            long estimatedLookups = Long.parseLong(fields[2]);
+            if (productId <= 0 || brandId <= 0 || estimatedLookups < 0) {
+                throw new IllegalArgumentException("Invalid hot key at line " + (i + 1) + " of " + path);
+            }
+            hotKeys.add(new HotKey(productId, brandId, estimatedLookups));
+        }
+        return hotKeys;
+    }
+}
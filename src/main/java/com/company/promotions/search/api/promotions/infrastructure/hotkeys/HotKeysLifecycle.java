@@ -0,0 +1,124 @@
+package com.company.promotions.search.api.promotions.infrastructure.hotkeys;
+
+import com.company.promotions.search.api.promotions.application.FindProductsPriceBetweenDatesUseCase;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the {@link SketchHotKeyTracker} current and carries its keys across restarts: on start the keys saved by
+ * the previous run are seeded into the tracker, so they are pinned before the first lookup; once the application
+ * is ready they are looked up in the background to fill the caches in front of the repository; every
+ * {@code promotions.hot-keys.decay-interval} the estimates are halved and the pinned keys refreshed; on stop the
+ * current keys are saved. A missing or unreadable file only means starting cold.
+ */
+@Component
+@ConditionalOnProperty(name = "promotions.hot-keys.enabled", havingValue = "true", matchIfMissing = true)
+public class HotKeysLifecycle implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(HotKeysLifecycle.class);
+
+    private final SketchHotKeyTracker tracker;
+    private final FindProductsPriceBetweenDatesUseCase findProductsPriceUseCase;
+    private final HotKeysProperties properties;
+
+    private volatile List<HotKey> savedKeys = List.of();
+    private volatile ScheduledExecutorService executor;
+
+    public HotKeysLifecycle(SketchHotKeyTracker tracker, FindProductsPriceBetweenDatesUseCase findProductsPriceUseCase,
+                            HotKeysProperties properties) {
+        this.tracker = tracker;
+        this.findProductsPriceUseCase = findProductsPriceUseCase;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        properties.hotKeysPath().ifPresent(path -> {
+            try {
+                savedKeys = HotKeysFile.read(path);
+                tracker.seed(savedKeys);
+                log.info("Seeded {} hot keys from {}", savedKeys.size(), path);
+            } catch (IllegalArgumentException | UncheckedIOException e) {
+                log.warn("Ignoring hot keys file, starting cold: {}", e.getMessage());
+            }
+        });
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("hot-keys-decay").daemon().factory());
+        long interval = properties.decayInterval().toMillis();
+        scheduler.scheduleAtFixedRate(tracker::decay, interval, interval, TimeUnit.MILLISECONDS);
+        this.executor = scheduler;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService scheduler = executor;
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+        properties.hotKeysPath().ifPresent(path -> {
+            try {
+                List<HotKey> hotKeys = tracker.hotKeys();
+                HotKeysFile.write(hotKeys, path);
+                log.info("Saved {} hot keys to {}", hotKeys.size(), path);
+            } catch (UncheckedIOException e) {
+                log.warn("Could not save hot keys to {}", path, e);
+            }
+        });
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpInBackground() {
+        if (!savedKeys.isEmpty()) {
+            Thread.ofVirtual().name("hot-keys-warm-up").start(this::warmUp);
+        }
+    }
+
+    /**
+     * Warms up the current price of every saved key, hottest first, so the effective price cache and the caches
+     * below it already hold them when traffic arrives. These are not lookups: they are neither timed nor counted
+     * in the sketch, which would otherwise keep the saved keys hot across restarts on their own.
+     */
+    void warmUp() {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        int warmed = 0;
+        for (HotKey hotKey : savedKeys) {
+            try {
+                findProductsPriceUseCase.warmUp(
+                        PriceKey.of(ProductId.of(hotKey.productId()), BrandId.of(hotKey.brandId())), now);
+                warmed++;
+            } catch (RuntimeException e) {
+                log.debug("Could not warm up hot key {}/{}", hotKey.productId(), hotKey.brandId(), e);
+            }
+        }
+        savedKeys = List.of();
+        log.info("Warmed up {} hot keys in {} ms", warmed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+}
@@ -0,0 +1,40 @@
+package com.company.promotions.search.api.promotions.infrastructure.hotkeys;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Tracking of the most looked up product/brand keys. The keys are saved to {@code path} on shutdown and warmed up
+ * on the next startup; nothing is saved when the path is blank.
+ */
+@ConfigurationProperties(prefix = "promotions.hot-keys")
+public record HotKeysProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int topKeys,
+        @DefaultValue("16384") int sketchWidth,
+        @DefaultValue("1m") Duration decayInterval,
+        String path
+) {
+
+    static final int MAX_TOP_KEYS = 1000;
+
+    public HotKeysProperties {
+        if (topKeys <= 0 || topKeys > MAX_TOP_KEYS) {
+            throw new IllegalArgumentException("Hot keys top keys must be between 1 and " + MAX_TOP_KEYS);
+        }
+        if (sketchWidth <= 0) {
+            throw new IllegalArgumentException("Hot keys sketch width must be positive");
+        }
+        if (decayInterval == null || decayInterval.isNegative() || decayInterval.isZero()) {
+            throw new IllegalArgumentException("Hot keys decay interval must be positive");
+        }
+    }
+
+    public Optional<Path> hotKeysPath() {
+        return path == null || path.isBlank() ? Optional.empty() : Optional.of(Path.of(path));
+    }
+}
@@ -0,0 +1,238 @@
+package com.company.promotions.search.api.promotions.infrastructure.hotkeys;
+
+import com.company.promotions.search.api.promotions.application.HotKeyTracker;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PricePinningPolicy;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Heavy-hitters tracker: a {@link CountMinSketch} counts every lookup and a min-heap of fixed capacity keeps the
+ * keys with the highest estimates.
+ * <p>
+ * Recording a lookup is one atomic add per sketch row. The heap is only offered a key when its estimate beats the
+ * smallest one in the heap and has just reached a power of two or a multiple of {@value #CHECKPOINT_INTERVAL}, and
+ * only if no other thread is updating it at that moment; a key skipped that way is offered again at its next
+ * checkpoint. Lookups therefore never wait on each other, at the cost of heap estimates trailing the sketch by up
+ * to {@value #CHECKPOINT_INTERVAL} lookups.
+ * <p>
+ * {@link #decay()} halves every estimate, so the ranking follows current traffic, and takes a new snapshot of the
+ * heap as the set of pinned keys. Between two decays the pinned keys do not change, which keeps
+ * {@link #isPinned(PriceKey)} a lookup in an immutable set. Each new snapshot tells the registered listeners which
+ * keys entered and left it.
+ */
+public class SketchHotKeyTracker implements HotKeyTracker, PricePinningPolicy {
+
+    static final int CHECKPOINT_INTERVAL = 64;
+
+    private static final Comparator<HotKey> HOTTEST_FIRST =
+            Comparator.comparingLong(HotKey::estimatedLookups).reversed();
+
+    private final CountMinSketch sketch;
+    private final int capacity;
+    private final long[] productIds;
+    private final long[] brandIds;
+    private final long[] estimates;
+    private final ReentrantLock heapLock = new ReentrantLock();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private int size;
+    private volatile long admissionThreshold;
+    private volatile Set<PriceKey> pinnedKeys = Set.of();
+
+    public SketchHotKeyTracker(int capacity, int sketchWidth) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Hot key capacity must be positive");
+        }
+        this.sketch = new CountMinSketch(sketchWidth);
+        this.capacity = capacity;
+        this.productIds = new long[capacity];
+        this.brandIds = new long[capacity];
+        this.estimates = new long[capacity];
+    }
+
+    @Override
+    public void record(long productId, long brandId) {
+        long estimate = sketch.add(productId, brandId, 1);
+        if (estimate > admissionThreshold && isCheckpoint(estimate) && heapLock.tryLock()) {
+            try {
+                offer(productId, brandId, estimate);
+            } finally {
+                heapLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public boolean isPinned(PriceKey key) {
+        return pinnedKeys.contains(key);
+    }
+
+    @Override
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the tracked keys, hottest first.
+     */
+    public List<HotKey> hotKeys() {
+        List<HotKey> hotKeys = new ArrayList<>(capacity);
+        heapLock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                hotKeys.add(new HotKey(productIds[i], brandIds[i], estimates[i]));
+            }
+        } finally {
+            heapLock.unlock();
+        }
+        hotKeys.sort(HOTTEST_FIRST);
+        return hotKeys;
+    }
+
+    /**
+     * Counts the given keys as if they had been looked up that many times, typically to restore the keys saved by
+     * a previous run, and pins the resulting hottest keys right away.
+     */
+    public void seed(List<HotKey> hotKeys) {
+        heapLock.lock();
+        try {
+            for (HotKey hotKey : hotKeys) {
+                long estimate = sketch.add(hotKey.productId(), hotKey.brandId(), hotKey.estimatedLookups());
+                offer(hotKey.productId(), hotKey.brandId(), estimate);
+            }
+        } finally {
+            heapLock.unlock();
+        }
+        repin();
+    }
+
+    /**
+     * Halves every estimate and pins the keys that are hottest at this point.
+     */
+    public void decay() {
+        sketch.halve();
+        heapLock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                estimates[i] >>>= 1;
+            }
+            updateAdmissionThreshold();
+        } finally {
+            heapLock.unlock();
+        }
+        repin();
+    }
+
+    public int pinnedKeyCount() {
+        return pinnedKeys.size();
+    }
+
+    public long sketchBytes() {
+        return sketch.bytes();
+    }
+
+    private void repin() {
+        Set<PriceKey> previous = pinnedKeys;
+        Set<PriceKey> current = hotKeys().stream()
+                .map(hotKey -> PriceKey.of(ProductId.of(hotKey.productId()), BrandId.of(hotKey.brandId())))
+                .collect(Collectors.toUnmodifiableSet());
+        pinnedKeys = current;
+
+        Set<PriceKey> pinned = new HashSet<>(current);
+        pinned.removeAll(previous);
+        Set<PriceKey> unpinned = new HashSet<>(previous);
+        unpinned.removeAll(current);
+        if (!pinned.isEmpty() || !unpinned.isEmpty()) {
+            listeners.forEach(listener -> listener.pinningChanged(pinned, unpinned));
+        }
+    }
+
+    private static boolean isCheckpoint(long estimate) {
+        return (estimate & (estimate - 1)) == 0 || estimate % CHECKPOINT_INTERVAL == 0;
+    }
+
+    /**
+     * Must be called holding {@link #heapLock}. A linear search finds the key, which for the few hundred keys a
+     * tracker is configured with costs less than maintaining an index alongside the heap.
+     */
+    private void offer(long productId, long brandId, long estimate) {
+        for (int i = 0; i < size; i++) {
+            if (productIds[i] == productId && brandIds[i] == brandId) {
+                if (estimate > estimates[i]) {
+                    estimates[i] = estimate;
+                    siftDown(i);
+                    updateAdmissionThreshold();
+                }
+                return;
+            }
+        }
+        if (size < capacity) {
+            set(size, productId, brandId, estimate);
+            siftUp(size++);
+        } else if (estimate > estimates[0]) {
+            set(0, productId, brandId, estimate);
+            siftDown(0);
+        } else {
+            return;
+        }
+        updateAdmissionThreshold();
+    }
+
+    private void updateAdmissionThreshold() {
+        admissionThreshold = size < capacity ? 0 : estimates[0];
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (estimates[parent] <= estimates[index]) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && estimates[left] < estimates[smallest]) {
+                smallest = left;
+            }
+            if (right < size && estimates[right] < estimates[smallest]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void set(int index, long productId, long brandId, long estimate) {
+        productIds[index] = productId;
+        brandIds[index] = brandId;
+        estimates[index] = estimate;
+    }
+
+    private void swap(int i, int j) {
+        long productId = productIds[i];
+        long brandId = brandIds[i];
+        long estimate = estimates[i];
+        set(i, productIds[j], brandIds[j], estimates[j]);
+        set(j, productId, brandId, estimate);
+    }
+}
@@ -0,0 +1,102 @@
+package com.company.promotions.search.api.promotions.infrastructure.index;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceChange;
+import com.company.promotions.search.api.promotions.domain.PriceChangeListener;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link PriceRepository} that answers lookups from a {@link PriceIntervalIndex} held in memory.
+ * <p>
+ * The whole {@code promotions.prices} table is loaded once at startup; afterwards the change feed patches the
+ * keys whose rows changed, or call {@link #reload()} to rebuild everything. Enabled with
+ * {@code promotions.repository.type=in-memory}.
+ */
+@Repository
+@ConditionalOnProperty(name = "promotions.repository.type", havingValue = "in-memory")
+@DependsOn("currencyTable")
+public class InMemoryPriceRepository implements PriceRepository, PriceChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryPriceRepository.class);
+
+    private static final Comparator<Price> BY_PRIORITY_DESC = Comparator.comparing(Price::getPriority).reversed();
+
+    private final JpaPriceRepository jpaPriceRepository;
+
+    private volatile PriceIntervalIndex index = PriceIntervalIndex.empty();
+
+    public InMemoryPriceRepository(JpaPriceRepository jpaPriceRepository) {
+        this.jpaPriceRepository = jpaPriceRepository;
+        reload();
+    }
+
+    /**
+     * Returns the candidates by priority descending, as the JPA query does, so that
+     * {@link Price#selectMostSpecific} breaks ties on duration the same way whichever repository is configured.
+     */
+    @Override
+    public List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return index.findApplicable(PriceKey.of(productId, brandId), applicationDate)
+                .stream()
+                .sorted(BY_PRIORITY_DESC)
+                .toList();
+    }
+
+    @Override
+    public List<Price> findPricesOverlapping(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        PriceIntervalIndex current = index;
+        List<Price> prices = new ArrayList<>();
+        for (PriceKey key : keys) {
+            prices.addAll(current.findOverlapping(key, from, to));
+        }
+        return prices;
+    }
+
+    /**
+     * Re-reads the prices of the changed keys and replaces only their trees in the current index.
+     */
+    @Override
+    public synchronized void onPriceChanges(List<PriceChange> changes) {
+        Map<PriceKey, List<Price>> replacements = new LinkedHashMap<>();
+        for (PriceChange change : changes) {
+            replacements.computeIfAbsent(change.key(), key -> jpaPriceRepository
+                    .findByProductIdAndBrandId(key.productId().value(), key.brandId().value())
+                    .stream()
+                    .map(PriceEntity::toDomain)
+                    .toList());
+        }
+        index.replaceKeys(replacements);
+    }
+
+    /**
+     * Rebuilds the index from the database and swaps it in atomically.
+     */
+    public synchronized void reload() {
+        List<Price> prices = jpaPriceRepository.findAll()
+                .stream()
+                .map(PriceEntity::toDomain)
+                .toList();
+        PriceIntervalIndex reloaded = PriceIntervalIndex.of(prices);
+        this.index = reloaded;
+        log.info("Loaded {} prices for {} product/brand keys into the in-memory index",
+                reloaded.size(), reloaded.keyCount());
+    }
+}
@@ -0,0 +1,148 @@
+package com.company.promotions.search.api.promotions.infrastructure.index;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Open-addressing hash map keyed by a pair of primitive longs (product id, brand id), so that a lookup needs
+ * neither a key object nor boxing.
+ * <p>
+ * Reads are lock-free and writes are serialised. A slot, once claimed, keeps its key forever: the writer stores
+ * the key before publishing the value with a volatile write, and readers read the value before the key, so a
+ * reader that sees a value also sees the key it belongs to. Removed entries become tombstones, and a full table
+ * is rehashed into a new one that replaces the old with a volatile write.
+ */
+final class LongPairMap<V> {
+
+    private static final Object TOMBSTONE = new Object();
+    private static final int MIN_CAPACITY = 16;
+
+    private volatile Table table;
+    private int size;
+
+    LongPairMap() {
+        this(0);
+    }
+
+    LongPairMap(int expectedSize) {
+        this.table = new Table(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the value mapped to the pair, or {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    V get(long productId, long brandId) {
+        Table current = table;
+        int mask = current.values.length() - 1;
+        int index = indexOf(productId, brandId, mask);
+        while (true) {
+            Object value = current.values.get(index);
+            if (value == null) {
+                return null;
+            }
+            if (current.productIds[index] == productId && current.brandIds[index] == brandId) {
+                return value == TOMBSTONE ? null : (V) value;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    synchronized void put(long productId, long brandId, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        Table current = table;
+        int index = slotOf(current, productId, brandId);
+        Object previous = current.values.get(index);
+        if (previous == null) {
+            if ((current.claimed + 1) * 2 > current.values.length()) {
+                current = resize(current);
+                index = slotOf(current, productId, brandId);
+            }
+            current.productIds[index] = productId;
+            current.brandIds[index] = brandId;
+            current.claimed++;
+        }
+        current.values.set(index, value);
+        if (previous == null || previous == TOMBSTONE) {
+            size++;
+        }
+    }
+
+    synchronized void remove(long productId, long brandId) {
+        Table current = table;
+        int index = slotOf(current, productId, brandId);
+        Object previous = current.values.get(index);
+        if (previous != null && previous != TOMBSTONE) {
+            current.values.set(index, TOMBSTONE);
+            size--;
+        }
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Index of the slot holding the pair, or of the free slot where it would go.
+     */
+    private static int slotOf(Table table, long productId, long brandId) {
+        int mask = table.values.length() - 1;
+        int index = indexOf(productId, brandId, mask);
+        while (table.values.get(index) != null
+                && (table.productIds[index] != productId || table.brandIds[index] != brandId)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private Table resize(Table current) {
+        Table resized = new Table(capacityFor(size + 1));
+        int mask = resized.values.length() - 1;
+        for (int i = 0; i < current.values.length(); i++) {
+            Object value = current.values.get(i);
+            if (value != null && value != TOMBSTONE) {
+                int index = indexOf(current.productIds[i], current.brandIds[i], mask);
+                while (resized.values.get(index) != null) {
+                    index = (index + 1) & mask;
+                }
+                resized.productIds[index] = current.productIds[i];
+                resized.brandIds[index] = current.brandIds[i];
+                resized.values.set(index, value);
+                resized.claimed++;
+            }
+        }
+        table = resized;
+        return resized;
+    }
+
+    private static int indexOf(long productId, long brandId, int mask) {
+        long hash = productId * 0x9E3779B97F4A7C15L + brandId;
+        hash ^= hash >>> 32;
+        hash *= 0xC2B2AE3D27D4EB4FL;
+        return (int) (hash ^ (hash >>> 29)) & mask;
+    }
+
+    // Power of two keeping the table at most half full, leaving room to grow before the next resize
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 4L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static final class Table {
+
+        private final long[] productIds;
+        private final long[] brandIds;
+        private final AtomicReferenceArray<Object> values;
+        private int claimed;
+
+        private Table(int capacity) {
+            this.productIds = new long[capacity];
+            this.brandIds = new long[capacity];
+            this.values = new AtomicReferenceArray<>(capacity);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.promotions.search.api.promotions.infrastructure.index;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-process index of prices, with one immutable {@link PriceIntervalTree} per product and brand.
+ * <p>
+ * The trees of single keys can be replaced in place with {@link #replaceKeys}, so a change touching a few keys
+ * costs as much as those keys, not the catalog. Reads are lock-free and see either the old or the new tree of a
+ * key; writes must be serialised by the caller.
+ */
+public final class PriceIntervalIndex {
+
+    private final ConcurrentHashMap<PriceKey, PriceIntervalTree> trees;
+    private volatile int size;
+
+    private PriceIntervalIndex(ConcurrentHashMap<PriceKey, PriceIntervalTree> trees, int size) {
+        this.trees = trees;
+        this.size = size;
+    }
+
+    public static PriceIntervalIndex empty() {
+        return new PriceIntervalIndex(new ConcurrentHashMap<>(), 0);
+    }
+
+    public static PriceIntervalIndex of(Collection<Price> prices) {
+        Map<PriceKey, List<Price>> pricesByKey = prices.stream()
+                .collect(Collectors.groupingBy(PriceKey::of));
+
+        ConcurrentHashMap<PriceKey, PriceIntervalTree> trees = new ConcurrentHashMap<>(pricesByKey.size() * 2);
+        pricesByKey.forEach((key, keyPrices) -> trees.put(key, PriceIntervalTree.of(keyPrices)));
+        return new PriceIntervalIndex(trees, prices.size());
+    }
+
+    /**
+     * Replaces the prices of each given key; keys mapped to an empty list are removed. Only the trees of those keys
+     * are rebuilt, every other key keeps its tree.
+     */
+    public void replaceKeys(Map<PriceKey, List<Price>> replacements) {
+        int patchedSize = size;
+        for (Map.Entry<PriceKey, List<Price>> replacement : replacements.entrySet()) {
+            PriceIntervalTree previous = replacement.getValue().isEmpty()
+                    ? trees.remove(replacement.getKey())
+                    : trees.put(replacement.getKey(), PriceIntervalTree.of(replacement.getValue()));
+            patchedSize += replacement.getValue().size() - (previous == null ? 0 : previous.size());
+        }
+        size = patchedSize;
+    }
+
+    PriceIntervalTree treeOf(PriceKey key) {
+        return trees.get(key);
+    }
+
+    /**
+     * Returns the prices of the given key whose date range contains the instant, ordered by start date.
+     */
+    public List<Price> findApplicable(PriceKey key, LocalDateTime applicationDate) {
+        PriceIntervalTree tree = trees.get(key);
+        return tree == null ? List.of() : tree.findApplicable(applicationDate);
+    }
+
+    /**
+     * Returns the prices of the given key whose date range overlaps {@code [from, to]}, ordered by start date.
+     */
+    public List<Price> findOverlapping(PriceKey key, LocalDateTime from, LocalDateTime to) {
+        PriceIntervalTree tree = trees.get(key);
+        return tree == null ? List.of() : tree.findOverlapping(from, to);
+    }
+
+    public int keyCount() {
+        return trees.size();
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,101 @@
+package com.company.promotions.search.api.promotions.infrastructure.index;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable augmented interval tree over the prices of a single product and brand.
+ * <p>
+ * Prices are kept in an array sorted by start date; the tree is implicit (the node of the slice
+ * {@code [lo, hi)} is its middle element) and every node stores the latest end date of its subtree,
+ * so whole subtrees that end before the searched instant are skipped.
+ */
+final class PriceIntervalTree {
+
+    private static final Comparator<Price> BY_START_DATE =
+            Comparator.comparing(price -> price.getDateRange().startDate());
+
+    private final Price[] prices;
+    private final LocalDateTime[] startDates;
+    private final LocalDateTime[] endDates;
+    private final LocalDateTime[] maxEndDates;
+
+    private PriceIntervalTree(Price[] prices) {
+        this.prices = prices;
+        this.startDates = new LocalDateTime[prices.length];
+        this.endDates = new LocalDateTime[prices.length];
+        this.maxEndDates = new LocalDateTime[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            startDates[i] = prices[i].getDateRange().startDate();
+            endDates[i] = prices[i].getDateRange().endDate();
+        }
+        augment(0, prices.length);
+    }
+
+    static PriceIntervalTree of(List<Price> prices) {
+        Price[] sorted = prices.toArray(Price[]::new);
+        Arrays.sort(sorted, BY_START_DATE);
+        return new PriceIntervalTree(sorted);
+    }
+
+    /**
+     * Returns the prices whose date range contains the given instant, ordered by start date.
+     */
+    List<Price> findApplicable(LocalDateTime applicationDate) {
+        return findOverlapping(applicationDate, applicationDate);
+    }
+
+    /**
+     * Returns the prices whose date range overlaps {@code [from, to]}, ordered by start date.
+     */
+    List<Price> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        List<Price> result = new ArrayList<>();
+        collectOverlapping(0, prices.length, from, to, result);
+        return result;
+    }
+
+    int size() {
+        return prices.length;
+    }
+
+    private LocalDateTime augment(int lo, int hi) {
+        if (lo >= hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        LocalDateTime max = endDates[mid];
+        LocalDateTime left = augment(lo, mid);
+        LocalDateTime right = augment(mid + 1, hi);
+        if (left != null && left.isAfter(max)) {
+            max = left;
+        }
+        if (right != null && right.isAfter(max)) {
+            max = right;
+        }
+        maxEndDates[mid] = max;
+        return max;
+    }
+
+    private void collectOverlapping(int lo, int hi, LocalDateTime from, LocalDateTime to, List<Price> result) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEndDates[mid].isBefore(from)) {
+            return;
+        }
+        collectOverlapping(lo, mid, from, to, result);
+        if (startDates[mid].isAfter(to)) {
+            return;
+        }
+        if (!endDates[mid].isBefore(from)) {
+            result.add(prices[mid]);
+        }
+        collectOverlapping(mid + 1, hi, from, to, result);
+    }
+}
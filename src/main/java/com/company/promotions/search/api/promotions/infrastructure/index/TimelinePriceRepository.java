@@ -0,0 +1,147 @@
+package com.company.promotions.search.api.promotions.infrastructure.index;
+
+import com.company.promotions.search.api.promotions.domain.EffectivePriceTimeline;
+import com.company.promotions.search.api.promotions.domain.MostSpecificPriceFinder;
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceChange;
+import com.company.promotions.search.api.promotions.domain.PriceChangeListener;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.PriceSegment;
+import com.company.promotions.search.api.promotions.domain.PriceSegmentFinder;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link PriceRepository} backed by a precomputed {@link EffectivePriceTimeline} per product and brand.
+ * <p>
+ * {@link #findApplicablePrices} returns only the winning price of the instant, found with a binary search over
+ * the timeline segments, which is the price {@link Price#selectMostSpecific} would pick from the full list.
+ * Timelines are built at startup; {@link #refresh(PriceKey)} rebuilds the one of a single key when its rows
+ * change, which the change feed does for every key it reports. Enabled with
+ * {@code promotions.repository.type=timeline}.
+ * <p>
+ * Rows are fed to the timeline in the order the JPA query returns them (priority descending), so ties on
+ * duration resolve to the same price as with {@code promotions.repository.type=jpa}.
+ * <p>
+ * Timelines are kept in a {@link LongPairMap} keyed by the raw ids, which lets
+ * {@link #findMostSpecific(long, long, LocalDateTime)} answer a lookup without allocating, and
+ * {@link #findSegment(long, long, LocalDateTime)} hand out the precomputed segment for lookups that also need how
+ * long the winner stays the winner.
+ */
+@Repository
+@ConditionalOnProperty(name = "promotions.repository.type", havingValue = "timeline")
+@DependsOn("currencyTable")
+public class TimelinePriceRepository
+        implements PriceRepository, MostSpecificPriceFinder, PriceSegmentFinder, PriceChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TimelinePriceRepository.class);
+
+    private static final Comparator<Price> BY_PRIORITY_DESC = Comparator.comparing(Price::getPriority).reversed();
+
+    private final JpaPriceRepository jpaPriceRepository;
+    private volatile LongPairMap<EffectivePriceTimeline> timelines = new LongPairMap<>();
+
+    public TimelinePriceRepository(JpaPriceRepository jpaPriceRepository) {
+        this.jpaPriceRepository = jpaPriceRepository;
+        reload();
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return timelineOf(PriceKey.of(productId, brandId))
+                .priceAt(applicationDate)
+                .map(List::of)
+                .orElse(List.of());
+    }
+
+    @Override
+    public Price findMostSpecific(long productId, long brandId, LocalDateTime applicationDate) {
+        EffectivePriceTimeline timeline = timelines.get(productId, brandId);
+        return timeline == null ? null : timeline.mostSpecificAt(applicationDate);
+    }
+
+    @Override
+    public PriceSegment findSegment(long productId, long brandId, LocalDateTime applicationDate) {
+        EffectivePriceTimeline timeline = timelines.get(productId, brandId);
+        return timeline == null ? null : timeline.segmentAt(applicationDate).orElse(null);
+    }
+
+    @Override
+    public List<Price> findPricesOverlapping(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        List<Price> prices = new ArrayList<>();
+        for (PriceKey key : keys) {
+            for (Price price : timelineOf(key).prices()) {
+                if (!price.getDateRange().startDate().isAfter(to) && !price.getDateRange().endDate().isBefore(from)) {
+                    prices.add(price);
+                }
+            }
+        }
+        return prices;
+    }
+
+    @Override
+    public void onPriceChanges(List<PriceChange> changes) {
+        changes.stream()
+                .map(PriceChange::key)
+                .distinct()
+                .forEach(this::refresh);
+    }
+
+    /**
+     * Returns the timeline of the given key, empty when the key has no prices.
+     */
+    public EffectivePriceTimeline timelineOf(PriceKey key) {
+        EffectivePriceTimeline timeline = timelines.get(key.productId().value(), key.brandId().value());
+        return timeline == null ? EffectivePriceTimeline.empty() : timeline;
+    }
+
+    /**
+     * Rebuilds the timeline of a single key from its current rows, leaving every other key untouched.
+     */
+    public synchronized void refresh(PriceKey key) {
+        List<Price> prices = jpaPriceRepository
+                .findByProductIdAndBrandId(key.productId().value(), key.brandId().value())
+                .stream()
+                .map(PriceEntity::toDomain)
+                .sorted(BY_PRIORITY_DESC)
+                .toList();
+        if (prices.isEmpty()) {
+            timelines.remove(key.productId().value(), key.brandId().value());
+        } else {
+            timelines.put(key.productId().value(), key.brandId().value(), EffectivePriceTimeline.of(prices));
+        }
+    }
+
+    /**
+     * Rebuilds every timeline from the database into a new map, which then replaces the current one.
+     */
+    public synchronized void reload() {
+        Map<PriceKey, List<Price>> pricesByKey = jpaPriceRepository.findAll()
+                .stream()
+                .map(PriceEntity::toDomain)
+                .sorted(BY_PRIORITY_DESC)
+                .collect(Collectors.groupingBy(PriceKey::of));
+
+        LongPairMap<EffectivePriceTimeline> rebuilt = new LongPairMap<>(pricesByKey.size());
+        pricesByKey.forEach((key, prices) -> rebuilt.put(
+                key.productId().value(), key.brandId().value(), EffectivePriceTimeline.of(prices)));
+        timelines = rebuilt;
+        log.info("Built effective price timelines for {} product/brand keys", rebuilt.size());
+    }
+}
@@ -0,0 +1,139 @@
+package com.company.promotions.search.api.promotions.infrastructure.ingestion;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads prices from CSV with a header naming the {@code promotions.prices} columns, in any order:
+ * {@code brand_id, start_date, end_date, price_list, product_id, priority, price, currency}. Fields may be
+ * wrapped in double quotes but cannot contain commas. Only the current line is held in memory.
+ */
+public final class CsvPriceSource implements PriceSource {
+
+    static final List<String> COLUMNS = List.of(
+            "brand_id", "start_date", "end_date", "price_list", "product_id", "priority", "price", "currency");
+
+    private static final int BRAND_ID = 0;
+    private static final int START_DATE = 1;
+    private static final int END_DATE = 2;
+    private static final int PRICE_LIST = 3;
+    private static final int PRODUCT_ID = 4;
+    private static final int PRIORITY = 5;
+    private static final int PRICE = 6;
+    private static final int CURRENCY = 7;
+
+    private final BufferedReader reader;
+    private final int[] fieldOfColumn;
+    private final int fieldCount;
+    private final int[] starts;
+    private final int[] ends;
+    private long line;
+
+    public CsvPriceSource(Reader input) throws IOException {
+        this.reader = input instanceof BufferedReader buffered ? buffered : new BufferedReader(input, 1 << 16);
+        String header = reader.readLine();
+        line = 1;
+        if (header == null) {
+            throw new InvalidPriceFileException("CSV input is empty");
+        }
+        String[] names = header.strip().split(",");
+        this.fieldCount = names.length;
+        this.fieldOfColumn = new int[COLUMNS.size()];
+        Arrays.fill(fieldOfColumn, -1);
+        for (int field = 0; field < names.length; field++) {
+            int column = COLUMNS.indexOf(unquote(names[field].strip()).toLowerCase());
+            if (column >= 0) {
+                fieldOfColumn[column] = field;
+            }
+        }
+        for (int column = 0; column < COLUMNS.size(); column++) {
+            if (fieldOfColumn[column] < 0) {
+                throw new InvalidPriceFileException("CSV header is missing column '" + COLUMNS.get(column) + "'");
+            }
+        }
+        this.starts = new int[fieldCount];
+        this.ends = new int[fieldCount];
+    }
+
+    @Override
+    public Price next() throws IOException {
+        String record;
+        do {
+            record = reader.readLine();
+            line++;
+            if (record == null) {
+                return null;
+            }
+        } while (record.isBlank());
+
+        split(record);
+        return PriceRecords.toPrice(line,
+                PriceRecords.longValue(line, "product_id", record, start(PRODUCT_ID), end(PRODUCT_ID)),
+                PriceRecords.longValue(line, "brand_id", record, start(BRAND_ID), end(BRAND_ID)),
+                PriceRecords.dateTime(line, "start_date", record, start(START_DATE), end(START_DATE)),
+                PriceRecords.dateTime(line, "end_date", record, start(END_DATE), end(END_DATE)),
+                PriceRecords.longValue(line, "price_list", record, start(PRICE_LIST), end(PRICE_LIST)),
+                PriceRecords.intValue(line, "priority", record, start(PRIORITY), end(PRIORITY)),
+                PriceRecords.decimal(line, "price", record.substring(start(PRICE), end(PRICE))),
+                record.substring(start(CURRENCY), end(CURRENCY)));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Records the bounds of every field of the line, trimmed and without surrounding quotes.
+     */
+    private void split(String record) {
+        int field = 0;
+        int from = 0;
+        int length = record.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || record.charAt(i) == ',') {
+                if (field == fieldCount) {
+                    throw new InvalidPriceRecordException(line, "Expected " + fieldCount + " fields but found more");
+                }
+                int start = from;
+                int end = i;
+                while (start < end && record.charAt(start) == ' ') {
+                    start++;
+                }
+                while (end > start && Character.isWhitespace(record.charAt(end - 1))) {
+                    end--;
+                }
+                if (end - start >= 2 && record.charAt(start) == '"' && record.charAt(end - 1) == '"') {
+                    start++;
+                    end--;
+                }
+                starts[field] = start;
+                ends[field] = end;
+                field++;
+                from = i + 1;
+            }
+        }
+        if (field != fieldCount) {
+            throw new InvalidPriceRecordException(line, "Expected " + fieldCount + " fields but found " + field);
+        }
+    }
+
+    private int start(int column) {
+        return starts[fieldOfColumn[column]];
+    }
+
+    private int end(int column) {
+        return ends[fieldOfColumn[column]];
+    }
+
+    private static String unquote(String name) {
+        return name.length() >= 2 && name.startsWith("\"") && name.endsWith("\"")
+                ? name.substring(1, name.length() - 1)
+                : name;
+    }
+}
@@ -0,0 +1,24 @@
+package com.company.promotions.search.api.promotions.infrastructure.ingestion;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "promotions.ingestion")
+public record IngestionProperties(
+        @DefaultValue("5000") int chunkSize,
+        @DefaultValue("4") int chunksInFlight,
+        @DefaultValue("100") int maxReportedErrors
+) {
+
+    public IngestionProperties {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Ingestion chunk size must be positive");
+        }
+        if (chunksInFlight <= 0) {
+            throw new IllegalArgumentException("Ingestion chunks in flight must be positive");
+        }
+        if (maxReportedErrors < 0) {
+            throw new IllegalArgumentException("Ingestion max reported errors cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.company.promotions.search.api.promotions.infrastructure.ingestion;
+
+import java.util.List;
+
+/**
+ * Outcome of an ingestion run. Rejected rows are skipped; only the first errors are listed.
+ */
+public record IngestionReport(
+        long rowsRead,
+        long rowsWritten,
+        long rowsRejected,
+        long chunksCommitted,
+        long elapsedMillis,
+        long rowsPerSecond,
+        List<String> errors
+) {
+}
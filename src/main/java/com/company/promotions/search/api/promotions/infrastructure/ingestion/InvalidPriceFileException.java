@@ -0,0 +1,8 @@
+package com.company.promotions.search.api.promotions.infrastructure.ingestion;
+
+public class InvalidPriceFileException extends RuntimeException {
+
+    public InvalidPriceFileException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.company.promotions.search.api.promotions.infrastructure.ingestion;
+
+public class InvalidPriceRecordException extends RuntimeException {
+
+    private final long line;
+
+    public InvalidPriceRecordException(long line, String message) {
+        super("Line " + line + ": " + message);
+        this.line = line;
+    }
+
+    public long getLine() {
+        return line;
+    }
+}
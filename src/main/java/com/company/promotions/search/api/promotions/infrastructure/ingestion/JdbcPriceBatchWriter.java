@@ -0,0 +1,59 @@
+package com.company.promotions.search.api.promotions.infrastructure.ingestion;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.CurrencyNumericCodeConverter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Inserts a chunk of prices as a single JDBC batch in its own transaction, bypassing JPA entirely.
+ */
+@Component
+public class JdbcPriceBatchWriter {
+
+    private static final String INSERT_PRICE = """
+            INSERT INTO promotions.prices
+                (brand_id, start_date, end_date, price_list, product_id, priority, price, currency_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcPriceBatchWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Inserts {@code prices[0..size)} and commits.
+     */
+    public void write(Price[] prices, int size) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_PRICE,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        Price price = prices[i];
+                        statement.setLong(1, price.getBrandId().value());
+                        statement.setTimestamp(2, Timestamp.valueOf(price.getDateRange().startDate()));
+                        statement.setTimestamp(3, Timestamp.valueOf(price.getDateRange().endDate()));
+                        statement.setInt(4, price.getPriceListId().value().intValue());
+                        statement.setLong(5, price.getProductId().value());
+                        statement.setInt(6, price.getPriority().value());
+                        statement.setBigDecimal(7, price.getMoney().amount());
+                        statement.setShort(8, CurrencyNumericCodeConverter.numericCodeOf(price.getMoney().currency()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return size;
+                    }
+                }));
+    }
+}
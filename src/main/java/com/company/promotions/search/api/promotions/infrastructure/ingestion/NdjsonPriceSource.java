@@ -0,0 +1,70 @@
+package com.company.promotions.search.api.promotions.infrastructure.ingestion;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+
+/**
+ * Reads prices from newline-delimited JSON, one object per line with the same fields as the REST responses:
+ * {@code productId, brandId, priceList, priority, startDate, endDate, price, currency}. Each line is bound on
+ * its own, so a malformed line is rejected without losing the rest of the input.
+ */
+public final class NdjsonPriceSource implements PriceSource {
+
+    private static final ObjectReader RECORD_READER = JsonMapper.builder().build().readerFor(PriceRecord.class);
+
+    record PriceRecord(Long productId, Long brandId, Long priceList, Integer priority, String startDate,
+                       String endDate, BigDecimal price, String currency) {
+    }
+
+    private final BufferedReader reader;
+    private long line;
+
+    public NdjsonPriceSource(Reader input) {
+        this.reader = input instanceof BufferedReader buffered ? buffered : new BufferedReader(input, 1 << 16);
+    }
+
+    @Override
+    public Price next() throws IOException {
+        String json;
+        do {
+            json = reader.readLine();
+            line++;
+            if (json == null) {
+                return null;
+            }
+        } while (json.isBlank());
+
+        PriceRecord record;
+        try {
+            record = RECORD_READER.readValue(json);
+        } catch (JacksonException e) {
+            throw new InvalidPriceRecordException(line, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (record.productId() == null || record.brandId() == null || record.priceList() == null
+                || record.startDate() == null || record.endDate() == null || record.price() == null) {
+            throw new InvalidPriceRecordException(line,
+                    "productId, brandId, priceList, startDate, endDate and price are required");
+        }
+        return PriceRecords.toPrice(line,
+                record.productId(),
+                record.brandId(),
+                PriceRecords.dateTime(line, "startDate", record.startDate(), 0, record.startDate().length()),
+                PriceRecords.dateTime(line, "endDate", record.endDate(), 0, record.endDate().length()),
+                record.priceList(),
+                record.priority() == null ? 0 : record.priority(),
+                record.price(),
+                record.currency());
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
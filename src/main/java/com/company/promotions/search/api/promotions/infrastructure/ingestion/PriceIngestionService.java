@@ -0,0 +1,215 @@
+package com.company.promotions.search.api.promotions.infrastructure.ingestion;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PricesChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams a {@link PriceSource} into {@code promotions.prices} in fixed-size chunks.
+ * <p>
+ * Parsing runs on the calling thread and writing on a dedicated one. They exchange a fixed pool of
+ * {@code chunksInFlight} reusable chunks: when the database falls behind, the parser blocks waiting for a free
+ * chunk, so memory stays constant whatever the input size. Each chunk is one JDBC batch committed on its own;
+ * if a write fails, the chunks committed before it stay in the table and the run stops. If reading the source
+ * fails, the chunks already handed to the writer are still written before the failure is rethrown.
+ * <p>
+ * The writer is always joined before the run returns or fails, and {@link PricesChangedEvent#all()} is only
+ * published after that, so caches are never refilled from a batch that is still being written.
+ */
+@Service
+@EnableConfigurationProperties(IngestionProperties.class)
+public class PriceIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceIngestionService.class);
+
+    private static final long POLL_MILLIS = 100;
+
+    private final JdbcPriceBatchWriter writer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IngestionProperties properties;
+
+    public PriceIngestionService(JdbcPriceBatchWriter writer, ApplicationEventPublisher eventPublisher,
+                                 IngestionProperties properties) {
+        this.writer = writer;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    public IngestionReport ingest(PriceSource source) throws IOException {
+        long started = System.nanoTime();
+        BlockingQueue<Chunk> free = new ArrayBlockingQueue<>(properties.chunksInFlight());
+        BlockingQueue<Chunk> filled = new ArrayBlockingQueue<>(properties.chunksInFlight() + 1);
+        for (int i = 0; i < properties.chunksInFlight(); i++) {
+            free.add(new Chunk(properties.chunkSize()));
+        }
+        ChunkWriter chunkWriter = new ChunkWriter(free, filled);
+        Thread writerThread = Thread.ofVirtual().name("price-ingestion-writer").start(chunkWriter);
+
+        long read = 0;
+        long rejected = 0;
+        List<String> errors = new ArrayList<>();
+        boolean handedOver = false;
+        try {
+            boolean exhausted = false;
+            while (!exhausted) {
+                Chunk chunk = take(free, chunkWriter, writerThread);
+                chunk.size = 0;
+                while (chunk.size < chunk.prices.length) {
+                    Price price;
+                    try {
+                        price = source.next();
+                    } catch (InvalidPriceRecordException e) {
+                        read++;
+                        rejected++;
+                        if (errors.size() < properties.maxReportedErrors()) {
+                            errors.add(e.getMessage());
+                        }
+                        continue;
+                    }
+                    if (price == null) {
+                        exhausted = true;
+                        break;
+                    }
+                    read++;
+                    chunk.prices[chunk.size++] = price;
+                }
+                filled.put(chunk);
+            }
+            filled.put(Chunk.END);
+            handedOver = true;
+        } catch (InterruptedException e) {
+            writerThread.interrupt();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Price ingestion interrupted", e);
+        } finally {
+            if (!handedOver) {
+                // Never blocks: the queue has room for every chunk in flight plus the end marker
+                filled.offer(Chunk.END);
+            }
+            awaitWriter(writerThread);
+            if (chunkWriter.written > 0) {
+                eventPublisher.publishEvent(PricesChangedEvent.all());
+            }
+        }
+        chunkWriter.rethrowFailure();
+
+        long elapsedNanos = System.nanoTime() - started;
+        IngestionReport report = new IngestionReport(read, chunkWriter.written, rejected, chunkWriter.committed,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                elapsedNanos == 0 ? 0 : chunkWriter.written * 1_000_000_000L / elapsedNanos,
+                List.copyOf(errors));
+        log.info("Ingested {} prices in {} chunks ({} rejected) in {} ms, {} rows/s", report.rowsWritten(),
+                report.chunksCommitted(), report.rowsRejected(), report.elapsedMillis(), report.rowsPerSecond());
+        return report;
+    }
+
+    /**
+     * Joins the writer even if the calling thread is interrupted meanwhile, passing the interrupt on to the writer
+     * and restoring it once the writer is done.
+     */
+    private static void awaitWriter(Thread writerThread) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                writerThread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+                writerThread.interrupt();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for a free chunk, giving up if the writer has died and will never hand one back. The writer only stops
+     * on its own at the end marker, which has not been sent yet, so a writer that is no longer alive has failed.
+     */
+    private static Chunk take(BlockingQueue<Chunk> free, ChunkWriter chunkWriter, Thread writerThread)
+            throws InterruptedException {
+        while (true) {
+            Chunk chunk = free.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (chunk != null) {
+                return chunk;
+            }
+            if (!writerThread.isAlive()) {
+                chunkWriter.rethrowFailure();
+                throw new IllegalStateException("Price ingestion writer stopped");
+            }
+        }
+    }
+
+    private static final class Chunk {
+
+        static final Chunk END = new Chunk(0);
+
+        final Price[] prices;
+        int size;
+
+        Chunk(int capacity) {
+            this.prices = new Price[capacity];
+        }
+    }
+
+    private final class ChunkWriter implements Runnable {
+
+        private final BlockingQueue<Chunk> free;
+        private final BlockingQueue<Chunk> filled;
+
+        volatile Throwable failure;
+        volatile long written;
+        volatile long committed;
+
+        ChunkWriter(BlockingQueue<Chunk> free, BlockingQueue<Chunk> filled) {
+            this.free = free;
+            this.filled = filled;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Chunk chunk;
+                while ((chunk = filled.take()) != Chunk.END) {
+                    if (chunk.size > 0) {
+                        writer.write(chunk.prices, chunk.size);
+                        written += chunk.size;
+                        committed++;
+                    }
+                    free.put(chunk);
+                }
+            } catch (InterruptedException e) {
+                failure = new IllegalStateException("Price ingestion writer interrupted", e);
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                failure = e;
+            }
+        }
+
+        void rethrowFailure() {
+            Throwable cause = failure;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            if (cause != null) {
+                throw new IllegalStateException("Price ingestion writer failed", cause);
+            }
+        }
+    }
+}
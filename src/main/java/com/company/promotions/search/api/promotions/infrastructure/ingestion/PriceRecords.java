@@ -0,0 +1,113 @@
+package com.company.promotions.search.api.promotions.infrastructure.ingestion;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.exceptions.DomainException;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.DateRange;
+import com.company.promotions.search.api.promotions.domain.vo.Money;
+import com.company.promotions.search.api.promotions.domain.vo.PriceListId;
+import com.company.promotions.search.api.promotions.domain.vo.Priority;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.CurrencyNumericCodeConverter;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Currency;
+
+/**
+ * Field parsing shared by the CSV and NDJSON sources. Every price goes through the domain value objects, so a
+ * record is accepted only if the same price could have been built anywhere else in the application.
+ */
+final class PriceRecords {
+
+    private static final int DATE_TIME_LENGTH = 19;
+
+    private PriceRecords() {
+    }
+
+    static Price toPrice(long line, long productId, long brandId, LocalDateTime startDate, LocalDateTime endDate,
+                         long priceList, int priority, BigDecimal amount, String currencyCode) {
+        Currency currency;
+        try {
+            currency = Currency.getInstance(currencyCode);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidPriceRecordException(line, "Unknown currency '" + currencyCode + "'");
+        }
+        if (!CurrencyNumericCodeConverter.isStorable(currency)) {
+            throw new InvalidPriceRecordException(line,
+                    "Currency '" + currencyCode + "' is not in promotions.currencies");
+        }
+        try {
+            return new Price(
+                    BrandId.of(brandId),
+                    DateRange.of(startDate, endDate),
+                    PriceListId.of(priceList),
+                    ProductId.of(productId),
+                    Priority.of(priority),
+                    Money.of(amount, currency));
+        } catch (DomainException e) {
+            throw new InvalidPriceRecordException(line, e.getMessage());
+        }
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd HH:mm:ss} (the SQL literal format) or {@code yyyy-MM-ddTHH:mm:ss} without going
+     * through a formatter; anything else falls back to ISO-8601 parsing. Fractions of a second are rejected: the
+     * off-heap store keeps whole seconds and could not load the row back.
+     */
+    static LocalDateTime dateTime(long line, String field, CharSequence text, int from, int to) {
+        try {
+            if (to - from == DATE_TIME_LENGTH && text.charAt(from + 4) == '-' && text.charAt(from + 7) == '-'
+                    && (text.charAt(from + 10) == ' ' || text.charAt(from + 10) == 'T')
+                    && text.charAt(from + 13) == ':' && text.charAt(from + 16) == ':') {
+                return LocalDateTime.of(
+                        digits(text, from, from + 4),
+                        digits(text, from + 5, from + 7),
+                        digits(text, from + 8, from + 10),
+                        digits(text, from + 11, from + 13),
+                        digits(text, from + 14, from + 16),
+                        digits(text, from + 17, from + 19));
+            }
+            LocalDateTime dateTime = LocalDateTime.parse(text.subSequence(from, to));
+            if (dateTime.getNano() != 0) {
+                throw new InvalidPriceRecordException(line, "Invalid " + field + " '" + text.subSequence(from, to)
+                        + "': fractions of a second are not supported");
+            }
+            return dateTime;
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new InvalidPriceRecordException(line,
+                    "Invalid " + field + " '" + text.subSequence(from, to) + "'");
+        }
+    }
+
+    static long longValue(long line, String field, CharSequence text, int from, int to) {
+        try {
+            return Long.parseLong(text, from, to, 10);
+        } catch (NumberFormatException e) {
+            throw new InvalidPriceRecordException(line,
+                    "Invalid " + field + " '" + text.subSequence(from, to) + "'");
+        }
+    }
+
+    static int intValue(long line, String field, CharSequence text, int from, int to) {
+        try {
+            return Integer.parseInt(text, from, to, 10);
+        } catch (NumberFormatException e) {
+            throw new InvalidPriceRecordException(line,
+                    "Invalid " + field + " '" + text.subSequence(from, to) + "'");
+        }
+    }
+
+    static BigDecimal decimal(long line, String field, String text) {
+        try {
+            return new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            throw new InvalidPriceRecordException(line, "Invalid " + field + " '" + text + "'");
+        }
+    }
+
+    private static int digits(CharSequence text, int from, int to) {
+        return Integer.parseInt(text, from, to, 10);
+    }
+}
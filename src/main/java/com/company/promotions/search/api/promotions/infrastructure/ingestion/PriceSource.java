@@ -0,0 +1,23 @@
+package com.company.promotions.search.api.promotions.infrastructure.ingestion;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+
+import java.io.IOException;
+
+/**
+ * Pull-based stream of prices parsed one record at a time from an input file.
+ */
+public interface PriceSource extends AutoCloseable {
+
+    /**
+     * Parses the next record.
+     *
+     * @return the next price, or {@code null} once the input is exhausted
+     * @throws InvalidPriceRecordException if the record is malformed or fails value-object validation; the
+     *                                     source stays usable and the next call moves on to the following record
+     */
+    Price next() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
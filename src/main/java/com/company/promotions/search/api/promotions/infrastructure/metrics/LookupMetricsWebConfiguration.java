@@ -0,0 +1,39 @@
+package com.company.promotions.search.api.promotions.infrastructure.metrics;
+
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Puts the validation and serialization stages of a request on {@link PriceLookupMetrics}: {@code @Valid}
+ * arguments go through a {@link TimedValidator} and the JSON converter Spring Boot would register is replaced
+ * by a timed one built from the same {@link JsonMapper}.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LookupMetricsWebConfiguration implements WebMvcConfigurer {
+
+    private final LocalValidatorFactoryBean defaultValidator;
+    private final PriceLookupMetrics metrics;
+
+    public LookupMetricsWebConfiguration(LocalValidatorFactoryBean defaultValidator, PriceLookupMetrics metrics) {
+        this.defaultValidator = defaultValidator;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Validator getValidator() {
+        return new TimedValidator(defaultValidator, metrics);
+    }
+
+    @Bean
+    public JacksonJsonHttpMessageConverter jacksonJsonHttpMessageConverter(JsonMapper jsonMapper) {
+        return new TimedJacksonJsonHttpMessageConverter(jsonMapper, metrics);
+    }
+}
@@ -0,0 +1,135 @@
+package com.company.promotions.search.api.promotions.infrastructure.metrics;
+
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PriceLookupMetrics} backed by Micrometer:
+ * <ul>
+ *     <li>{@code prices.lookup.stage}: time per stage, tagged {@code stage}</li>
+ *     <li>{@code prices.lookup}: time per lookup, tagged {@code brand} and {@code outcome}</li>
+ *     <li>{@code prices.lookup.candidates}: candidate rows per lookup, tagged {@code brand}</li>
+ *     <li>{@code prices.lookup.not.found}: lookups answered with 404, tagged {@code brand}</li>
+ * </ul>
+ * Timers publish percentile histograms. Every meter is registered once and then looked up, without boxing the
+ * brand id, from a copy-on-write array, so recording allocates nothing. Brand ids come from the request, so only
+ * the first {@value #MAX_BRAND_TAGS} distinct brands get their own tag; later ones are recorded as {@code other}.
+ */
+@Component
+public class MicrometerPriceLookupMetrics implements PriceLookupMetrics {
+
+    static final int MAX_BRAND_TAGS = 100;
+
+    private static final String OTHER_BRAND = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Stage, Timer> stages = new EnumMap<>(Stage.class);
+    private volatile BrandMeters[] brands = new BrandMeters[0];
+    private final BrandMeters otherBrands;
+
+    public MicrometerPriceLookupMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, Timer.builder("prices.lookup.stage")
+                    .description("Time spent in each stage of a price lookup")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.otherBrands = new BrandMeters(0, OTHER_BRAND);
+    }
+
+    @Override
+    public void recordStage(Stage stage, long nanos) {
+        stages.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordLookup(long brandId, boolean found, long nanos) {
+        BrandMeters meters = brand(brandId);
+        if (found) {
+            meters.found.record(nanos, TimeUnit.NANOSECONDS);
+        } else {
+            meters.notFound.record(nanos, TimeUnit.NANOSECONDS);
+            meters.notFoundCount.increment();
+        }
+    }
+
+    @Override
+    public void recordCandidates(long brandId, int candidates) {
+        brand(brandId).candidates.record(candidates);
+    }
+
+    private BrandMeters brand(long brandId) {
+        BrandMeters meters = find(brands, brandId);
+        return meters != null ? meters : register(brandId);
+    }
+
+    private synchronized BrandMeters register(long brandId) {
+        BrandMeters[] known = brands;
+        BrandMeters meters = find(known, brandId);
+        if (meters != null) {
+            return meters;
+        }
+        if (known.length >= MAX_BRAND_TAGS) {
+            return otherBrands;
+        }
+        meters = new BrandMeters(brandId, Long.toString(brandId));
+        BrandMeters[] grown = Arrays.copyOf(known, known.length + 1);
+        grown[known.length] = meters;
+        brands = grown;
+        return meters;
+    }
+
+    private static BrandMeters find(BrandMeters[] known, long brandId) {
+        for (BrandMeters meters : known) {
+            if (meters.brandId == brandId) {
+                return meters;
+            }
+        }
+        return null;
+    }
+
+    private final class BrandMeters {
+
+        final long brandId;
+        final Timer found;
+        final Timer notFound;
+        final Counter notFoundCount;
+        final DistributionSummary candidates;
+
+        BrandMeters(long brandId, String brand) {
+            this.brandId = brandId;
+            this.found = lookupTimer(brand, "found");
+            this.notFound = lookupTimer(brand, "not_found");
+            this.notFoundCount = Counter.builder("prices.lookup.not.found")
+                    .description("Lookups with no applicable price")
+                    .tag("brand", brand)
+                    .register(meterRegistry);
+            this.candidates = DistributionSummary.builder("prices.lookup.candidates")
+                    .description("Candidate prices returned by the repository per lookup")
+                    .baseUnit("rows")
+                    .tag("brand", brand)
+                    .register(meterRegistry);
+        }
+
+        private Timer lookupTimer(String brand, String outcome) {
+            return Timer.builder("prices.lookup")
+                    .description("Time to resolve the applicable price of a lookup")
+                    .tag("brand", brand)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.company.promotions.search.api.promotions.infrastructure.metrics;
+
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * The default JSON converter, recording the time spent writing response bodies as the
+ * {@link PriceLookupMetrics.Stage#SERIALIZATION} stage.
+ */
+class TimedJacksonJsonHttpMessageConverter extends JacksonJsonHttpMessageConverter {
+
+    private final PriceLookupMetrics metrics;
+
+    TimedJacksonJsonHttpMessageConverter(JsonMapper jsonMapper, PriceLookupMetrics metrics) {
+        super(jsonMapper);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, ResolvableType resolvableType, HttpOutputMessage outputMessage,
+                                 Map<String, Object> hints) throws IOException {
+        long started = System.nanoTime();
+        super.writeInternal(object, resolvableType, outputMessage, hints);
+        metrics.recordStage(PriceLookupMetrics.Stage.SERIALIZATION, System.nanoTime() - started);
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.promotions.search.api.promotions.infrastructure.metrics;
+
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Records the time spent validating {@code @Valid} request objects as the
+ * {@link PriceLookupMetrics.Stage#VALIDATION} stage.
+ */
+class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+    private final PriceLookupMetrics metrics;
+
+    TimedValidator(SmartValidator delegate, PriceLookupMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        long started = System.nanoTime();
+        delegate.validate(target, errors);
+        metrics.recordStage(PriceLookupMetrics.Stage.VALIDATION, System.nanoTime() - started);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        long started = System.nanoTime();
+        delegate.validate(target, errors, validationHints);
+        metrics.recordStage(PriceLookupMetrics.Stage.VALIDATION, System.nanoTime() - started);
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+                              Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return delegate.unwrap(type);
+    }
+}
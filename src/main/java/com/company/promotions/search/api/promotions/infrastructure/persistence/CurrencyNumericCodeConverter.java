@@ -0,0 +1,108 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stores a currency code as its id in {@code promotions.currencies} (see {@code V1.0.5}), the ISO 4217 numeric
+ * code, so that a price row holds a {@code SMALLINT} instead of three characters and the covering indexes stay
+ * narrow. The mapping is held in memory, so reading a row needs no join.
+ * <p>
+ * Until {@link CurrencyTable} loads the table at startup, and without Flyway, when there is no such table, the
+ * mapping comes from {@link Currency}. A few historic currencies have no numeric code or share one with another
+ * currency; those cannot be stored.
+ */
+@Converter
+public class CurrencyNumericCodeConverter implements AttributeConverter<String, Short> {
+
+    private static final Map<Integer, Currency> JDK_CURRENCIES = byNumericCode();
+
+    private static volatile CurrencyIds currencyIds = new CurrencyIds(JDK_CURRENCIES);
+
+    public static boolean isStorable(Currency currency) {
+        return currencyIds.byCurrency().containsKey(currency);
+    }
+
+    /**
+     * The currencies that can be stored, keyed by their id.
+     */
+    public static Map<Integer, Currency> storableCurrencies() {
+        return currencyIds.byId();
+    }
+
+    public static short numericCodeOf(Currency currency) {
+        Integer id = currencyIds.byCurrency().get(currency);
+        if (id == null) {
+            throw new IllegalArgumentException("Currency " + currency + " has no id in promotions.currencies");
+        }
+        return id.shortValue();
+    }
+
+    public static Currency currencyOf(short numericCode) {
+        Currency currency = currencyIds.byId().get((int) numericCode);
+        if (currency == null) {
+            throw new IllegalArgumentException("No currency with id " + numericCode + " in promotions.currencies");
+        }
+        return currency;
+    }
+
+    /**
+     * The currencies the JDK gives a numeric code of their own, keyed by that code.
+     */
+    static Map<Integer, Currency> jdkCurrencies() {
+        return JDK_CURRENCIES;
+    }
+
+    /**
+     * Replaces the mapping, keyed by id; a currency must appear at most once.
+     */
+    static void useCurrencies(Map<Integer, Currency> byId) {
+        currencyIds = new CurrencyIds(byId);
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(String currencyCode) {
+        return currencyCode == null ? null : numericCodeOf(Currency.getInstance(currencyCode));
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short numericCode) {
+        return numericCode == null ? null : currencyOf(numericCode).getCurrencyCode();
+    }
+
+    private static Map<Integer, Currency> byNumericCode() {
+        Map<Integer, Currency> currencies = new HashMap<>();
+        Set<Integer> shared = new HashSet<>();
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            int numericCode = currency.getNumericCode();
+            if (numericCode > 0 && currencies.putIfAbsent(numericCode, currency) != null) {
+                shared.add(numericCode);
+            }
+        }
+        currencies.keySet().removeAll(shared);
+        return Map.copyOf(currencies);
+    }
+
+    private record CurrencyIds(Map<Integer, Currency> byId, Map<Currency, Integer> byCurrency) {
+
+        CurrencyIds(Map<Integer, Currency> byId) {
+            this(Map.copyOf(byId), byCurrency(byId));
+        }
+
+        private static Map<Currency, Integer> byCurrency(Map<Integer, Currency> byId) {
+            Map<Currency, Integer> byCurrency = new HashMap<>();
+            byId.forEach((id, currency) -> {
+                if (byCurrency.putIfAbsent(currency, id) != null) {
+                    throw new IllegalArgumentException("Currency " + currency + " mapped to more than one id");
+                }
+            });
+            return Map.copyOf(byCurrency);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Loads {@code promotions.currencies} at startup and hands it to {@link CurrencyNumericCodeConverter}, so that the
+ * table, not the JDK, decides which id a currency is stored under. A currency the table lists under another id than
+ * its JDK numeric code, or does not list at all, is only logged; such a currency is mapped by the table, or cannot be
+ * ingested. A row whose code the JDK does not know is skipped, and startup fails only if a price references it, since
+ * that price could not be read back.
+ * <p>
+ * Repositories that read prices while starting depend on this bean. Without Flyway the schema has no currencies
+ * table, and the converter keeps the JDK numeric codes.
+ */
+@Component
+public class CurrencyTable {
+
+    private static final Logger log = LoggerFactory.getLogger(CurrencyTable.class);
+
+    private static final String SELECT_CURRENCIES = "SELECT id, code FROM promotions.currencies";
+
+    private static final String IS_REFERENCED =
+            "SELECT EXISTS (SELECT 1 FROM promotions.prices WHERE currency_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CurrencyTable(JdbcTemplate jdbcTemplate,
+                         @Value("${spring.flyway.enabled:true}") boolean flywayEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        if (flywayEnabled) {
+            load();
+        }
+    }
+
+    /**
+     * Reads the table and makes it the mapping of {@link CurrencyNumericCodeConverter}.
+     *
+     * @throws IllegalStateException naming every row that prices reference but whose code the JDK does not know
+     */
+    void load() {
+        Map<Integer, String> table = new HashMap<>();
+        jdbcTemplate.query(SELECT_CURRENCIES, (RowCallbackHandler) resultSet ->
+                table.put(resultSet.getInt("id"), resultSet.getString("code").trim()));
+
+        Map<Integer, Currency> currencies = new HashMap<>();
+        TreeSet<String> unreadable = new TreeSet<>();
+        TreeSet<String> differences = new TreeSet<>();
+        table.forEach((id, code) -> {
+            Currency currency = currencyOrNull(code);
+            if (currency == null) {
+                if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_REFERENCED, Boolean.class, id))) {
+                    unreadable.add(code + " (" + id + ")");
+                } else {
+                    differences.add(code + " (" + id + ") unknown to the JDK, skipped");
+                }
+            } else {
+                currencies.put(id, currency);
+            }
+        });
+        if (!unreadable.isEmpty()) {
+            throw new IllegalStateException("Prices reference promotions.currencies rows the JDK does not know: "
+                    + String.join(", ", unreadable));
+        }
+
+        CurrencyNumericCodeConverter.jdkCurrencies().forEach((numericCode, currency) -> {
+            if (!currencies.containsValue(currency)) {
+                differences.add(currency.getCurrencyCode() + " (" + numericCode + ") missing, cannot be ingested");
+            }
+        });
+        currencies.forEach((id, currency) -> {
+            if (currency.getNumericCode() != id) {
+                differences.add(currency.getCurrencyCode() + " stored under id " + id
+                        + " instead of its ISO numeric code " + currency.getNumericCode());
+            }
+        });
+
+        CurrencyNumericCodeConverter.useCurrencies(currencies);
+        if (!differences.isEmpty()) {
+            log.warn("promotions.currencies differs from the JDK currencies: {}", String.join(", ", differences));
+        }
+        log.info("Loaded {} currencies from promotions.currencies", currencies.size());
+    }
+
+    private static Currency currencyOrNull(String code) {
+        try {
+            return Currency.getInstance(code);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
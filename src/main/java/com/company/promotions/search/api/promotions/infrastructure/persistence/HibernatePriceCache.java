@@ -0,0 +1,80 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import com.company.promotions.search.api.promotions.domain.PricesChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.event.EventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * The second-level cache regions of {@link PriceEntity} and of the price queries, see
+ * {@link JpaPriceRepository#QUERY_REGIONS}.
+ * <p>
+ * Hibernate only invalidates cached queries on writes it performs itself, and prices are written with plain JDBC
+ * by imports and by hand, so every region is evicted whenever a {@link PricesChangedEvent} is published. The
+ * {@code promotions.prices} query space is invalidated too: a query whose transaction began before the event would
+ * otherwise put its result back after the eviction, and serve it until it expires.
+ * <p>
+ * Region statistics are exposed with the Micrometer cache conventions, {@code cache.gets} tagged
+ * {@code result=hit|miss} and {@code cache.puts}, under {@code cache=<region>}.
+ */
+public class HibernatePriceCache {
+
+    private static final List<String> REGIONS = Stream.concat(
+            Stream.of(PriceEntity.CACHE_REGION), JpaPriceRepository.QUERY_REGIONS.stream()).toList();
+
+    private final SessionFactory sessionFactory;
+    private final String[] querySpaces;
+
+    public HibernatePriceCache(SessionFactory sessionFactory, MeterRegistry meterRegistry) {
+        this.sessionFactory = sessionFactory;
+        this.querySpaces = Arrays.stream(sessionFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                        .getEntityDescriptor(PriceEntity.class).getQuerySpaces())
+                .map(String::valueOf)
+                .toArray(String[]::new);
+        Statistics statistics = sessionFactory.getStatistics();
+        for (String region : REGIONS) {
+            register(meterRegistry, statistics, "cache.gets", region, "hit", CacheRegionStatistics::getHitCount,
+                    "Lookups answered from the region");
+            register(meterRegistry, statistics, "cache.gets", region, "miss", CacheRegionStatistics::getMissCount,
+                    "Lookups not found in the region");
+            register(meterRegistry, statistics, "cache.puts", region, null, CacheRegionStatistics::getPutCount,
+                    "Entries put into the region");
+        }
+    }
+
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            sessionFactory.unwrap(SessionFactoryImplementor.class).getCache().getTimestampsCache()
+                    .invalidate(querySpaces, (SharedSessionContractImplementor) session);
+        }
+        sessionFactory.getCache().evictEntityData(PriceEntity.class);
+        JpaPriceRepository.QUERY_REGIONS.forEach(sessionFactory.getCache()::evictQueryRegion);
+    }
+
+    // Query regions only exist once their first query ran, so statistics are looked up on every read
+    private static void register(MeterRegistry meterRegistry, Statistics statistics, String name, String region,
+                                 String result, ToLongFunction<CacheRegionStatistics> count, String description) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, s -> {
+                    CacheRegionStatistics regionStatistics = s.getCacheRegionStatistics(region);
+                    return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+                })
+                .tag("cache", region)
+                .description(description);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(meterRegistry);
+    }
+}
@@ -0,0 +1,113 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceTransition;
+import com.company.promotions.search.api.promotions.domain.PriceTransitionRepository;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.PriceListId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link PriceTransitionRepository} over {@code promotions.prices}, whichever backend serves the lookups. Starts and
+ * ends are read with one range scan each on their own index, see {@code V1.0.8}, or {@code V1.0.9} for a single
+ * brand. Like {@link PriceRepositoryImpl}, a set of keys is matched as the cross product of its products and brands
+ * and the extra pairs are dropped here.
+ */
+@Repository
+public class JdbcPriceTransitionRepository implements PriceTransitionRepository {
+
+    static final String SELECT_TRANSITIONS = """
+            SELECT product_id, brand_id, price_list, 'S' AS kind, start_date AS boundary
+            FROM promotions.prices
+            WHERE start_date BETWEEN ? AND ?%1$s
+            UNION ALL
+            SELECT product_id, brand_id, price_list, 'E' AS kind, end_date AS boundary
+            FROM promotions.prices
+            WHERE end_date BETWEEN ? AND ?%1$s
+            ORDER BY boundary, kind DESC, product_id, brand_id, price_list
+            LIMIT ?
+            """;
+
+    static final String BRAND_CLAUSE = " AND brand_id = ?";
+
+    private static final RowMapper<PriceTransition> TRANSITION_MAPPER = (resultSet, rowNum) -> {
+        boolean starts = "S".equals(resultSet.getString("kind"));
+        LocalDateTime boundary = resultSet.getObject("boundary", LocalDateTime.class);
+        return new PriceTransition(
+                PriceKey.of(ProductId.of(resultSet.getLong("product_id")), BrandId.of(resultSet.getLong("brand_id"))),
+                PriceListId.of(resultSet.getLong("price_list")),
+                starts ? PriceTransition.Kind.STARTS : PriceTransition.Kind.ENDS,
+                starts ? boundary : boundary.plusNanos(1));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPriceTransitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<PriceTransition> findTransitions(LocalDateTime from, LocalDateTime to) {
+        return query("", List.of(), from, to, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<PriceTransition> findTransitions(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> productIds = new HashSet<>();
+        Set<Long> brandIds = new HashSet<>();
+        for (PriceKey key : keys) {
+            productIds.add(key.productId().value());
+            brandIds.add(key.brandId().value());
+        }
+        List<Object> filter = new ArrayList<>(productIds);
+        filter.addAll(brandIds);
+        String clause = " AND product_id IN (" + placeholders(productIds.size()) + ")"
+                + " AND brand_id IN (" + placeholders(brandIds.size()) + ")";
+
+        Set<PriceKey> requestedKeys = Set.copyOf(keys);
+        return query(clause, filter, from, to, Integer.MAX_VALUE)
+                .stream()
+                .filter(transition -> requestedKeys.contains(transition.key()))
+                .toList();
+    }
+
+    @Override
+    public List<PriceTransition> findTransitions(BrandId brandId, LocalDateTime from, LocalDateTime to, int limit) {
+        return query(BRAND_CLAUSE, List.of(brandId.value()), from, to, limit);
+    }
+
+    /**
+     * Ends are stored as the last instant a price applies, so an end transition in the window is a stored end
+     * date one nanosecond before it.
+     */
+    private List<PriceTransition> query(String clause, List<Object> filter, LocalDateTime from, LocalDateTime to,
+                                        int limit) {
+        List<Object> arguments = new ArrayList<>(2 * filter.size() + 5);
+        arguments.add(from);
+        arguments.add(to);
+        arguments.addAll(filter);
+        arguments.add(from.minusNanos(1));
+        arguments.add(to.minusNanos(1));
+        arguments.addAll(filter);
+        arguments.add(limit);
+        return jdbcTemplate.query(SELECT_TRANSITIONS.formatted(clause), TRANSITION_MAPPER, arguments.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Hibernate second-level cache backed by Caffeine through JCache, local to each instance. The {@link PriceEntity}
+ * region and the query regions of the price queries, {@link JpaPriceRepository#QUERY_REGIONS}, are bounded by
+ * {@code promotions.jpa-cache.maximum-size} entries each and expire {@code time-to-live} after being written; the
+ * update timestamps region, one entry per table, must outlive every cached query and is neither. Each application
+ * context gets a cache manager of its own, so that closing it, or a context configured with another size, leaves
+ * the others alone.
+ * <p>
+ * Only set up for the {@code jpa} repository type, the only one that serves lookups through JPA, and turned off
+ * there with {@code promotions.jpa-cache.enabled=false}. The {@code reactive} profile reads prices through R2DBC
+ * and turns it off.
+ */
+@Configuration
+@ConditionalOnProperty(name = "promotions.repository.type", havingValue = "jpa", matchIfMissing = true)
+@ConditionalOnProperty(name = "promotions.jpa-cache.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(JpaCacheProperties.class)
+public class JpaCacheConfiguration {
+
+    private static final List<String> BOUNDED_REGIONS = Stream.concat(
+            Stream.of(PriceEntity.CACHE_REGION, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME),
+            JpaPriceRepository.QUERY_REGIONS.stream()).toList();
+
+    @Bean(destroyMethod = "close")
+    public CacheManager jpaCacheManager(JpaCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:promotions:jpa-cache:" + UUID.randomUUID()),
+                        JpaCacheConfiguration.class.getClassLoader());
+        for (String region : BOUNDED_REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = byReference();
+            configuration.setMaximumSize(OptionalLong.of(properties.maximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(properties.timeToLive().toNanos()));
+            cacheManager.createCache(region, configuration);
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, byReference());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jpaCacheHibernateProperties(CacheManager jpaCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, jpaCacheManager);
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public HibernatePriceCache hibernatePriceCache(EntityManagerFactory entityManagerFactory,
+                                                   MeterRegistry meterRegistry) {
+        return new HibernatePriceCache(entityManagerFactory.unwrap(SessionFactory.class), meterRegistry);
+    }
+
+    // Hibernate's cache entries are immutable, so there is no need for JCache's default copy on every access
+    private static CaffeineConfiguration<Object, Object> byReference() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+}
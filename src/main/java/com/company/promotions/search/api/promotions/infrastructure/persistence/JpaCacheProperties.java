@@ -0,0 +1,23 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "promotions.jpa-cache")
+public record JpaCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration timeToLive
+) {
+
+    public JpaCacheProperties {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("JPA cache maximum size must be positive");
+        }
+        if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("JPA cache time to live must be positive");
+        }
+    }
+}
@@ -1,14 +1,42 @@
 package com.company.promotions.search.api.promotions.infrastructure.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface JpaPriceRepository extends JpaRepository<PriceEntity, Long> {
 
+    /**
+     * Query cache region of {@link #findApplicablePrices}, used when the second-level cache is on.
+     */
+    String APPLICABLE_PRICES_REGION = "applicable-prices";
+
+    /**
+     * Query cache region of {@link #findMostSpecificPrice}, the winner query of the {@code jpa} repository type.
+     */
+    String MOST_SPECIFIC_PRICE_REGION = "most-specific-price";
+
+    /**
+     * Query cache region of {@link #findPricesOverlapping}, behind validity windows, batches and timelines.
+     */
+    String OVERLAPPING_PRICES_REGION = "overlapping-prices";
+
+    /**
+     * Every query cache region of the price queries.
+     */
+    List<String> QUERY_REGIONS =
+            List.of(APPLICABLE_PRICES_REGION, MOST_SPECIFIC_PRICE_REGION, OVERLAPPING_PRICES_REGION);
+
+    List<PriceEntity> findByProductIdAndBrandId(Long productId, Long brandId);
+
     @Query("""
         SELECT p FROM PriceEntity p
         WHERE p.productId = :productId
@@ -16,9 +44,56 @@ public interface JpaPriceRepository extends JpaRepository<PriceEntity, Long> {
         AND :applicationDate BETWEEN p.startDate AND p.endDate
         ORDER BY p.priority DESC
         """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = APPLICABLE_PRICES_REGION)
+    })
     List<PriceEntity> findApplicablePrices(
             @Param("productId") Long productId,
             @Param("brandId") Long brandId,
             @Param("applicationDate") LocalDateTime applicationDate
     );
+
+    /**
+     * The single price {@link com.company.promotions.search.api.promotions.domain.Price#selectMostSpecific} would
+     * pick: the shortest range containing the instant, ties going to the highest priority and then to the oldest
+     * row. Served by {@code idx_prices_most_specific}, which holds every selected column in that order.
+     */
+    @Query("""
+        SELECT new com.company.promotions.search.api.promotions.infrastructure.persistence.PriceRow(
+            p.productId, p.brandId, p.priceList, p.priority, p.startDate, p.endDate, p.price, p.currency)
+        FROM PriceEntity p
+        WHERE p.productId = :productId
+        AND p.brandId = :brandId
+        AND :applicationDate BETWEEN p.startDate AND p.endDate
+        ORDER BY p.durationMicros ASC, p.priority DESC, p.id ASC
+        LIMIT 1
+        """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = MOST_SPECIFIC_PRICE_REGION)
+    })
+    Optional<PriceRow> findMostSpecificPrice(
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId,
+            @Param("applicationDate") LocalDateTime applicationDate
+    );
+
+    @Query("""
+        SELECT p FROM PriceEntity p
+        WHERE p.productId IN :productIds
+        AND p.brandId IN :brandIds
+        AND p.startDate <= :to
+        AND p.endDate >= :from
+        """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = OVERLAPPING_PRICES_REGION)
+    })
+    List<PriceEntity> findPricesOverlapping(
+            @Param("productIds") Collection<Long> productIds,
+            @Param("brandIds") Collection<Long> brandIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
 }
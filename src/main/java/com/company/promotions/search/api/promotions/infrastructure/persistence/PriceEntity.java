@@ -7,21 +7,33 @@ import com.company.promotions.search.api.promotions.domain.vo.Money;
 import com.company.promotions.search.api.promotions.domain.vo.PriceListId;
 import com.company.promotions.search.api.promotions.domain.vo.Priority;
 import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Currency;
 
+/**
+ * A row of {@code promotions.prices}. Rows are only written by imports and manual SQL, never through this entity at
+ * runtime, so when the second-level cache is on (see {@link JpaCacheConfiguration}) it is cached read-only.
+ */
 @Entity
 @Table(name = "prices", schema = "promotions")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = PriceEntity.CACHE_REGION)
 public class PriceEntity {
 
+    public static final String CACHE_REGION = "prices";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -47,9 +59,18 @@ public class PriceEntity {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal price;
 
-    @Column(nullable = false, length = 3)
+    @Convert(converter = CurrencyNumericCodeConverter.class)
+    @Column(name = "currency_id", nullable = false)
     private String currency;
 
+    /**
+     * Length of the date range, computed by the database (see {@code V1.0.4}) so that the most specific price can be
+     * found with an index seek. The definition is repeated here for schemas generated by Hibernate.
+     */
+    @Column(name = "duration_micros", insertable = false, updatable = false,
+            columnDefinition = "BIGINT GENERATED ALWAYS AS (DATEDIFF(MICROSECOND, start_date, end_date))")
+    private Long durationMicros;
+
     public PriceEntity() {
     }
 
@@ -125,6 +146,10 @@ public class PriceEntity {
         this.currency = currency;
     }
 
+    public Long getDurationMicros() {
+        return durationMicros;
+    }
+
     public Price toDomain() {
         return new Price(
                 BrandId.of(brandId),
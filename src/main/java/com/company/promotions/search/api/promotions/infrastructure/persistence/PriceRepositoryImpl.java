@@ -1,28 +1,93 @@
 package com.company.promotions.search.api.promotions.infrastructure.persistence;
 
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics;
+import com.company.promotions.search.api.promotions.domain.MostSpecificPriceFinder;
 import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
 import com.company.promotions.search.api.promotions.domain.PriceRepository;
 import com.company.promotions.search.api.promotions.domain.vo.BrandId;
 import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+/**
+ * {@link PriceRepository} that queries the database on every lookup. As a {@link MostSpecificPriceFinder} it lets
+ * the database pick the winner, so a lookup transfers a single projected row instead of every candidate entity.
+ * Lookups run in read-only transactions, which a read replica serves when one is configured.
+ */
 @Repository
-public class PriceRepositoryImpl implements PriceRepository {
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "promotions.repository.type", havingValue = "jpa", matchIfMissing = true)
+public class PriceRepositoryImpl implements PriceRepository, MostSpecificPriceFinder {
 
     private final JpaPriceRepository jpaPriceRepository;
+    private final PriceLookupMetrics metrics;
 
-    public PriceRepositoryImpl(JpaPriceRepository jpaPriceRepository) {
+    public PriceRepositoryImpl(JpaPriceRepository jpaPriceRepository, PriceLookupMetrics metrics) {
         this.jpaPriceRepository = jpaPriceRepository;
+        this.metrics = metrics;
     }
 
     @Override
     public List<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
-        return jpaPriceRepository.findApplicablePrices(productId.value(), brandId.value(), applicationDate)
+        long started = System.nanoTime();
+        List<PriceEntity> entities = jpaPriceRepository.findApplicablePrices(
+                productId.value(), brandId.value(), applicationDate);
+        long queried = System.nanoTime();
+        metrics.recordStage(PriceLookupMetrics.Stage.QUERY, queried - started);
+
+        List<Price> prices = entities.stream()
+                .map(PriceEntity::toDomain)
+                .toList();
+        metrics.recordStage(PriceLookupMetrics.Stage.MAPPING, System.nanoTime() - queried);
+        return prices;
+    }
+
+    @Override
+    public Price findMostSpecific(long productId, long brandId, LocalDateTime applicationDate) {
+        long started = System.nanoTime();
+        Optional<PriceRow> row = jpaPriceRepository.findMostSpecificPrice(productId, brandId, applicationDate);
+        long queried = System.nanoTime();
+        metrics.recordStage(PriceLookupMetrics.Stage.QUERY, queried - started);
+
+        Price price = row.map(PriceRow::toDomain).orElse(null);
+        metrics.recordStage(PriceLookupMetrics.Stage.MAPPING, System.nanoTime() - queried);
+        return price;
+    }
+
+    @Override
+    public boolean isInMemory() {
+        return false;
+    }
+
+    /**
+     * Fetches the candidates of every key with one query. JPQL has no portable row-value {@code IN}, so the
+     * query matches the cross product of the requested products and brands and the extra pairs are dropped here.
+     */
+    @Override
+    public List<Price> findPricesOverlapping(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> productIds = new HashSet<>();
+        Set<Long> brandIds = new HashSet<>();
+        for (PriceKey key : keys) {
+            productIds.add(key.productId().value());
+            brandIds.add(key.brandId().value());
+        }
+        Set<PriceKey> requestedKeys = Set.copyOf(keys);
+        return jpaPriceRepository.findPricesOverlapping(productIds, brandIds, from, to)
                 .stream()
                 .map(PriceEntity::toDomain)
+                .filter(price -> requestedKeys.contains(PriceKey.of(price)))
                 .toList();
     }
 }
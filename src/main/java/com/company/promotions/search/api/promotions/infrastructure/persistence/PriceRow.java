@@ -0,0 +1,40 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.DateRange;
+import com.company.promotions.search.api.promotions.domain.vo.Money;
+import com.company.promotions.search.api.promotions.domain.vo.PriceListId;
+import com.company.promotions.search.api.promotions.domain.vo.Priority;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+
+/**
+ * Read-only projection of a price row, selected with a constructor expression so that Hibernate neither
+ * hydrates nor tracks a {@link PriceEntity}.
+ */
+public record PriceRow(
+        Long productId,
+        Long brandId,
+        Integer priceList,
+        Integer priority,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        BigDecimal price,
+        String currency
+) {
+
+    public Price toDomain() {
+        return new Price(
+                BrandId.of(brandId),
+                DateRange.of(startDate, endDate),
+                PriceListId.of(priceList.longValue()),
+                ProductId.of(productId),
+                Priority.of(priority),
+                Money.of(price, Currency.getInstance(currency))
+        );
+    }
+}
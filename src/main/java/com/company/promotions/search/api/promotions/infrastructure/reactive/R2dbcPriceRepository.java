@@ -0,0 +1,84 @@
+package com.company.promotions.search.api.promotions.infrastructure.reactive;
+
+import com.company.promotions.search.api.promotions.application.ReactivePriceRepository;
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.CurrencyNumericCodeConverter;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceRow;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * {@link ReactivePriceRepository} running the same queries as the JPA repository over R2DBC. Rows are read into
+ * a {@link PriceRow}, so they are validated into domain objects exactly as the JPA projections are.
+ */
+public class R2dbcPriceRepository implements ReactivePriceRepository {
+
+    private static final String COLUMNS =
+            "product_id, brand_id, price_list, priority, start_date, end_date, price, currency_id";
+
+    private static final String APPLICABLE_PRICES = """
+            SELECT %s FROM promotions.prices
+            WHERE product_id = :productId
+            AND brand_id = :brandId
+            AND :applicationDate BETWEEN start_date AND end_date
+            ORDER BY priority DESC, id ASC
+            """.formatted(COLUMNS);
+
+    private static final String OVERLAPPING_PRICES = """
+            SELECT %s FROM promotions.prices
+            WHERE product_id = :productId
+            AND brand_id = :brandId
+            AND start_date <= :to
+            AND end_date >= :from
+            ORDER BY id ASC
+            """.formatted(COLUMNS);
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcPriceRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<Price> findApplicablePrices(ProductId productId, BrandId brandId, LocalDateTime applicationDate) {
+        return databaseClient.sql(APPLICABLE_PRICES)
+                .bind("productId", productId.value())
+                .bind("brandId", brandId.value())
+                .bind("applicationDate", applicationDate)
+                .map(R2dbcPriceRepository::toPriceRow)
+                .all()
+                .map(PriceRow::toDomain);
+    }
+
+    @Override
+    public Flux<Price> findPricesOverlapping(PriceKey key, LocalDateTime from, LocalDateTime to) {
+        return databaseClient.sql(OVERLAPPING_PRICES)
+                .bind("productId", key.productId().value())
+                .bind("brandId", key.brandId().value())
+                .bind("from", from)
+                .bind("to", to)
+                .map(R2dbcPriceRepository::toPriceRow)
+                .all()
+                .map(PriceRow::toDomain);
+    }
+
+    private static PriceRow toPriceRow(Row row, RowMetadata metadata) {
+        return new PriceRow(
+                row.get("product_id", Long.class),
+                row.get("brand_id", Long.class),
+                row.get("price_list", Integer.class),
+                row.get("priority", Integer.class),
+                row.get("start_date", LocalDateTime.class),
+                row.get("end_date", LocalDateTime.class),
+                row.get("price", BigDecimal.class),
+                CurrencyNumericCodeConverter.currencyOf(row.get("currency_id", Short.class)).getCurrencyCode());
+    }
+}
@@ -0,0 +1,48 @@
+package com.company.promotions.search.api.promotions.infrastructure.reactive;
+
+import com.company.promotions.search.api.promotions.application.ReactiveFindProductsPriceUseCase;
+import com.company.promotions.search.api.promotions.application.ReactivePriceRepository;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Reads prices through R2DBC when the application runs as a reactive web application (the {@code reactive}
+ * profile). The connection pool is built here rather than by Spring Boot's R2DBC auto-configuration, which would
+ * back off the JDBC {@code DataSource} that Flyway, JPA, ingestion and the change feed keep using.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(ReactivePricesProperties.class)
+public class ReactivePricesConfiguration {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool priceConnectionPool(ReactivePricesProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.url()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.username());
+        if (properties.password() != null && !properties.password().isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.password());
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .initialSize(Math.min(10, properties.poolSize()))
+                .maxSize(properties.poolSize())
+                .build());
+    }
+
+    @Bean
+    public R2dbcPriceRepository r2dbcPriceRepository(ConnectionPool priceConnectionPool) {
+        return new R2dbcPriceRepository(DatabaseClient.create(priceConnectionPool));
+    }
+
+    @Bean
+    public ReactiveFindProductsPriceUseCase reactiveFindProductsPriceUseCase(ReactivePriceRepository priceRepository,
+                                                                             ReactivePricesProperties properties) {
+        return new ReactiveFindProductsPriceUseCase(priceRepository, properties.batchConcurrency());
+    }
+}
@@ -0,0 +1,26 @@
+package com.company.promotions.search.api.promotions.infrastructure.reactive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "promotions.reactive")
+public record ReactivePricesProperties(
+        @DefaultValue("r2dbc:h2:mem:///promotionsdb?options=DB_CLOSE_DELAY=-1") String url,
+        @DefaultValue("sa") String username,
+        String password,
+        @DefaultValue("20") int poolSize,
+        @DefaultValue("32") int batchConcurrency
+) {
+
+    public ReactivePricesProperties {
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("R2DBC url must be configured");
+        }
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("R2DBC pool size must be positive");
+        }
+        if (batchConcurrency <= 0) {
+            throw new IllegalArgumentException("Batch concurrency must be positive");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.application.FindPriceTransitionsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/prices/transitions")
+@Tag(name = "Prices", description = "Operations for querying applicable prices")
+public class FindPriceTransitionsGETController {
+
+    private final FindPriceTransitionsUseCase findPriceTransitionsUseCase;
+
+    public FindPriceTransitionsGETController(FindPriceTransitionsUseCase findPriceTransitionsUseCase) {
+        this.findPriceTransitionsUseCase = findPriceTransitionsUseCase;
+    }
+
+    @Operation(
+            summary = "Find upcoming price transitions",
+            description = "Returns the instants at which the price lists of a brand start or stop applying between " +
+                    "two instants, the moments at which the price GET /prices returns for a product may change."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Transitions in chronological order, at most " +
+                            FindPriceTransitionsUseCase.MAX_TRANSITIONS + ", empty if there are none in the window",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PriceTransitionsResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request parameters"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Missing or invalid API key"
+            )
+    })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PriceTransitionsResponse> findTransitions(
+            @Parameter(hidden = true) @Valid FindPriceTransitionsRequest request) {
+        List<PriceTransitionResponse> transitions = findPriceTransitionsUseCase.execute(
+                        request.brandId(),
+                        request.from(),
+                        request.to())
+                .stream()
+                .map(PriceTransitionResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(new PriceTransitionsResponse(
+                request.brandId(), request.from(), request.to(), transitions));
+    }
+}
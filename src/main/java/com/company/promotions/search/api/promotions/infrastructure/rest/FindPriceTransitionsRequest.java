@@ -0,0 +1,18 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public record FindPriceTransitionsRequest(
+        @Parameter(description = "Brand identifier (e.g., 1 for ZARA)", example = "1", required = true)
+        @NotNull Long brandId,
+
+        @Parameter(description = "Start of the window, inclusive", example = "2020-06-14T00:00:00", required = true)
+        @NotNull LocalDateTime from,
+
+        @Parameter(description = "End of the window, inclusive", example = "2020-06-16T23:59:59", required = true)
+        @NotNull LocalDateTime to
+) {
+}
@@ -1,7 +1,7 @@
 package com.company.promotions.search.api.promotions.infrastructure.rest;
 
-import com.company.promotions.search.api.promotions.application.ApplicablePriceDto;
 import com.company.promotions.search.api.promotions.application.FindProductsPriceBetweenDatesUseCase;
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,35 +10,52 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/prices")
+@EnableConfigurationProperties(PriceHttpCacheProperties.class)
 @Tag(name = "Prices", description = "Operations for querying applicable prices")
 public class FindProductsPriceGETController {
 
     private final FindProductsPriceBetweenDatesUseCase findProductsPriceBetweenDatesUseCase;
+    private final PriceHttpCacheProperties httpCacheProperties;
 
-    public FindProductsPriceGETController(FindProductsPriceBetweenDatesUseCase findProductsPriceBetweenDatesUseCase) {
+    public FindProductsPriceGETController(FindProductsPriceBetweenDatesUseCase findProductsPriceBetweenDatesUseCase,
+                                          PriceHttpCacheProperties httpCacheProperties) {
         this.findProductsPriceBetweenDatesUseCase = findProductsPriceBetweenDatesUseCase;
+        this.httpCacheProperties = httpCacheProperties;
     }
 
     @Operation(
             summary = "Find applicable price",
             description = "Returns the applicable price for a product and brand at a given date. " +
-                    "When multiple prices apply, the one with the smallest date range is returned."
+                    "When multiple prices apply, the one with the smallest date range is returned. " +
+                    "The response carries an ETag and stays fresh until the price stops being the applicable " +
+                    "one for the requested date; If-None-Match is answered with 304."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "Applicable price found",
-                    content = @Content(
-                            mediaType = "application/json",
-                            schema = @Schema(implementation = FindProductsPriceResponse.class)
-                    )
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = FindProductsPriceResponse.class)
+                            ),
+                            @Content(mediaType = PriceBinaryFormat.MEDIA_TYPE_VALUE)
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The applicable price still matches the ETag in If-None-Match"
             ),
             @ApiResponse(
                     responseCode = "400",
@@ -53,26 +70,23 @@ public class FindProductsPriceGETController {
                     description = "No applicable price found for the given parameters"
             )
     })
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, PriceBinaryFormat.MEDIA_TYPE_VALUE})
     public ResponseEntity<FindProductsPriceResponse> findPrice(
             @Parameter(hidden = true) @Valid FindProductsPriceRequest request) {
-        return findProductsPriceBetweenDatesUseCase.execute(
+        if (!httpCacheProperties.enabled()) {
+            FindProductsPriceResponse response = findProductsPriceBetweenDatesUseCase.execute(
+                    request.applicationDate(),
+                    request.productId(),
+                    request.brandId(),
+                    FindProductsPriceResponse::new);
+            return response == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(response);
+        }
+        return findProductsPriceBetweenDatesUseCase.executeWithWindow(
                         request.applicationDate(),
                         request.productId(),
                         request.brandId())
-                .map(this::toResponse)
-                .map(ResponseEntity::ok)
+                .map(window -> PriceCacheHeaders.cacheable(
+                        request.applicationDate(), window, httpCacheProperties.maxAge()))
                 .orElse(ResponseEntity.notFound().build());
     }
-
-    private FindProductsPriceResponse toResponse(ApplicablePriceDto dto) {
-        return new FindProductsPriceResponse(
-                dto.productId(),
-                dto.brandId(),
-                dto.priceList(),
-                dto.startDate(),
-                dto.endDate(),
-                dto.price()
-        );
-    }
 }
@@ -1,5 +1,6 @@
 package com.company.promotions.search.api.promotions.infrastructure.rest;
 
+import com.company.promotions.search.api.promotions.application.ApplicablePriceDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
@@ -25,4 +26,15 @@ public record FindProductsPriceResponse(
         @Schema(description = "Final applicable price", example = "25.45")
         BigDecimal price
 ) {
+
+    public static FindProductsPriceResponse from(ApplicablePriceDto dto) {
+        return new FindProductsPriceResponse(
+                dto.productId(),
+                dto.brandId(),
+                dto.priceList(),
+                dto.startDate(),
+                dto.endDate(),
+                dto.price()
+        );
+    }
 }
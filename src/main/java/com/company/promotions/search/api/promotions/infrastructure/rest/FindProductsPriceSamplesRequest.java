@@ -0,0 +1,26 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record FindProductsPriceSamplesRequest(
+        @Parameter(description = "Product identifier", example = "35455", required = true)
+        @NotNull Long productId,
+
+        @Parameter(description = "Brand identifier (e.g., 1 for ZARA)", example = "1", required = true)
+        @NotNull Long brandId,
+
+        @Parameter(description = "Instants to resolve, repeated, at most " + FindProductsPriceSamplesRequest.MAX_SAMPLES,
+                example = "2020-06-14T10:00:00", required = true)
+        @NotEmpty
+        @Size(max = FindProductsPriceSamplesRequest.MAX_SAMPLES)
+        List<@NotNull LocalDateTime> at
+) {
+
+    public static final int MAX_SAMPLES = 1000;
+}
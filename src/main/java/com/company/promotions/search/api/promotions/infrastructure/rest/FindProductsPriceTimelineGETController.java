@@ -0,0 +1,116 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.application.FindProductsPriceTimelineUseCase;
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/prices/timeline")
+@Tag(name = "Prices", description = "Operations for querying applicable prices")
+public class FindProductsPriceTimelineGETController {
+
+    private final FindProductsPriceTimelineUseCase findProductsPriceTimelineUseCase;
+
+    public FindProductsPriceTimelineGETController(FindProductsPriceTimelineUseCase findProductsPriceTimelineUseCase) {
+        this.findProductsPriceTimelineUseCase = findProductsPriceTimelineUseCase;
+    }
+
+    @Operation(
+            summary = "Find the price timeline",
+            description = "Returns the non-overlapping segments during which each price applies to a product and " +
+                    "brand between two instants, following the same rule as GET /prices at every instant."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Segments in chronological order, empty if no price applies in the window",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceTimelineResponse.class)
+                            ),
+                            @Content(mediaType = PriceBinaryFormat.MEDIA_TYPE_VALUE)
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request parameters"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Missing or invalid API key"
+            )
+    })
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, PriceBinaryFormat.MEDIA_TYPE_VALUE})
+    public ResponseEntity<PriceTimelineResponse> findTimeline(
+            @Parameter(hidden = true) @Valid FindProductsPriceTimelineRequest request) {
+        List<PriceTimelineSegmentResponse> segments = findProductsPriceTimelineUseCase.execute(
+                        request.productId(),
+                        request.brandId(),
+                        request.from(),
+                        request.to())
+                .stream()
+                .map(PriceTimelineSegmentResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(new PriceTimelineResponse(
+                request.productId(), request.brandId(), request.from(), request.to(), segments));
+    }
+
+    @Operation(
+            summary = "Find the price at many instants",
+            description = "Resolves up to " + FindProductsPriceSamplesRequest.MAX_SAMPLES + " instants of the same " +
+                    "product and brand in a single request. Each instant follows the same rule as GET /prices; " +
+                    "instants without an applicable price are returned with found=false."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "One result per instant, in request order",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = FindProductsPricesBatchResponse.class)
+                            ),
+                            @Content(mediaType = PriceBinaryFormat.MEDIA_TYPE_VALUE)
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request parameters"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Missing or invalid API key"
+            )
+    })
+    @GetMapping(value = "/samples", produces = {MediaType.APPLICATION_JSON_VALUE, PriceBinaryFormat.MEDIA_TYPE_VALUE})
+    public ResponseEntity<FindProductsPricesBatchResponse> findSamples(
+            @Parameter(hidden = true) @Valid FindProductsPriceSamplesRequest request) {
+        List<FindProductsPricesBatchItemResponse> results = findProductsPriceTimelineUseCase.sample(
+                        request.productId(),
+                        request.brandId(),
+                        request.at())
+                .stream()
+                .map(FindProductsPricesBatchItemResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(new FindProductsPricesBatchResponse(results));
+    }
+}
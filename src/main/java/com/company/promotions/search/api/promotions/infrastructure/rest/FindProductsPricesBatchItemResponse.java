@@ -0,0 +1,35 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.application.PriceLookupResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Result of one lookup of a batch")
+public record FindProductsPricesBatchItemResponse(
+        @Schema(description = "Requested application date", example = "2020-06-14T16:00:00")
+        LocalDateTime applicationDate,
+
+        @Schema(description = "Requested product identifier", example = "35455")
+        Long productId,
+
+        @Schema(description = "Requested brand identifier", example = "1")
+        Long brandId,
+
+        @Schema(description = "Whether an applicable price was found", example = "true")
+        boolean found,
+
+        @Schema(description = "Applicable price, null when not found")
+        FindProductsPriceResponse price
+) {
+
+    public static FindProductsPricesBatchItemResponse from(PriceLookupResult result) {
+        return new FindProductsPricesBatchItemResponse(
+                result.lookup().applicationDate(),
+                result.lookup().productId(),
+                result.lookup().brandId(),
+                result.isFound(),
+                result.isFound() ? FindProductsPriceResponse.from(result.price()) : null
+        );
+    }
+}
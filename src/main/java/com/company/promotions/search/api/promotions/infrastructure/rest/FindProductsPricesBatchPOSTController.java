@@ -0,0 +1,76 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.application.FindProductsPricesBatchUseCase;
+import com.company.promotions.search.api.promotions.application.PriceLookup;
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/prices")
+@Tag(name = "Prices", description = "Operations for querying applicable prices")
+public class FindProductsPricesBatchPOSTController {
+
+    private final FindProductsPricesBatchUseCase findProductsPricesBatchUseCase;
+
+    public FindProductsPricesBatchPOSTController(FindProductsPricesBatchUseCase findProductsPricesBatchUseCase) {
+        this.findProductsPricesBatchUseCase = findProductsPricesBatchUseCase;
+    }
+
+    @Operation(
+            summary = "Find applicable prices in batch",
+            description = "Resolves up to " + FindProductsPricesBatchRequest.MAX_LOOKUPS + " lookups in a single " +
+                    "request. Each lookup follows the same rule as GET /prices; lookups without an applicable " +
+                    "price are returned with found=false instead of failing the batch."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "One result per lookup, in request order",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = FindProductsPricesBatchResponse.class)
+                            ),
+                            @Content(mediaType = PriceBinaryFormat.MEDIA_TYPE_VALUE)
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request body"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Missing or invalid API key"
+            )
+    })
+    @PostMapping(value = "/batch", produces = {MediaType.APPLICATION_JSON_VALUE, PriceBinaryFormat.MEDIA_TYPE_VALUE})
+    public ResponseEntity<FindProductsPricesBatchResponse> findPrices(
+            @Valid @RequestBody FindProductsPricesBatchRequest request) {
+        List<PriceLookup> lookups = request.lookups().stream()
+                .map(lookup -> new PriceLookup(lookup.applicationDate(), lookup.productId(), lookup.brandId()))
+                .toList();
+
+        List<FindProductsPricesBatchItemResponse> results = findProductsPricesBatchUseCase.execute(lookups)
+                .stream()
+                .map(FindProductsPricesBatchItemResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(new FindProductsPricesBatchResponse(results));
+    }
+}
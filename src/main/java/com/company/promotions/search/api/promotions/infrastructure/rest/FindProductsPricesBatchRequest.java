@@ -0,0 +1,20 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Batch of price lookups resolved in a single request")
+public record FindProductsPricesBatchRequest(
+        @Schema(description = "Lookups to resolve, at most " + FindProductsPricesBatchRequest.MAX_LOOKUPS)
+        @NotEmpty
+        @Size(max = FindProductsPricesBatchRequest.MAX_LOOKUPS)
+        List<@Valid @NotNull FindProductsPriceRequest> lookups
+) {
+
+    public static final int MAX_LOOKUPS = 500;
+}
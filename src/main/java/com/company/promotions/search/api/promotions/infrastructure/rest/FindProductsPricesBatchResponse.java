@@ -0,0 +1,12 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Results of a batch of price lookups, in request order")
+public record FindProductsPricesBatchResponse(
+        @Schema(description = "One result per requested lookup")
+        List<FindProductsPricesBatchItemResponse> results
+) {
+}
@@ -0,0 +1,76 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.application.ApplicablePriceWindowDto;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Derives the HTTP caching metadata of a price response from the price itself and from how long it stays the
+ * applicable one.
+ */
+final class PriceCacheHeaders {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private PriceCacheHeaders() {
+    }
+
+    /**
+     * The 200 response for a price found at {@code applicationDate}, with its ETag and freshness headers. Spring
+     * answers a matching {@code If-None-Match} with 304 and the same headers, without writing the body. The body
+     * can be JSON or binary, so caches are told to keep one copy per {@code Accept}. The response is only served to
+     * holders of an API key, so it is {@code private}, kept by the client alone, and varies by {@code X-API-Key}
+     * too.
+     */
+    static ResponseEntity<FindProductsPriceResponse> cacheable(LocalDateTime applicationDate,
+                                                               ApplicablePriceWindowDto window,
+                                                               Duration limit) {
+        FindProductsPriceResponse response = FindProductsPriceResponse.from(window.price());
+        Duration maxAge = maxAge(applicationDate, window.validUntil(), limit);
+        return ResponseEntity.ok()
+                .eTag(eTagOf(response))
+                .cacheControl(CacheControl.maxAge(maxAge).cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT, API_KEY_HEADER)
+                .headers(headers -> headers.setExpires(ZonedDateTime.now(ZoneOffset.UTC).plus(maxAge)))
+                .body(response);
+    }
+
+    /**
+     * Strong entity tag of a response: a 64-bit FNV-1a hash of every field in the body, so it changes whenever
+     * the winning row or any of its returned values does.
+     */
+    static String eTagOf(FindProductsPriceResponse response) {
+        String fields = response.productId() + "|" + response.brandId() + "|" + response.priceList() + "|"
+                + response.startDate() + "|" + response.endDate() + "|" + response.price().toPlainString();
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : fields.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * How long the response for {@code applicationDate} stays fresh: the time left until the price stops being the
+     * applicable one (its window end is inclusive), capped at {@code limit} so that changes to the price table reach
+     * clients within that bound.
+     */
+    static Duration maxAge(LocalDateTime applicationDate, LocalDateTime validUntil, Duration limit) {
+        Duration remaining = Duration.between(applicationDate, validUntil).plusNanos(1);
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        Duration seconds = Duration.ofSeconds(remaining.getSeconds());
+        return seconds.compareTo(limit) > 0 ? limit : seconds;
+    }
+}
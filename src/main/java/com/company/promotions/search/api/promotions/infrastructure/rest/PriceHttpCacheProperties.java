@@ -0,0 +1,19 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "promotions.http-cache")
+public record PriceHttpCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5m") Duration maxAge
+) {
+
+    public PriceHttpCacheProperties {
+        if (maxAge.isNegative()) {
+            throw new IllegalArgumentException("HTTP cache max age cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.infrastructure.ingestion.CsvPriceSource;
+import com.company.promotions.search.api.promotions.infrastructure.ingestion.IngestionReport;
+import com.company.promotions.search.api.promotions.infrastructure.ingestion.NdjsonPriceSource;
+import com.company.promotions.search.api.promotions.infrastructure.ingestion.PriceIngestionService;
+import com.company.promotions.search.api.promotions.infrastructure.ingestion.PriceSource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/admin/prices")
+@Tag(name = "Price ingestion", description = "Bulk loading of prices")
+public class PriceIngestionPOSTController {
+
+    static final String TEXT_CSV = "text/csv";
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final PriceIngestionService priceIngestionService;
+
+    public PriceIngestionPOSTController(PriceIngestionService priceIngestionService) {
+        this.priceIngestionService = priceIngestionService;
+    }
+
+    @Operation(
+            summary = "Import prices from CSV",
+            description = "Streams the request body into the prices table in batched inserts. The first line is a " +
+                    "header naming the columns: brand_id, start_date, end_date, price_list, product_id, priority, " +
+                    "price, currency. Invalid rows are skipped and reported; valid rows are committed chunk by chunk."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Rows read, written and rejected",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = IngestionReport.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing or malformed header"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Missing or invalid API key"
+            )
+    })
+    @PostMapping(path = "/import", consumes = TEXT_CSV)
+    public ResponseEntity<IngestionReport> importCsv(InputStream body) throws IOException {
+        try (PriceSource source = new CsvPriceSource(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(priceIngestionService.ingest(source));
+        }
+    }
+
+    @Operation(
+            summary = "Import prices from NDJSON",
+            description = "Streams the request body into the prices table in batched inserts. Each line is a JSON " +
+                    "object with productId, brandId, priceList, priority, startDate, endDate, price and currency. " +
+                    "Invalid lines are skipped and reported; valid rows are committed chunk by chunk."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Rows read, written and rejected",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = IngestionReport.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Missing or invalid API key"
+            )
+    })
+    @PostMapping(path = "/import", consumes = APPLICATION_NDJSON)
+    public ResponseEntity<IngestionReport> importNdjson(InputStream body) throws IOException {
+        try (PriceSource source = new NdjsonPriceSource(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(priceIngestionService.ingest(source));
+        }
+    }
+}
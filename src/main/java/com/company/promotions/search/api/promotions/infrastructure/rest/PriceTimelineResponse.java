@@ -0,0 +1,25 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Effective prices of a product and brand over a window")
+public record PriceTimelineResponse(
+        @Schema(description = "Product identifier", example = "35455")
+        Long productId,
+
+        @Schema(description = "Brand identifier", example = "1")
+        Long brandId,
+
+        @Schema(description = "Start of the window, inclusive", example = "2020-06-14T00:00:00")
+        LocalDateTime from,
+
+        @Schema(description = "End of the window, inclusive", example = "2020-06-16T23:59:59")
+        LocalDateTime to,
+
+        @Schema(description = "Non-overlapping segments in chronological order, clipped to the window")
+        List<PriceTimelineSegmentResponse> segments
+) {
+}
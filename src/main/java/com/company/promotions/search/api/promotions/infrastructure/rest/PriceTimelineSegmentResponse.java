@@ -0,0 +1,27 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.application.PriceSegmentDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Stretch of time during which a single price applies")
+public record PriceTimelineSegmentResponse(
+        @Schema(description = "Start of the segment, inclusive", example = "2020-06-14T15:00:00")
+        LocalDateTime startDate,
+
+        @Schema(description = "End of the segment, inclusive", example = "2020-06-14T18:30:00")
+        LocalDateTime endDate,
+
+        @Schema(description = "Price applying during the whole segment")
+        FindProductsPriceResponse price
+) {
+
+    public static PriceTimelineSegmentResponse from(PriceSegmentDto segment) {
+        return new PriceTimelineSegmentResponse(
+                segment.startDate(),
+                segment.endDate(),
+                FindProductsPriceResponse.from(segment.price())
+        );
+    }
+}
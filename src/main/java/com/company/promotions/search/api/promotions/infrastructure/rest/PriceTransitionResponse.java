@@ -0,0 +1,33 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.application.PriceTransitionDto;
+import com.company.promotions.search.api.promotions.domain.PriceTransition;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Instant at which a price list starts or stops applying to a product")
+public record PriceTransitionResponse(
+        @Schema(description = "Product identifier", example = "35455")
+        Long productId,
+
+        @Schema(description = "Price list starting or ending", example = "2")
+        Long priceList,
+
+        @Schema(description = "Whether the price list starts or stops applying at this instant", example = "STARTS")
+        PriceTransition.Kind kind,
+
+        @Schema(description = "First instant with the price list applying (STARTS) or no longer applying (ENDS)",
+                example = "2020-06-14T15:00:00")
+        LocalDateTime at
+) {
+
+    public static PriceTransitionResponse from(PriceTransitionDto transition) {
+        return new PriceTransitionResponse(
+                transition.productId(),
+                transition.priceListId(),
+                transition.kind(),
+                transition.at()
+        );
+    }
+}
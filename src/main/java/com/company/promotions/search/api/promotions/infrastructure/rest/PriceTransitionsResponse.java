@@ -0,0 +1,22 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Price starts and ends of a brand over a window")
+public record PriceTransitionsResponse(
+        @Schema(description = "Brand identifier", example = "1")
+        Long brandId,
+
+        @Schema(description = "Start of the window, inclusive", example = "2020-06-14T00:00:00")
+        LocalDateTime from,
+
+        @Schema(description = "End of the window, inclusive", example = "2020-06-16T23:59:59")
+        LocalDateTime to,
+
+        @Schema(description = "Transitions in chronological order, at most 1000")
+        List<PriceTransitionResponse> transitions
+) {
+}
@@ -0,0 +1,53 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.application.ReactiveFindProductsPriceUseCase;
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryFormat;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link FindProductsPriceGETController} for the reactive web stack, with the same parameters, body, caching
+ * headers and status codes.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/prices")
+@EnableConfigurationProperties(PriceHttpCacheProperties.class)
+public class ReactiveFindProductsPriceGETController {
+
+    private final ReactiveFindProductsPriceUseCase findProductsPriceUseCase;
+    private final PriceHttpCacheProperties httpCacheProperties;
+
+    public ReactiveFindProductsPriceGETController(ReactiveFindProductsPriceUseCase findProductsPriceUseCase,
+                                                  PriceHttpCacheProperties httpCacheProperties) {
+        this.findProductsPriceUseCase = findProductsPriceUseCase;
+        this.httpCacheProperties = httpCacheProperties;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, PriceBinaryFormat.MEDIA_TYPE_VALUE})
+    public Mono<ResponseEntity<FindProductsPriceResponse>> findPrice(@Valid FindProductsPriceRequest request) {
+        if (!httpCacheProperties.enabled()) {
+            return findProductsPriceUseCase.execute(
+                            request.applicationDate(),
+                            request.productId(),
+                            request.brandId())
+                    .map(FindProductsPriceResponse::from)
+                    .map(ResponseEntity::ok)
+                    .defaultIfEmpty(ResponseEntity.notFound().build());
+        }
+        return findProductsPriceUseCase.executeWithWindow(
+                        request.applicationDate(),
+                        request.productId(),
+                        request.brandId())
+                .map(window -> PriceCacheHeaders.cacheable(
+                        request.applicationDate(), window, httpCacheProperties.maxAge()))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
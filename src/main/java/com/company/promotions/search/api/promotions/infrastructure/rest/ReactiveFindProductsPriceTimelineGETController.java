@@ -0,0 +1,56 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.application.ReactiveFindProductsPriceUseCase;
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryFormat;
+import jakarta.validation.Valid;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link FindProductsPriceTimelineGETController} for the reactive web stack, answering with the same documents.
+ * With {@code Accept: application/x-ndjson} the segments or sample results are streamed one per line instead, and
+ * in the binary format they are streamed one record at a time.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/prices/timeline")
+public class ReactiveFindProductsPriceTimelineGETController {
+
+    private final ReactiveFindProductsPriceUseCase findProductsPriceUseCase;
+
+    public ReactiveFindProductsPriceTimelineGETController(ReactiveFindProductsPriceUseCase findProductsPriceUseCase) {
+        this.findProductsPriceUseCase = findProductsPriceUseCase;
+    }
+
+    @GetMapping(produces = {
+            MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, PriceBinaryFormat.MEDIA_TYPE_VALUE})
+    public Publisher<?> findTimeline(@Valid FindProductsPriceTimelineRequest request, ServerWebExchange exchange) {
+        Flux<PriceTimelineSegmentResponse> segments = findProductsPriceUseCase.timeline(
+                        request.productId(),
+                        request.brandId(),
+                        request.from(),
+                        request.to())
+                .map(PriceTimelineSegmentResponse::from);
+
+        return StreamingResponses.documentOrStream(exchange, segments, list -> new PriceTimelineResponse(
+                request.productId(), request.brandId(), request.from(), request.to(), list));
+    }
+
+    @GetMapping(value = "/samples", produces = {
+            MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, PriceBinaryFormat.MEDIA_TYPE_VALUE})
+    public Publisher<?> findSamples(@Valid FindProductsPriceSamplesRequest request, ServerWebExchange exchange) {
+        Flux<FindProductsPricesBatchItemResponse> results = findProductsPriceUseCase.sample(
+                        request.productId(),
+                        request.brandId(),
+                        request.at())
+                .map(FindProductsPricesBatchItemResponse::from);
+
+        return StreamingResponses.documentOrStream(exchange, results, FindProductsPricesBatchResponse::new);
+    }
+}
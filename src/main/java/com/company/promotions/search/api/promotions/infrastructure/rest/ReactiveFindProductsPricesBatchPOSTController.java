@@ -0,0 +1,46 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.application.PriceLookup;
+import com.company.promotions.search.api.promotions.application.ReactiveFindProductsPriceUseCase;
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryFormat;
+import jakarta.validation.Valid;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link FindProductsPricesBatchPOSTController} for the reactive web stack, answering with the same document.
+ * With {@code Accept: application/x-ndjson}, or the binary format, each {@link FindProductsPricesBatchItemResponse}
+ * is written as soon as it and the ones before it are resolved, and further lookups only start as the client keeps
+ * reading.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/prices")
+public class ReactiveFindProductsPricesBatchPOSTController {
+
+    private final ReactiveFindProductsPriceUseCase findProductsPriceUseCase;
+
+    public ReactiveFindProductsPricesBatchPOSTController(ReactiveFindProductsPriceUseCase findProductsPriceUseCase) {
+        this.findProductsPriceUseCase = findProductsPriceUseCase;
+    }
+
+    @PostMapping(value = "/batch", produces = {
+            MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, PriceBinaryFormat.MEDIA_TYPE_VALUE})
+    public Publisher<?> findPrices(@Valid @RequestBody FindProductsPricesBatchRequest request,
+                                   ServerWebExchange exchange) {
+        Flux<PriceLookup> lookups = Flux.fromIterable(request.lookups())
+                .map(lookup -> new PriceLookup(lookup.applicationDate(), lookup.productId(), lookup.brandId()));
+
+        Flux<FindProductsPricesBatchItemResponse> results = findProductsPriceUseCase.execute(lookups)
+                .map(FindProductsPricesBatchItemResponse::from);
+
+        return StreamingResponses.documentOrStream(exchange, results, FindProductsPricesBatchResponse::new);
+    }
+}
@@ -0,0 +1,36 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryFormat;
+import org.reactivestreams.Publisher;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Lets a reactive endpoint answer with the same JSON document as its blocking counterpart, or stream its items
+ * when the client asks for {@code application/x-ndjson} or the {@link PriceBinaryFormat}, and not for
+ * {@code application/json}; a streamed binary body has the same bytes as the document, only written earlier.
+ * Mapping every media type on one handler keeps {@code Accept: *}{@code /*} unambiguous: it gets the JSON document.
+ */
+final class StreamingResponses {
+
+    private static final List<MediaType> STREAMING_TYPES = List.of(
+            MediaType.APPLICATION_NDJSON, MediaType.parseMediaType(PriceBinaryFormat.MEDIA_TYPE_VALUE));
+
+    private StreamingResponses() {
+    }
+
+    static <T, D> Publisher<?> documentOrStream(ServerWebExchange exchange, Flux<T> items,
+                                                Function<List<T>, D> document) {
+        return isStreamRequested(exchange) ? items : items.collectList().map(document);
+    }
+
+    private static boolean isStreamRequested(ServerWebExchange exchange) {
+        List<MediaType> accepted = exchange.getRequest().getHeaders().getAccept();
+        return accepted.stream().anyMatch(type -> STREAMING_TYPES.stream().anyMatch(type::equalsTypeAndSubtype))
+                && accepted.stream().noneMatch(MediaType.APPLICATION_JSON::equalsTypeAndSubtype);
+    }
+}
@@ -0,0 +1,18 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest.advices;
+
+import com.company.promotions.search.api.promotions.infrastructure.ingestion.InvalidPriceFileException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class InvalidPriceFileExceptionHandler {
+
+    @ExceptionHandler(InvalidPriceFileException.class)
+    public ProblemDetail handle(InvalidPriceFileException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+        problemDetail.setTitle("Invalid Price File");
+        return problemDetail;
+    }
+}
@@ -0,0 +1,18 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest.advices;
+
+import com.company.promotions.search.api.promotions.application.PriceLookupTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class PriceLookupTimeoutExceptionHandler {
+
+    @ExceptionHandler(PriceLookupTimeoutException.class)
+    public ProblemDetail handle(PriceLookupTimeoutException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        problemDetail.setTitle("Price Lookup Timeout");
+        return problemDetail;
+    }
+}
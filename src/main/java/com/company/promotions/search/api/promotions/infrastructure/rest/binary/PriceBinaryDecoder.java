@@ -0,0 +1,143 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest.binary;
+
+import com.company.promotions.search.api.promotions.infrastructure.rest.FindProductsPriceResponse;
+import com.company.promotions.search.api.promotions.infrastructure.rest.FindProductsPricesBatchItemResponse;
+import com.company.promotions.search.api.promotions.infrastructure.rest.PriceTimelineSegmentResponse;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a body in the {@link PriceBinaryFormat} back into the same response records the JSON API returns. It only
+ * depends on the JDK and on those records, so Java clients can use it as is:
+ * <pre>{@code
+ * PriceBinaryDecoder decoder = PriceBinaryDecoder.of(new BufferedInputStream(response.body()));
+ * for (var result = decoder.nextResult(); result != null; result = decoder.nextResult()) { ... }
+ * }</pre>
+ * The stream is read one byte at a time, so it should be buffered. Not thread-safe.
+ */
+public final class PriceBinaryDecoder {
+
+    private final InputStream in;
+
+    private PriceBinaryDecoder(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads the format version at the start of a body and returns a decoder for the records that follow.
+     *
+     * @throws IOException if the body is empty or was written in another version of the format
+     */
+    public static PriceBinaryDecoder of(InputStream in) throws IOException {
+        int version = in.read();
+        if (version == -1) {
+            throw new EOFException("Price body is empty");
+        }
+        if (version != PriceBinaryFormat.VERSION) {
+            throw new IOException("Unsupported price format version " + version);
+        }
+        return new PriceBinaryDecoder(in);
+    }
+
+    /**
+     * Reads the single price of a {@code GET /prices} body.
+     */
+    public FindProductsPriceResponse readPrice() throws IOException {
+        return readPrice(readByte());
+    }
+
+    /**
+     * Reads the next result of a batch or samples body, or returns {@code null} at the end of the body.
+     */
+    public FindProductsPricesBatchItemResponse nextResult() throws IOException {
+        int first = in.read();
+        if (first == -1) {
+            return null;
+        }
+        LocalDateTime applicationDate = readDate(first);
+        long productId = readUnsigned(readByte());
+        long brandId = readUnsigned(readByte());
+        boolean found = readUnsigned(readByte()) == 1;
+        return new FindProductsPricesBatchItemResponse(
+                applicationDate, productId, brandId, found, found ? readPrice(readByte()) : null);
+    }
+
+    /**
+     * Reads the next segment of a timeline body, or returns {@code null} at the end of the body.
+     */
+    public PriceTimelineSegmentResponse nextSegment() throws IOException {
+        int first = in.read();
+        if (first == -1) {
+            return null;
+        }
+        LocalDateTime startDate = readDate(first);
+        LocalDateTime endDate = readDate(readByte());
+        return new PriceTimelineSegmentResponse(startDate, endDate, readPrice(readByte()));
+    }
+
+    public List<FindProductsPricesBatchItemResponse> readResults() throws IOException {
+        List<FindProductsPricesBatchItemResponse> results = new ArrayList<>();
+        for (FindProductsPricesBatchItemResponse result = nextResult(); result != null; result = nextResult()) {
+            results.add(result);
+        }
+        return results;
+    }
+
+    public List<PriceTimelineSegmentResponse> readSegments() throws IOException {
+        List<PriceTimelineSegmentResponse> segments = new ArrayList<>();
+        for (PriceTimelineSegmentResponse segment = nextSegment(); segment != null; segment = nextSegment()) {
+            segments.add(segment);
+        }
+        return segments;
+    }
+
+    private FindProductsPriceResponse readPrice(int first) throws IOException {
+        long productId = readUnsigned(first);
+        long brandId = readUnsigned(readByte());
+        int priceList = Math.toIntExact(readUnsigned(readByte()));
+        LocalDateTime startDate = readDate(readByte());
+        LocalDateTime endDate = readDate(readByte());
+        int scale = Math.toIntExact(unzigzag(readUnsigned(readByte())));
+        long unscaled = unzigzag(readUnsigned(readByte()));
+        return new FindProductsPriceResponse(
+                productId, brandId, priceList, startDate, endDate, BigDecimal.valueOf(unscaled, scale));
+    }
+
+    private LocalDateTime readDate(int first) throws IOException {
+        long value = readUnsigned(first);
+        int nanos = (value & 1) == 0 ? 0 : Math.toIntExact(readUnsigned(readByte()));
+        return LocalDateTime.ofEpochSecond(unzigzag(value >>> 1), nanos, ZoneOffset.UTC);
+    }
+
+    private long readUnsigned(int first) throws IOException {
+        long value = first & 0x7F;
+        int current = first;
+        for (int shift = 7; (current & 0x80) != 0; shift += 7) {
+            if (shift > 63) {
+                throw new IOException("Malformed varint in price body");
+            }
+            current = readByte();
+            value |= (long) (current & 0x7F) << shift;
+        }
+        return value;
+    }
+
+    private int readByte() throws IOException {
+        int value = in.read();
+        if (value == -1) {
+            throw new EOFException("Price body ends in the middle of a record");
+        }
+        return value;
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
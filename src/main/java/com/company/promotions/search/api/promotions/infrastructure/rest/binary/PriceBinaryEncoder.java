@@ -0,0 +1,155 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest.binary;
+
+import com.company.promotions.search.api.promotions.infrastructure.rest.FindProductsPriceResponse;
+import com.company.promotions.search.api.promotions.infrastructure.rest.FindProductsPricesBatchItemResponse;
+import com.company.promotions.search.api.promotions.infrastructure.rest.FindProductsPricesBatchResponse;
+import com.company.promotions.search.api.promotions.infrastructure.rest.PriceTimelineResponse;
+import com.company.promotions.search.api.promotions.infrastructure.rest.PriceTimelineSegmentResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Writes price responses in the {@link PriceBinaryFormat} into a growable byte array. Not thread-safe.
+ */
+public final class PriceBinaryEncoder {
+
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(
+            FindProductsPriceResponse.class,
+            FindProductsPricesBatchResponse.class,
+            FindProductsPricesBatchItemResponse.class,
+            PriceTimelineResponse.class,
+            PriceTimelineSegmentResponse.class);
+
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private byte[] buffer;
+    private int size;
+
+    public PriceBinaryEncoder() {
+        this(64);
+    }
+
+    public PriceBinaryEncoder(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, MAX_VARINT_BYTES)];
+    }
+
+    /**
+     * Whether {@link #write(Object)} accepts values of the given type.
+     */
+    public static boolean supports(Class<?> type) {
+        return SUPPORTED_TYPES.contains(type);
+    }
+
+    /**
+     * Encodes a whole body: the format version followed by the value.
+     */
+    public static byte[] encode(Object value) {
+        return new PriceBinaryEncoder().writeVersion().write(value).toByteArray();
+    }
+
+    public PriceBinaryEncoder writeVersion() {
+        ensureCapacity(1);
+        buffer[size++] = (byte) PriceBinaryFormat.VERSION;
+        return this;
+    }
+
+    /**
+     * Writes a single price, result or segment, or every record of a batch or timeline response.
+     */
+    public PriceBinaryEncoder write(Object value) {
+        switch (value) {
+            case FindProductsPriceResponse price -> writePrice(price);
+            case FindProductsPricesBatchItemResponse result -> writeResult(result);
+            case PriceTimelineSegmentResponse segment -> writeSegment(segment);
+            case FindProductsPricesBatchResponse batch -> batch.results().forEach(this::writeResult);
+            case PriceTimelineResponse timeline -> timeline.segments().forEach(this::writeSegment);
+            default -> throw new IllegalArgumentException("Cannot encode " + value.getClass().getName());
+        }
+        return this;
+    }
+
+    public PriceBinaryEncoder writePrice(FindProductsPriceResponse price) {
+        writeUnsigned(price.productId());
+        writeUnsigned(price.brandId());
+        writeUnsigned(price.priceList());
+        writeDate(price.startDate());
+        writeDate(price.endDate());
+        writeAmount(price.price());
+        return this;
+    }
+
+    public PriceBinaryEncoder writeResult(FindProductsPricesBatchItemResponse result) {
+        writeDate(result.applicationDate());
+        writeUnsigned(result.productId());
+        writeUnsigned(result.brandId());
+        writeUnsigned(result.found() ? 1 : 0);
+        if (result.found()) {
+            writePrice(result.price());
+        }
+        return this;
+    }
+
+    public PriceBinaryEncoder writeSegment(PriceTimelineSegmentResponse segment) {
+        writeDate(segment.startDate());
+        writeDate(segment.endDate());
+        writePrice(segment.price());
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    /**
+     * Empties the encoder, keeping its buffer for the next body.
+     */
+    public void reset() {
+        size = 0;
+    }
+
+    private void writeDate(LocalDateTime date) {
+        int nanos = date.getNano();
+        writeUnsigned(zigzag(date.toEpochSecond(ZoneOffset.UTC)) << 1 | (nanos == 0 ? 0 : 1));
+        if (nanos != 0) {
+            writeUnsigned(nanos);
+        }
+    }
+
+    private void writeAmount(BigDecimal amount) {
+        writeUnsigned(zigzag(amount.scale()));
+        writeUnsigned(zigzag(amount.unscaledValue().longValueExact()));
+    }
+
+    private void writeUnsigned(long value) {
+        ensureCapacity(MAX_VARINT_BYTES);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private void ensureCapacity(int needed) {
+        if (size + needed > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + needed));
+        }
+    }
+}
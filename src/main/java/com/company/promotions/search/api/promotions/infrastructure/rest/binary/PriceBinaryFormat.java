@@ -0,0 +1,38 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest.binary;
+
+/**
+ * Compact binary representation of the price responses, for service-to-service clients that would otherwise spend
+ * most of a call formatting and parsing JSON. Requested with {@code Accept: application/vnd.promotions.price}.
+ * <p>
+ * A body starts with one byte holding the format {@link #VERSION}, also sent in the {@link #VERSION_HEADER}
+ * response header, followed by:
+ * <ul>
+ *     <li>{@code GET /prices}: one price</li>
+ *     <li>{@code POST /prices/batch} and {@code GET /prices/timeline/samples}: one result per lookup, in request
+ *     order, up to the end of the body</li>
+ *     <li>{@code GET /prices/timeline}: one segment per stretch of time, in chronological order, up to the end of
+ *     the body</li>
+ * </ul>
+ * Where each record is made of:
+ * <ul>
+ *     <li>price: product id, brand id and price list as varints, start and end dates, amount</li>
+ *     <li>result: application date, product id and brand id as varints, one byte set to 1 when a price was found,
+ *     followed by that price</li>
+ *     <li>segment: start and end dates, price</li>
+ * </ul>
+ * Varints are unsigned LEB128, signed values are zigzag-encoded first. A date is its epoch second in UTC, zigzag
+ * encoded and shifted left by one bit whose value tells whether a varint with the nanoseconds follows. An amount
+ * is its scale and its unscaled value, both signed.
+ * <p>
+ * Since lists are not length-prefixed, a body can be written while its records are still being resolved, and the
+ * streaming endpoints of the reactive stack do so.
+ */
+public final class PriceBinaryFormat {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.promotions.price";
+    public static final String VERSION_HEADER = "X-Price-Format-Version";
+    public static final int VERSION = 1;
+
+    private PriceBinaryFormat() {
+    }
+}
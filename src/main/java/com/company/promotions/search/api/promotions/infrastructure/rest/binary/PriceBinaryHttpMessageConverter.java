@@ -0,0 +1,52 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest.binary;
+
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes the price responses of the blocking web stack in the {@link PriceBinaryFormat}, recording the time spent
+ * as the {@link PriceLookupMetrics.Stage#SERIALIZATION} stage like the JSON converter does. Request bodies are
+ * still read as JSON only.
+ */
+class PriceBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    static final MediaType MEDIA_TYPE = MediaType.parseMediaType(PriceBinaryFormat.MEDIA_TYPE_VALUE);
+
+    private final PriceLookupMetrics metrics;
+
+    PriceBinaryHttpMessageConverter(PriceLookupMetrics metrics) {
+        super(MEDIA_TYPE);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PriceBinaryEncoder.supports(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Price bodies cannot be read in binary form", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        long started = System.nanoTime();
+        PriceBinaryEncoder encoder = new PriceBinaryEncoder().writeVersion().write(value);
+        outputMessage.getHeaders().setContentLength(encoder.size());
+        outputMessage.getHeaders().set(PriceBinaryFormat.VERSION_HEADER, String.valueOf(PriceBinaryFormat.VERSION));
+        encoder.writeTo(outputMessage.getBody());
+        metrics.recordStage(PriceLookupMetrics.Stage.SERIALIZATION, System.nanoTime() - started);
+    }
+}
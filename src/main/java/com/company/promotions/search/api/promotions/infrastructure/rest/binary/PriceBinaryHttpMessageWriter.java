@@ -0,0 +1,64 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest.binary;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.HttpMessageWriter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the price responses of the reactive web stack in the {@link PriceBinaryFormat}. A single value, such as a
+ * whole batch document, is written at once with its length; a {@link Flux} of results or segments is written as
+ * the version byte followed by one flushed record per element, so clients can decode it as it arrives.
+ * <p>
+ * Handlers declared as {@code Publisher<?>} only expose {@code Object} as their element type, so those are
+ * accepted when this media type was explicitly negotiated and checked per element.
+ */
+class PriceBinaryHttpMessageWriter implements HttpMessageWriter<Object> {
+
+    private static final MediaType MEDIA_TYPE = PriceBinaryHttpMessageConverter.MEDIA_TYPE;
+
+    @Override
+    public List<MediaType> getWritableMediaTypes() {
+        return List.of(MEDIA_TYPE);
+    }
+
+    @Override
+    public boolean canWrite(ResolvableType elementType, MediaType mediaType) {
+        if (mediaType != null && !MEDIA_TYPE.isCompatibleWith(mediaType)) {
+            return false;
+        }
+        Class<?> type = elementType.toClass();
+        return PriceBinaryEncoder.supports(type) || (type == Object.class && mediaType != null);
+    }
+
+    @Override
+    public Mono<Void> write(Publisher<?> input, ResolvableType elementType, MediaType mediaType,
+                            ReactiveHttpOutputMessage message, Map<String, Object> hints) {
+        HttpHeaders headers = message.getHeaders();
+        headers.setContentType(MEDIA_TYPE);
+        headers.set(PriceBinaryFormat.VERSION_HEADER, String.valueOf(PriceBinaryFormat.VERSION));
+        DataBufferFactory bufferFactory = message.bufferFactory();
+
+        if (input instanceof Mono<?> single) {
+            return message.writeWith(single.map(value -> {
+                byte[] body = PriceBinaryEncoder.encode(value);
+                headers.setContentLength(body.length);
+                return bufferFactory.wrap(body);
+            }));
+        }
+
+        Flux<DataBuffer> records = Flux.concat(
+                Mono.fromSupplier(() -> bufferFactory.wrap(new PriceBinaryEncoder(1).writeVersion().toByteArray())),
+                Flux.from(input).map(value -> bufferFactory.wrap(new PriceBinaryEncoder().write(value).toByteArray())));
+        return message.writeAndFlushWith(records.map(Flux::just));
+    }
+}
@@ -0,0 +1,21 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest.binary;
+
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+
+/**
+ * Registers the {@link PriceBinaryFormat} converter with Spring MVC. The price endpoints list JSON first in their
+ * {@code produces}, so only clients asking for the binary media type get it.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PriceBinaryMvcConfiguration {
+
+    @Bean
+    public HttpMessageConverter<Object> priceBinaryHttpMessageConverter(PriceLookupMetrics metrics) {
+        return new PriceBinaryHttpMessageConverter(metrics);
+    }
+}
@@ -0,0 +1,19 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest.binary;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Registers the {@link PriceBinaryFormat} writer with Spring WebFlux, next to the JSON and NDJSON codecs.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class PriceBinaryWebFluxConfiguration implements WebFluxConfigurer {
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new PriceBinaryHttpMessageWriter());
+    }
+}
@@ -0,0 +1,26 @@
+package com.company.promotions.search.api.promotions.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Everything the filter needs for one configured API key, built once at startup: the authentication put in the
+ * security context, the key's own rate limiter ({@code null} when unlimited) and its request counters.
+ */
+record ApiClient(
+        String id,
+        Authentication authentication,
+        TokenBucketRateLimiter rateLimiter,
+        Counter allowed,
+        Counter throttled
+) {
+
+    /**
+     * @return 0 if the request is admitted, otherwise how many nanoseconds to wait before retrying
+     */
+    long tryAcquire() {
+        long wait = rateLimiter == null ? 0 : rateLimiter.tryAcquire();
+        (wait == 0 ? allowed : throttled).increment();
+        return wait;
+    }
+}
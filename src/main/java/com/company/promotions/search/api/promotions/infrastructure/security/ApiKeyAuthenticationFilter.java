@@ -1,42 +1,67 @@
 package com.company.promotions.search.api.promotions.infrastructure.security;
 
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Authenticates requests carrying a configured {@code X-API-Key} with the authentication pre-built for that key,
+ * then applies the key's rate limit: requests over the limit are answered with 429 and a {@code Retry-After}
+ * header without reaching the controllers. Requests without a valid key pass through unauthenticated and are
+ * rejected by the authorization rules.
+ */
 public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String API_KEY_HEADER = "X-API-Key";
 
-    private final List<String> validApiKeys;
+    private final ApiKeyRegistry apiKeys;
+    private final PriceLookupMetrics metrics;
 
-    public ApiKeyAuthenticationFilter(List<String> validApiKeys) {
-        this.validApiKeys = validApiKeys;
+    ApiKeyAuthenticationFilter(ApiKeyRegistry apiKeys, PriceLookupMetrics metrics) {
+        this.apiKeys = apiKeys;
+        this.metrics = metrics;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        long started = System.nanoTime();
         String apiKey = request.getHeader(API_KEY_HEADER);
+        ApiClient client = apiKey == null ? null : apiKeys.find(apiKey);
 
-        if (apiKey != null && validApiKeys.contains(apiKey)) {
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    "api-client",
-                    null,
-                    List.of(new SimpleGrantedAuthority("ROLE_API_CLIENT"))
-            );
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (client != null) {
+            long wait = client.tryAcquire();
+            if (wait > 0) {
+                metrics.recordStage(PriceLookupMetrics.Stage.AUTHENTICATION, System.nanoTime() - started);
+                reject(response, wait);
+                return;
+            }
+            SecurityContextHolder.getContext().setAuthentication(client.authentication());
         }
+        metrics.recordStage(PriceLookupMetrics.Stage.AUTHENTICATION, System.nanoTime() - started);
 
         filterChain.doFilter(request, response);
     }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        long retryAfterSeconds = Math.max(1, (waitNanos + second - 1) / second);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.getWriter().write("""
+                {"type":"about:blank","title":"Too Many Requests","status":429,\
+                "detail":"Rate limit of the API key exceeded, retry in %d s"}""".formatted(retryAfterSeconds));
+    }
 }
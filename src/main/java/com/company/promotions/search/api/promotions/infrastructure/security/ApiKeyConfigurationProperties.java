@@ -1,15 +1,58 @@
 package com.company.promotions.search.api.promotions.infrastructure.security;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 import java.util.List;
 
+/**
+ * API keys of the clients, which may use every endpoint except {@code /admin/**}, and of the administrators, which
+ * may also use {@code /admin/**}. Admin keys are optional; without them nobody can call the admin endpoints.
+ */
 @ConfigurationProperties(prefix = "api.security")
-public record ApiKeyConfigurationProperties(List<String> keys) {
+public record ApiKeyConfigurationProperties(
+        List<String> keys,
+        List<String> adminKeys,
+        @DefaultValue RateLimit rateLimit
+) {
 
     public ApiKeyConfigurationProperties {
         if (keys == null || keys.isEmpty()) {
             throw new IllegalArgumentException("At least one API key must be configured");
         }
+        adminKeys = adminKeys == null ? List.of() : List.copyOf(adminKeys);
+        for (String adminKey : adminKeys) {
+            if (keys.contains(adminKey)) {
+                throw new IllegalArgumentException("An API key cannot be both a client and an admin key");
+            }
+        }
+    }
+
+    public ApiKeyConfigurationProperties(List<String> keys) {
+        this(keys, List.of(), RateLimit.unlimited());
+    }
+
+    /**
+     * Token bucket applied to each API key on its own: a key may send {@code burst} requests at once and then
+     * {@code requestsPerSecond} on average.
+     */
+    public record RateLimit(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("500") double requestsPerSecond,
+            @DefaultValue("1000") int burst
+    ) {
+
+        public RateLimit {
+            if (requestsPerSecond <= 0) {
+                throw new IllegalArgumentException("Rate limit requests per second must be positive");
+            }
+            if (burst <= 0) {
+                throw new IllegalArgumentException("Rate limit burst must be positive");
+            }
+        }
+
+        public static RateLimit unlimited() {
+            return new RateLimit(false, 1, 1);
+        }
     }
 }
@@ -0,0 +1,87 @@
+package com.company.promotions.search.api.promotions.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The configured API keys, stored only as SHA-256 digests in a hash map. A presented key is digested and looked
+ * up; the digests are then compared with {@link MessageDigest#isEqual}, which takes the same time wherever they
+ * differ. Neither the lookup nor the comparison touches the raw key, so their timing says nothing about it.
+ * <p>
+ * Clients are identified in metrics as {@code api-client-1}, {@code api-client-2}, ... in configuration order, and
+ * administrators as {@code api-admin-1}, {@code api-admin-2}, ... Every key is granted {@value #CLIENT_ROLE};
+ * admin keys are also granted {@value #ADMIN_ROLE}.
+ */
+final class ApiKeyRegistry {
+
+    static final String CLIENT_ROLE = "ROLE_API_CLIENT";
+    static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    private static final List<GrantedAuthority> CLIENT_AUTHORITIES = List.of(new SimpleGrantedAuthority(CLIENT_ROLE));
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(
+            new SimpleGrantedAuthority(CLIENT_ROLE), new SimpleGrantedAuthority(ADMIN_ROLE));
+
+    private final Map<String, Entry> entries;
+
+    ApiKeyRegistry(ApiKeyConfigurationProperties properties, MeterRegistry meterRegistry) {
+        this.entries = new HashMap<>((properties.keys().size() + properties.adminKeys().size()) * 2);
+        register(properties.keys(), "api-client-", CLIENT_AUTHORITIES, properties.rateLimit(), meterRegistry);
+        register(properties.adminKeys(), "api-admin-", ADMIN_AUTHORITIES, properties.rateLimit(), meterRegistry);
+    }
+
+    /**
+     * @return the client the key belongs to, or {@code null} if the key is not configured
+     */
+    ApiClient find(String apiKey) {
+        byte[] digest = digest(apiKey);
+        Entry entry = entries.get(HexFormat.of().formatHex(digest));
+        return entry != null && MessageDigest.isEqual(entry.digest(), digest) ? entry.client() : null;
+    }
+
+    private void register(List<String> keys, String idPrefix, List<GrantedAuthority> authorities,
+                          ApiKeyConfigurationProperties.RateLimit rateLimit, MeterRegistry meterRegistry) {
+        for (int i = 0; i < keys.size(); i++) {
+            String id = idPrefix + (i + 1);
+            byte[] digest = digest(keys.get(i));
+            ApiClient client = new ApiClient(
+                    id,
+                    UsernamePasswordAuthenticationToken.authenticated(id, null, authorities),
+                    rateLimit.enabled()
+                            ? new TokenBucketRateLimiter(rateLimit.requestsPerSecond(), rateLimit.burst())
+                            : null,
+                    requestCounter(meterRegistry, id, "allowed"),
+                    requestCounter(meterRegistry, id, "throttled"));
+            entries.putIfAbsent(HexFormat.of().formatHex(digest), new Entry(digest, client));
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String client, String outcome) {
+        return Counter.builder("api.requests")
+                .description("Authenticated requests per API client, by rate limiting outcome")
+                .tag("client", client)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static byte[] digest(String apiKey) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Entry(byte[] digest, ApiClient client) {
+    }
+}
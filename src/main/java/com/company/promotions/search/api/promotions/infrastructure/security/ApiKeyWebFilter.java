@@ -0,0 +1,66 @@
+package com.company.promotions.search.api.promotions.infrastructure.security;
+
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reactive counterpart of {@link ApiKeyAuthenticationFilter}: same key lookup, same rate limit and same 429
+ * response, with the authentication handed down the chain through the Reactor context.
+ */
+public class ApiKeyWebFilter implements WebFilter {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+
+    private final ApiKeyRegistry apiKeys;
+    private final PriceLookupMetrics metrics;
+
+    ApiKeyWebFilter(ApiKeyRegistry apiKeys, PriceLookupMetrics metrics) {
+        this.apiKeys = apiKeys;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long started = System.nanoTime();
+        String apiKey = exchange.getRequest().getHeaders().getFirst(API_KEY_HEADER);
+        ApiClient client = apiKey == null ? null : apiKeys.find(apiKey);
+
+        if (client == null) {
+            metrics.recordStage(PriceLookupMetrics.Stage.AUTHENTICATION, System.nanoTime() - started);
+            return chain.filter(exchange);
+        }
+        long wait = client.tryAcquire();
+        metrics.recordStage(PriceLookupMetrics.Stage.AUTHENTICATION, System.nanoTime() - started);
+        if (wait > 0) {
+            return reject(exchange.getResponse(), wait);
+        }
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(client.authentication()));
+    }
+
+    private static Mono<Void> reject(ServerHttpResponse response, long waitNanos) {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        long retryAfterSeconds = Math.max(1, (waitNanos + second - 1) / second);
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.getHeaders().setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+        DataBuffer body = response.bufferFactory().wrap("""
+                {"type":"about:blank","title":"Too Many Requests","status":429,\
+                "detail":"Rate limit of the API key exceeded, retry in %d s"}"""
+                .formatted(retryAfterSeconds)
+                .getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(body));
+    }
+}
@@ -0,0 +1,60 @@
+package com.company.promotions.search.api.promotions.infrastructure.security;
+
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * Same rules as {@link SecurityConfiguration} for the reactive web stack.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(ApiKeyConfigurationProperties.class)
+public class ReactiveSecurityConfiguration {
+
+    private final ApiKeyConfigurationProperties apiKeyProperties;
+    private final PriceLookupMetrics priceLookupMetrics;
+    private final MeterRegistry meterRegistry;
+
+    public ReactiveSecurityConfiguration(ApiKeyConfigurationProperties apiKeyProperties,
+                                         PriceLookupMetrics priceLookupMetrics,
+                                         MeterRegistry meterRegistry) {
+        this.apiKeyProperties = apiKeyProperties;
+        this.priceLookupMetrics = priceLookupMetrics;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(csrf -> csrf.disable())
+                .httpBasic(httpBasic -> httpBasic.disable())
+                .formLogin(formLogin -> formLogin.disable())
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED))
+                )
+                .authorizeExchange(auth -> auth
+                        .pathMatchers("/actuator/health/liveness", "/actuator/health/readiness").permitAll()
+                        .pathMatchers("/admin/**").hasRole("ADMIN")
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(
+                        new ApiKeyWebFilter(
+                                new ApiKeyRegistry(apiKeyProperties, meterRegistry), priceLookupMetrics),
+                        SecurityWebFiltersOrder.AUTHENTICATION
+                )
+                .build();
+    }
+}
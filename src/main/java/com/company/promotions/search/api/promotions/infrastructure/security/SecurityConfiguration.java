@@ -1,5 +1,8 @@
 package com.company.promotions.search.api.promotions.infrastructure.security;
 
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,13 +16,20 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableConfigurationProperties(ApiKeyConfigurationProperties.class)
 public class SecurityConfiguration {
 
     private final ApiKeyConfigurationProperties apiKeyProperties;
+    private final PriceLookupMetrics priceLookupMetrics;
+    private final MeterRegistry meterRegistry;
 
-    public SecurityConfiguration(ApiKeyConfigurationProperties apiKeyProperties) {
+    public SecurityConfiguration(ApiKeyConfigurationProperties apiKeyProperties,
+                                 PriceLookupMetrics priceLookupMetrics,
+                                 MeterRegistry meterRegistry) {
         this.apiKeyProperties = apiKeyProperties;
+        this.priceLookupMetrics = priceLookupMetrics;
+        this.meterRegistry = meterRegistry;
     }
 
     @Bean
@@ -32,10 +42,13 @@ public class SecurityConfiguration {
                 )
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                        .requestMatchers("/actuator/health/liveness", "/actuator/health/readiness").permitAll()
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(
-                        new ApiKeyAuthenticationFilter(apiKeyProperties.keys()),
+                        new ApiKeyAuthenticationFilter(
+                                new ApiKeyRegistry(apiKeyProperties, meterRegistry), priceLookupMetrics),
                         UsernamePasswordAuthenticationFilter.class
                 )
                 .build();
@@ -0,0 +1,131 @@
+package com.company.promotions.search.api.promotions.infrastructure.transitions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: items due within {@code wheelSize} ticks sit in the bucket of their tick on the first
+ * wheel, later ones in a coarser wheel whose tick is a whole turn of the wheel below, added as needed. Scheduling
+ * is constant time and advancing costs one bucket per tick, however many items are waiting; when a wheel completes
+ * a turn, the next bucket of the wheel above is spread over it.
+ * <p>
+ * Items fire at the start of the tick holding their deadline, so up to one tick early and never late. Not
+ * thread-safe: the owner schedules and advances from a single thread.
+ */
+final class HierarchicalTimingWheel<T> {
+
+    private final Level<T> first;
+    private int size;
+
+    /**
+     * @param startMillis the current time, rounded down to a tick
+     */
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("Timing wheels need a positive tick and at least two buckets");
+        }
+        this.first = new Level<>(tickMillis, wheelSize, startMillis);
+    }
+
+    /**
+     * Schedules {@code item} for {@code deadlineMillis}.
+     *
+     * @return false, without scheduling it, if the deadline falls within the current tick or before
+     */
+    boolean schedule(long deadlineMillis, T item) {
+        if (!first.add(new Entry<>(deadlineMillis, item))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward tick by tick up to {@code nowMillis}, handing every item that becomes due to
+     * {@code expired} in deadline order across ticks.
+     */
+    void advanceTo(long nowMillis, Consumer<? super T> expired) {
+        while (first.currentTime + first.tickMillis <= nowMillis) {
+            long time = first.currentTime + first.tickMillis;
+            List<Level<T>> turned = new ArrayList<>();
+            Level<T> level = first;
+            while (level != null && Math.floorMod(time, level.tickMillis) == 0) {
+                level.currentTime = time;
+                turned.add(level);
+                level = level.overflow;
+            }
+            for (int i = turned.size() - 1; i > 0; i--) {
+                for (Entry<T> entry : turned.get(i).drain(time)) {
+                    if (!first.add(entry)) {
+                        size--;
+                        expired.accept(entry.item());
+                    }
+                }
+            }
+            for (Entry<T> entry : first.drain(time)) {
+                size--;
+                expired.accept(entry.item());
+            }
+        }
+    }
+
+    long currentTimeMillis() {
+        return first.currentTime;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private record Entry<T>(long deadlineMillis, T item) {
+    }
+
+    private static final class Level<T> {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long intervalMillis;
+        private final List<List<Entry<T>>> buckets;
+        private long currentTime;
+        private Level<T> overflow;
+
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.intervalMillis = Math.multiplyExact(tickMillis, (long) wheelSize);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        }
+
+        private boolean add(Entry<T> entry) {
+            if (entry.deadlineMillis() < currentTime + tickMillis) {
+                return false;
+            }
+            if (entry.deadlineMillis() < currentTime + intervalMillis) {
+                buckets.get(bucketOf(entry.deadlineMillis())).add(entry);
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(intervalMillis, wheelSize, currentTime);
+            }
+            return overflow.add(entry);
+        }
+
+        private List<Entry<T>> drain(long time) {
+            List<Entry<T>> bucket = buckets.get(bucketOf(time));
+            if (bucket.isEmpty()) {
+                return List.of();
+            }
+            buckets.set(bucketOf(time), new ArrayList<>());
+            return bucket;
+        }
+
+        private int bucketOf(long millis) {
+            return (int) Math.floorMod(Math.floorDiv(millis, tickMillis), (long) wheelSize);
+        }
+    }
+}
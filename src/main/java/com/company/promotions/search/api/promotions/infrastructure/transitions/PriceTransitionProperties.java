@@ -0,0 +1,36 @@
+package com.company.promotions.search.api.promotions.infrastructure.transitions;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Preparation of upcoming price transitions: those within {@code horizon} are loaded every
+ * {@code reloadInterval} and prepared {@code lead} ahead of their instant, on a timing wheel ticking every
+ * {@code tick}.
+ */
+@ConfigurationProperties(prefix = "promotions.transitions")
+public record PriceTransitionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration tick,
+        @DefaultValue("5s") Duration lead,
+        @DefaultValue("24h") Duration horizon,
+        @DefaultValue("1h") Duration reloadInterval
+) {
+
+    public PriceTransitionProperties {
+        if (tick == null || tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("Transition tick must be at least one millisecond");
+        }
+        if (lead == null || lead.compareTo(tick) <= 0) {
+            throw new IllegalArgumentException("Transition lead must be longer than the tick");
+        }
+        if (reloadInterval == null || reloadInterval.isNegative() || reloadInterval.isZero()) {
+            throw new IllegalArgumentException("Transition reload interval must be positive");
+        }
+        if (horizon == null || horizon.compareTo(reloadInterval) < 0) {
+            throw new IllegalArgumentException("Transition horizon cannot be shorter than the reload interval");
+        }
+    }
+}
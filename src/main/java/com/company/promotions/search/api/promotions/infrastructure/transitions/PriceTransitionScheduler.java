@@ -0,0 +1,211 @@
+package com.company.promotions.search.api.promotions.infrastructure.transitions;
+
+import com.company.promotions.search.api.promotions.application.FindProductsPriceBetweenDatesUseCase;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceTransition;
+import com.company.promotions.search.api.promotions.domain.PriceTransitionRepository;
+import com.company.promotions.search.api.promotions.domain.PricesChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prepares the effective price of cached keys ahead of every price start and end, so that lookups at the moment a
+ * promotion begins or ends are answered from the effective price cache instead of all missing at once.
+ * <p>
+ * The transitions within {@code promotions.transitions.horizon} are loaded into a {@link HierarchicalTimingWheel}
+ * with a deadline {@code promotions.transitions.lead} before their instant; when one fires, its key is prepared
+ * through {@link FindProductsPriceBetweenDatesUseCase#prepareTransition}. The wheel is rebuilt every
+ * {@code promotions.transitions.reload-interval} and after a change of unknown keys; changes of known keys only
+ * add the new transitions of those keys, since preparing a transition that no longer exists is harmless.
+ * <p>
+ * The wheel is only touched from the scheduler thread. Enabled with {@code promotions.transitions.enabled=true}.
+ * Exposes {@code prices.transitions.scheduled}, the transitions waiting in the wheel, and
+ * {@code prices.transitions.prepared}, the transitions prepared so far.
+ */
+@Component
+@ConditionalOnProperty(name = "promotions.transitions.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(PriceTransitionProperties.class)
+public class PriceTransitionScheduler implements SmartLifecycle {
+
+    static final int WHEEL_SIZE = 64;
+
+    private static final Logger log = LoggerFactory.getLogger(PriceTransitionScheduler.class);
+
+    private final PriceTransitionRepository transitionRepository;
+    private final FindProductsPriceBetweenDatesUseCase findProductsPriceUseCase;
+    private final PriceTransitionProperties properties;
+    private final Clock clock;
+    private final Counter prepared;
+    private final Set<PriceKey> changedKeys = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean reloadAll = true;
+    private volatile int scheduled;
+    private volatile ScheduledExecutorService executor;
+
+    private HierarchicalTimingWheel<PriceTransition> wheel;
+    private LocalDateTime loadedUntil;
+    private LocalDateTime reloadAt;
+
+    public PriceTransitionScheduler(PriceTransitionRepository transitionRepository,
+                                    FindProductsPriceBetweenDatesUseCase findProductsPriceUseCase,
+                                    PriceTransitionProperties properties, MeterRegistry meterRegistry) {
+        this(transitionRepository, findProductsPriceUseCase, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    PriceTransitionScheduler(PriceTransitionRepository transitionRepository,
+                             FindProductsPriceBetweenDatesUseCase findProductsPriceUseCase,
+                             PriceTransitionProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.transitionRepository = transitionRepository;
+        this.findProductsPriceUseCase = findProductsPriceUseCase;
+        this.properties = properties;
+        this.clock = clock;
+        this.prepared = Counter.builder("prices.transitions.prepared")
+                .description("Price transitions prepared ahead of their instant")
+                .register(meterRegistry);
+        Gauge.builder("prices.transitions.scheduled", this, scheduler -> scheduler.scheduled)
+                .description("Upcoming price transitions waiting in the timing wheel")
+                .baseUnit("transitions")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("price-transitions").daemon().factory());
+        long tick = properties.tick().toMillis();
+        scheduler.scheduleAtFixedRate(this::tickQuietly, 0, tick, TimeUnit.MILLISECONDS);
+        this.executor = scheduler;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService scheduler = executor;
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        if (event.allKeys()) {
+            reloadAll = true;
+        } else {
+            changedKeys.addAll(event.keys());
+        }
+    }
+
+    /**
+     * Loads whatever the last changes require and prepares every transition that became due.
+     *
+     * @return the number of transitions prepared
+     */
+    int tick() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Set<PriceTransition> due = new LinkedHashSet<>();
+        if (reloadAll || wheel == null || !now.isBefore(reloadAt)) {
+            reload(now, due);
+        } else if (!changedKeys.isEmpty()) {
+            List<PriceKey> keys = new ArrayList<>(changedKeys);
+            changedKeys.removeAll(keys);
+            schedule(transitionRepository.findTransitions(keys, now, loadedUntil), due);
+        }
+        wheel.advanceTo(millisOf(now), due::add);
+        scheduled = wheel.size();
+
+        Set<Due> prepares = new LinkedHashSet<>();
+        for (PriceTransition transition : due) {
+            prepares.add(new Due(transition.key(), transition.at()));
+        }
+        int preparedNow = 0;
+        for (Due prepare : prepares) {
+            try {
+                findProductsPriceUseCase.prepareTransition(prepare.key(), prepare.at());
+                prepared.increment();
+                preparedNow++;
+            } catch (RuntimeException e) {
+                log.warn("Could not prepare the price transition of {} at {}", prepare.key(), prepare.at(), e);
+            }
+        }
+        return preparedNow;
+    }
+
+    int scheduled() {
+        return scheduled;
+    }
+
+    private void reload(LocalDateTime now, Set<PriceTransition> due) {
+        reloadAll = false;
+        changedKeys.clear();
+        LocalDateTime until = now.plus(properties.horizon());
+        List<PriceTransition> transitions;
+        try {
+            transitions = transitionRepository.findTransitions(now, until);
+        } catch (RuntimeException e) {
+            reloadAll = true;
+            throw e;
+        }
+        wheel = new HierarchicalTimingWheel<>(properties.tick().toMillis(), WHEEL_SIZE, millisOf(now));
+        loadedUntil = until;
+        reloadAt = now.plus(properties.reloadInterval());
+        schedule(transitions, due);
+        log.debug("Scheduled {} price transitions until {}", transitions.size(), loadedUntil);
+    }
+
+    private void schedule(List<PriceTransition> transitions, Set<PriceTransition> due) {
+        for (PriceTransition transition : transitions) {
+            if (!wheel.schedule(millisOf(transition.at().minus(properties.lead())), transition)) {
+                due.add(transition);
+            }
+        }
+    }
+
+    private void tickQuietly() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            log.warn("Failed to prepare price transitions, retrying on the next tick", e);
+        }
+    }
+
+    private long millisOf(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Transitions of the same key at the same instant, e.g. one price ending as another starts, need a single
+     * preparation.
+     */
+    private record Due(PriceKey key, LocalDateTime at) {
+    }
+}
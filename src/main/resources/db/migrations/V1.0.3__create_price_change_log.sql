@@ -0,0 +1,18 @@
+-- Change log of promotions.prices, filled by a trigger so that every write path is captured (JPA, bulk JDBC
+-- inserts, manual SQL). change_id is the monotonically increasing sequence the change feed polls from.
+CREATE TABLE IF NOT EXISTS promotions.price_changes
+(
+    change_id  BIGINT AUTO_INCREMENT PRIMARY KEY,
+    price_id   BIGINT    NOT NULL,
+    product_id BIGINT    NOT NULL,
+    brand_id   BIGINT    NOT NULL,
+    operation  CHAR(1)   NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_price_changes_changed_at ON promotions.price_changes (changed_at);
+
+CREATE TRIGGER IF NOT EXISTS promotions.prices_change_log
+    AFTER INSERT, UPDATE, DELETE ON promotions.prices
+    FOR EACH ROW
+    CALL 'com.company.promotions.search.api.promotions.infrastructure.changefeed.PriceChangeLogTrigger';
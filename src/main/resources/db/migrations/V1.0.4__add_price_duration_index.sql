@@ -0,0 +1,10 @@
+-- Length of every validity range, computed by the database on insert and update. Microseconds are the precision
+-- of TIMESTAMP, so ranges compare exactly as they do in Java.
+ALTER TABLE promotions.prices
+    ADD COLUMN IF NOT EXISTS duration_micros BIGINT GENERATED ALWAYS AS (DATEDIFF(MICROSECOND, start_date, end_date));
+
+-- Covering index for the most specific price query: seeks to the product and brand, walks the ranges from the
+-- shortest one in the query's ORDER BY and stops at the first that contains the instant, reading every selected
+-- column from the index itself.
+CREATE INDEX IF NOT EXISTS idx_prices_most_specific ON promotions.prices
+    (product_id, brand_id, duration_micros, priority DESC, id, start_date, end_date, price_list, price, currency);
@@ -0,0 +1,18 @@
+-- Prices reference promotions.currencies by ISO numeric code instead of holding the code itself. The covering
+-- index of V1.0.4 includes the currency, so it is rebuilt over the new column.
+ALTER TABLE promotions.prices ADD COLUMN IF NOT EXISTS currency_id SMALLINT;
+
+UPDATE promotions.prices p
+SET currency_id = (SELECT c.id FROM promotions.currencies c WHERE c.code = p.currency);
+
+ALTER TABLE promotions.prices ALTER COLUMN currency_id SET NOT NULL;
+
+ALTER TABLE promotions.prices
+    ADD CONSTRAINT IF NOT EXISTS fk_prices_currency FOREIGN KEY (currency_id) REFERENCES promotions.currencies (id);
+
+DROP INDEX IF EXISTS promotions.idx_prices_most_specific;
+
+ALTER TABLE promotions.prices DROP COLUMN IF EXISTS currency;
+
+CREATE INDEX IF NOT EXISTS idx_prices_most_specific ON promotions.prices
+    (product_id, brand_id, duration_micros, priority DESC, id, start_date, end_date, price_list, price, currency_id);
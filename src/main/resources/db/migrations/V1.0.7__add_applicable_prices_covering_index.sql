@@ -0,0 +1,8 @@
+-- Covering index for the applicable prices query and the overlap queries: seeks to the product and brand, walks the
+-- ranges starting before the instant and reads every column of the row from the index itself, so no match costs a
+-- second lookup into the primary key (the id is the row key, held by every index entry). It replaces the index of
+-- V1.0.1, which had the same leading columns but none of the selected ones.
+DROP INDEX IF EXISTS promotions.idx_brand_product_prices_dates;
+
+CREATE INDEX IF NOT EXISTS idx_prices_applicable ON promotions.prices
+    (product_id, brand_id, start_date, end_date, priority, price_list, price, currency_id, duration_micros);
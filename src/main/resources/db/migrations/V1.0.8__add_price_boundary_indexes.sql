@@ -0,0 +1,7 @@
+-- Price boundaries in time order, for the transitions query: one range scan over the starts and one over the ends
+-- of a window, optionally for a single brand, reading every selected column from the index itself.
+CREATE INDEX IF NOT EXISTS idx_prices_start_date ON promotions.prices
+    (start_date, brand_id, product_id, price_list);
+
+CREATE INDEX IF NOT EXISTS idx_prices_end_date ON promotions.prices
+    (end_date, brand_id, product_id, price_list);
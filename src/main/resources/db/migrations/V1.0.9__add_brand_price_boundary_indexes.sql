@@ -0,0 +1,7 @@
+-- Price boundaries of a single brand in time order, for the per-brand transitions query: the indexes of V1.0.8 lead
+-- with the date, so filtering one brand through them reads the boundaries of every brand in the window.
+CREATE INDEX IF NOT EXISTS idx_prices_brand_start_date ON promotions.prices
+    (brand_id, start_date, product_id, price_list);
+
+CREATE INDEX IF NOT EXISTS idx_prices_brand_end_date ON promotions.prices
+    (brand_id, end_date, product_id, price_list);
@@ -1,11 +1,16 @@
 package com.company.promotions.search.api.promotions.application;
 
+import com.company.promotions.search.api.promotions.domain.EffectivePriceCache;
 import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
 import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.PriceSegment;
+import com.company.promotions.search.api.promotions.domain.exceptions.InvalidProductIdException;
 import com.company.promotions.search.api.promotions.domain.vo.BrandId;
 import com.company.promotions.search.api.promotions.domain.vo.ProductId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -13,15 +18,26 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static com.company.promotions.search.api.promotions.domain.PriceBuilder.aPrice;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,7 +50,9 @@ class FindProductsPriceBetweenDatesUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new FindProductsPriceBetweenDatesUseCase(priceRepository);
+        useCase = new FindProductsPriceBetweenDatesUseCase(
+                priceRepository, EffectivePriceCache.disabled(), PriceLookupMetrics.noop(),
+                LookupCoalescer.none(), HotKeyTracker.none());
     }
 
     @Test
@@ -159,4 +177,459 @@ class FindProductsPriceBetweenDatesUseCaseTest {
         assertThat(dto.endDate()).isEqualTo(endDate);
         assertThat(dto.price()).isEqualByComparingTo(BigDecimal.valueOf(30.50));
     }
+
+    @Nested
+    @DisplayName("with effective price cache")
+    class WithEffectivePriceCacheTest {
+
+        private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1L));
+
+        @Mock
+        private EffectivePriceCache effectivePriceCache;
+
+        private final Price wideRangePrice = aPrice()
+                .withPriceListId(1L)
+                .withDateRange(
+                        LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                        LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .withMoney(BigDecimal.valueOf(35.50), "EUR")
+                .build();
+
+        private final Price narrowRangePrice = aPrice()
+                .withPriceListId(2L)
+                .withDateRange(
+                        LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                        LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+                .withMoney(BigDecimal.valueOf(25.45), "EUR")
+                .build();
+
+        private FindProductsPriceBetweenDatesUseCase cachedUseCase;
+
+        @BeforeEach
+        void setUp() {
+            cachedUseCase = new FindProductsPriceBetweenDatesUseCase(
+                    priceRepository, effectivePriceCache, PriceLookupMetrics.noop(),
+                    LookupCoalescer.none(), HotKeyTracker.none());
+        }
+
+        @Test
+        @DisplayName("Should answer from the cache without querying the repository")
+        void shouldAnswerFromCache() {
+            LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+            PriceSegment segment = new PriceSegment(
+                    narrowRangePrice.getDateRange().startDate(),
+                    narrowRangePrice.getDateRange().endDate(),
+                    narrowRangePrice);
+            when(effectivePriceCache.get(KEY, applicationDate)).thenReturn(Optional.of(segment));
+
+            Optional<ApplicablePriceDto> result = cachedUseCase.execute(applicationDate, 35455L, 1L);
+
+            assertThat(result).isPresent();
+            assertThat(result.get().priceList()).isEqualTo(2);
+            verifyNoInteractions(priceRepository);
+        }
+
+        @Test
+        @DisplayName("Should cache the winner with the range it stays the winner for")
+        void shouldCacheWinnerWithItsValidityRange() {
+            LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+            when(effectivePriceCache.get(KEY, applicationDate)).thenReturn(Optional.empty());
+            when(effectivePriceCache.isEnabled()).thenReturn(true);
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(List.of(wideRangePrice));
+            when(priceRepository.findPricesOverlapping(List.of(KEY),
+                    wideRangePrice.getDateRange().startDate(),
+                    wideRangePrice.getDateRange().endDate()))
+                    .thenReturn(List.of(wideRangePrice, narrowRangePrice));
+
+            Optional<ApplicablePriceDto> result = cachedUseCase.execute(applicationDate, 35455L, 1L);
+
+            assertThat(result).isPresent();
+            assertThat(result.get().priceList()).isEqualTo(1);
+            verify(effectivePriceCache).put(KEY, new PriceSegment(
+                    LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 15, 0, 0).minusNanos(1),
+                    wideRangePrice));
+        }
+
+        @Test
+        @DisplayName("Should not cache anything when no price applies")
+        void shouldNotCacheWhenNoPriceApplies() {
+            LocalDateTime applicationDate = LocalDateTime.of(2019, 1, 1, 10, 0, 0);
+            when(effectivePriceCache.get(KEY, applicationDate)).thenReturn(Optional.empty());
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(Collections.emptyList());
+
+            Optional<ApplicablePriceDto> result = cachedUseCase.execute(applicationDate, 35455L, 1L);
+
+            assertThat(result).isEmpty();
+            verify(effectivePriceCache, never()).put(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should prepare the segment starting at a transition of a cached key")
+        void shouldPrepareSegmentStartingAtTransition() {
+            LocalDateTime transition = LocalDateTime.of(2020, 6, 14, 15, 0, 0);
+            when(effectivePriceCache.isCached(KEY)).thenReturn(true);
+            when(priceRepository.findApplicablePrices(any(), any(), eq(transition)))
+                    .thenReturn(List.of(wideRangePrice, narrowRangePrice));
+            when(priceRepository.findPricesOverlapping(List.of(KEY),
+                    narrowRangePrice.getDateRange().startDate(),
+                    narrowRangePrice.getDateRange().endDate()))
+                    .thenReturn(List.of(wideRangePrice, narrowRangePrice));
+
+            cachedUseCase.prepareTransition(KEY, transition);
+
+            verify(effectivePriceCache).putNext(KEY, new PriceSegment(
+                    LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                    narrowRangePrice));
+            verify(effectivePriceCache, never()).put(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should not prepare transitions of keys that are not cached")
+        void shouldNotPrepareUncachedKeys() {
+            when(effectivePriceCache.isCached(KEY)).thenReturn(false);
+
+            cachedUseCase.prepareTransition(KEY, LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+
+            verifyNoInteractions(priceRepository);
+            verify(effectivePriceCache, never()).putNext(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("executeWithWindow")
+    class ExecuteWithWindowTest {
+
+        private final Price wideRangePrice = aPrice()
+                .withPriceListId(1L)
+                .withDateRange(
+                        LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                        LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .build();
+
+        private final Price narrowRangePrice = aPrice()
+                .withPriceListId(2L)
+                .withDateRange(
+                        LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                        LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+                .build();
+
+        @Test
+        @DisplayName("Should end the window where a more specific price starts")
+        void shouldEndWindowWhereMoreSpecificPriceStarts() {
+            LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(List.of(wideRangePrice));
+            when(priceRepository.findPricesOverlapping(any(), any(), any()))
+                    .thenReturn(List.of(wideRangePrice, narrowRangePrice));
+
+            Optional<ApplicablePriceWindowDto> result = useCase.executeWithWindow(applicationDate, 35455L, 1L);
+
+            assertThat(result).isPresent();
+            assertThat(result.get().price().priceList()).isEqualTo(1);
+            assertThat(result.get().validFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0, 0));
+            assertThat(result.get().validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0, 0).minusNanos(1));
+        }
+
+        @Test
+        @DisplayName("Should narrow the window to the instant when the prices changed in between")
+        void shouldNarrowWindowWhenPricesChanged() {
+            LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(List.of(wideRangePrice));
+            when(priceRepository.findPricesOverlapping(any(), any(), any())).thenReturn(List.of());
+
+            Optional<ApplicablePriceWindowDto> result = useCase.executeWithWindow(applicationDate, 35455L, 1L);
+
+            assertThat(result).isPresent();
+            assertThat(result.get().validFrom()).isEqualTo(applicationDate);
+            assertThat(result.get().validUntil()).isEqualTo(applicationDate);
+        }
+
+        @Test
+        @DisplayName("Should return empty when no price applies")
+        void shouldReturnEmptyWhenNoPriceApplies() {
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(List.of());
+
+            assertThat(useCase.executeWithWindow(LocalDateTime.of(2019, 1, 1, 0, 0, 0), 35455L, 1L)).isEmpty();
+            verify(priceRepository, never()).findPricesOverlapping(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("with lookup metrics")
+    class WithLookupMetricsTest {
+
+        @Mock
+        private PriceLookupMetrics metrics;
+
+        private FindProductsPriceBetweenDatesUseCase instrumentedUseCase;
+
+        @BeforeEach
+        void setUp() {
+            instrumentedUseCase = new FindProductsPriceBetweenDatesUseCase(
+                    priceRepository, EffectivePriceCache.disabled(), metrics,
+                    LookupCoalescer.none(), HotKeyTracker.none());
+        }
+
+        @Test
+        @DisplayName("Should record candidates, selection time and a found outcome")
+        void shouldRecordFoundLookup() {
+            Price price = aPrice().build();
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(List.of(price, price));
+
+            instrumentedUseCase.execute(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 35455L, 1L);
+
+            verify(metrics).recordCandidates(1L, 2);
+            verify(metrics).recordStage(eq(PriceLookupMetrics.Stage.SELECTION), anyLong());
+            verify(metrics).recordLookup(eq(1L), eq(true), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should record a not found outcome when no price applies")
+        void shouldRecordNotFoundLookup() {
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(Collections.emptyList());
+
+            instrumentedUseCase.execute(LocalDateTime.of(2019, 1, 1, 10, 0, 0), 35455L, 1L);
+
+            verify(metrics).recordCandidates(1L, 0);
+            verify(metrics).recordLookup(eq(1L), eq(false), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("with lookup coalescer")
+    class WithLookupCoalescerTest {
+
+        private final List<Object> coalescedKeys = new ArrayList<>();
+        private final Map<Object, Object> runs = new HashMap<>();
+
+        private final Price wideRangePrice = aPrice()
+                .withPriceListId(1L)
+                .withDateRange(
+                        LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                        LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .build();
+
+        private final Price narrowRangePrice = aPrice()
+                .withPriceListId(2L)
+                .withDateRange(
+                        LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                        LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+                .build();
+
+        private FindProductsPriceBetweenDatesUseCase coalescingUseCase;
+
+        @BeforeEach
+        void setUp() {
+            // Every caller joins the first run for its key, as if they had all arrived while it was in flight
+            coalescingUseCase = new FindProductsPriceBetweenDatesUseCase(
+                    priceRepository, EffectivePriceCache.disabled(), PriceLookupMetrics.noop(),
+                    new LookupCoalescer() {
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public <T> T coalesce(Object key, Supplier<T> lookup, Predicate<? super T> accept) {
+                            coalescedKeys.add(key);
+                            T shared = (T) runs.computeIfAbsent(key, ignored -> lookup.get());
+                            return accept.test(shared) ? shared : lookup.get();
+                        }
+                    },
+                    HotKeyTracker.none());
+        }
+
+        @Test
+        @DisplayName("Should coalesce on product and brand")
+        void shouldCoalesceOnProductAndBrand() {
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(List.of(aPrice().build()));
+            LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+            coalescingUseCase.executeWithWindow(applicationDate, 35455L, 1L);
+            coalescingUseCase.executeWithWindow(applicationDate.plusSeconds(1), 35455L, 1L);
+            coalescingUseCase.executeWithWindow(applicationDate, 35455L, 2L);
+
+            assertThat(coalescedKeys).hasSize(3);
+            assertThat(coalescedKeys.get(1)).isEqualTo(coalescedKeys.get(0));
+            assertThat(coalescedKeys.get(2)).isNotEqualTo(coalescedKeys.get(0));
+        }
+
+        @Test
+        @DisplayName("Should also coalesce on the instant when the lookup establishes no window and nothing is cached")
+        void shouldCoalesceOnInstantWithoutWindowOrCache() {
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(List.of(aPrice().build()));
+            LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+            coalescingUseCase.execute(applicationDate, 35455L, 1L);
+            coalescingUseCase.execute(applicationDate, 35455L, 1L);
+            coalescingUseCase.execute(applicationDate.plusSeconds(1), 35455L, 1L);
+            coalescingUseCase.executeWithWindow(applicationDate, 35455L, 1L);
+
+            assertThat(coalescedKeys).hasSize(4);
+            assertThat(coalescedKeys.get(1)).isEqualTo(coalescedKeys.get(0));
+            assertThat(coalescedKeys.get(2)).isNotEqualTo(coalescedKeys.get(0));
+            assertThat(coalescedKeys.get(3)).isNotEqualTo(coalescedKeys.get(0));
+            verify(priceRepository, times(3)).findApplicablePrices(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should answer other instants inside the shared segment without another run")
+        void shouldAnswerOtherInstantsFromTheSharedSegment() {
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(List.of(wideRangePrice));
+            when(priceRepository.findPricesOverlapping(any(), any(), any()))
+                    .thenReturn(List.of(wideRangePrice, narrowRangePrice));
+
+            Optional<ApplicablePriceWindowDto> leader =
+                    coalescingUseCase.executeWithWindow(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 35455L, 1L);
+            Optional<ApplicablePriceWindowDto> waiter =
+                    coalescingUseCase.executeWithWindow(LocalDateTime.of(2020, 6, 14, 14, 0, 0), 35455L, 1L);
+
+            assertThat(waiter).isPresent();
+            assertThat(waiter.get().price().priceList()).isEqualTo(1);
+            assertThat(waiter).isEqualTo(leader);
+            verify(priceRepository, times(1)).findApplicablePrices(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should run its own lookup for an instant outside the shared segment")
+        void shouldRunOwnLookupOutsideTheSharedSegment() {
+            when(priceRepository.findApplicablePrices(any(), any(), any()))
+                    .thenReturn(List.of(wideRangePrice))
+                    .thenReturn(List.of(wideRangePrice, narrowRangePrice));
+            when(priceRepository.findPricesOverlapping(any(), any(), any()))
+                    .thenReturn(List.of(wideRangePrice, narrowRangePrice));
+
+            coalescingUseCase.executeWithWindow(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 35455L, 1L);
+            Optional<ApplicablePriceWindowDto> waiter =
+                    coalescingUseCase.executeWithWindow(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 35455L, 1L);
+
+            assertThat(waiter).isPresent();
+            assertThat(waiter.get().price().priceList()).isEqualTo(2);
+            verify(priceRepository, times(2)).findApplicablePrices(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should run its own lookup when the other run establishes no window")
+        void shouldRunOwnLookupWhenTheSharedRunHasNoWindow() {
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(List.of(wideRangePrice));
+            when(priceRepository.findPricesOverlapping(any(), any(), any())).thenReturn(List.of(wideRangePrice));
+            LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+            coalescingUseCase.execute(applicationDate, 35455L, 1L);
+            Optional<ApplicablePriceWindowDto> waiter =
+                    coalescingUseCase.executeWithWindow(applicationDate, 35455L, 1L);
+
+            assertThat(waiter).isPresent();
+            assertThat(waiter.get().validFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0, 0));
+            verify(priceRepository, times(2)).findApplicablePrices(any(), any(), any());
+            verify(priceRepository, times(1)).findPricesOverlapping(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should run its own lookup when the shared run found no price at another instant")
+        void shouldRunOwnLookupWhenTheSharedRunFoundNothing() {
+            when(priceRepository.findApplicablePrices(any(), any(), any()))
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(wideRangePrice));
+
+            assertThat(coalescingUseCase.executeWithWindow(LocalDateTime.of(2019, 1, 1, 0, 0, 0), 35455L, 1L))
+                    .isEmpty();
+            assertThat(coalescingUseCase.executeWithWindow(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 35455L, 1L))
+                    .isPresent();
+            assertThat(coalescingUseCase.executeWithWindow(LocalDateTime.of(2019, 1, 1, 0, 0, 0), 35455L, 1L))
+                    .isEmpty();
+            verify(priceRepository, times(2)).findApplicablePrices(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("with hot key tracker")
+    class WithHotKeyTrackerTest {
+
+        @Mock
+        private HotKeyTracker hotKeyTracker;
+
+        private FindProductsPriceBetweenDatesUseCase trackedUseCase;
+
+        @BeforeEach
+        void setUp() {
+            trackedUseCase = new FindProductsPriceBetweenDatesUseCase(
+                    priceRepository, EffectivePriceCache.disabled(), PriceLookupMetrics.noop(),
+                    LookupCoalescer.none(), hotKeyTracker);
+        }
+
+        @Test
+        @DisplayName("Should record the key of every lookup, found or not")
+        void shouldRecordEveryLookup() {
+            when(priceRepository.findApplicablePrices(any(), any(), any()))
+                    .thenReturn(List.of(aPrice().build()))
+                    .thenReturn(Collections.emptyList());
+            LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+            trackedUseCase.execute(applicationDate, 35455L, 1L);
+            trackedUseCase.execute(applicationDate, 35455L, 1L);
+
+            verify(hotKeyTracker, times(2)).record(35455L, 1L);
+        }
+
+        @Test
+        @DisplayName("Should not record lookups rejected for an invalid key")
+        void shouldNotRecordInvalidKeys() {
+            LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+            assertThatThrownBy(() -> trackedUseCase.execute(applicationDate, -1L, 1L))
+                    .isInstanceOf(InvalidProductIdException.class);
+
+            verifyNoInteractions(hotKeyTracker);
+        }
+    }
+
+    @Nested
+    @DisplayName("warmUp")
+    class WarmUpTest {
+
+        private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1L));
+
+        @Mock
+        private EffectivePriceCache effectivePriceCache;
+
+        @Mock
+        private PriceLookupMetrics metrics;
+
+        @Mock
+        private HotKeyTracker hotKeyTracker;
+
+        private FindProductsPriceBetweenDatesUseCase warmingUseCase;
+
+        @BeforeEach
+        void setUp() {
+            warmingUseCase = new FindProductsPriceBetweenDatesUseCase(
+                    priceRepository, effectivePriceCache, metrics, LookupCoalescer.none(), hotKeyTracker);
+        }
+
+        @Test
+        @DisplayName("Should cache the segment without recording a lookup")
+        void shouldCacheSegmentWithoutRecordingLookup() {
+            Price price = aPrice().build();
+            LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+            when(effectivePriceCache.isCached(KEY)).thenReturn(false);
+            when(effectivePriceCache.isEnabled()).thenReturn(true);
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(List.of(price));
+            when(priceRepository.findPricesOverlapping(any(), any(), any())).thenReturn(List.of(price));
+
+            warmingUseCase.warmUp(KEY, applicationDate);
+
+            verify(effectivePriceCache).put(KEY, new PriceSegment(
+                    price.getDateRange().startDate(), price.getDateRange().endDate(), price));
+            verify(metrics, never()).recordLookup(anyLong(), anyBoolean(), anyLong());
+            verifyNoInteractions(hotKeyTracker);
+        }
+
+        @Test
+        @DisplayName("Should leave keys that are already cached alone")
+        void shouldLeaveCachedKeysAlone() {
+            when(effectivePriceCache.isCached(KEY)).thenReturn(true);
+
+            warmingUseCase.warmUp(KEY, LocalDateTime.of(2020, 6, 14, 10, 0, 0));
+
+            verifyNoInteractions(priceRepository, metrics, hotKeyTracker);
+        }
+    }
 }
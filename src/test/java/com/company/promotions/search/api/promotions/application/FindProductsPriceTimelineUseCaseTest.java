@@ -0,0 +1,124 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.exceptions.InvalidDateRangeException;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.company.promotions.search.api.promotions.domain.PriceBuilder.aPrice;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FindProductsPriceTimelineUseCaseTest {
+
+    private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1L));
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    private FindProductsPriceTimelineUseCase useCase;
+
+    private final Price basePrice = aPrice()
+            .withPriceListId(1L)
+            .withPriority(0)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                    LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .build();
+
+    private final Price afternoonPromotion = aPrice()
+            .withPriceListId(2L)
+            .withPriority(1)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        useCase = new FindProductsPriceTimelineUseCase(priceRepository);
+    }
+
+    @Nested
+    @DisplayName("execute")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("Should return the segments of the window from one overlap query")
+        void shouldReturnSegmentsOfWindow() {
+            LocalDateTime from = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+            LocalDateTime to = LocalDateTime.of(2020, 6, 14, 20, 0, 0);
+            when(priceRepository.findPricesOverlapping(List.of(KEY), from, to))
+                    .thenReturn(List.of(basePrice, afternoonPromotion));
+
+            List<PriceSegmentDto> result = useCase.execute(35455L, 1L, from, to);
+
+            LocalDateTime promotionStart = LocalDateTime.of(2020, 6, 14, 15, 0, 0);
+            LocalDateTime promotionEnd = LocalDateTime.of(2020, 6, 14, 18, 30, 0);
+            assertThat(result)
+                    .extracting(PriceSegmentDto::startDate, PriceSegmentDto::endDate,
+                            segment -> segment.price().priceList())
+                    .containsExactly(
+                            tuple(from, promotionStart.minusNanos(1), 1),
+                            tuple(promotionStart, promotionEnd, 2),
+                            tuple(promotionEnd.plusNanos(1), to, 1));
+        }
+
+        @Test
+        @DisplayName("Should reject a window that ends before it starts")
+        void shouldRejectInvertedWindow() {
+            assertThatThrownBy(() -> useCase.execute(35455L, 1L,
+                    LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 14, 0, 0, 0)))
+                    .isInstanceOf(InvalidDateRangeException.class);
+            verifyNoInteractions(priceRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("sample")
+    class SampleTest {
+
+        @Test
+        @DisplayName("Should answer every instant in request order from a single query")
+        void shouldAnswerEveryInstantInRequestOrder() {
+            LocalDateTime evening = LocalDateTime.of(2020, 6, 14, 21, 0, 0);
+            LocalDateTime beforeAnyPrice = LocalDateTime.of(2020, 6, 13, 12, 0, 0);
+            LocalDateTime afternoon = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+            when(priceRepository.findPricesOverlapping(List.of(KEY), beforeAnyPrice, evening))
+                    .thenReturn(List.of(basePrice, afternoonPromotion));
+
+            List<PriceLookupResult> results = useCase.sample(35455L, 1L, List.of(evening, beforeAnyPrice, afternoon));
+
+            assertThat(results).extracting(result -> result.lookup().applicationDate())
+                    .containsExactly(evening, beforeAnyPrice, afternoon);
+            assertThat(results).extracting(PriceLookupResult::isFound).containsExactly(true, false, true);
+            assertThat(results.get(0).price().priceList()).isEqualTo(1);
+            assertThat(results.get(2).price().priceList()).isEqualTo(2);
+            verify(priceRepository).findPricesOverlapping(List.of(KEY), beforeAnyPrice, evening);
+        }
+
+        @Test
+        @DisplayName("Should not query the repository for no instants")
+        void shouldNotQueryForNoInstants() {
+            assertThat(useCase.sample(35455L, 1L, List.of())).isEmpty();
+            verifyNoInteractions(priceRepository);
+        }
+    }
+}
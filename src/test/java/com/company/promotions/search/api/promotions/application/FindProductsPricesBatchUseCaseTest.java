@@ -0,0 +1,113 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.exceptions.InvalidProductIdException;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static com.company.promotions.search.api.promotions.domain.PriceBuilder.aPrice;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FindProductsPricesBatchUseCaseTest {
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    private FindProductsPricesBatchUseCase useCase;
+
+    private final Price basePrice = aPrice()
+            .withProductId(35455L)
+            .withBrandId(1L)
+            .withPriceListId(1L)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                    LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .withMoney(BigDecimal.valueOf(35.50), "EUR")
+            .build();
+
+    private final Price promotionalPrice = aPrice()
+            .withProductId(35455L)
+            .withBrandId(1L)
+            .withPriceListId(2L)
+            .withPriority(1)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+            .withMoney(BigDecimal.valueOf(25.45), "EUR")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        useCase = new FindProductsPricesBatchUseCase(priceRepository);
+    }
+
+    @Test
+    @DisplayName("Should resolve every lookup with a single repository call")
+    void shouldResolveEveryLookupWithSingleRepositoryCall() {
+        when(priceRepository.findPricesOverlapping(anyCollection(), any(), any()))
+                .thenReturn(List.of(basePrice, promotionalPrice));
+
+        List<PriceLookupResult> results = useCase.execute(List.of(
+                new PriceLookup(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 35455L, 1L),
+                new PriceLookup(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 35455L, 1L),
+                new PriceLookup(LocalDateTime.of(2020, 6, 14, 21, 0, 0), 35455L, 1L)));
+
+        assertThat(results).extracting(result -> result.price().priceList()).containsExactly(1, 2, 1);
+        verify(priceRepository, times(1)).findPricesOverlapping(
+                Set.of(PriceKey.of(ProductId.of(35455L), BrandId.of(1L))),
+                LocalDateTime.of(2020, 6, 14, 10, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 21, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should return not-found results in place instead of dropping them")
+    void shouldReturnNotFoundResultsInPlace() {
+        when(priceRepository.findPricesOverlapping(anyCollection(), any(), any()))
+                .thenReturn(List.of(basePrice));
+        PriceLookup tooEarly = new PriceLookup(LocalDateTime.of(2019, 1, 1, 10, 0, 0), 35455L, 1L);
+        PriceLookup unknownProduct = new PriceLookup(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 99999L, 1L);
+        PriceLookup found = new PriceLookup(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 35455L, 1L);
+
+        List<PriceLookupResult> results = useCase.execute(List.of(tooEarly, unknownProduct, found));
+
+        assertThat(results).extracting(PriceLookupResult::lookup).containsExactly(tooEarly, unknownProduct, found);
+        assertThat(results).extracting(PriceLookupResult::isFound).containsExactly(false, false, true);
+    }
+
+    @Test
+    @DisplayName("Should not query the repository for an empty batch")
+    void shouldNotQueryRepositoryForEmptyBatch() {
+        assertThat(useCase.execute(List.of())).isEmpty();
+        verifyNoInteractions(priceRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a batch containing an invalid product ID")
+    void shouldRejectBatchWithInvalidProductId() {
+        List<PriceLookup> lookups = List.of(new PriceLookup(LocalDateTime.of(2020, 6, 14, 10, 0, 0), -1L, 1L));
+
+        assertThatThrownBy(() -> useCase.execute(lookups)).isInstanceOf(InvalidProductIdException.class);
+        verifyNoInteractions(priceRepository);
+    }
+}
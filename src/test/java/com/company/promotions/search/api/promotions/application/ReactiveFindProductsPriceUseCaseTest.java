@@ -0,0 +1,193 @@
+package com.company.promotions.search.api.promotions.application;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.exceptions.InvalidDateRangeException;
+import com.company.promotions.search.api.promotions.domain.exceptions.InvalidProductIdException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.company.promotions.search.api.promotions.domain.PriceBuilder.aPrice;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveFindProductsPriceUseCaseTest {
+
+    private static final int BATCH_CONCURRENCY = 4;
+
+    // Wide range: 6 months (June 14 to December 31)
+    private final Price basePrice = aPrice()
+            .withPriceListId(1L)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                    LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .build();
+
+    // Narrow range: 3.5 hours (15:00 to 18:30)
+    private final Price afternoonPromotion = aPrice()
+            .withPriceListId(2L)
+            .withPriority(1)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+            .build();
+
+    @Mock
+    private ReactivePriceRepository priceRepository;
+
+    private ReactiveFindProductsPriceUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReactiveFindProductsPriceUseCase(priceRepository, BATCH_CONCURRENCY);
+    }
+
+    @Nested
+    @DisplayName("execute")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("Should return the price with the smallest date range, like the blocking use case")
+        void shouldReturnMostSpecificPrice() {
+            when(priceRepository.findApplicablePrices(any(), any(), any()))
+                    .thenReturn(Flux.just(afternoonPromotion, basePrice));
+
+            StepVerifier.create(useCase.execute(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 35455L, 1L))
+                    .assertNext(price -> assertThat(price).isEqualTo(ApplicablePriceDto.from(afternoonPromotion)))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should complete empty when no price applies")
+        void shouldCompleteEmptyWhenNoPriceApplies() {
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(Flux.empty());
+
+            StepVerifier.create(useCase.execute(LocalDateTime.of(2019, 1, 1, 10, 0, 0), 35455L, 1L))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should signal invalid ids as errors without querying the repository")
+        void shouldSignalInvalidIds() {
+            StepVerifier.create(useCase.execute(LocalDateTime.of(2020, 6, 14, 10, 0, 0), -1L, 1L))
+                    .verifyError(InvalidProductIdException.class);
+
+            verifyNoInteractions(priceRepository);
+        }
+
+        @Test
+        @DisplayName("Should end the validity window where a more specific price starts")
+        void shouldEndWindowWhereMoreSpecificPriceStarts() {
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenReturn(Flux.just(basePrice));
+            when(priceRepository.findPricesOverlapping(any(), any(), any()))
+                    .thenReturn(Flux.just(basePrice, afternoonPromotion));
+
+            StepVerifier.create(useCase.executeWithWindow(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 35455L, 1L))
+                    .assertNext(window -> {
+                        assertThat(window.price().priceList()).isEqualTo(1);
+                        assertThat(window.validFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0, 0));
+                        assertThat(window.validUntil())
+                                .isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0, 0).minusNanos(1));
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("batch")
+    class BatchTest {
+
+        @Test
+        @DisplayName("Should answer every lookup in request order, including the ones without a price")
+        void shouldAnswerInRequestOrder() {
+            LocalDateTime afternoon = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+            LocalDateTime beforeAnyPrice = LocalDateTime.of(2019, 1, 1, 10, 0, 0);
+            when(priceRepository.findApplicablePrices(any(), any(), any())).thenAnswer(invocation ->
+                    afternoon.equals(invocation.getArgument(2))
+                            ? Flux.just(basePrice, afternoonPromotion)
+                            : Flux.empty());
+            PriceLookup found = new PriceLookup(afternoon, 35455L, 1L);
+            PriceLookup notFound = new PriceLookup(beforeAnyPrice, 35455L, 1L);
+
+            StepVerifier.create(useCase.execute(Flux.just(notFound, found)))
+                    .expectNext(PriceLookupResult.notFound(notFound))
+                    .expectNext(PriceLookupResult.found(found, ApplicablePriceDto.from(afternoonPromotion)))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should resolve at most the batch concurrency at a time")
+        void shouldBoundConcurrentLookups() {
+            AtomicInteger running = new AtomicInteger();
+            when(priceRepository.findApplicablePrices(any(), any(), any()))
+                    .thenReturn(Flux.<Price>never().doOnSubscribe(subscription -> running.incrementAndGet()));
+            Flux<PriceLookup> lookups = Flux.range(0, 100)
+                    .map(i -> new PriceLookup(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 35455L, 1L));
+
+            Disposable subscription = useCase.execute(lookups).subscribe();
+            try {
+                assertThat(running).hasValue(BATCH_CONCURRENCY);
+            } finally {
+                subscription.dispose();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("timeline")
+    class TimelineTest {
+
+        @Test
+        @DisplayName("Should emit the segments of the window in chronological order")
+        void shouldEmitSegmentsInOrder() {
+            when(priceRepository.findPricesOverlapping(any(), any(), any()))
+                    .thenReturn(Flux.just(basePrice, afternoonPromotion));
+
+            StepVerifier.create(useCase.timeline(35455L, 1L,
+                            LocalDateTime.of(2020, 6, 14, 14, 0, 0),
+                            LocalDateTime.of(2020, 6, 14, 20, 0, 0)))
+                    .assertNext(segment -> assertThat(segment.price().priceList()).isEqualTo(1))
+                    .assertNext(segment -> assertThat(segment.price().priceList()).isEqualTo(2))
+                    .assertNext(segment -> assertThat(segment.price().priceList()).isEqualTo(1))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should signal a window that ends before it starts")
+        void shouldSignalInvalidWindow() {
+            StepVerifier.create(useCase.timeline(35455L, 1L,
+                            LocalDateTime.of(2020, 6, 15, 0, 0, 0),
+                            LocalDateTime.of(2020, 6, 14, 0, 0, 0)))
+                    .verifyError(InvalidDateRangeException.class);
+        }
+
+        @Test
+        @DisplayName("Should answer samples in the order given")
+        void shouldAnswerSamplesInOrder() {
+            when(priceRepository.findPricesOverlapping(any(), any(), any()))
+                    .thenReturn(Flux.just(basePrice, afternoonPromotion));
+            List<LocalDateTime> instants = List.of(
+                    LocalDateTime.of(2020, 6, 14, 16, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 10, 0, 0));
+
+            StepVerifier.create(useCase.sample(35455L, 1L, instants))
+                    .assertNext(result -> assertThat(result.price().priceList()).isEqualTo(2))
+                    .assertNext(result -> assertThat(result.price().priceList()).isEqualTo(1))
+                    .verifyComplete();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.company.promotions.search.api.promotions.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static com.company.promotions.search.api.promotions.domain.PriceBuilder.aPrice;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EffectivePriceTimelineTest {
+
+    // Wide range: 6 months (June 14 to December 31)
+    private final Price basePrice = aPrice()
+            .withPriceListId(1L)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                    LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .build();
+
+    // Narrow range: 3.5 hours (15:00 to 18:30)
+    private final Price afternoonPromotion = aPrice()
+            .withPriceListId(2L)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+            .build();
+
+    // Medium range: 11 hours (00:00 to 11:00)
+    private final Price morningPromotion = aPrice()
+            .withPriceListId(3L)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 15, 0, 0, 0),
+                    LocalDateTime.of(2020, 6, 15, 11, 0, 0))
+            .build();
+
+    @Nested
+    @DisplayName("segments")
+    class SegmentsTest {
+
+        @Test
+        @DisplayName("Should be empty when there are no prices")
+        void shouldBeEmptyWhenThereAreNoPrices() {
+            EffectivePriceTimeline timeline = EffectivePriceTimeline.of(List.of());
+
+            assertThat(timeline.isEmpty()).isTrue();
+            assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 10, 0, 0))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should split the wide price around the narrower ones it contains")
+        void shouldSplitWidePriceAroundNarrowerOnes() {
+            EffectivePriceTimeline timeline = EffectivePriceTimeline.of(
+                    List.of(basePrice, afternoonPromotion, morningPromotion));
+
+            assertThat(timeline.segments()).containsExactly(
+                    new PriceSegment(
+                            LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                            LocalDateTime.of(2020, 6, 14, 15, 0, 0).minusNanos(1),
+                            basePrice),
+                    new PriceSegment(
+                            LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                            LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                            afternoonPromotion),
+                    new PriceSegment(
+                            LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1),
+                            LocalDateTime.of(2020, 6, 15, 0, 0, 0).minusNanos(1),
+                            basePrice),
+                    new PriceSegment(
+                            LocalDateTime.of(2020, 6, 15, 0, 0, 0),
+                            LocalDateTime.of(2020, 6, 15, 11, 0, 0),
+                            morningPromotion),
+                    new PriceSegment(
+                            LocalDateTime.of(2020, 6, 15, 11, 0, 0).plusNanos(1),
+                            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                            basePrice));
+        }
+
+        @Test
+        @DisplayName("Should leave gaps where no price applies")
+        void shouldLeaveGapsWhereNoPriceApplies() {
+            EffectivePriceTimeline timeline = EffectivePriceTimeline.of(List.of(afternoonPromotion, morningPromotion));
+
+            assertThat(timeline.segments()).hasSize(2);
+            assertThat(timeline.segmentAt(LocalDateTime.of(2020, 6, 14, 21, 0, 0))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("priceAt")
+    class PriceAtTest {
+
+        private final EffectivePriceTimeline timeline = EffectivePriceTimeline.of(
+                List.of(basePrice, afternoonPromotion, morningPromotion));
+
+        @Test
+        @DisplayName("Should return the most specific price at the instant")
+        void shouldReturnMostSpecificPrice() {
+            assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 10, 0, 0))).contains(basePrice);
+            assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 16, 0, 0))).contains(afternoonPromotion);
+            assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 21, 0, 0))).contains(basePrice);
+            assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 15, 10, 0, 0))).contains(morningPromotion);
+        }
+
+        @Test
+        @DisplayName("Should honour inclusive range boundaries")
+        void shouldHonourInclusiveBoundaries() {
+            assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 15, 0, 0))).contains(afternoonPromotion);
+            assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 18, 30, 0))).contains(afternoonPromotion);
+            assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 18, 30, 1))).contains(basePrice);
+        }
+
+        @Test
+        @DisplayName("Should answer mostSpecificAt like priceAt, with null for no price")
+        void shouldAnswerMostSpecificAtLikePriceAt() {
+            assertThat(timeline.mostSpecificAt(LocalDateTime.of(2020, 6, 14, 16, 0, 0))).isEqualTo(afternoonPromotion);
+            assertThat(timeline.mostSpecificAt(LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1)))
+                    .isEqualTo(basePrice);
+            assertThat(timeline.mostSpecificAt(LocalDateTime.of(2021, 1, 1, 0, 0, 0))).isNull();
+        }
+
+        @Test
+        @DisplayName("Should return empty outside every range")
+        void shouldReturnEmptyOutsideEveryRange() {
+            assertThat(timeline.priceAt(LocalDateTime.of(2019, 1, 1, 10, 0, 0))).isEmpty();
+            assertThat(timeline.priceAt(LocalDateTime.of(2021, 1, 1, 0, 0, 0))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should break ties on duration like selectMostSpecific")
+        void shouldBreakTiesLikeSelectMostSpecific() {
+            Price first = aPrice()
+                    .withPriceListId(1L)
+                    .withDateRange(LocalDateTime.of(2020, 6, 14, 10, 0, 0), LocalDateTime.of(2020, 6, 14, 12, 0, 0))
+                    .build();
+            Price second = aPrice()
+                    .withPriceListId(2L)
+                    .withDateRange(LocalDateTime.of(2020, 6, 14, 11, 0, 0), LocalDateTime.of(2020, 6, 14, 13, 0, 0))
+                    .build();
+
+            EffectivePriceTimeline timeline = EffectivePriceTimeline.of(List.of(first, second));
+
+            assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 11, 30, 0)))
+                    .isEqualTo(Price.selectMostSpecific(List.of(first, second)));
+        }
+    }
+
+    @Nested
+    @DisplayName("segmentsBetween")
+    class SegmentsBetweenTest {
+
+        private final EffectivePriceTimeline timeline = EffectivePriceTimeline.of(
+                List.of(basePrice, afternoonPromotion, morningPromotion));
+
+        @Test
+        @DisplayName("Should return the segments overlapping the window, clipped to it")
+        void shouldReturnOverlappingSegmentsClipped() {
+            assertThat(timeline.segmentsBetween(
+                    LocalDateTime.of(2020, 6, 14, 16, 0, 0),
+                    LocalDateTime.of(2020, 6, 15, 10, 0, 0))).containsExactly(
+                    new PriceSegment(
+                            LocalDateTime.of(2020, 6, 14, 16, 0, 0),
+                            LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                            afternoonPromotion),
+                    new PriceSegment(
+                            LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1),
+                            LocalDateTime.of(2020, 6, 15, 0, 0, 0).minusNanos(1),
+                            basePrice),
+                    new PriceSegment(
+                            LocalDateTime.of(2020, 6, 15, 0, 0, 0),
+                            LocalDateTime.of(2020, 6, 15, 10, 0, 0),
+                            morningPromotion));
+        }
+
+        @Test
+        @DisplayName("Should return a single instant segment for a zero-length window")
+        void shouldReturnSingleInstantSegment() {
+            LocalDateTime instant = LocalDateTime.of(2020, 6, 14, 18, 30, 0);
+
+            assertThat(timeline.segmentsBetween(instant, instant))
+                    .containsExactly(new PriceSegment(instant, instant, afternoonPromotion));
+        }
+
+        @Test
+        @DisplayName("Should be empty for a window without prices")
+        void shouldBeEmptyForWindowWithoutPrices() {
+            assertThat(timeline.segmentsBetween(
+                    LocalDateTime.of(2019, 1, 1, 0, 0, 0),
+                    LocalDateTime.of(2019, 12, 31, 0, 0, 0))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("segmentsAt")
+    class SegmentsAtTest {
+
+        @Test
+        @DisplayName("Should answer unsorted instants in the order given, like priceAt")
+        void shouldAnswerUnsortedInstantsLikePriceAt() {
+            EffectivePriceTimeline timeline = EffectivePriceTimeline.of(
+                    List.of(basePrice, afternoonPromotion, morningPromotion));
+            List<LocalDateTime> instants = List.of(
+                    LocalDateTime.of(2020, 6, 15, 10, 0, 0),
+                    LocalDateTime.of(2019, 1, 1, 0, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 16, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 10, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 16, 0, 0));
+
+            List<Optional<PriceSegment>> segments = timeline.segmentsAt(instants);
+
+            assertThat(segments).hasSize(instants.size());
+            for (int i = 0; i < instants.size(); i++) {
+                assertThat(segments.get(i).map(PriceSegment::price)).isEqualTo(timeline.priceAt(instants.get(i)));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should agree with selectMostSpecific on randomized data")
+    void shouldAgreeWithSelectMostSpecificOnRandomizedData() {
+        Random random = new Random(20200614L);
+        LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+
+        for (int round = 0; round < 200; round++) {
+            List<Price> prices = new ArrayList<>();
+            int count = random.nextInt(25);
+            for (int i = 0; i < count; i++) {
+                LocalDateTime start = origin.plusHours(random.nextInt(24 * 14));
+                // Coarse durations so that ties are frequent
+                LocalDateTime end = start.plusHours(random.nextInt(5) * 24L + random.nextInt(3));
+                prices.add(aPrice().withPriceListId((long) i + 1).withDateRange(start, end).build());
+            }
+            EffectivePriceTimeline timeline = EffectivePriceTimeline.of(prices);
+
+            for (int probe = 0; probe < 300; probe++) {
+                LocalDateTime instant = probe % 3 == 0 && !prices.isEmpty()
+                        ? boundaryOf(prices.get(random.nextInt(prices.size())), random)
+                        : origin.plusMinutes(random.nextInt(60 * 24 * 20));
+                Optional<Price> expected = Price.selectMostSpecific(prices.stream()
+                        .filter(price -> price.isApplicableAt(instant))
+                        .toList());
+
+                assertThat(timeline.priceAt(instant)).as("price at %s", instant).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static LocalDateTime boundaryOf(Price price, Random random) {
+        LocalDateTime boundary = random.nextBoolean()
+                ? price.getDateRange().startDate()
+                : price.getDateRange().endDate();
+        return boundary.plusNanos(random.nextInt(3) - 1);
+    }
+}
@@ -0,0 +1,268 @@
+package com.company.promotions.search.api.promotions.infrastructure.cache;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PricePinningPolicy;
+import com.company.promotions.search.api.promotions.domain.PriceSegment;
+import com.company.promotions.search.api.promotions.domain.PricesChangedEvent;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.company.promotions.search.api.promotions.domain.PriceBuilder.aPrice;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeineEffectivePriceCacheTest {
+
+    private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1L));
+    private static final PriceKey OTHER_KEY = PriceKey.of(ProductId.of(35456L), BrandId.of(1L));
+
+    private final Price afternoonPromotion = aPrice()
+            .withPriceListId(2L)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+            .build();
+
+    private final PriceSegment segment = new PriceSegment(
+            LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+            afternoonPromotion);
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineEffectivePriceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CaffeineEffectivePriceCache(100, Duration.ofMinutes(10), meterRegistry, Runnable::run);
+    }
+
+    @Nested
+    @DisplayName("get")
+    class GetTest {
+
+        @Test
+        @DisplayName("Should hit for any instant inside the cached segment")
+        void shouldHitForAnyInstantInsideSegment() {
+            cache.put(KEY, segment);
+
+            assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 15, 0, 0))).contains(segment);
+            assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 16, 42, 17))).contains(segment);
+            assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 18, 30, 0))).contains(segment);
+            assertThat(gets("hit")).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should miss outside the cached segment")
+        void shouldMissOutsideSegment() {
+            cache.put(KEY, segment);
+
+            assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 18, 30, 1))).isEmpty();
+            assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 14, 59, 59))).isEmpty();
+            assertThat(gets("miss")).isEqualTo(2);
+            assertThat(gets("hit")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should miss for an unknown key")
+        void shouldMissForUnknownKey() {
+            cache.put(KEY, segment);
+
+            assertThat(cache.get(OTHER_KEY, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).isEmpty();
+            assertThat(gets("miss")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("next segment")
+    class NextSegmentTest {
+
+        private final PriceSegment nextSegment = new PriceSegment(
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1),
+                LocalDateTime.of(2020, 6, 14, 23, 59, 59),
+                aPrice().withPriceListId(1L).build());
+
+        @Test
+        @DisplayName("Should hit the next segment once the current one ended, and keep it as the current one")
+        void shouldServeAndPromoteNextSegment() {
+            cache.put(KEY, segment);
+            cache.putNext(KEY, nextSegment);
+
+            assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).contains(segment);
+            assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 19, 0, 0))).contains(nextSegment);
+            assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 20, 0, 0))).contains(nextSegment);
+            assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).isEmpty();
+            assertThat(gets("hit")).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should ignore a next segment for a key that is not cached")
+        void shouldIgnoreNextSegmentOfUncachedKey() {
+            cache.putNext(KEY, nextSegment);
+
+            assertThat(cache.isCached(KEY)).isFalse();
+            assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 19, 0, 0))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should tell which keys are cached")
+        void shouldTellWhichKeysAreCached() {
+            cache.put(KEY, segment);
+
+            assertThat(cache.isCached(KEY)).isTrue();
+            assertThat(cache.isCached(OTHER_KEY)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidation")
+    class InvalidationTest {
+
+        @Test
+        @DisplayName("Should drop only the changed keys")
+        void shouldDropOnlyChangedKeys() {
+            cache.put(KEY, segment);
+            cache.put(OTHER_KEY, segment);
+
+            cache.onPricesChanged(PricesChangedEvent.of(List.of(KEY)));
+
+            assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).isEmpty();
+            assertThat(cache.get(OTHER_KEY, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).contains(segment);
+        }
+
+        @Test
+        @DisplayName("Should drop every key when all prices changed")
+        void shouldDropEveryKeyWhenAllChanged() {
+            cache.put(KEY, segment);
+            cache.put(OTHER_KEY, segment);
+
+            cache.onPricesChanged(PricesChangedEvent.all());
+
+            assertThat(cache.estimatedSize()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should stay within the maximum size")
+    void shouldStayWithinMaximumSize() {
+        cache = new CaffeineEffectivePriceCache(10, Duration.ofMinutes(10), new SimpleMeterRegistry(), Runnable::run);
+
+        for (long productId = 1; productId <= 50; productId++) {
+            cache.put(PriceKey.of(ProductId.of(productId), BrandId.of(1L)), segment);
+        }
+
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should keep pinned keys however many other keys are written")
+    void shouldKeepPinnedKeys() {
+        cache = new CaffeineEffectivePriceCache(10, Duration.ofMinutes(10), new SimpleMeterRegistry(),
+                KEY::equals, Runnable::run);
+
+        cache.put(KEY, segment);
+        for (long productId = 1; productId <= 50; productId++) {
+            cache.put(PriceKey.of(ProductId.of(productId), BrandId.of(1L)), segment);
+        }
+
+        assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).contains(segment);
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Should keep a key pinned after it was cached however many other keys are written")
+    void shouldKeepKeyPinnedAfterItWasCached() {
+        SwitchablePinningPolicy pinningPolicy = new SwitchablePinningPolicy();
+        cache = new CaffeineEffectivePriceCache(10, Duration.ofMinutes(10), new SimpleMeterRegistry(),
+                pinningPolicy, Runnable::run);
+        cache.put(KEY, segment);
+
+        pinningPolicy.pin(Set.of(KEY));
+        for (long productId = 1; productId <= 50; productId++) {
+            cache.put(PriceKey.of(ProductId.of(productId), BrandId.of(1L)), segment);
+        }
+
+        assertThat(cache.get(KEY, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).contains(segment);
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Should stay within the maximum size once pinned keys are unpinned")
+    void shouldStayWithinMaximumSizeOnceUnpinned() {
+        SwitchablePinningPolicy pinningPolicy = new SwitchablePinningPolicy();
+        cache = new CaffeineEffectivePriceCache(10, Duration.ofMinutes(10), new SimpleMeterRegistry(),
+                pinningPolicy, Runnable::run);
+        Set<PriceKey> hotKeys = new HashSet<>();
+        for (long productId = 1; productId <= 20; productId++) {
+            hotKeys.add(PriceKey.of(ProductId.of(productId), BrandId.of(2L)));
+        }
+        pinningPolicy.pin(hotKeys);
+        hotKeys.forEach(key -> cache.put(key, segment));
+
+        pinningPolicy.pin(Set.of());
+        for (long productId = 1; productId <= 50; productId++) {
+            cache.put(PriceKey.of(ProductId.of(productId), BrandId.of(1L)), segment);
+        }
+
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should expose evictions through the meter registry")
+    void shouldExposeEvictions() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache = new CaffeineEffectivePriceCache(1, Duration.ofMinutes(10), registry, Runnable::run);
+
+        cache.put(KEY, segment);
+        cache.put(OTHER_KEY, segment);
+        cache.estimatedSize();
+
+        assertThat(registry.get("cache.evictions").tag("cache", "effectivePrices").functionCounter().count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    private static final class SwitchablePinningPolicy implements PricePinningPolicy {
+
+        private final List<Listener> listeners = new ArrayList<>();
+        private Set<PriceKey> pinnedKeys = Set.of();
+
+        @Override
+        public boolean isPinned(PriceKey key) {
+            return pinnedKeys.contains(key);
+        }
+
+        @Override
+        public void addListener(Listener listener) {
+            listeners.add(listener);
+        }
+
+        void pin(Set<PriceKey> keys) {
+            Set<PriceKey> pinned = new HashSet<>(keys);
+            pinned.removeAll(pinnedKeys);
+            Set<PriceKey> unpinned = new HashSet<>(pinnedKeys);
+            unpinned.removeAll(keys);
+            pinnedKeys = Set.copyOf(keys);
+            listeners.forEach(listener -> listener.pinningChanged(pinned, unpinned));
+        }
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "effectivePrices")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
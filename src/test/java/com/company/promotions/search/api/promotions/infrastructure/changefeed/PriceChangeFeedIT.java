@@ -0,0 +1,177 @@
+package com.company.promotions.search.api.promotions.infrastructure.changefeed;
+
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PricesChangedEvent;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import com.company.promotions.search.api.promotions.infrastructure.index.TimelinePriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The test profile builds the schema with Hibernate instead of Flyway, so the change-log migration is applied
+ * explicitly. Not {@code @Transactional}: changes are only logged for committed rows. Other tests roll back
+ * their inserts and leave holes in the change sequence, hence the zero gap timeout; the holes they leave are then
+ * watched for late commits, which never come.
+ */
+@SpringBootTest(properties = {
+        "promotions.change-feed.enabled=true",
+        "promotions.change-feed.poll-interval=1h",
+        "promotions.change-feed.gap-timeout=0s",
+        "promotions.repository.type=timeline"
+})
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@Sql("classpath:db/migrations/V1.0.3__create_price_change_log.sql")
+class PriceChangeFeedIT {
+
+    private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1L));
+    private static final PriceKey OTHER_KEY = PriceKey.of(ProductId.of(35456L), BrandId.of(1L));
+    private static final LocalDateTime INSTANT = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    @Autowired
+    private PriceChangeFeed priceChangeFeed;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Autowired
+    private TimelinePriceRepository timelinePriceRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @BeforeEach
+    void setUp() {
+        jpaPriceRepository.deleteAll();
+        priceChangeFeed.poll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaPriceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should patch the repository with inserted prices once polled")
+    void shouldPatchInsertedPrices() {
+        jpaPriceRepository.save(price(35455L, 1, new BigDecimal("35.50")));
+
+        assertThat(timelinePriceRepository.timelineOf(KEY).isEmpty()).isTrue();
+
+        assertThat(priceChangeFeed.poll()).isEqualTo(1);
+        assertThat(timelinePriceRepository.timelineOf(KEY).priceAt(INSTANT))
+                .hasValueSatisfying(price -> assertThat(price.getPriceListId().value()).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("Should refresh both keys when an update moves a price to another product")
+    void shouldRefreshBothKeysOnKeyChange() {
+        PriceEntity saved = jpaPriceRepository.save(price(35455L, 1, new BigDecimal("35.50")));
+        priceChangeFeed.poll();
+
+        saved.setProductId(35456L);
+        jpaPriceRepository.save(saved);
+        priceChangeFeed.poll();
+
+        assertThat(timelinePriceRepository.timelineOf(KEY).isEmpty()).isTrue();
+        assertThat(timelinePriceRepository.timelineOf(OTHER_KEY).priceAt(INSTANT)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should drop deleted prices")
+    void shouldDropDeletedPrices() {
+        PriceEntity saved = jpaPriceRepository.save(price(35455L, 1, new BigDecimal("35.50")));
+        priceChangeFeed.poll();
+
+        jpaPriceRepository.delete(saved);
+        priceChangeFeed.poll();
+
+        assertThat(timelinePriceRepository.timelineOf(KEY).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report no lag once every change has been delivered")
+    void shouldReportNoLagOnceDelivered() {
+        jpaPriceRepository.save(price(35455L, 1, new BigDecimal("35.50")));
+        jpaPriceRepository.save(price(35455L, 2, new BigDecimal("25.45")));
+        priceChangeFeed.poll();
+
+        assertThat(priceChangeFeed.lag()).isZero();
+        assertThat(meterRegistry.get("prices.changefeed.lag").gauge().value()).isZero();
+        assertThat(meterRegistry.get("prices.changefeed.delay").timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should deliver a change committed after its gap was skipped")
+    void shouldDeliverChangeCommittedAfterItsGapWasSkipped() throws InterruptedException {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        Thread slowTransaction = Thread.ofVirtual().start(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> {
+                    jpaPriceRepository.saveAndFlush(price(35455L, 1, new BigDecimal("35.50")));
+                    written.countDown();
+                    awaitQuietly(commit);
+                }));
+        written.await();
+        jpaPriceRepository.save(price(35456L, 1, new BigDecimal("29.95")));
+        applicationEvents.clear();
+
+        assertThat(priceChangeFeed.poll()).isEqualTo(1);
+        assertThat(applicationEvents.stream(PricesChangedEvent.class)).contains(PricesChangedEvent.all());
+        assertThat(timelinePriceRepository.timelineOf(KEY).isEmpty()).isTrue();
+
+        commit.countDown();
+        slowTransaction.join();
+
+        assertThat(priceChangeFeed.poll()).isEqualTo(1);
+        assertThat(timelinePriceRepository.timelineOf(KEY).priceAt(INSTANT)).isPresent();
+        assertThat(priceChangeFeed.poll()).isZero();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static PriceEntity price(Long productId, int priceList, BigDecimal amount) {
+        PriceEntity price = new PriceEntity();
+        price.setBrandId(1L);
+        price.setStartDate(LocalDateTime.of(2020, 6, 14, 0, 0, 0));
+        price.setEndDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        price.setPriceList(priceList);
+        price.setProductId(productId);
+        price.setPriority(priceList);
+        price.setPrice(amount);
+        price.setCurrency("EUR");
+        return price;
+    }
+}
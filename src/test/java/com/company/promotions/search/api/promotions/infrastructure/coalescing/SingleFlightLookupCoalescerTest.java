@@ -0,0 +1,177 @@
+package com.company.promotions.search.api.promotions.infrastructure.coalescing;
+
+import com.company.promotions.search.api.promotions.application.PriceLookupTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightLookupCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlightLookupCoalescer coalescer =
+            new SingleFlightLookupCoalescer(Duration.ofSeconds(5), meterRegistry);
+
+    @Test
+    @DisplayName("Should run one lookup for concurrent callers of the same key and give all of them its result")
+    void shouldShareOneRunBetweenConcurrentCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        List<Future<String>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            results.add(executor.submit(() -> coalescer.coalesce("key", blockingLookup(runs, release, "price"))));
+            awaitRun(runs);
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> coalescer.coalesce("key", () -> "own run")));
+            }
+            awaitWaiters("key", CALLERS - 1);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("price");
+            }
+        }
+
+        assertThat(runs).hasValue(1);
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(CALLERS - 1);
+        assertThat(coalescer.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run its own lookup, counted as executed, when it cannot accept the shared result")
+    void shouldRunOwnLookupWhenSharedResultNotAccepted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<String> leader = executor.submit(
+                    () -> coalescer.coalesce("key", blockingLookup(runs, release, "other instant")));
+            awaitRun(runs);
+            Future<String> waiter = executor.submit(
+                    () -> coalescer.coalesce("key", () -> "own run", "own run"::equals));
+            awaitWaiters("key", 1);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("other instant");
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("own run");
+        }
+
+        assertThat(count("executed")).isEqualTo(2);
+        assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not coalesce different keys")
+    void shouldNotCoalesceDifferentKeys() {
+        assertThat(coalescer.<String>coalesce("first", () -> "a")).isEqualTo("a");
+        assertThat(coalescer.<String>coalesce("second", () -> "b")).isEqualTo("b");
+
+        assertThat(count("executed")).isEqualTo(2);
+        assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run a fresh lookup once the previous one has finished")
+    void shouldRunFreshLookupAfterPreviousFinished() {
+        coalescer.coalesce("key", () -> "old");
+
+        assertThat(coalescer.<String>coalesce("key", () -> "new")).isEqualTo("new");
+        assertThat(count("executed")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should propagate the exception of the run to every caller")
+    void shouldPropagateExceptionToEveryCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        IllegalStateException failure = new IllegalStateException("database down");
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Object> leader = executor.submit(() -> coalescer.coalesce("key", () -> {
+                runs.incrementAndGet();
+                await(release);
+                throw failure;
+            }));
+            awaitRun(runs);
+            Future<Object> waiter = executor.submit(() -> coalescer.coalesce("key", () -> "own run"));
+            awaitWaiters("key", 1);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+            assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        }
+
+        assertThat(coalescer.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stop waiting after the max wait and count a timeout")
+    void shouldStopWaitingAfterMaxWait() throws Exception {
+        SingleFlightLookupCoalescer impatient = new SingleFlightLookupCoalescer(Duration.ofMillis(50), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<String> leader = executor.submit(
+                    () -> impatient.coalesce("key", blockingLookup(runs, release, "late")));
+            awaitRun(runs);
+
+            assertThatThrownBy(() -> impatient.coalesce("key", () -> "own run"))
+                    .isInstanceOf(PriceLookupTimeoutException.class);
+
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("late");
+        }
+        assertThat(count("timed_out")).isEqualTo(1);
+    }
+
+    private static Supplier<String> blockingLookup(AtomicInteger runs, CountDownLatch release, String result) {
+        return () -> {
+            runs.incrementAndGet();
+            await(release);
+            return result;
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitRun(AtomicInteger runs) throws InterruptedException {
+        while (runs.get() == 0) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitWaiters(Object key, int waiters) throws InterruptedException {
+        while (coalescer.waiting(key) < waiters) {
+            Thread.sleep(1);
+        }
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("prices.lookup.coalescing").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,159 @@
+package com.company.promotions.search.api.promotions.infrastructure.columnar;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static com.company.promotions.search.api.promotions.domain.PriceBuilder.aPrice;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarPriceTableTest {
+
+    private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1L));
+
+    private final Price basePrice = aPrice()
+            .withPriceListId(1L)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                    LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .withMoney(new BigDecimal("35.50"), "EUR")
+            .build();
+
+    private final Price afternoonPromotion = aPrice()
+            .withPriceListId(2L)
+            .withPriority(1)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+            .withMoney(new BigDecimal("25.45"), "EUR")
+            .build();
+
+    private final Price otherBrandPrice = aPrice()
+            .withBrandId(2L)
+            .withPriceListId(5L)
+            .withMoney(new BigDecimal("19.99"), "USD")
+            .build();
+
+    private final ColumnarPriceTable table = ColumnarPriceTable.of(
+            List.of(afternoonPromotion, otherBrandPrice, basePrice));
+
+    @Test
+    @DisplayName("Should return the most specific price, materialized with every field intact")
+    void shouldReturnMostSpecificPrice() {
+        assertThat(table.findMostSpecific(KEY, LocalDateTime.of(2020, 6, 14, 10, 0, 0))).contains(basePrice);
+        assertThat(table.findMostSpecific(KEY, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).contains(afternoonPromotion);
+    }
+
+    @Test
+    @DisplayName("Should honour inclusive boundaries, including sub-second instants")
+    void shouldHonourInclusiveBoundaries() {
+        assertThat(table.findMostSpecific(KEY, LocalDateTime.of(2020, 6, 14, 18, 30, 0))).contains(afternoonPromotion);
+        assertThat(table.findMostSpecific(KEY, LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1)))
+                .contains(basePrice);
+        assertThat(table.findMostSpecific(KEY, LocalDateTime.of(2020, 6, 14, 0, 0, 0).minusNanos(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep brands and currencies apart")
+    void shouldKeepBrandsApart() {
+        PriceKey otherBrand = PriceKey.of(ProductId.of(35455L), BrandId.of(2L));
+
+        assertThat(table.findMostSpecific(otherBrand, LocalDateTime.of(2020, 6, 14, 16, 0, 0)))
+                .contains(otherBrandPrice);
+        assertThat(table.keyCount()).isEqualTo(2);
+        assertThat(table.rowCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should return empty for an unknown product and brand")
+    void shouldReturnEmptyForUnknownKey() {
+        PriceKey unknownKey = PriceKey.of(ProductId.of(99999L), BrandId.of(1L));
+
+        assertThat(table.findMostSpecific(unknownKey, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).isEmpty();
+        assertThat(table.findOverlapping(unknownKey, LocalDateTime.MIN, LocalDateTime.MAX)).isEmpty();
+        assertThat(ColumnarPriceTable.empty().findMostSpecific(KEY, LocalDateTime.of(2020, 6, 14, 16, 0, 0)))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return the prices overlapping a window")
+    void shouldReturnPricesOverlappingWindow() {
+        assertThat(table.findOverlapping(KEY,
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                LocalDateTime.of(2020, 6, 14, 20, 0, 0)))
+                .containsExactlyInAnyOrder(basePrice, afternoonPromotion);
+        assertThat(table.findOverlapping(KEY,
+                LocalDateTime.of(2020, 6, 14, 18, 30, 1),
+                LocalDateTime.of(2020, 6, 14, 20, 0, 0)))
+                .containsExactly(basePrice);
+    }
+
+    @Test
+    @DisplayName("Should report a fixed number of column bytes per row")
+    void shouldReportBytesPerRow() {
+        assertThat(table.columnBytes()).isEqualTo(3L * ColumnarPriceTable.ROW_BYTES);
+        assertThat(table.offHeapBytes()).isGreaterThanOrEqualTo(table.columnBytes() + table.directoryBytes());
+    }
+
+    @Test
+    @DisplayName("Should reject rows that are not grouped by product and brand")
+    void shouldRejectUnorderedRows() {
+        ColumnarPriceTable.Builder builder = ColumnarPriceTable.builder(2).add(otherBrandPrice);
+
+        assertThatThrownBy(() -> builder.add(basePrice)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject dates with a fraction of a second")
+    void shouldRejectSubSecondDates() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0, 0).plusNanos(500);
+
+        assertThatThrownBy(() -> ColumnarPriceTable.builder(1).add(35455L, 1L, start, start.plusDays(1),
+                1, 0, BigDecimal.ONE, Currency.getInstance("EUR")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should agree with selectMostSpecific on randomized data across many keys")
+    void shouldAgreeWithSelectMostSpecificOnRandomizedData() {
+        Random random = new Random(42);
+        LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            LocalDateTime start = origin.plusHours(random.nextInt(24 * 60));
+            prices.add(aPrice()
+                    .withProductId(1L + random.nextInt(300))
+                    .withBrandId(1L + random.nextInt(2))
+                    .withPriceListId((long) i + 1)
+                    .withDateRange(start, start.plusHours(random.nextInt(24 * 30)))
+                    .build());
+        }
+        ColumnarPriceTable randomTable = ColumnarPriceTable.of(prices);
+
+        // The table resolves ties on duration in priority-descending order; all priorities are equal here, so
+        // compare durations rather than identities
+        for (int i = 0; i < 2_000; i++) {
+            PriceKey key = PriceKey.of(ProductId.of(1L + random.nextInt(300)), BrandId.of(1L + random.nextInt(2)));
+            LocalDateTime instant = origin.plusMinutes(random.nextInt(60 * 24 * 90));
+            Optional<Price> expected = Price.selectMostSpecific(prices.stream()
+                    .filter(price -> PriceKey.of(price).equals(key))
+                    .filter(price -> price.isApplicableAt(instant))
+                    .toList());
+
+            assertThat(randomTable.findMostSpecific(key, instant).map(price -> price.getDateRange().duration()))
+                    .isEqualTo(expected.map(price -> price.getDateRange().duration()));
+        }
+    }
+}
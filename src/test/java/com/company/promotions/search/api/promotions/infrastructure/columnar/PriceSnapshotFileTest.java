@@ -0,0 +1,120 @@
+package com.company.promotions.search.api.promotions.infrastructure.columnar;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import com.company.promotions.search.api.promotions.infrastructure.columnar.PriceSnapshotFile.Snapshot;
+import com.company.promotions.search.api.promotions.infrastructure.columnar.PriceSnapshotFile.Watermark;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.company.promotions.search.api.promotions.domain.PriceBuilder.aPrice;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceSnapshotFileTest {
+
+    private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1L));
+    private static final Watermark WATERMARK = new Watermark(3, 42);
+
+    @TempDir
+    Path directory;
+
+    private final Price basePrice = aPrice()
+            .withPriceListId(1L)
+            .withMoney(new BigDecimal("35.50"), "EUR")
+            .build();
+
+    private final Price afternoonPromotion = aPrice()
+            .withPriceListId(2L)
+            .withPriority(1)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+            .withMoney(new BigDecimal("25.45"), "EUR")
+            .build();
+
+    private final Price otherBrandPrice = aPrice()
+            .withBrandId(2L)
+            .withPriceListId(5L)
+            .withMoney(new BigDecimal("19.99"), "USD")
+            .build();
+
+    private final ColumnarPriceTable table = ColumnarPriceTable.of(
+            List.of(basePrice, afternoonPromotion, otherBrandPrice));
+
+    @Test
+    @DisplayName("Should map back a table that answers exactly like the one written")
+    void shouldRoundTrip() {
+        Path path = directory.resolve("prices.snapshot");
+        PriceSnapshotFile.write(table, WATERMARK, path);
+
+        Snapshot snapshot = PriceSnapshotFile.map(path);
+
+        assertThat(snapshot.watermark()).isEqualTo(WATERMARK);
+        assertThat(snapshot.table().rowCount()).isEqualTo(3);
+        assertThat(snapshot.table().keyCount()).isEqualTo(2);
+        assertThat(snapshot.table().findMostSpecific(KEY, LocalDateTime.of(2020, 6, 14, 16, 0, 0)))
+                .contains(afternoonPromotion);
+        assertThat(snapshot.table().findMostSpecific(KEY, LocalDateTime.of(2020, 6, 14, 10, 0, 0)))
+                .contains(basePrice);
+        assertThat(snapshot.table().findMostSpecific(
+                PriceKey.of(ProductId.of(35455L), BrandId.of(2L)), LocalDateTime.of(2020, 6, 14, 10, 0, 0)))
+                .contains(otherBrandPrice);
+    }
+
+    @Test
+    @DisplayName("Should round trip an empty table")
+    void shouldRoundTripEmptyTable() {
+        Path path = directory.resolve("empty.snapshot");
+        PriceSnapshotFile.write(ColumnarPriceTable.empty(), new Watermark(0, 0), path);
+
+        assertThat(PriceSnapshotFile.map(path).table().rowCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot whose checksum does not match")
+    void shouldRejectChecksumMismatch() throws IOException {
+        Path path = directory.resolve("prices.snapshot");
+        PriceSnapshotFile.write(table, WATERMARK, path);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> PriceSnapshotFile.map(path))
+                .isInstanceOf(InvalidPriceSnapshotException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    @Test
+    @DisplayName("Should reject a truncated snapshot")
+    void shouldRejectTruncatedSnapshot() throws IOException {
+        Path path = directory.resolve("prices.snapshot");
+        PriceSnapshotFile.write(table, WATERMARK, path);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 8));
+
+        assertThatThrownBy(() -> PriceSnapshotFile.map(path)).isInstanceOf(InvalidPriceSnapshotException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a file that is not a snapshot")
+    void shouldRejectForeignFile() throws IOException {
+        Path path = directory.resolve("prices.snapshot");
+        Files.write(path, new byte[PriceSnapshotFile.HEADER_BYTES]);
+
+        assertThatThrownBy(() -> PriceSnapshotFile.map(path))
+                .isInstanceOf(InvalidPriceSnapshotException.class)
+                .hasMessageContaining("magic");
+    }
+}
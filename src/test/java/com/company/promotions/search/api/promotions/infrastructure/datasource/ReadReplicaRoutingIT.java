@@ -0,0 +1,127 @@
+package com.company.promotions.search.api.promotions.infrastructure.datasource;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceRepository;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two H2 databases stand in for the primary and the replica. The replica holds a different price than the primary,
+ * so every assertion tells which of them answered.
+ */
+@SpringBootTest(properties = {
+        "promotions.datasource.replica.enabled=true",
+        "spring.datasource.url=" + ReadReplicaRoutingIT.PRIMARY_URL,
+        "promotions.datasource.replica.hikari.jdbc-url=" + ReadReplicaRoutingIT.REPLICA_URL,
+        "promotions.datasource.replica.hikari.username=sa",
+        "promotions.datasource.replica.hikari.password="
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingIT {
+
+    static final String PRIMARY_URL =
+            "jdbc:h2:mem:routingprimary;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS PROMOTIONS";
+    static final String REPLICA_URL =
+            "jdbc:h2:mem:routingreplica;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS PROMOTIONS";
+
+    private static final LocalDateTime INSTANT = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+    private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        replica.execute("""
+                CREATE TABLE IF NOT EXISTS promotions.prices (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    brand_id BIGINT NOT NULL,
+                    start_date TIMESTAMP NOT NULL,
+                    end_date TIMESTAMP NOT NULL,
+                    price_list INTEGER NOT NULL,
+                    product_id BIGINT NOT NULL,
+                    priority INTEGER NOT NULL,
+                    price NUMERIC(10, 2) NOT NULL,
+                    currency_id SMALLINT NOT NULL,
+                    duration_micros BIGINT GENERATED ALWAYS AS (DATEDIFF(MICROSECOND, start_date, end_date))
+                )""");
+        replica.update("DELETE FROM promotions.prices");
+        replica.update("""
+                INSERT INTO promotions.prices
+                    (brand_id, start_date, end_date, price_list, product_id, priority, price, currency_id)
+                VALUES (1, TIMESTAMP '2020-06-14 00:00:00', TIMESTAMP '2020-12-31 23:59:59', 1, 35455, 0, 99.99, 978)
+                """);
+        jpaPriceRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaPriceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should read prices from the replica")
+    void shouldReadFromReplica() {
+        double replicaReads = reads("replica");
+
+        List<Price> prices = priceRepository.findApplicablePrices(
+                ProductId.of(35455L), BrandId.of(1L), INSTANT);
+
+        assertThat(prices).extracting(price -> price.getMoney().amount()).containsExactly(new BigDecimal("99.99"));
+        assertThat(reads("replica")).isGreaterThan(replicaReads);
+    }
+
+    @Test
+    @DisplayName("Should write prices to the primary")
+    void shouldWriteToPrimary() {
+        jpaPriceRepository.save(price(new BigDecimal("35.50")));
+
+        assertThat(primary.queryForList("SELECT price FROM promotions.prices", BigDecimal.class))
+                .containsExactly(new BigDecimal("35.50"));
+        assertThat(replica.queryForList("SELECT price FROM promotions.prices", BigDecimal.class))
+                .containsExactly(new BigDecimal("99.99"));
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("prices.datasource.reads").tag("target", target).counter().count();
+    }
+
+    private static PriceEntity price(BigDecimal amount) {
+        PriceEntity price = new PriceEntity();
+        price.setBrandId(1L);
+        price.setStartDate(LocalDateTime.of(2020, 6, 14, 0, 0, 0));
+        price.setEndDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        price.setPriceList(1);
+        price.setProductId(35455L);
+        price.setPriority(0);
+        price.setPrice(amount);
+        price.setCurrency("EUR");
+        return price;
+    }
+}
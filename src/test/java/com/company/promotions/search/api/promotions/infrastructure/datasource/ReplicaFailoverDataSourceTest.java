@@ -0,0 +1,109 @@
+package com.company.promotions.search.api.promotions.infrastructure.datasource;
+
+import com.company.promotions.search.api.promotions.domain.PricesChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaFailoverDataSourceTest {
+
+    private static final Duration RETRY_INTERVAL = Duration.ofSeconds(10);
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private final DataSource replica = mock(DataSource.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private final ReplicaFailoverDataSource dataSource = new ReplicaFailoverDataSource(
+            replica, primary, RETRY_INTERVAL, MAX_LAG, meterRegistry, clock::get);
+
+    @Test
+    @DisplayName("Should hand out replica connections while the replica is up")
+    void shouldUseReplicaWhileUp() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(reads("replica")).isEqualTo(1);
+        assertThat(reads("primary")).isZero();
+        assertThat(meterRegistry.get("prices.datasource.replica.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail over to the primary and leave the replica alone until the retry interval passes")
+    void shouldFailOverUntilRetryInterval() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica is down"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        clock.addAndGet(RETRY_INTERVAL.toNanos() - 1);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        verify(replica, times(1)).getConnection();
+        assertThat(dataSource.isReplicaAvailable()).isFalse();
+        assertThat(reads("primary")).isEqualTo(2);
+        assertThat(meterRegistry.get("prices.datasource.replica.available").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should go back to the replica once it gives a connection again")
+    void shouldGoBackToReplicaWhenItRecovers() throws SQLException {
+        when(replica.getConnection())
+                .thenThrow(new SQLTransientConnectionException("replica is down"))
+                .thenReturn(replicaConnection);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        clock.addAndGet(RETRY_INTERVAL.toNanos());
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(dataSource.isReplicaAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should read from the primary until the replica has caught up with a price change")
+    void shouldReadFromPrimaryAfterPriceChange() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        dataSource.onPricesChanged(PricesChangedEvent.all());
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        clock.addAndGet(MAX_LAG.toNanos());
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(dataSource.isReplicaAvailable()).isTrue();
+        assertThat(reads("primary")).isEqualTo(1);
+        assertThat(reads("replica")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should propagate the failure when the primary cannot give a connection either")
+    void shouldPropagatePrimaryFailure() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica is down"));
+        SQLException primaryFailure = new SQLTransientConnectionException("primary is down");
+        when(primary.getConnection()).thenThrow(primaryFailure);
+
+        assertThatThrownBy(dataSource::getConnection).isSameAs(primaryFailure);
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("prices.datasource.reads").tag("target", target).counter().count();
+    }
+}
@@ -0,0 +1,56 @@
+package com.company.promotions.search.api.promotions.infrastructure.hotkeys;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HotKeysFileTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should read back the keys it wrote, in order")
+    void shouldRoundTrip() {
+        Path path = directory.resolve("state").resolve("hot-keys.csv");
+        List<HotKey> hotKeys = List.of(new HotKey(35455L, 1L, 900), new HotKey(35456L, 2L, 12));
+
+        HotKeysFile.write(hotKeys, path);
+
+        assertThat(HotKeysFile.read(path)).containsExactlyElementsOf(hotKeys);
+    }
+
+    @Test
+    @DisplayName("Should read no keys when there is no file yet")
+    void shouldReadNothingWithoutFile() {
+        assertThat(HotKeysFile.read(directory.resolve("missing.csv"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a file without the header")
+    void shouldRejectFileWithoutHeader() throws IOException {
+        Path path = Files.writeString(directory.resolve("hot-keys.csv"), "35455,1,900\n");
+
+        assertThatThrownBy(() -> HotKeysFile.read(path))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Not a hot keys file");
+    }
+
+    @Test
+    @DisplayName("Should reject a key with an invalid id")
+    void shouldRejectInvalidKey() throws IOException {
+        Path path = Files.writeString(directory.resolve("hot-keys.csv"), HotKeysFile.HEADER + "\n0,1,900\n");
+
+        assertThatThrownBy(() -> HotKeysFile.read(path))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line 2");
+    }
+}
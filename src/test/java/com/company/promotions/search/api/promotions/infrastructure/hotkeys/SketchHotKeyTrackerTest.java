@@ -0,0 +1,168 @@
+package com.company.promotions.search.api.promotions.infrastructure.hotkeys;
+
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SketchHotKeyTrackerTest {
+
+    @Nested
+    @DisplayName("sketch")
+    class SketchTest {
+
+        @Test
+        @DisplayName("Should never estimate a key below its real count")
+        void shouldNeverUnderestimate() {
+            CountMinSketch sketch = new CountMinSketch(64);
+            for (long productId = 1; productId <= 1_000; productId++) {
+                sketch.add(productId, 1L, productId % 7);
+            }
+
+            for (long productId = 1; productId <= 1_000; productId++) {
+                assertThat(sketch.estimate(productId, 1L)).isGreaterThanOrEqualTo(productId % 7);
+            }
+        }
+
+        @Test
+        @DisplayName("Should round the width up to a power of two and halve every counter")
+        void shouldRoundWidthAndHalve() {
+            CountMinSketch sketch = new CountMinSketch(1000);
+            sketch.add(35455L, 1L, 9);
+
+            sketch.halve();
+
+            assertThat(sketch.width()).isEqualTo(1024);
+            assertThat(sketch.bytes()).isEqualTo(CountMinSketch.DEPTH * 1024L * Long.BYTES);
+            assertThat(sketch.estimate(35455L, 1L)).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("Should find the most looked up keys of Zipfian traffic, hottest first")
+    void shouldFindHottestKeysOfZipfianTraffic() {
+        SketchHotKeyTracker tracker = new SketchHotKeyTracker(10, 4096);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 200_000; i++) {
+            tracker.record(zipf(random, 10_000), 1L);
+        }
+
+        List<HotKey> hotKeys = tracker.hotKeys();
+
+        assertThat(hotKeys).hasSize(10);
+        assertThat(hotKeys).extracting(HotKey::productId).contains(1L, 2L, 3L, 4L, 5L);
+        assertThat(hotKeys.getFirst().productId()).isEqualTo(1L);
+        assertThat(hotKeys).isSortedAccordingTo((a, b) -> Long.compare(b.estimatedLookups(), a.estimatedLookups()));
+    }
+
+    @Test
+    @DisplayName("Should keep counting correctly when recorded from many threads")
+    void shouldCountFromManyThreads() throws InterruptedException {
+        SketchHotKeyTracker tracker = new SketchHotKeyTracker(4, 4096);
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int thread = 0; thread < 8; thread++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        tracker.record(35455L, 1L);
+                        tracker.record(100_000L + i, 1L);
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        HotKey hottest = tracker.hotKeys().getFirst();
+        assertThat(hottest.productId()).isEqualTo(35455L);
+        assertThat(hottest.estimatedLookups()).isGreaterThan(70_000);
+    }
+
+    @Test
+    @DisplayName("Should pin the hot keys only once they are refreshed by a decay")
+    void shouldPinHotKeysOnDecay() {
+        SketchHotKeyTracker tracker = new SketchHotKeyTracker(2, 1024);
+        for (int i = 0; i < 128; i++) {
+            tracker.record(35455L, 1L);
+        }
+        assertThat(tracker.isPinned(key(35455L))).isFalse();
+
+        tracker.decay();
+
+        assertThat(tracker.isPinned(key(35455L))).isTrue();
+        assertThat(tracker.isPinned(key(35456L))).isFalse();
+        assertThat(tracker.pinnedKeyCount()).isEqualTo(1);
+        assertThat(tracker.hotKeys().getFirst().estimatedLookups()).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("Should tell listeners which keys a decay pinned and unpinned")
+    void shouldTellListenersWhichKeysChanged() {
+        SketchHotKeyTracker tracker = new SketchHotKeyTracker(1, 1024);
+        List<Set<PriceKey>> changes = new ArrayList<>();
+        tracker.addListener((pinned, unpinned) -> {
+            changes.add(pinned);
+            changes.add(unpinned);
+        });
+        recordTimes(tracker, 1L, 64);
+        tracker.decay();
+        recordTimes(tracker, 2L, 128);
+
+        tracker.decay();
+        tracker.decay();
+
+        assertThat(changes).containsExactly(Set.of(key(1L)), Set.of(), Set.of(key(2L)), Set.of(key(1L)));
+    }
+
+    @Test
+    @DisplayName("Should let a key that became hotter take the place of the coldest one")
+    void shouldReplaceColdestKey() {
+        SketchHotKeyTracker tracker = new SketchHotKeyTracker(2, 1024);
+        recordTimes(tracker, 1L, 64);
+        recordTimes(tracker, 2L, 8);
+        recordTimes(tracker, 3L, 16);
+
+        assertThat(tracker.hotKeys()).extracting(HotKey::productId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should pin seeded keys right away")
+    void shouldPinSeededKeys() {
+        SketchHotKeyTracker tracker = new SketchHotKeyTracker(10, 1024);
+
+        tracker.seed(List.of(new HotKey(35455L, 1L, 500), new HotKey(35456L, 1L, 20)));
+
+        assertThat(tracker.isPinned(key(35455L))).isTrue();
+        assertThat(tracker.isPinned(key(35456L))).isTrue();
+        assertThat(tracker.hotKeys()).extracting(HotKey::estimatedLookups).containsExactly(500L, 20L);
+    }
+
+    private static void recordTimes(SketchHotKeyTracker tracker, long productId, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(productId, 1L);
+        }
+    }
+
+    private static PriceKey key(long productId) {
+        return PriceKey.of(ProductId.of(productId), BrandId.of(1L));
+    }
+
+    /**
+     * Draws a rank in {@code [1, n]} with probability proportional to {@code 1 / rank}, by inverting the
+     * continuous approximation of the harmonic numbers.
+     */
+    private static long zipf(SplittableRandom random, int n) {
+        return Math.min(n, (long) Math.exp(random.nextDouble() * Math.log(n + 1)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.company.promotions.search.api.promotions.infrastructure.index;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryPriceRepositoryTest {
+
+    @Mock
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Test
+    @DisplayName("Should let the higher priority win between equally long ranges, as the JPA repository does")
+    void shouldBreakTiesOnDurationByPriority() {
+        // Same length, the lower priority starting first: ordered by start date it would come first and win
+        when(jpaPriceRepository.findAll()).thenReturn(List.of(
+                entity(1, 0, "2020-06-14T00:00:00", "2020-06-16T00:00:00", "35.50"),
+                entity(2, 1, "2020-06-15T00:00:00", "2020-06-17T00:00:00", "25.45")));
+        InMemoryPriceRepository repository = new InMemoryPriceRepository(jpaPriceRepository);
+
+        List<Price> candidates = repository.findApplicablePrices(
+                ProductId.of(35455L), BrandId.of(1L), LocalDateTime.of(2020, 6, 15, 12, 0, 0));
+
+        assertThat(candidates).extracting(price -> price.getPriority().value()).containsExactly(1, 0);
+        assertThat(Price.selectMostSpecific(candidates))
+                .hasValueSatisfying(price -> assertThat(price.getPriceListId().value()).isEqualTo(2L));
+    }
+
+    private static PriceEntity entity(int priceList, int priority, String startDate, String endDate, String price) {
+        PriceEntity entity = new PriceEntity();
+        entity.setProductId(35455L);
+        entity.setBrandId(1L);
+        entity.setPriceList(priceList);
+        entity.setPriority(priority);
+        entity.setStartDate(LocalDateTime.parse(startDate));
+        entity.setEndDate(LocalDateTime.parse(endDate));
+        entity.setPrice(new BigDecimal(price));
+        entity.setCurrency("EUR");
+        return entity;
+    }
+}
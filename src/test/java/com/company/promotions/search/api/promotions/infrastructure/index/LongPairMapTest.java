@@ -0,0 +1,71 @@
+package com.company.promotions.search.api.promotions.infrastructure.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongPairMapTest {
+
+    @Test
+    @DisplayName("Should tell apart keys that share one of the two ids")
+    void shouldTellApartKeysSharingOneId() {
+        LongPairMap<String> map = new LongPairMap<>();
+        map.put(35455L, 1L, "zara");
+        map.put(35455L, 2L, "other brand");
+        map.put(1L, 35455L, "swapped");
+
+        assertThat(map.get(35455L, 1L)).isEqualTo("zara");
+        assertThat(map.get(35455L, 2L)).isEqualTo("other brand");
+        assertThat(map.get(1L, 35455L)).isEqualTo("swapped");
+        assertThat(map.get(35455L, 3L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should forget removed keys and accept them again")
+    void shouldForgetRemovedKeys() {
+        LongPairMap<String> map = new LongPairMap<>();
+        map.put(35455L, 1L, "first");
+        map.remove(35455L, 1L);
+
+        assertThat(map.get(35455L, 1L)).isNull();
+        assertThat(map.size()).isZero();
+
+        map.put(35455L, 1L, "second");
+
+        assertThat(map.get(35455L, 1L)).isEqualTo("second");
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should agree with a HashMap through growth and removals")
+    void shouldAgreeWithHashMap() {
+        Random random = new Random(35455L);
+        LongPairMap<Integer> map = new LongPairMap<>();
+        Map<List<Long>, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            long productId = random.nextInt(2_000) + 1;
+            long brandId = random.nextInt(4) + 1;
+            if (random.nextInt(4) == 0) {
+                map.remove(productId, brandId);
+                expected.remove(List.of(productId, brandId));
+            } else {
+                map.put(productId, brandId, i);
+                expected.put(List.of(productId, brandId), i);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long productId = 1; productId <= 2_000; productId++) {
+            for (long brandId = 1; brandId <= 4; brandId++) {
+                assertThat(map.get(productId, brandId)).isEqualTo(expected.get(List.of(productId, brandId)));
+            }
+        }
+    }
+}
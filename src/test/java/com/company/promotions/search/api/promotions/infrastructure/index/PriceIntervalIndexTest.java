@@ -0,0 +1,144 @@
+package com.company.promotions.search.api.promotions.infrastructure.index;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.company.promotions.search.api.promotions.domain.PriceBuilder.aPrice;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceIntervalIndexTest {
+
+    private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1L));
+
+    private final Price basePrice = aPrice()
+            .withPriceListId(1L)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                    LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .build();
+
+    private final Price afternoonPromotion = aPrice()
+            .withPriceListId(2L)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                    LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+            .build();
+
+    private final Price morningPromotion = aPrice()
+            .withPriceListId(3L)
+            .withDateRange(
+                    LocalDateTime.of(2020, 6, 15, 0, 0, 0),
+                    LocalDateTime.of(2020, 6, 15, 11, 0, 0))
+            .build();
+
+    private final Price otherBrandPrice = aPrice()
+            .withBrandId(2L)
+            .withPriceListId(5L)
+            .build();
+
+    private final PriceIntervalIndex index = PriceIntervalIndex.of(
+            List.of(morningPromotion, basePrice, otherBrandPrice, afternoonPromotion));
+
+    @Test
+    @DisplayName("Should return every price whose range contains the instant, ordered by start date")
+    void shouldReturnApplicablePricesOrderedByStartDate() {
+        List<Price> result = index.findApplicable(KEY, LocalDateTime.of(2020, 6, 14, 16, 0, 0));
+
+        assertThat(result).containsExactly(basePrice, afternoonPromotion);
+    }
+
+    @Test
+    @DisplayName("Should include prices whose range starts or ends exactly at the instant")
+    void shouldIncludeRangeBoundaries() {
+        assertThat(index.findApplicable(KEY, LocalDateTime.of(2020, 6, 14, 15, 0, 0)))
+                .containsExactly(basePrice, afternoonPromotion);
+        assertThat(index.findApplicable(KEY, LocalDateTime.of(2020, 6, 14, 18, 30, 0)))
+                .containsExactly(basePrice, afternoonPromotion);
+    }
+
+    @Test
+    @DisplayName("Should return empty when no price applies")
+    void shouldReturnEmptyWhenNoPriceApplies() {
+        assertThat(index.findApplicable(KEY, LocalDateTime.of(2019, 1, 1, 10, 0, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return empty for an unknown product and brand")
+    void shouldReturnEmptyForUnknownKey() {
+        PriceKey unknownKey = PriceKey.of(ProductId.of(99999L), BrandId.of(1L));
+
+        assertThat(index.findApplicable(unknownKey, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep brands apart")
+    void shouldKeepBrandsApart() {
+        PriceKey otherBrand = PriceKey.of(ProductId.of(35455L), BrandId.of(2L));
+
+        assertThat(index.findApplicable(otherBrand, LocalDateTime.of(2020, 6, 14, 16, 0, 0)))
+                .containsExactly(otherBrandPrice);
+        assertThat(index.keyCount()).isEqualTo(2);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should replace and remove keys without touching the others")
+    void shouldReplaceAndRemoveKeys() {
+        PriceKey otherBrand = PriceKey.of(ProductId.of(35455L), BrandId.of(2L));
+
+        index.replaceKeys(Map.of(KEY, List.of(afternoonPromotion), otherBrand, List.of()));
+
+        assertThat(index.findApplicable(KEY, LocalDateTime.of(2020, 6, 14, 16, 0, 0)))
+                .containsExactly(afternoonPromotion);
+        assertThat(index.findApplicable(otherBrand, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).isEmpty();
+        assertThat(index.keyCount()).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the tree of every key that is not replaced")
+    void shouldKeepTreesOfUntouchedKeys() {
+        PriceKey otherBrand = PriceKey.of(ProductId.of(35455L), BrandId.of(2L));
+        PriceIntervalTree untouched = index.treeOf(otherBrand);
+
+        index.replaceKeys(Map.of(KEY, List.of(afternoonPromotion)));
+
+        assertThat(index.treeOf(otherBrand)).isSameAs(untouched);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should match a linear scan on randomized overlapping ranges")
+    void shouldMatchLinearScanOnRandomizedRanges() {
+        Random random = new Random(42);
+        LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = origin.plusHours(random.nextInt(24 * 60));
+            prices.add(aPrice()
+                    .withPriceListId((long) i + 1)
+                    .withDateRange(start, start.plusHours(random.nextInt(24 * 30)))
+                    .build());
+        }
+        PriceIntervalIndex randomIndex = PriceIntervalIndex.of(prices);
+
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime instant = origin.plusMinutes(random.nextInt(60 * 24 * 90));
+            List<Price> expected = prices.stream()
+                    .filter(price -> price.isApplicableAt(instant))
+                    .toList();
+
+            assertThat(randomIndex.findApplicable(KEY, instant)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.company.promotions.search.api.promotions.infrastructure.index;
+
+import com.company.promotions.search.api.promotions.application.ApplicablePriceDto;
+import com.company.promotions.search.api.promotions.application.FindProductsPriceBetweenDatesUseCase;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks the allocation budget of the timeline lookup through the use case as the application context wires it:
+ * Micrometer lookup metrics, the effective price cache, lookup coalescing and the hot-key tracker. The test profile
+ * registers a simple meter registry rather than the Prometheus one, which records through the same meters.
+ * Not {@code @Transactional}: the timeline is loaded from committed rows.
+ */
+@SpringBootTest(properties = {
+        "promotions.repository.type=timeline",
+        "promotions.cache.enabled=true",
+        "promotions.hot-keys.enabled=true"
+})
+@ActiveProfiles("test")
+class TimelineLookupAllocationIT {
+
+    private static final LocalDateTime[] INSTANTS = {
+            LocalDateTime.of(2020, 6, 14, 10, 0, 0),
+            LocalDateTime.of(2020, 6, 14, 16, 0, 0),
+            LocalDateTime.of(2020, 6, 15, 10, 0, 0),
+            LocalDateTime.of(2020, 6, 16, 21, 0, 0),
+            LocalDateTime.of(2019, 1, 1, 0, 0, 0)
+    };
+
+    @Autowired
+    private FindProductsPriceBetweenDatesUseCase useCase;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Autowired
+    private TimelinePriceRepository timelinePriceRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jpaPriceRepository.deleteAll();
+        jpaPriceRepository.saveAll(List.of(
+                entity(4, 1, "2020-06-15T16:00:00", "2020-12-31T23:59:59", "38.95"),
+                entity(2, 1, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45"),
+                entity(3, 1, "2020-06-15T00:00:00", "2020-06-15T11:00:00", "30.50"),
+                entity(1, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50")
+        ));
+        timelinePriceRepository.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaPriceRepository.deleteAll();
+        timelinePriceRepository.reload();
+    }
+
+    @Test
+    @DisplayName("Should allocate nothing but the mapped result through the wired use case")
+    void shouldAllocateOnlyTheMappedResult() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        int lookups = 200_000;
+        lookUp(lookups);
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        int found = lookUp(lookups);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // One ApplicablePriceDto (a header and six references) per hit, plus slack for the JVM itself
+        assertThat(found).isEqualTo(lookups / 5 * 4);
+        assertThat(allocated / lookups).isLessThanOrEqualTo(48);
+        assertThat(meterRegistry.find("prices.lookup").timers().stream().mapToLong(Timer::count).sum())
+                .isGreaterThanOrEqualTo(2L * lookups);
+    }
+
+    private int lookUp(int lookups) {
+        int found = 0;
+        for (int i = 0; i < lookups; i++) {
+            if (useCase.execute(INSTANTS[i % INSTANTS.length], 35455L, 1L, ApplicablePriceDto::new) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static PriceEntity entity(int priceList, int priority, String startDate, String endDate, String price) {
+        PriceEntity entity = new PriceEntity();
+        entity.setProductId(35455L);
+        entity.setBrandId(1L);
+        entity.setPriceList(priceList);
+        entity.setPriority(priority);
+        entity.setStartDate(LocalDateTime.parse(startDate));
+        entity.setEndDate(LocalDateTime.parse(endDate));
+        entity.setPrice(new BigDecimal(price));
+        entity.setCurrency("EUR");
+        return entity;
+    }
+}
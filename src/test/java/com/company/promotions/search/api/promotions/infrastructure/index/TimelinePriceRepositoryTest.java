@@ -0,0 +1,155 @@
+package com.company.promotions.search.api.promotions.infrastructure.index;
+
+import com.company.promotions.search.api.promotions.application.ApplicablePriceDto;
+import com.company.promotions.search.api.promotions.application.ApplicablePriceWindowDto;
+import com.company.promotions.search.api.promotions.application.FindProductsPriceBetweenDatesUseCase;
+import com.company.promotions.search.api.promotions.application.HotKeyTracker;
+import com.company.promotions.search.api.promotions.application.LookupCoalescer;
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics;
+import com.company.promotions.search.api.promotions.domain.EffectivePriceCache;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.exceptions.InvalidProductIdException;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimelinePriceRepositoryTest {
+
+    private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1L));
+
+    @Mock
+    private JpaPriceRepository jpaPriceRepository;
+
+    private TimelinePriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        // Priority descending, as the JPA query returns them
+        when(jpaPriceRepository.findAll()).thenReturn(List.of(
+                entity(4, 1, "2020-06-15T16:00:00", "2020-12-31T23:59:59", "38.95"),
+                entity(2, 1, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45"),
+                entity(3, 1, "2020-06-15T00:00:00", "2020-06-15T11:00:00", "30.50"),
+                entity(1, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50")));
+        repository = new TimelinePriceRepository(jpaPriceRepository);
+    }
+
+    @Nested
+    @DisplayName("findMostSpecific")
+    class FindMostSpecificTest {
+
+        @Test
+        @DisplayName("Should return the same price as findApplicablePrices")
+        void shouldAgreeWithFindApplicablePrices() {
+            LocalDateTime start = LocalDateTime.of(2020, 6, 13, 0, 0, 0);
+            for (int hour = 0; hour < 24 * 5; hour++) {
+                LocalDateTime instant = start.plusHours(hour);
+
+                assertThat(repository.findMostSpecific(35455L, 1L, instant))
+                        .as("price at %s", instant)
+                        .isEqualTo(repository.findApplicablePrices(KEY.productId(), KEY.brandId(), instant)
+                                .stream().findFirst().orElse(null));
+            }
+        }
+
+        @Test
+        @DisplayName("Should return null for an unknown product and brand")
+        void shouldReturnNullForUnknownKey() {
+            assertThat(repository.findMostSpecific(99999L, 1L, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).isNull();
+            assertThat(repository.findMostSpecific(35455L, 2L, LocalDateTime.of(2020, 6, 14, 16, 0, 0))).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookup through the use case")
+    class LookupTest {
+
+        @Mock
+        private EffectivePriceCache effectivePriceCache;
+
+        private FindProductsPriceBetweenDatesUseCase useCase;
+
+        @BeforeEach
+        void setUp() {
+            useCase = new FindProductsPriceBetweenDatesUseCase(
+                    repository, EffectivePriceCache.disabled(), PriceLookupMetrics.noop(),
+                    LookupCoalescer.none(), HotKeyTracker.none());
+        }
+
+        @Test
+        @DisplayName("Should map the winner with the given mapper")
+        void shouldMapTheWinner() {
+            LocalDateTime instant = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+            ApplicablePriceDto result = useCase.execute(instant, 35455L, 1L, ApplicablePriceDto::new);
+
+            assertThat(result).isEqualTo(useCase.execute(instant, 35455L, 1L).orElseThrow());
+            assertThat(result.priceList()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should take the window from the precomputed segment without going through the cache")
+        void shouldTakeTheWindowFromThePrecomputedSegment() {
+            FindProductsPriceBetweenDatesUseCase cachingUseCase = new FindProductsPriceBetweenDatesUseCase(
+                    repository, effectivePriceCache, PriceLookupMetrics.noop(),
+                    LookupCoalescer.none(), HotKeyTracker.none());
+
+            ApplicablePriceWindowDto window = cachingUseCase
+                    .executeWithWindow(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 35455L, 1L)
+                    .orElseThrow();
+
+            assertThat(window.price().priceList()).isEqualTo(2);
+            assertThat(window.validFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+            assertThat(window.validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0));
+            assertThat(cachingUseCase.executeWithWindow(LocalDateTime.of(2019, 1, 1, 0, 0, 0), 35455L, 1L))
+                    .isEmpty();
+            verifyNoInteractions(effectivePriceCache);
+        }
+
+        @Test
+        @DisplayName("Should return null when no price applies")
+        void shouldReturnNullWhenNoPriceApplies() {
+            assertThat(useCase.execute(LocalDateTime.of(2019, 1, 1, 0, 0, 0), 35455L, 1L, ApplicablePriceDto::new))
+                    .isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject invalid ids like the value objects do")
+        void shouldRejectInvalidIds() {
+            assertThatThrownBy(() -> useCase.execute(
+                    LocalDateTime.of(2020, 6, 14, 16, 0, 0), 0L, 1L, ApplicablePriceDto::new))
+                    .isInstanceOf(InvalidProductIdException.class)
+                    .hasMessage("Product ID must be positive");
+        }
+    }
+
+    private static PriceEntity entity(int priceList, int priority, String startDate, String endDate, String price) {
+        PriceEntity entity = new PriceEntity();
+        entity.setProductId(35455L);
+        entity.setBrandId(1L);
+        entity.setPriceList(priceList);
+        entity.setPriority(priority);
+        entity.setStartDate(LocalDateTime.parse(startDate));
+        entity.setEndDate(LocalDateTime.parse(endDate));
+        entity.setPrice(new BigDecimal(price));
+        entity.setCurrency("EUR");
+        return entity;
+    }
+}
@@ -0,0 +1,135 @@
+package com.company.promotions.search.api.promotions.infrastructure.ingestion;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvPriceSourceTest {
+
+    private static final String HEADER = "brand_id,start_date,end_date,price_list,product_id,priority,price,currency";
+
+    @Nested
+    @DisplayName("header")
+    class HeaderTest {
+
+        @Test
+        @DisplayName("Should reject empty input")
+        void shouldRejectEmptyInput() {
+            assertThatThrownBy(() -> new CsvPriceSource(new StringReader("")))
+                    .isInstanceOf(InvalidPriceFileException.class)
+                    .hasMessage("CSV input is empty");
+        }
+
+        @Test
+        @DisplayName("Should reject a header missing a column")
+        void shouldRejectHeaderMissingColumn() {
+            assertThatThrownBy(() -> new CsvPriceSource(new StringReader(
+                    "brand_id,start_date,end_date,price_list,product_id,priority,price\n")))
+                    .isInstanceOf(InvalidPriceFileException.class)
+                    .hasMessageContaining("currency");
+        }
+
+        @Test
+        @DisplayName("Should accept columns in any order and ignore unknown ones")
+        void shouldAcceptColumnsInAnyOrder() throws IOException {
+            CsvPriceSource source = new CsvPriceSource(new StringReader("""
+                    "currency",product_id,comment,brand_id,price,priority,price_list,start_date,end_date
+                    EUR,35455,summer,1,35.50,0,1,2020-06-14 00:00:00,2020-12-31T23:59:59
+                    """));
+
+            Price price = source.next();
+
+            assertThat(price.getProductId().value()).isEqualTo(35455L);
+            assertThat(price.getBrandId().value()).isEqualTo(1L);
+            assertThat(price.getMoney().amount()).isEqualByComparingTo(new BigDecimal("35.50"));
+            assertThat(price.getDateRange().endDate()).isEqualTo(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+            assertThat(source.next()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("next")
+    class NextTest {
+
+        @Test
+        @DisplayName("Should parse every row and skip blank lines")
+        void shouldParseEveryRow() throws IOException {
+            CsvPriceSource source = new CsvPriceSource(new StringReader(HEADER + """
+
+                    1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR
+
+                    1,"2020-06-14 15:00:00","2020-06-14 18:30:00",2,35455,1,25.45,"EUR"
+                    """));
+
+            Price first = source.next();
+            Price second = source.next();
+
+            assertThat(first.getPriceListId().value()).isEqualTo(1L);
+            assertThat(second.getPriceListId().value()).isEqualTo(2L);
+            assertThat(second.getPriority().value()).isEqualTo(1);
+            assertThat(second.getDateRange().startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+            assertThat(source.next()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject an invalid row with its line number and carry on")
+        void shouldRejectInvalidRowAndCarryOn() throws IOException {
+            CsvPriceSource source = new CsvPriceSource(new StringReader(HEADER + """
+
+                    1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,-5,0,35.50,EUR
+                    1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR
+                    """));
+
+            assertThatThrownBy(source::next)
+                    .isInstanceOf(InvalidPriceRecordException.class)
+                    .satisfies(e -> assertThat(((InvalidPriceRecordException) e).getLine()).isEqualTo(2));
+            assertThat(source.next().getProductId().value()).isEqualTo(35455L);
+        }
+
+        @Test
+        @DisplayName("Should reject rows with the wrong number of fields, bad dates or unknown currencies")
+        void shouldRejectMalformedRows() throws IOException {
+            CsvPriceSource source = new CsvPriceSource(new StringReader(HEADER + """
+
+                    1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50
+                    1,2020-06-14,2020-12-31 23:59:59,1,35455,0,35.50,EUR
+                    1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,XYZ
+                    1,2020-12-31 23:59:59,2020-06-14 00:00:00,1,35455,0,35.50,EUR
+                    """));
+
+            for (int i = 0; i < 4; i++) {
+                assertThatThrownBy(source::next).isInstanceOf(InvalidPriceRecordException.class);
+            }
+            assertThat(source.next()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject dates with fractions of a second, which the off-heap store cannot hold")
+        void shouldRejectFractionalSeconds() throws IOException {
+            CsvPriceSource source = new CsvPriceSource(new StringReader(HEADER + """
+
+                    1,2020-06-14T00:00:00.5,2020-12-31 23:59:59,1,35455,0,35.50,EUR
+                    1,2020-06-14 00:00:00,2020-12-31T23:59:59.999,1,35455,0,35.50,EUR
+                    1,2020-06-14T00:00:00.000,2020-12-31 23:59:59,1,35455,0,35.50,EUR
+                    """));
+
+            assertThatThrownBy(source::next)
+                    .isInstanceOf(InvalidPriceRecordException.class)
+                    .hasMessageContaining("start_date '2020-06-14T00:00:00.5': fractions of a second");
+            assertThatThrownBy(source::next)
+                    .isInstanceOf(InvalidPriceRecordException.class)
+                    .hasMessageContaining("end_date");
+            assertThat(source.next().getDateRange().startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0, 0));
+            assertThat(source.next()).isNull();
+        }
+    }
+}
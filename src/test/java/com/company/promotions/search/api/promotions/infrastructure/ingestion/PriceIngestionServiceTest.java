@@ -0,0 +1,159 @@
+package com.company.promotions.search.api.promotions.infrastructure.ingestion;
+
+import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PricesChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static com.company.promotions.search.api.promotions.domain.PriceBuilder.aPrice;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PriceIngestionServiceTest {
+
+    @Mock
+    private JdbcPriceBatchWriter writer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PriceIngestionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PriceIngestionService(writer, eventPublisher, new IngestionProperties(2, 2, 10));
+    }
+
+    @Test
+    @DisplayName("Should write every chunk and report the rows written")
+    void shouldWriteEveryChunk() throws IOException {
+        IngestionReport report = service.ingest(new ListPriceSource(List.of(
+                aPrice().build(), aPrice().build(), aPrice().build())));
+
+        assertThat(report.rowsWritten()).isEqualTo(3);
+        assertThat(report.chunksCommitted()).isEqualTo(2);
+        verify(eventPublisher).publishEvent(PricesChangedEvent.all());
+    }
+
+    @Test
+    @DisplayName("Should finish writing the chunks handed over before the source failed, then signal the change")
+    void shouldFinishWritingBeforeSignallingWhenSourceFails() {
+        doAnswer(invocation -> {
+            Thread.sleep(50);
+            return null;
+        }).when(writer).write(any(), anyInt());
+        PriceSource source = new ListPriceSource(List.of(aPrice().build(), aPrice().build(), aPrice().build()),
+                new UncheckedIOException(new IOException("connection reset")));
+
+        assertThatThrownBy(() -> service.ingest(source))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("connection reset");
+
+        InOrder inOrder = inOrder(writer, eventPublisher);
+        inOrder.verify(writer).write(any(), eq(2));
+        inOrder.verify(eventPublisher).publishEvent(PricesChangedEvent.all());
+    }
+
+    @Test
+    @DisplayName("Should stop the writer and signal nothing when the source fails before any chunk")
+    void shouldSignalNothingWhenSourceFailsBeforeAnyChunk() {
+        PriceSource source = new ListPriceSource(List.of(), new IllegalStateException("broken source"));
+
+        assertThatThrownBy(() -> service.ingest(source)).isInstanceOf(IllegalStateException.class);
+
+        verifyNoInteractions(writer, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should rethrow a failed write after signalling the chunks committed before it")
+    void shouldRethrowFailedWrite() {
+        doAnswer(invocation -> null)
+                .doThrow(new IllegalStateException("database down"))
+                .when(writer).write(any(), anyInt());
+
+        assertThatThrownBy(() -> service.ingest(new ListPriceSource(List.of(
+                aPrice().build(), aPrice().build(), aPrice().build(), aPrice().build()))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("database down");
+
+        verify(eventPublisher).publishEvent(PricesChangedEvent.all());
+    }
+
+    @Test
+    @DisplayName("Should signal nothing when the first write fails")
+    void shouldSignalNothingWhenFirstWriteFails() {
+        doThrow(new IllegalStateException("database down")).when(writer).write(any(), anyInt());
+
+        assertThatThrownBy(() -> service.ingest(new ListPriceSource(List.of(aPrice().build()))))
+                .isInstanceOf(IllegalStateException.class);
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for a free chunk and rethrow when the writer dies from an error")
+    void shouldRethrowErrorThatKilledWriter() {
+        doThrow(new StackOverflowError("writer crashed")).when(writer).write(any(), anyInt());
+
+        assertThatThrownBy(() -> service.ingest(new ListPriceSource(List.of(
+                aPrice().build(), aPrice().build(), aPrice().build(), aPrice().build(),
+                aPrice().build(), aPrice().build(), aPrice().build()))))
+                .isInstanceOf(StackOverflowError.class)
+                .hasMessage("writer crashed");
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    /**
+     * Returns the given prices, then throws {@code failure} if there is one or reports the end of the input.
+     */
+    private static final class ListPriceSource implements PriceSource {
+
+        private final List<Price> prices;
+        private final RuntimeException failure;
+        private int next;
+
+        ListPriceSource(List<Price> prices) {
+            this(prices, null);
+        }
+
+        ListPriceSource(List<Price> prices, RuntimeException failure) {
+            this.prices = prices;
+            this.failure = failure;
+        }
+
+        @Override
+        public Price next() {
+            if (next < prices.size()) {
+                return prices.get(next++);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
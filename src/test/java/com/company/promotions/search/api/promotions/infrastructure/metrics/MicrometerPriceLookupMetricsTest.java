@@ -0,0 +1,60 @@
+package com.company.promotions.search.api.promotions.infrastructure.metrics;
+
+import com.company.promotions.search.api.promotions.application.PriceLookupMetrics.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerPriceLookupMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MicrometerPriceLookupMetrics metrics = new MicrometerPriceLookupMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("Should time each stage under its own tag")
+    void shouldTimeEachStage() {
+        metrics.recordStage(Stage.QUERY, 2_000_000);
+        metrics.recordStage(Stage.QUERY, 4_000_000);
+        metrics.recordStage(Stage.MAPPING, 1_000);
+
+        assertThat(meterRegistry.get("prices.lookup.stage").tag("stage", "query").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("prices.lookup.stage").tag("stage", "query").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6);
+        assertThat(meterRegistry.get("prices.lookup.stage").tag("stage", "mapping").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("prices.lookup.stage").tag("stage", "selection").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should tag lookups with brand and outcome and count not found ones")
+    void shouldTagLookupsWithBrandAndOutcome() {
+        metrics.recordLookup(1L, true, 1_000);
+        metrics.recordLookup(1L, false, 1_000);
+        metrics.recordLookup(1L, false, 1_000);
+        metrics.recordCandidates(1L, 3);
+
+        assertThat(meterRegistry.get("prices.lookup").tags("brand", "1", "outcome", "found").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("prices.lookup").tags("brand", "1", "outcome", "not_found").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("prices.lookup.not.found").tag("brand", "1").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("prices.lookup.candidates").tag("brand", "1").summary().totalAmount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should fold brands past the limit into a single tag")
+    void shouldFoldBrandsPastTheLimit() {
+        for (long brandId = 1; brandId <= MicrometerPriceLookupMetrics.MAX_BRAND_TAGS + 10; brandId++) {
+            metrics.recordLookup(brandId, true, 1_000);
+        }
+
+        assertThat(meterRegistry.find("prices.lookup").tag("outcome", "found").timers())
+                .hasSize(MicrometerPriceLookupMetrics.MAX_BRAND_TAGS + 1);
+        assertThat(meterRegistry.get("prices.lookup").tags("brand", "other", "outcome", "found").timer().count())
+                .isEqualTo(10);
+    }
+}
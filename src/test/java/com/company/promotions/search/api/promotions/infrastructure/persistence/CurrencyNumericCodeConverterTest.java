@@ -0,0 +1,39 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurrencyNumericCodeConverterTest {
+
+    private final CurrencyNumericCodeConverter converter = new CurrencyNumericCodeConverter();
+
+    @Test
+    @DisplayName("Should store a currency as its ISO numeric code and read it back")
+    void shouldRoundTripThroughNumericCode() {
+        assertThat(converter.convertToDatabaseColumn("EUR")).isEqualTo((short) 978);
+        assertThat(converter.convertToEntityAttribute((short) 978)).isEqualTo("EUR");
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should refuse currencies whose numeric code is shared or missing")
+    void shouldRefuseSharedOrMissingNumericCodes() {
+        assertThat(CurrencyNumericCodeConverter.isStorable(Currency.getInstance("CSD"))).isFalse();
+        assertThat(CurrencyNumericCodeConverter.isStorable(Currency.getInstance("XFO"))).isFalse();
+        assertThatThrownBy(() -> converter.convertToDatabaseColumn("YUM"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail on a numeric code no currency has")
+    void shouldFailOnUnknownNumericCode() {
+        assertThatThrownBy(() -> CurrencyNumericCodeConverter.currencyOf((short) 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1");
+    }
+}
@@ -0,0 +1,97 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Builds the schema with the Flyway migrations, which hold the currencies table, instead of the Hibernate schema of
+ * the test profile. Each test rolls back its changes to the table, then the table is loaded again so that the
+ * converter's mapping does not leak into other tests.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:currencydb;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+@Transactional
+class CurrencyTableIT {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Autowired
+    private CurrencyTable currencyTable;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterTransaction
+    void reloadCommittedTable() {
+        currencyTable.load();
+    }
+
+    @Test
+    @DisplayName("Should map every currency of the seeded table to its ISO numeric code")
+    void shouldLoadTheSeededTable() {
+        assertThatCode(currencyTable::load).doesNotThrowAnyException();
+
+        assertThat(CurrencyNumericCodeConverter.storableCurrencies())
+                .isEqualTo(CurrencyNumericCodeConverter.jdkCurrencies());
+    }
+
+    @Test
+    @DisplayName("Should map a currency by the id the table gives it rather than its JDK numeric code")
+    void shouldPreferTheTableOverTheJdk() {
+        jdbcTemplate.update("UPDATE promotions.currencies SET id = 1 WHERE code = 'USD'");
+
+        currencyTable.load();
+
+        assertThat(CurrencyNumericCodeConverter.numericCodeOf(USD)).isEqualTo((short) 1);
+        assertThat(CurrencyNumericCodeConverter.currencyOf((short) 1)).isEqualTo(USD);
+        assertThatThrownBy(() -> CurrencyNumericCodeConverter.currencyOf((short) 840))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should stop storing a currency missing from the table")
+    void shouldRefuseCurrencyMissingFromTable() {
+        jdbcTemplate.update("DELETE FROM promotions.currencies WHERE code = 'USD'");
+
+        currencyTable.load();
+
+        assertThat(CurrencyNumericCodeConverter.isStorable(USD)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should skip a row the JDK does not know when no price references it")
+    void shouldSkipUnreferencedUnknownRow() {
+        jdbcTemplate.update("INSERT INTO promotions.currencies (id, code) VALUES (1, 'ZZZ')");
+
+        assertThatCode(currencyTable::load).doesNotThrowAnyException();
+
+        assertThatThrownBy(() -> CurrencyNumericCodeConverter.currencyOf((short) 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail when a price references a row the JDK does not know")
+    void shouldFailOnReferencedUnknownRow() {
+        jdbcTemplate.update("UPDATE promotions.currencies SET code = 'ZZZ' WHERE id = 978");
+
+        assertThatThrownBy(currencyTable::load)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ZZZ (978)");
+    }
+}
@@ -0,0 +1,177 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import com.company.promotions.search.api.promotions.application.ApplicablePriceDto;
+import com.company.promotions.search.api.promotions.application.FindProductsPriceBetweenDatesUseCase;
+import com.company.promotions.search.api.promotions.domain.PricesChangedEvent;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.RequiredSearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not {@code @Transactional}: cached query results are only reused once the rows they depend on are committed.
+ * The test profile runs the {@code jpa} repository type without the effective price cache, so every use case lookup
+ * reaches the repository.
+ */
+@SpringBootTest(properties = "promotions.jpa-cache.enabled=true")
+@ActiveProfiles("test")
+class HibernatePriceCacheIT {
+
+    private static final LocalDateTime INSTANT = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Autowired
+    private FindProductsPriceBetweenDatesUseCase findProductsPriceBetweenDatesUseCase;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager jpaCacheManager;
+
+    @Autowired
+    private JpaCacheProperties jpaCacheProperties;
+
+    @BeforeEach
+    void setUp() {
+        jpaPriceRepository.deleteAll();
+        jpaPriceRepository.save(price(1, 0, LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59), new BigDecimal("35.50")));
+        jpaPriceRepository.save(price(2, 1, LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0), new BigDecimal("25.45")));
+        eventPublisher.publishEvent(PricesChangedEvent.all());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaPriceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated lookup from the query and entity regions")
+    void shouldAnswerRepeatedLookupFromCache() {
+        double queryHits = count("cache.gets", JpaPriceRepository.APPLICABLE_PRICES_REGION, "hit");
+        double entityHits = count("cache.gets", PriceEntity.CACHE_REGION, "hit");
+
+        assertThat(jpaPriceRepository.findApplicablePrices(35455L, 1L, INSTANT)).hasSize(2);
+        assertThat(jpaPriceRepository.findApplicablePrices(35455L, 1L, INSTANT))
+                .extracting(PriceEntity::getPriceList)
+                .containsExactly(2, 1);
+
+        assertThat(count("cache.gets", JpaPriceRepository.APPLICABLE_PRICES_REGION, "hit"))
+                .isEqualTo(queryHits + 1);
+        assertThat(count("cache.gets", PriceEntity.CACHE_REGION, "hit")).isGreaterThanOrEqualTo(entityHits + 2);
+        assertThat(count("cache.puts", JpaPriceRepository.APPLICABLE_PRICES_REGION, null)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should answer repeated use case lookups from the winner and overlap query regions")
+    void shouldAnswerRepeatedUseCaseLookupsFromCache() {
+        double winnerHits = count("cache.gets", JpaPriceRepository.MOST_SPECIFIC_PRICE_REGION, "hit");
+        double overlapHits = count("cache.gets", JpaPriceRepository.OVERLAPPING_PRICES_REGION, "hit");
+        double entityHits = count("cache.gets", PriceEntity.CACHE_REGION, "hit");
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(findProductsPriceBetweenDatesUseCase.execute(INSTANT, 35455L, 1L, ApplicablePriceDto::new))
+                    .extracting(ApplicablePriceDto::priceList)
+                    .isEqualTo(2);
+            assertThat(findProductsPriceBetweenDatesUseCase.executeWithWindow(INSTANT, 35455L, 1L))
+                    .hasValueSatisfying(window -> assertThat(window.validUntil())
+                            .isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0)));
+        }
+
+        // Only the first winner query and the first overlap query reach the database
+        assertThat(count("cache.gets", JpaPriceRepository.MOST_SPECIFIC_PRICE_REGION, "hit"))
+                .isEqualTo(winnerHits + 3);
+        assertThat(count("cache.gets", JpaPriceRepository.OVERLAPPING_PRICES_REGION, "hit"))
+                .isEqualTo(overlapHits + 1);
+        assertThat(count("cache.gets", PriceEntity.CACHE_REGION, "hit")).isGreaterThanOrEqualTo(entityHits + 2);
+    }
+
+    @Test
+    @DisplayName("Should query the database again after prices change")
+    void shouldQueryAgainAfterPricesChange() {
+        jpaPriceRepository.findApplicablePrices(35455L, 1L, INSTANT);
+        double queryMisses = count("cache.gets", JpaPriceRepository.APPLICABLE_PRICES_REGION, "miss");
+
+        eventPublisher.publishEvent(PricesChangedEvent.all());
+
+        assertThat(jpaPriceRepository.findApplicablePrices(35455L, 1L, INSTANT)).hasSize(2);
+        assertThat(count("cache.gets", JpaPriceRepository.APPLICABLE_PRICES_REGION, "miss"))
+                .isEqualTo(queryMisses + 1);
+    }
+
+    @Test
+    @DisplayName("Should not serve a result put after the change by a query whose transaction began before it")
+    void shouldNotServeResultOfQueryStartedBeforeChange() {
+        // Query results are cached with the start of their transaction, which here precedes the event
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(PricesChangedEvent.all());
+            jpaPriceRepository.findApplicablePrices(35455L, 1L, INSTANT);
+        });
+        double queryHits = count("cache.gets", JpaPriceRepository.APPLICABLE_PRICES_REGION, "hit");
+        double queryMisses = count("cache.gets", JpaPriceRepository.APPLICABLE_PRICES_REGION, "miss");
+
+        assertThat(jpaPriceRepository.findApplicablePrices(35455L, 1L, INSTANT)).hasSize(2);
+
+        assertThat(count("cache.gets", JpaPriceRepository.APPLICABLE_PRICES_REGION, "hit")).isEqualTo(queryHits);
+        assertThat(count("cache.gets", JpaPriceRepository.APPLICABLE_PRICES_REGION, "miss"))
+                .isEqualTo(queryMisses + 1);
+    }
+
+    @Test
+    @DisplayName("Should keep the regions in a cache manager of its own, sized from this context's properties")
+    void shouldKeepRegionsInOwnCacheManager() {
+        CacheManager defaultManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        assertThat(jpaCacheManager).isNotSameAs(defaultManager);
+        assertThat(jpaCacheManager.getCache(PriceEntity.CACHE_REGION)
+                .getConfiguration(CaffeineConfiguration.class).getMaximumSize())
+                .isEqualTo(OptionalLong.of(jpaCacheProperties.maximumSize()));
+    }
+
+    private double count(String name, String region, String result) {
+        RequiredSearch search = meterRegistry.get(name).tag("cache", region);
+        return (result == null ? search : search.tag("result", result)).functionCounter().count();
+    }
+
+    private static PriceEntity price(int priceList, int priority, LocalDateTime startDate, LocalDateTime endDate,
+                                     BigDecimal amount) {
+        PriceEntity price = new PriceEntity();
+        price.setBrandId(1L);
+        price.setStartDate(startDate);
+        price.setEndDate(endDate);
+        price.setPriceList(priceList);
+        price.setProductId(35455L);
+        price.setPriority(priority);
+        price.setPrice(amount);
+        price.setCurrency("EUR");
+        return price;
+    }
+}
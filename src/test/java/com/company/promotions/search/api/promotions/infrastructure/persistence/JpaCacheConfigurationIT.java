@@ -0,0 +1,28 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "promotions.jpa-cache.enabled=true",
+        "promotions.repository.type=timeline"
+})
+@ActiveProfiles("test")
+class JpaCacheConfigurationIT {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    @DisplayName("Should leave the Hibernate caches off for a repository type that does not serve lookups with JPA")
+    void shouldNotSetUpCachesForOtherRepositoryTypes() {
+        assertThat(applicationContext.getBeanNamesForType(JpaCacheConfiguration.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(HibernatePriceCache.class)).isEmpty();
+    }
+}
@@ -0,0 +1,158 @@
+package com.company.promotions.search.api.promotions.infrastructure.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds the schema with the Flyway migrations, instead of the Hibernate schema of the test profile, and asks H2
+ * for the plan of the SQL Hibernate generates for each price lookup. Every lookup must seek an index that holds
+ * all the columns it reads: a table scan, or an index that has to go back to the primary key for a missing
+ * column, fails the test. The id is the row key of the table, which every index entry carries.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plandb;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.company.promotions.search.api.promotions.infrastructure.persistence"
+                + ".PriceQueryPlanIT$CapturingStatementInspector"
+})
+@ActiveProfiles("test")
+@Transactional
+class PriceQueryPlanIT {
+
+    private static final Pattern PLAN_INDEX = Pattern.compile("/\\* ([A-Za-z_][\\w.]*)");
+    private static final LocalDateTime INSTANT = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Should find applicable prices with a covering index")
+    void shouldFindApplicablePricesWithCoveringIndex() {
+        assertThat(jpaPriceRepository.findApplicablePrices(35455L, 1L, INSTANT)).hasSize(2);
+
+        assertCoveredByIndex(planOf(lastPriceQuery(), 35455L, 1L, Timestamp.valueOf(INSTANT)));
+    }
+
+    @Test
+    @DisplayName("Should find the most specific price with a covering index")
+    void shouldFindMostSpecificPriceWithCoveringIndex() {
+        assertThat(jpaPriceRepository.findMostSpecificPrice(35455L, 1L, INSTANT))
+                .hasValueSatisfying(row -> assertThat(row.priceList()).isEqualTo(2));
+
+        assertCoveredByIndex(planOf(lastPriceQuery(), 35455L, 1L, Timestamp.valueOf(INSTANT)));
+    }
+
+    @Test
+    @DisplayName("Should read the transitions of one brand from brand-leading boundary indexes")
+    void shouldFindBrandTransitionsWithBrandLeadingIndexes() {
+        LocalDateTime from = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        String sql = JdbcPriceTransitionRepository.SELECT_TRANSITIONS
+                .formatted(JdbcPriceTransitionRepository.BRAND_CLAUSE);
+
+        String plan = planOf(sql, Timestamp.valueOf(from), Timestamp.valueOf(to), 1L,
+                Timestamp.valueOf(from.minusNanos(1)), Timestamp.valueOf(to.minusNanos(1)), 1L, 10);
+
+        assertThat(plan)
+                .doesNotContainIgnoringCase("tableScan")
+                .containsIgnoringCase("idx_prices_brand_start_date")
+                .containsIgnoringCase("idx_prices_brand_end_date");
+    }
+
+    @Test
+    @DisplayName("Should store the currency as its ISO numeric code and read it back")
+    void shouldStoreCurrencyAsNumericCode() {
+        PriceEntity price = new PriceEntity();
+        price.setBrandId(2L);
+        price.setStartDate(INSTANT);
+        price.setEndDate(INSTANT.plusDays(1));
+        price.setPriceList(9);
+        price.setProductId(35455L);
+        price.setPriority(0);
+        price.setPrice(new BigDecimal("19.99"));
+        price.setCurrency("USD");
+        Long id = jpaPriceRepository.saveAndFlush(price).getId();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT c.code FROM promotions.prices p JOIN promotions.currencies c ON c.id = p.currency_id "
+                        + "WHERE p.id = ?", String.class, id))
+                .isEqualTo("USD");
+        assertThat(jpaPriceRepository.findApplicablePrices(35455L, 2L, INSTANT))
+                .singleElement()
+                .satisfies(found -> assertThat(found.toDomain().getMoney().currency().getCurrencyCode())
+                        .isEqualTo("USD"));
+    }
+
+    private String lastPriceQuery() {
+        List<String> queries = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase().contains("from promotions.prices"))
+                .toList();
+        assertThat(queries).isNotEmpty();
+        return queries.getLast();
+    }
+
+    /**
+     * Binds the given parameters in order; any left over are the row limit, bound to 1.
+     */
+    private String planOf(String sql, Object... parameters) {
+        Object[] bound = Arrays.copyOf(parameters, (int) sql.chars().filter(c -> c == '?').count());
+        Arrays.fill(bound, parameters.length, bound.length, 1);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, bound);
+    }
+
+    private void assertCoveredByIndex(String plan) {
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+        Matcher matcher = PLAN_INDEX.matcher(plan);
+        assertThat(matcher.find()).as("index in plan %s", plan).isTrue();
+        String index = matcher.group(1).substring(matcher.group(1).lastIndexOf('.') + 1);
+
+        List<String> indexColumns = jdbcTemplate.queryForList("""
+                SELECT column_name FROM information_schema.index_columns
+                WHERE index_schema = 'PROMOTIONS' AND index_name = ?
+                """, String.class, index);
+        List<String> readColumns = jdbcTemplate.queryForList("""
+                SELECT column_name FROM information_schema.columns
+                WHERE table_schema = 'PROMOTIONS' AND table_name = 'PRICES' AND column_name <> 'ID'
+                """, String.class);
+        assertThat(indexColumns).as("columns of %s in plan %s", index, plan).containsAll(readColumns);
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.company.promotions.search.api.promotions.infrastructure.persistence;
 
+import com.company.promotions.search.api.promotions.domain.MostSpecificPriceFinder;
 import com.company.promotions.search.api.promotions.domain.Price;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
 import com.company.promotions.search.api.promotions.domain.PriceRepository;
 import com.company.promotions.search.api.promotions.domain.vo.BrandId;
 import com.company.promotions.search.api.promotions.domain.vo.ProductId;
@@ -29,6 +31,9 @@ class PriceRepositoryImplIT {
     @Autowired
     private JpaPriceRepository jpaPriceRepository;
 
+    @Autowired
+    private MostSpecificPriceFinder mostSpecificPriceFinder;
+
     @BeforeEach
     void setUp() {
         jpaPriceRepository.deleteAll();
@@ -185,4 +190,91 @@ class PriceRepositoryImplIT {
         assertThat(result.get(0).getPriceListId().value()).isEqualTo(2L);
         assertThat(result.get(1).getPriceListId().value()).isEqualTo(1L);
     }
+
+    @Test
+    @DisplayName("Should return every price of the requested keys overlapping the window")
+    void shouldReturnPricesOverlappingWindow() {
+        List<Price> result = priceRepository.findPricesOverlapping(
+                List.of(PriceKey.of(ProductId.of(35455L), BrandId.of(1L))),
+                LocalDateTime.of(2020, 6, 14, 16, 0, 0),
+                LocalDateTime.of(2020, 6, 15, 10, 0, 0));
+
+        assertThat(result)
+                .extracting(price -> price.getPriceListId().value())
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should not return prices of keys that were not requested")
+    void shouldNotReturnPricesOfKeysNotRequested() {
+        PriceEntity otherBrandPrice = new PriceEntity();
+        otherBrandPrice.setBrandId(2L);
+        otherBrandPrice.setStartDate(LocalDateTime.of(2020, 6, 14, 0, 0, 0));
+        otherBrandPrice.setEndDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        otherBrandPrice.setPriceList(5);
+        otherBrandPrice.setProductId(99999L);
+        otherBrandPrice.setPriority(0);
+        otherBrandPrice.setPrice(new BigDecimal("10.00"));
+        otherBrandPrice.setCurrency("EUR");
+        jpaPriceRepository.save(otherBrandPrice);
+
+        List<Price> result = priceRepository.findPricesOverlapping(
+                List.of(PriceKey.of(ProductId.of(35455L), BrandId.of(2L)),
+                        PriceKey.of(ProductId.of(99999L), BrandId.of(1L))),
+                LocalDateTime.of(2020, 6, 14, 10, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 10, 0, 0));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should let the database pick the same winner as selectMostSpecific")
+    void shouldFindMostSpecificPriceLikeSelectMostSpecific() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 13, 0, 0, 0);
+        for (int hour = 0; hour < 24 * 5; hour++) {
+            LocalDateTime instant = start.plusHours(hour);
+
+            assertThat(mostSpecificPriceFinder.findMostSpecific(35455L, 1L, instant))
+                    .as("price at %s", instant)
+                    .isEqualTo(Price.selectMostSpecific(priceRepository.findApplicablePrices(
+                            ProductId.of(35455L), BrandId.of(1L), instant)).orElse(null));
+        }
+    }
+
+    @Test
+    @DisplayName("Should break ties on range length by priority, then by the oldest row")
+    void shouldBreakTiesByPriorityThenOldestRow() {
+        LocalDateTime startDate = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2020, 6, 14, 17, 0, 0);
+        jpaPriceRepository.save(samePeriodPrice(5, 0, startDate, endDate));
+        jpaPriceRepository.save(samePeriodPrice(6, 2, startDate, endDate));
+        jpaPriceRepository.save(samePeriodPrice(7, 2, startDate, endDate));
+
+        Price result = mostSpecificPriceFinder.findMostSpecific(35455L, 1L, LocalDateTime.of(2020, 6, 14, 16, 30, 0));
+
+        assertThat(result.getPriceListId().value()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("Should return null when the database finds no applicable price")
+    void shouldReturnNullWhenNoMostSpecificPrice() {
+        assertThat(mostSpecificPriceFinder.findMostSpecific(35455L, 1L, LocalDateTime.of(2019, 1, 1, 0, 0, 0)))
+                .isNull();
+        assertThat(mostSpecificPriceFinder.findMostSpecific(99999L, 1L, LocalDateTime.of(2020, 6, 14, 16, 0, 0)))
+                .isNull();
+    }
+
+    private static PriceEntity samePeriodPrice(int priceList, int priority, LocalDateTime startDate,
+                                               LocalDateTime endDate) {
+        PriceEntity entity = new PriceEntity();
+        entity.setBrandId(1L);
+        entity.setStartDate(startDate);
+        entity.setEndDate(endDate);
+        entity.setPriceList(priceList);
+        entity.setProductId(35455L);
+        entity.setPriority(priority);
+        entity.setPrice(new BigDecimal("20.00"));
+        entity.setCurrency("EUR");
+        return entity;
+    }
 }
@@ -0,0 +1,123 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not {@code @Transactional}: transitions are read with plain JDBC, which would not see prices the test
+ * transaction has not flushed, so the prices are committed and the table is cleaned up explicitly instead.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class FindPriceTransitionsGETControllerIT {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String VALID_API_KEY = "test-api-key-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @BeforeEach
+    void setUp() {
+        jpaPriceRepository.deleteAll();
+        // Base price, promotion and next-day promotion of product 35455, brand 1 (ZARA)
+        save(35455L, 1L, 1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        save(35455L, 1L, 2, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0));
+        save(35455L, 1L, 3, LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 0));
+        // Promotion of another brand, in the same window
+        save(35455L, 2L, 4, LocalDateTime.of(2020, 6, 14, 16, 0, 0), LocalDateTime.of(2020, 6, 14, 17, 0, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaPriceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should return the starts and ends of the brand's prices in the window in order")
+    void shouldReturnTransitionsOfWindowInOrder() throws Exception {
+        mockMvc.perform(get("/prices/transitions")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T10:00:00")
+                        .param("to", "2020-06-15T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.brandId").value(1))
+                .andExpect(jsonPath("$.transitions.length()").value(3))
+                .andExpect(jsonPath("$.transitions[0].priceList").value(2))
+                .andExpect(jsonPath("$.transitions[0].kind").value("STARTS"))
+                .andExpect(jsonPath("$.transitions[0].at").value("2020-06-14T15:00:00"))
+                .andExpect(jsonPath("$.transitions[1].priceList").value(2))
+                .andExpect(jsonPath("$.transitions[1].kind").value("ENDS"))
+                .andExpect(jsonPath("$.transitions[1].at").value("2020-06-14T18:30:00.000000001"))
+                .andExpect(jsonPath("$.transitions[2].priceList").value(3))
+                .andExpect(jsonPath("$.transitions[2].kind").value("STARTS"))
+                .andExpect(jsonPath("$.transitions[2].at").value("2020-06-15T00:00:00"));
+    }
+
+    @Test
+    @DisplayName("Should return no transitions for a window without price boundaries")
+    void shouldReturnNoTransitionsForQuietWindow() throws Exception {
+        mockMvc.perform(get("/prices/transitions")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("brandId", "1")
+                        .param("from", "2020-07-01T00:00:00")
+                        .param("to", "2020-08-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transitions.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the window ends before it starts")
+    void shouldReturn400ForInvertedWindow() throws Exception {
+        mockMvc.perform(get("/prices/transitions")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("brandId", "1")
+                        .param("from", "2020-06-15T00:00:00")
+                        .param("to", "2020-06-14T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 401 without an API key")
+    void shouldReturn401WithoutApiKey() throws Exception {
+        mockMvc.perform(get("/prices/transitions")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-15T00:00:00"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private void save(Long productId, Long brandId, int priceList, LocalDateTime startDate, LocalDateTime endDate) {
+        PriceEntity price = new PriceEntity();
+        price.setBrandId(brandId);
+        price.setStartDate(startDate);
+        price.setEndDate(endDate);
+        price.setPriceList(priceList);
+        price.setProductId(productId);
+        price.setPriority(priceList == 1 ? 0 : 1);
+        price.setPrice(new BigDecimal("25.45"));
+        price.setCurrency("EUR");
+        jpaPriceRepository.save(price);
+    }
+}
@@ -2,21 +2,28 @@ package com.company.promotions.search.api.promotions.infrastructure.rest;
 
 import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
 import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceEntity;
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryDecoder;
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryFormat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -257,4 +264,100 @@ class FindProductsPriceGETControllerIT {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("Should keep the response fresh until the price stops applying")
+    void shouldKeepResponseFreshUntilPriceStopsApplying() throws Exception {
+        mockMvc.perform(get("/prices")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("applicationDate", "2020-06-14T18:29:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.EXPIRES))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, private"))
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, X-API-Key"));
+    }
+
+    @Test
+    @DisplayName("Should cap freshness at the configured maximum")
+    void shouldCapFreshnessAtConfiguredMaximum() throws Exception {
+        mockMvc.perform(get("/prices")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, private"));
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304 and no body")
+    void shouldAnswerMatchingIfNoneMatchWithNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/prices")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/prices")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should return the full response when If-None-Match holds the tag of another price")
+    void shouldReturnFullResponseForStaleETag() throws Exception {
+        String baseETag = mockMvc.perform(get("/prices")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/prices")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .header(HttpHeaders.IF_NONE_MATCH, baseETag)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2));
+    }
+
+    @Test
+    @DisplayName("Should answer in the binary format when the client asks for it")
+    void shouldAnswerInBinaryFormatWhenRequested() throws Exception {
+        byte[] body = mockMvc.perform(get("/prices")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .accept(PriceBinaryFormat.MEDIA_TYPE_VALUE)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PriceBinaryFormat.MEDIA_TYPE_VALUE))
+                .andExpect(header().string(PriceBinaryFormat.VERSION_HEADER, "1"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        FindProductsPriceResponse price = PriceBinaryDecoder.of(new ByteArrayInputStream(body)).readPrice();
+        assertThat(price.priceList()).isEqualTo(2);
+        assertThat(price.price()).isEqualByComparingTo("25.45");
+        assertThat(price.endDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0));
+    }
 }
@@ -0,0 +1,166 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class FindProductsPriceTimelineGETControllerIT {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String VALID_API_KEY = "test-api-key-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @BeforeEach
+    void setUp() {
+        jpaPriceRepository.deleteAll();
+        insertTestData();
+    }
+
+    private void insertTestData() {
+        // Price 1: Base price for product 35455, brand 1 (ZARA) - wide range
+        PriceEntity price1 = new PriceEntity();
+        price1.setBrandId(1L);
+        price1.setStartDate(LocalDateTime.of(2020, 6, 14, 0, 0, 0));
+        price1.setEndDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        price1.setPriceList(1);
+        price1.setProductId(35455L);
+        price1.setPriority(0);
+        price1.setPrice(new BigDecimal("35.50"));
+        price1.setCurrency("EUR");
+        jpaPriceRepository.save(price1);
+
+        // Price 2: Promotional price - narrow range (3.5 hours)
+        PriceEntity price2 = new PriceEntity();
+        price2.setBrandId(1L);
+        price2.setStartDate(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        price2.setEndDate(LocalDateTime.of(2020, 6, 14, 18, 30, 0));
+        price2.setPriceList(2);
+        price2.setProductId(35455L);
+        price2.setPriority(1);
+        price2.setPrice(new BigDecimal("25.45"));
+        price2.setCurrency("EUR");
+        jpaPriceRepository.save(price2);
+
+        // Price 3: Another promotional price - medium range (11 hours)
+        PriceEntity price3 = new PriceEntity();
+        price3.setBrandId(1L);
+        price3.setStartDate(LocalDateTime.of(2020, 6, 15, 0, 0, 0));
+        price3.setEndDate(LocalDateTime.of(2020, 6, 15, 11, 0, 0));
+        price3.setPriceList(3);
+        price3.setProductId(35455L);
+        price3.setPriority(1);
+        price3.setPrice(new BigDecimal("30.50"));
+        price3.setCurrency("EUR");
+        jpaPriceRepository.save(price3);
+
+        // Price 4: Late promotional price - wide range
+        PriceEntity price4 = new PriceEntity();
+        price4.setBrandId(1L);
+        price4.setStartDate(LocalDateTime.of(2020, 6, 15, 16, 0, 0));
+        price4.setEndDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        price4.setPriceList(4);
+        price4.setProductId(35455L);
+        price4.setPriority(1);
+        price4.setPrice(new BigDecimal("38.95"));
+        price4.setCurrency("EUR");
+        jpaPriceRepository.save(price4);
+    }
+
+    @Test
+    @DisplayName("Should return the effective segments of the window in order")
+    void shouldReturnSegmentsOfWindow() throws Exception {
+        mockMvc.perform(get("/prices/timeline")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T10:00:00")
+                        .param("to", "2020-06-15T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productId").value(35455))
+                .andExpect(jsonPath("$.segments.length()").value(4))
+                .andExpect(jsonPath("$.segments[0].startDate").value("2020-06-14T10:00:00"))
+                .andExpect(jsonPath("$.segments[0].price.priceList").value(1))
+                .andExpect(jsonPath("$.segments[1].startDate").value("2020-06-14T15:00:00"))
+                .andExpect(jsonPath("$.segments[1].endDate").value("2020-06-14T18:30:00"))
+                .andExpect(jsonPath("$.segments[1].price.priceList").value(2))
+                .andExpect(jsonPath("$.segments[2].price.priceList").value(1))
+                .andExpect(jsonPath("$.segments[3].startDate").value("2020-06-15T00:00:00"))
+                .andExpect(jsonPath("$.segments[3].endDate").value("2020-06-15T10:00:00"))
+                .andExpect(jsonPath("$.segments[3].price.priceList").value(3));
+    }
+
+    @Test
+    @DisplayName("Should return no segments for a window without prices")
+    void shouldReturnNoSegmentsForEmptyWindow() throws Exception {
+        mockMvc.perform(get("/prices/timeline")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2019-01-01T00:00:00")
+                        .param("to", "2019-12-31T23:59:59"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.segments.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the window ends before it starts")
+    void shouldReturn400ForInvertedWindow() throws Exception {
+        mockMvc.perform(get("/prices/timeline")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-15T00:00:00")
+                        .param("to", "2020-06-14T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should answer every sample instant in request order")
+    void shouldAnswerSamplesInRequestOrder() throws Exception {
+        mockMvc.perform(get("/prices/timeline/samples")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("at", "2020-06-16T21:00:00", "2020-06-14T16:00:00", "2019-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].applicationDate").value("2020-06-16T21:00:00"))
+                .andExpect(jsonPath("$.results[0].price.priceList").value(4))
+                .andExpect(jsonPath("$.results[1].price.priceList").value(2))
+                .andExpect(jsonPath("$.results[2].found").value(false));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when no sample instant is given")
+    void shouldReturn400WithoutSamples() throws Exception {
+        mockMvc.perform(get("/prices/timeline/samples")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,213 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceEntity;
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryDecoder;
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class FindProductsPricesBatchPOSTControllerIT {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String VALID_API_KEY = "test-api-key-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @BeforeEach
+    void setUp() {
+        jpaPriceRepository.deleteAll();
+        insertTestData();
+    }
+
+    private void insertTestData() {
+        // Price 1: Base price for product 35455, brand 1 (ZARA) - wide range
+        PriceEntity price1 = new PriceEntity();
+        price1.setBrandId(1L);
+        price1.setStartDate(LocalDateTime.of(2020, 6, 14, 0, 0, 0));
+        price1.setEndDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        price1.setPriceList(1);
+        price1.setProductId(35455L);
+        price1.setPriority(0);
+        price1.setPrice(new BigDecimal("35.50"));
+        price1.setCurrency("EUR");
+        jpaPriceRepository.save(price1);
+
+        // Price 2: Promotional price - narrow range (3.5 hours)
+        PriceEntity price2 = new PriceEntity();
+        price2.setBrandId(1L);
+        price2.setStartDate(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        price2.setEndDate(LocalDateTime.of(2020, 6, 14, 18, 30, 0));
+        price2.setPriceList(2);
+        price2.setProductId(35455L);
+        price2.setPriority(1);
+        price2.setPrice(new BigDecimal("25.45"));
+        price2.setCurrency("EUR");
+        jpaPriceRepository.save(price2);
+
+        // Price 3: Base price for another product
+        PriceEntity price3 = new PriceEntity();
+        price3.setBrandId(1L);
+        price3.setStartDate(LocalDateTime.of(2020, 6, 1, 0, 0, 0));
+        price3.setEndDate(LocalDateTime.of(2020, 6, 30, 23, 59, 59));
+        price3.setPriceList(5);
+        price3.setProductId(35456L);
+        price3.setPriority(0);
+        price3.setPrice(new BigDecimal("19.99"));
+        price3.setCurrency("EUR");
+        jpaPriceRepository.save(price3);
+    }
+
+    @Test
+    @DisplayName("Should resolve every lookup in request order")
+    void shouldResolveEveryLookupInRequestOrder() throws Exception {
+        mockMvc.perform(post("/prices/batch")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"lookups": [
+                                  {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2020-06-14T16:00:00", "productId": 35456, "brandId": 1}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].found").value(true))
+                .andExpect(jsonPath("$.results[0].price.priceList").value(1))
+                .andExpect(jsonPath("$.results[0].price.price").value(35.50))
+                .andExpect(jsonPath("$.results[1].price.priceList").value(2))
+                .andExpect(jsonPath("$.results[1].price.price").value(25.45))
+                .andExpect(jsonPath("$.results[2].productId").value(35456))
+                .andExpect(jsonPath("$.results[2].price.priceList").value(5));
+    }
+
+    @Test
+    @DisplayName("Should include not-found entries instead of failing the batch")
+    void shouldIncludeNotFoundEntries() throws Exception {
+        mockMvc.perform(post("/prices/batch")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"lookups": [
+                                  {"applicationDate": "2019-01-01T10:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2020-06-14T10:00:00", "productId": 99999, "brandId": 1}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].found").value(false))
+                .andExpect(jsonPath("$.results[0].applicationDate").value("2019-01-01T10:00:00"))
+                .andExpect(jsonPath("$.results[0].price").doesNotExist())
+                .andExpect(jsonPath("$.results[1].found").value(false))
+                .andExpect(jsonPath("$.results[1].productId").value(99999));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the batch is empty")
+    void shouldReturn400WhenBatchIsEmpty() throws Exception {
+        mockMvc.perform(post("/prices/batch")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"lookups\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the batch exceeds the maximum size")
+    void shouldReturn400WhenBatchIsTooLarge() throws Exception {
+        String lookups = IntStream.rangeClosed(0, FindProductsPricesBatchRequest.MAX_LOOKUPS)
+                .mapToObj(i -> "{\"applicationDate\": \"2020-06-14T10:00:00\", \"productId\": 35455, \"brandId\": 1}")
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(post("/prices/batch")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"lookups\": [" + lookups + "]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a lookup has an invalid product ID")
+    void shouldReturn400WhenProductIdIsInvalid() throws Exception {
+        mockMvc.perform(post("/prices/batch")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"lookups": [
+                                  {"applicationDate": "2020-06-14T10:00:00", "productId": -1, "brandId": 1}
+                                ]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid Product ID"));
+    }
+
+    @Test
+    @DisplayName("Should return 401 when API key is missing")
+    void shouldReturn401WhenApiKeyIsMissing() throws Exception {
+        mockMvc.perform(post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"lookups": [
+                                  {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1}
+                                ]}
+                                """))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should answer in the binary format when the client asks for it")
+    void shouldAnswerInBinaryFormatWhenRequested() throws Exception {
+        byte[] body = mockMvc.perform(post("/prices/batch")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(PriceBinaryFormat.MEDIA_TYPE_VALUE)
+                        .content("""
+                                {"lookups": [
+                                  {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2019-01-01T10:00:00", "productId": 35455, "brandId": 1}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PriceBinaryFormat.MEDIA_TYPE_VALUE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        List<FindProductsPricesBatchItemResponse> results =
+                PriceBinaryDecoder.of(new ByteArrayInputStream(body)).readResults();
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).found()).isTrue();
+        assertThat(results.get(0).price().priceList()).isEqualTo(2);
+        assertThat(results.get(1).found()).isFalse();
+        assertThat(results.get(1).applicationDate()).isEqualTo(LocalDateTime.of(2019, 1, 1, 10, 0, 0));
+    }
+}
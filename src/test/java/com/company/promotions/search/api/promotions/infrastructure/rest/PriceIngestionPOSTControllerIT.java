@@ -0,0 +1,162 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not {@code @Transactional}: the import commits each chunk on its own writer thread, outside any test
+ * transaction, so the table is cleaned up explicitly instead.
+ */
+@SpringBootTest(properties = "promotions.ingestion.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PriceIngestionPOSTControllerIT {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String VALID_API_KEY = "test-api-key-1";
+    private static final String ADMIN_API_KEY = "test-admin-key";
+    private static final String CSV_HEADER =
+            "brand_id,start_date,end_date,price_list,product_id,priority,price,currency\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @BeforeEach
+    void setUp() {
+        jpaPriceRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaPriceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should import every CSV row in chunks")
+    void shouldImportCsvInChunks() throws Exception {
+        String csv = CSV_HEADER + IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> "1,2020-06-14 00:00:00,2020-12-31 23:59:59," + i + ",35455," + i + ",35.50,EUR")
+                .collect(Collectors.joining("\n"));
+
+        mockMvc.perform(post("/admin/prices/import")
+                        .header(API_KEY_HEADER, ADMIN_API_KEY)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead").value(5))
+                .andExpect(jsonPath("$.rowsWritten").value(5))
+                .andExpect(jsonPath("$.rowsRejected").value(0))
+                .andExpect(jsonPath("$.chunksCommitted").value(3));
+
+        assertThat(jpaPriceRepository.count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should make imported prices visible to GET /prices")
+    void shouldMakeImportedPricesVisible() throws Exception {
+        mockMvc.perform(post("/admin/prices/import")
+                        .header(API_KEY_HEADER, ADMIN_API_KEY)
+                        .contentType("text/csv")
+                        .content(CSV_HEADER + "1,2020-06-14 15:00:00,2020-06-14 18:30:00,2,35455,1,25.45,EUR\n"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/prices")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2))
+                .andExpect(jsonPath("$.price").value(25.45));
+    }
+
+    @Test
+    @DisplayName("Should skip and report invalid NDJSON lines")
+    void shouldSkipAndReportInvalidNdjsonLines() throws Exception {
+        String ndjson = """
+                {"productId":35455,"brandId":1,"priceList":1,"priority":0,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","price":35.50,"currency":"EUR"}
+                {"productId":35455,"brandId":1,"priceList":2,"priority":1,"startDate":"2020-06-14T18:30:00","endDate":"2020-06-14T15:00:00","price":25.45,"currency":"EUR"}
+                not json
+                {"productId":35456,"brandId":1,"priceList":5,"startDate":"2020-06-01T00:00:00","endDate":"2020-06-30T23:59:59","price":19.99,"currency":"EUR"}
+                """;
+
+        mockMvc.perform(post("/admin/prices/import")
+                        .header(API_KEY_HEADER, ADMIN_API_KEY)
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead").value(4))
+                .andExpect(jsonPath("$.rowsWritten").value(2))
+                .andExpect(jsonPath("$.rowsRejected").value(2))
+                .andExpect(jsonPath("$.errors", hasSize(2)))
+                .andExpect(jsonPath("$.errors[0]", startsWith("Line 2:")))
+                .andExpect(jsonPath("$.errors[1]", startsWith("Line 3:")));
+
+        assertThat(jpaPriceRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the CSV header is missing a column")
+    void shouldReturn400WhenHeaderIsMissingColumn() throws Exception {
+        mockMvc.perform(post("/admin/prices/import")
+                        .header(API_KEY_HEADER, ADMIN_API_KEY)
+                        .contentType("text/csv")
+                        .content("brand_id,start_date\n1,2020-06-14 00:00:00\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid Price File"));
+    }
+
+    @Test
+    @DisplayName("Should return 415 for other media types")
+    void shouldReturn415ForOtherMediaTypes() throws Exception {
+        mockMvc.perform(post("/admin/prices/import")
+                        .header(API_KEY_HEADER, ADMIN_API_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    @DisplayName("Should return 401 without API key")
+    void shouldReturn401WithoutApiKey() throws Exception {
+        mockMvc.perform(post("/admin/prices/import")
+                        .contentType("text/csv")
+                        .content(CSV_HEADER))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should return 403 for a client key without the admin role")
+    void shouldReturn403ForClientKey() throws Exception {
+        mockMvc.perform(post("/admin/prices/import")
+                        .header(API_KEY_HEADER, VALID_API_KEY)
+                        .contentType("text/csv")
+                        .content(CSV_HEADER + "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR\n"))
+                .andExpect(status().isForbidden());
+
+        assertThat(jpaPriceRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,267 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest;
+
+import com.company.promotions.search.api.promotions.infrastructure.persistence.JpaPriceRepository;
+import com.company.promotions.search.api.promotions.infrastructure.persistence.PriceEntity;
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryDecoder;
+import com.company.promotions.search.api.promotions.infrastructure.rest.binary.PriceBinaryFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the {@code /prices} scenarios of the blocking ITs against the reactive stack. Rows are committed through
+ * JPA, since the R2DBC connections cannot see a test transaction, and removed again after every test.
+ */
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=reactive",
+        "promotions.reactive.url=r2dbc:h2:mem:///testdb?options=DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles({"test", "reactive"})
+class ReactivePricesIT {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String VALID_API_KEY = "test-api-key-1";
+    private static final String BATCH = """
+            {"lookups": [
+              {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+              {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+              {"applicationDate": "2020-06-14T16:00:00", "productId": 99999, "brandId": 1}
+            ]}
+            """;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToApplicationContext(context).build();
+        jpaPriceRepository.deleteAll();
+        jpaPriceRepository.saveAll(List.of(
+                price(1, 0, "35.50", LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                        LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                price(2, 1, "25.45", LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                        LocalDateTime.of(2020, 6, 14, 18, 30, 0)),
+                price(3, 1, "30.50", LocalDateTime.of(2020, 6, 15, 0, 0, 0),
+                        LocalDateTime.of(2020, 6, 15, 11, 0, 0)),
+                price(4, 1, "38.95", LocalDateTime.of(2020, 6, 15, 16, 0, 0),
+                        LocalDateTime.of(2020, 12, 31, 23, 59, 59))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaPriceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Test 1: Request at 10:00 on day 14 - should return base price")
+    void shouldReturnBasePriceAt10OnDay14() {
+        expectPrice("2020-06-14T10:00:00", 1, 35.50);
+    }
+
+    @Test
+    @DisplayName("Test 2: Request at 16:00 on day 14 - should return promotional price")
+    void shouldReturnPromotionalPriceAt16OnDay14() {
+        expectPrice("2020-06-14T16:00:00", 2, 25.45);
+    }
+
+    @Test
+    @DisplayName("Test 3: Request at 21:00 on day 14 - should return base price")
+    void shouldReturnBasePriceAt21OnDay14() {
+        expectPrice("2020-06-14T21:00:00", 1, 35.50);
+    }
+
+    @Test
+    @DisplayName("Test 4: Request at 10:00 on day 15 - should return promotional price")
+    void shouldReturnPromotionalPriceAt10OnDay15() {
+        expectPrice("2020-06-15T10:00:00", 3, 30.50);
+    }
+
+    @Test
+    @DisplayName("Test 5: Request at 21:00 on day 16 - should return late promotional price")
+    void shouldReturnLatePromotionalPriceAt21OnDay16() {
+        expectPrice("2020-06-16T21:00:00", 4, 38.95);
+    }
+
+    @Test
+    @DisplayName("Should return 404 when no price applies")
+    void shouldReturnNotFoundWhenNoPriceApplies() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2019-01-01T10:00:00&productId=35455&brandId=1")
+                .header(API_KEY_HEADER, VALID_API_KEY)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should return 400 when productId is invalid")
+    void shouldReturnBadRequestWhenProductIdIsInvalid() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2020-06-14T10:00:00&productId=-1&brandId=1")
+                .header(API_KEY_HEADER, VALID_API_KEY)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Invalid Product ID");
+    }
+
+    @Test
+    @DisplayName("Should return 401 when API key is missing")
+    void shouldReturnUnauthorizedWhenApiKeyIsMissing() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2020-06-14T10:00:00&productId=35455&brandId=1")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304")
+    void shouldAnswerMatchingIfNoneMatchWithNotModified() {
+        String eTag = webTestClient.get()
+                .uri("/prices?applicationDate=2020-06-14T16:00:00&productId=35455&brandId=1")
+                .header(API_KEY_HEADER, VALID_API_KEY)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=300, private")
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get()
+                .uri("/prices?applicationDate=2020-06-14T16:00:00&productId=35455&brandId=1")
+                .header(API_KEY_HEADER, VALID_API_KEY)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch into one document in request order")
+    void shouldResolveBatchIntoDocument() {
+        webTestClient.post()
+                .uri("/prices/batch")
+                .header(API_KEY_HEADER, VALID_API_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(BATCH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.results.length()").isEqualTo(3)
+                .jsonPath("$.results[0].price.priceList").isEqualTo(1)
+                .jsonPath("$.results[1].price.priceList").isEqualTo(2)
+                .jsonPath("$.results[2].found").isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("Should stream a batch one result per line when NDJSON is requested")
+    void shouldStreamBatchAsNdjson() {
+        String body = webTestClient.post()
+                .uri("/prices/batch")
+                .header(API_KEY_HEADER, VALID_API_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(BATCH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).isNotNull();
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).contains("\"priceList\":1");
+        assertThat(lines.get(1)).contains("\"priceList\":2");
+        assertThat(lines.get(2)).contains("\"found\":false");
+    }
+
+    @Test
+    @DisplayName("Should stream a batch in the binary format when the client asks for it")
+    void shouldStreamBatchInBinaryFormat() throws IOException {
+        byte[] body = webTestClient.post()
+                .uri("/prices/batch")
+                .header(API_KEY_HEADER, VALID_API_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.parseMediaType(PriceBinaryFormat.MEDIA_TYPE_VALUE))
+                .bodyValue(BATCH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(PriceBinaryFormat.VERSION_HEADER, "1")
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).isNotNull();
+        List<FindProductsPricesBatchItemResponse> results =
+                PriceBinaryDecoder.of(new ByteArrayInputStream(body)).readResults();
+        assertThat(results).extracting(FindProductsPricesBatchItemResponse::found).containsExactly(true, true, false);
+        assertThat(results.get(1).price().priceList()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return the timeline segments of a window")
+    void shouldReturnTimelineSegments() {
+        webTestClient.get()
+                .uri("/prices/timeline?productId=35455&brandId=1&from=2020-06-14T10:00:00&to=2020-06-15T10:00:00")
+                .header(API_KEY_HEADER, VALID_API_KEY)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.productId").isEqualTo(35455)
+                .jsonPath("$.segments.length()").isEqualTo(4)
+                .jsonPath("$.segments[1].startDate").isEqualTo("2020-06-14T15:00:00")
+                .jsonPath("$.segments[1].price.priceList").isEqualTo(2)
+                .jsonPath("$.segments[3].price.priceList").isEqualTo(3);
+    }
+
+    private void expectPrice(String applicationDate, int priceList, double price) {
+        webTestClient.get()
+                .uri("/prices?applicationDate={date}&productId=35455&brandId=1", applicationDate)
+                .header(API_KEY_HEADER, VALID_API_KEY)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.productId").isEqualTo(35455)
+                .jsonPath("$.brandId").isEqualTo(1)
+                .jsonPath("$.priceList").isEqualTo(priceList)
+                .jsonPath("$.price").isEqualTo(price);
+    }
+
+    private static PriceEntity price(int priceList, int priority, String amount, LocalDateTime start,
+                                     LocalDateTime end) {
+        PriceEntity price = new PriceEntity();
+        price.setBrandId(1L);
+        price.setStartDate(start);
+        price.setEndDate(end);
+        price.setPriceList(priceList);
+        price.setProductId(35455L);
+        price.setPriority(priority);
+        price.setPrice(new BigDecimal(amount));
+        price.setCurrency("EUR");
+        return price;
+    }
+}
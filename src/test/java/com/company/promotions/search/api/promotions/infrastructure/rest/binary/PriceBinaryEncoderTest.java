@@ -0,0 +1,160 @@
+package com.company.promotions.search.api.promotions.infrastructure.rest.binary;
+
+import com.company.promotions.search.api.promotions.infrastructure.rest.FindProductsPriceResponse;
+import com.company.promotions.search.api.promotions.infrastructure.rest.FindProductsPricesBatchItemResponse;
+import com.company.promotions.search.api.promotions.infrastructure.rest.FindProductsPricesBatchResponse;
+import com.company.promotions.search.api.promotions.infrastructure.rest.PriceTimelineResponse;
+import com.company.promotions.search.api.promotions.infrastructure.rest.PriceTimelineSegmentResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceBinaryEncoderTest {
+
+    private final FindProductsPriceResponse price = new FindProductsPriceResponse(
+            35455L, 1L, 2,
+            LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+            new BigDecimal("25.45"));
+
+    private final FindProductsPricesBatchItemResponse found = new FindProductsPricesBatchItemResponse(
+            LocalDateTime.of(2020, 6, 14, 16, 0, 0), 35455L, 1L, true, price);
+
+    private final FindProductsPricesBatchItemResponse notFound = new FindProductsPricesBatchItemResponse(
+            LocalDateTime.of(2019, 1, 1, 10, 0, 0), 99999L, 1L, false, null);
+
+    @Nested
+    @DisplayName("round trip")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("Should decode a single price as it was encoded")
+        void shouldDecodeSinglePrice() throws IOException {
+            assertThat(decoderOf(PriceBinaryEncoder.encode(price)).readPrice()).isEqualTo(price);
+        }
+
+        @Test
+        @DisplayName("Should decode batch results in order, including the ones without a price")
+        void shouldDecodeBatchResultsInOrder() throws IOException {
+            byte[] body = PriceBinaryEncoder.encode(
+                    new FindProductsPricesBatchResponse(List.of(found, notFound, found)));
+
+            assertThat(decoderOf(body).readResults()).containsExactly(found, notFound, found);
+        }
+
+        @Test
+        @DisplayName("Should keep the nanoseconds of segment bounds")
+        void shouldKeepNanosecondsOfSegmentBounds() throws IOException {
+            PriceTimelineSegmentResponse segment = new PriceTimelineSegmentResponse(
+                    LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1),
+                    LocalDateTime.of(2020, 6, 15, 0, 0, 0).minusNanos(1),
+                    price);
+            byte[] body = PriceBinaryEncoder.encode(new PriceTimelineResponse(
+                    35455L, 1L, segment.startDate(), segment.endDate(), List.of(segment)));
+
+            assertThat(decoderOf(body).readSegments()).containsExactly(segment);
+        }
+
+        @Test
+        @DisplayName("Should keep the scale of amounts and dates before the epoch")
+        void shouldKeepScaleOfAmountsAndDatesBeforeEpoch() throws IOException {
+            FindProductsPriceResponse unusual = new FindProductsPriceResponse(
+                    1L, Long.MAX_VALUE, 0,
+                    LocalDateTime.of(1960, 1, 1, 0, 0, 0),
+                    LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                    new BigDecimal("-1.500"));
+
+            FindProductsPriceResponse decoded = decoderOf(PriceBinaryEncoder.encode(unusual)).readPrice();
+
+            assertThat(decoded).isEqualTo(unusual);
+            assertThat(decoded.price().scale()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should write a streamed body with the same bytes as the document")
+        void shouldWriteStreamedBodyLikeDocument() {
+            PriceBinaryEncoder streamed = new PriceBinaryEncoder(1).writeVersion();
+            streamed.write(found).write(notFound);
+
+            byte[] document = PriceBinaryEncoder.encode(new FindProductsPricesBatchResponse(List.of(found, notFound)));
+
+            assertThat(streamed.toByteArray()).isEqualTo(document);
+        }
+    }
+
+    @Nested
+    @DisplayName("decoding errors")
+    class DecodingErrorsTest {
+
+        @Test
+        @DisplayName("Should reject a body written in another version")
+        void shouldRejectAnotherVersion() {
+            byte[] body = PriceBinaryEncoder.encode(price);
+            body[0] = (byte) (PriceBinaryFormat.VERSION + 1);
+
+            assertThatThrownBy(() -> decoderOf(body))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("version");
+        }
+
+        @Test
+        @DisplayName("Should fail on a body cut in the middle of a record")
+        void shouldFailOnTruncatedBody() throws IOException {
+            byte[] body = PriceBinaryEncoder.encode(new FindProductsPricesBatchResponse(List.of(found)));
+            PriceBinaryDecoder decoder = decoderOf(Arrays.copyOf(body, body.length - 1));
+
+            assertThatThrownBy(decoder::nextResult).isInstanceOf(EOFException.class);
+        }
+
+        @Test
+        @DisplayName("Should refuse to encode other types")
+        void shouldRefuseOtherTypes() {
+            assertThatThrownBy(() -> PriceBinaryEncoder.encode("not a price"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("size")
+    class SizeTest {
+
+        private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+        @Test
+        @DisplayName("Should take less than a third of the JSON bytes for a single price")
+        void shouldBeSmallerThanJsonForSinglePrice() {
+            assertThat(PriceBinaryEncoder.encode(price).length * 3)
+                    .isLessThan(jsonMapper.writeValueAsBytes(price).length);
+        }
+
+        @Test
+        @DisplayName("Should take less than a third of the JSON bytes for a batch")
+        void shouldBeSmallerThanJsonForBatch() {
+            List<FindProductsPricesBatchItemResponse> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(i % 5 == 0 ? notFound : found);
+            }
+            FindProductsPricesBatchResponse batch = new FindProductsPricesBatchResponse(results);
+
+            assertThat(PriceBinaryEncoder.encode(batch).length * 3)
+                    .isLessThan(jsonMapper.writeValueAsBytes(batch).length);
+        }
+    }
+
+    private static PriceBinaryDecoder decoderOf(byte[] body) throws IOException {
+        return PriceBinaryDecoder.of(new ByteArrayInputStream(body));
+    }
+}
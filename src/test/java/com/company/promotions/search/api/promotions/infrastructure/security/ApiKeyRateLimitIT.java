@@ -0,0 +1,65 @@
+package com.company.promotions.search.api.promotions.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "api.security.rate-limit.enabled=true",
+        "api.security.rate-limit.requests-per-second=0.01",
+        "api.security.rate-limit.burst=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ApiKeyRateLimitIT {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once a key exceeds its burst, without affecting other keys")
+    void shouldThrottleKeyOverItsBurst() throws Exception {
+        lookUp("test-api-key-1").andExpect(status().isNotFound());
+        lookUp("test-api-key-1").andExpect(status().isNotFound());
+
+        lookUp("test-api-key-1")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.title").value("Too Many Requests"));
+
+        lookUp("test-api-key-2").andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should not rate limit requests without a valid key")
+    void shouldNotRateLimitUnauthenticatedRequests() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            lookUp("unknown-key").andExpect(status().isUnauthorized());
+        }
+    }
+
+    private ResultActions lookUp(String apiKey) throws Exception {
+        return mockMvc.perform(get("/prices")
+                .header(API_KEY_HEADER, apiKey)
+                .param("applicationDate", "2019-01-01T10:00:00")
+                .param("productId", "35455")
+                .param("brandId", "1"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.company.promotions.search.api.promotions.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApiKeyRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should find the client of each configured key with a prebuilt authentication")
+    void shouldFindClientOfEachKey() {
+        ApiKeyRegistry registry = new ApiKeyRegistry(
+                new ApiKeyConfigurationProperties(List.of("key-1", "key-2")), meterRegistry);
+
+        ApiClient first = registry.find("key-1");
+        ApiClient second = registry.find("key-2");
+
+        assertThat(first.id()).isEqualTo("api-client-1");
+        assertThat(second.id()).isEqualTo("api-client-2");
+        assertThat(first.authentication().isAuthenticated()).isTrue();
+        assertThat(first.authentication().getName()).isEqualTo("api-client-1");
+        assertThat(registry.find("key-1").authentication()).isSameAs(first.authentication());
+    }
+
+    @Test
+    @DisplayName("Should grant the admin role to admin keys only")
+    void shouldGrantAdminRoleToAdminKeysOnly() {
+        ApiKeyRegistry registry = new ApiKeyRegistry(
+                new ApiKeyConfigurationProperties(
+                        List.of("key-1"), List.of("admin-key"), ApiKeyConfigurationProperties.RateLimit.unlimited()),
+                meterRegistry);
+
+        ApiClient client = registry.find("key-1");
+        ApiClient admin = registry.find("admin-key");
+
+        assertThat(client.authentication().getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly(ApiKeyRegistry.CLIENT_ROLE);
+        assertThat(admin.id()).isEqualTo("api-admin-1");
+        assertThat(admin.authentication().getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder(ApiKeyRegistry.CLIENT_ROLE, ApiKeyRegistry.ADMIN_ROLE);
+    }
+
+    @Test
+    @DisplayName("Should reject a key configured both as a client and an admin key")
+    void shouldRejectKeyConfiguredTwice() {
+        assertThatThrownBy(() -> new ApiKeyConfigurationProperties(
+                List.of("key-1"), List.of("key-1"), ApiKeyConfigurationProperties.RateLimit.unlimited()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should not find unknown keys")
+    void shouldNotFindUnknownKeys() {
+        ApiKeyRegistry registry = new ApiKeyRegistry(
+                new ApiKeyConfigurationProperties(List.of("key-1")), meterRegistry);
+
+        assertThat(registry.find("key-2")).isNull();
+        assertThat(registry.find("")).isNull();
+        assertThat(registry.find("KEY-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should count allowed and throttled requests per client")
+    void shouldCountAllowedAndThrottledRequests() {
+        ApiKeyRegistry registry = new ApiKeyRegistry(
+                new ApiKeyConfigurationProperties(
+                        List.of("key-1"), List.of(), new ApiKeyConfigurationProperties.RateLimit(true, 0.001, 2)),
+                meterRegistry);
+        ApiClient client = registry.find("key-1");
+
+        assertThat(client.tryAcquire()).isZero();
+        assertThat(client.tryAcquire()).isZero();
+        assertThat(client.tryAcquire()).isPositive();
+
+        assertThat(count("api-client-1", "allowed")).isEqualTo(2);
+        assertThat(count("api-client-1", "throttled")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should admit every request when rate limiting is disabled")
+    void shouldAdmitEveryRequestWhenDisabled() {
+        ApiKeyRegistry registry = new ApiKeyRegistry(
+                new ApiKeyConfigurationProperties(List.of("key-1")), meterRegistry);
+        ApiClient client = registry.find("key-1");
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(client.tryAcquire()).isZero();
+        }
+        assertThat(count("api-client-1", "allowed")).isEqualTo(1_000);
+    }
+
+    private double count(String client, String outcome) {
+        return meterRegistry.get("api.requests").tag("client", client).tag("outcome", outcome).counter().count();
+    }
+}
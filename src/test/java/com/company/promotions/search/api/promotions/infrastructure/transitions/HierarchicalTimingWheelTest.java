@@ -0,0 +1,86 @@
+package com.company.promotions.search.api.promotions.infrastructure.transitions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_592_136_000_000L;
+
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    @DisplayName("Should fire an item at the start of the tick holding its deadline")
+    void shouldFireAtStartOfDeadlineTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1_000, 8, START);
+        wheel.schedule(START + 2_500, "promotion");
+
+        wheel.advanceTo(START + 1_999, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advanceTo(START + 2_000, fired::add);
+        assertThat(fired).containsExactly("promotion");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse items due within the current tick")
+    void shouldRefuseItemsDueWithinCurrentTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1_000, 8, START + 300);
+
+        assertThat(wheel.currentTimeMillis()).isEqualTo(START);
+        assertThat(wheel.schedule(START + 999, "now")).isFalse();
+        assertThat(wheel.schedule(START - 5_000, "past")).isFalse();
+        assertThat(wheel.schedule(START + 1_000, "next tick")).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cascade items beyond the first wheel down to the tick they are due")
+    void shouldCascadeItemsBeyondFirstWheel() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1_000, 8, START);
+        wheel.schedule(START + 7_000, "first wheel");
+        wheel.schedule(START + 9_000, "second wheel");
+        wheel.schedule(START + 70_000, "third wheel");
+
+        wheel.advanceTo(START + 8_999, fired::add);
+        assertThat(fired).containsExactly("first wheel");
+
+        wheel.advanceTo(START + 69_999, fired::add);
+        assertThat(fired).containsExactly("first wheel", "second wheel");
+
+        wheel.advanceTo(START + 70_000, fired::add);
+        assertThat(fired).containsExactly("first wheel", "second wheel", "third wheel");
+    }
+
+    @Test
+    @DisplayName("Should fire every item exactly once, in deadline order across ticks")
+    void shouldFireEveryItemOnceInOrder() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1_000, 16, START);
+        SplittableRandom random = new SplittableRandom(7);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            long deadline = START + 1_000 + random.nextLong(10_000_000);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+        List<Long> expired = new ArrayList<>();
+
+        for (long now = START; now <= START + 11_000_000; now += 250_000) {
+            long tickStart = now - now % 1_000;
+            int before = expired.size();
+            wheel.advanceTo(now, expired::add);
+            assertThat(expired.subList(before, expired.size())).allMatch(deadline -> deadline < tickStart + 1_000);
+        }
+
+        assertThat(expired).containsExactlyInAnyOrderElementsOf(deadlines);
+        assertThat(expired).isSortedAccordingTo((a, b) -> Long.compare(a / 1_000, b / 1_000));
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,219 @@
+package com.company.promotions.search.api.promotions.infrastructure.transitions;
+
+import com.company.promotions.search.api.promotions.application.FindProductsPriceBetweenDatesUseCase;
+import com.company.promotions.search.api.promotions.domain.PriceKey;
+import com.company.promotions.search.api.promotions.domain.PriceTransition;
+import com.company.promotions.search.api.promotions.domain.PriceTransitionRepository;
+import com.company.promotions.search.api.promotions.domain.PricesChangedEvent;
+import com.company.promotions.search.api.promotions.domain.vo.BrandId;
+import com.company.promotions.search.api.promotions.domain.vo.PriceListId;
+import com.company.promotions.search.api.promotions.domain.vo.ProductId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PriceTransitionSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+    private static final PriceKey KEY = PriceKey.of(ProductId.of(35455L), BrandId.of(1L));
+    private static final PriceKey OTHER_KEY = PriceKey.of(ProductId.of(35456L), BrandId.of(1L));
+
+    @Mock
+    private PriceTransitionRepository transitionRepository;
+
+    @Mock
+    private FindProductsPriceBetweenDatesUseCase findProductsPriceUseCase;
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PriceTransitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        PriceTransitionProperties properties = new PriceTransitionProperties(
+                true, Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofHours(24), Duration.ofHours(1));
+        scheduler = new PriceTransitionScheduler(
+                transitionRepository, findProductsPriceUseCase, properties, meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("Should prepare a transition the lead ahead of its instant")
+    void shouldPrepareTransitionLeadAhead() {
+        LocalDateTime at = NOW.plusSeconds(30);
+        when(transitionRepository.findTransitions(NOW, NOW.plusHours(24)))
+                .thenReturn(List.of(starts(KEY, 2, at)));
+
+        assertThat(scheduler.tick()).isZero();
+        assertThat(scheduler.scheduled()).isEqualTo(1);
+
+        clock.set(NOW.plusSeconds(24).plusNanos(999_000_000));
+        assertThat(scheduler.tick()).isZero();
+
+        clock.set(NOW.plusSeconds(25));
+        assertThat(scheduler.tick()).isEqualTo(1);
+
+        verify(findProductsPriceUseCase).prepareTransition(KEY, at);
+        assertThat(scheduler.scheduled()).isZero();
+        assertThat(meterRegistry.get("prices.transitions.prepared").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("prices.transitions.scheduled").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should prepare at once the transitions already within the lead")
+    void shouldPrepareTransitionsWithinLeadAtOnce() {
+        LocalDateTime at = NOW.plusSeconds(3);
+        when(transitionRepository.findTransitions(NOW, NOW.plusHours(24)))
+                .thenReturn(List.of(starts(KEY, 2, at)));
+
+        assertThat(scheduler.tick()).isEqualTo(1);
+
+        verify(findProductsPriceUseCase).prepareTransition(KEY, at);
+    }
+
+    @Test
+    @DisplayName("Should prepare a key once when one price ends as another starts")
+    void shouldPrepareKeyOncePerInstant() {
+        LocalDateTime at = NOW.plusSeconds(2);
+        when(transitionRepository.findTransitions(NOW, NOW.plusHours(24))).thenReturn(List.of(
+                new PriceTransition(KEY, PriceListId.of(2L), PriceTransition.Kind.ENDS, at),
+                starts(KEY, 3, at),
+                starts(OTHER_KEY, 2, at)));
+
+        assertThat(scheduler.tick()).isEqualTo(2);
+
+        verify(findProductsPriceUseCase).prepareTransition(KEY, at);
+        verify(findProductsPriceUseCase).prepareTransition(OTHER_KEY, at);
+    }
+
+    @Test
+    @DisplayName("Should keep preparing the other transitions when one fails")
+    void shouldKeepPreparingWhenOneFails() {
+        LocalDateTime at = NOW.plusSeconds(2);
+        when(transitionRepository.findTransitions(NOW, NOW.plusHours(24)))
+                .thenReturn(List.of(starts(KEY, 2, at), starts(OTHER_KEY, 2, at)));
+        doThrow(new IllegalStateException("database down"))
+                .when(findProductsPriceUseCase).prepareTransition(KEY, at);
+
+        assertThat(scheduler.tick()).isEqualTo(1);
+
+        verify(findProductsPriceUseCase).prepareTransition(OTHER_KEY, at);
+    }
+
+    @Nested
+    @DisplayName("reloading")
+    class ReloadingTest {
+
+        @Test
+        @DisplayName("Should only load the transitions of the keys that changed")
+        void shouldLoadTransitionsOfChangedKeys() {
+            LocalDateTime at = NOW.plusMinutes(10);
+            scheduler.tick();
+            clock.set(NOW.plusSeconds(1));
+            when(transitionRepository.findTransitions(List.of(KEY), NOW.plusSeconds(1), NOW.plusHours(24)))
+                    .thenReturn(List.of(starts(KEY, 2, at)));
+
+            scheduler.onPricesChanged(PricesChangedEvent.of(List.of(KEY)));
+            scheduler.tick();
+
+            assertThat(scheduler.scheduled()).isEqualTo(1);
+            verify(transitionRepository, times(1)).findTransitions(any(LocalDateTime.class), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Should reload every transition when unknown keys changed")
+        void shouldReloadWhenUnknownKeysChanged() {
+            scheduler.tick();
+            clock.set(NOW.plusSeconds(1));
+
+            scheduler.onPricesChanged(PricesChangedEvent.all());
+            scheduler.tick();
+
+            verify(transitionRepository).findTransitions(NOW.plusSeconds(1), NOW.plusSeconds(1).plusHours(24));
+            verify(transitionRepository, never()).findTransitions(anyCollection(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reload every transition once the reload interval elapsed")
+        void shouldReloadAfterInterval() {
+            scheduler.tick();
+            clock.set(NOW.plusMinutes(59));
+            scheduler.tick();
+            clock.set(NOW.plusHours(1));
+            scheduler.tick();
+
+            verify(transitionRepository, times(2)).findTransitions(any(LocalDateTime.class), any(LocalDateTime.class));
+            verify(transitionRepository).findTransitions(NOW.plusHours(1), NOW.plusHours(25));
+        }
+
+        @Test
+        @DisplayName("Should retry a failed reload on the next tick")
+        void shouldRetryFailedReload() {
+            when(transitionRepository.findTransitions(NOW, NOW.plusHours(24)))
+                    .thenThrow(new IllegalStateException("database down"))
+                    .thenReturn(List.of(starts(KEY, 2, NOW.plusMinutes(10))));
+
+            assertThatThrownBy(scheduler::tick).isInstanceOf(IllegalStateException.class);
+            scheduler.tick();
+
+            assertThat(scheduler.scheduled()).isEqualTo(1);
+            verify(findProductsPriceUseCase, never()).prepareTransition(eq(KEY), any());
+        }
+    }
+
+    private static PriceTransition starts(PriceKey key, long priceList, LocalDateTime at) {
+        return new PriceTransition(key, PriceListId.of(priceList), PriceTransition.Kind.STARTS, at);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(LocalDateTime now) {
+            set(now);
+        }
+
+        void set(LocalDateTime now) {
+            this.instant = now.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}